@@ -0,0 +1,91 @@
+package com.eventmanagement.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.dto.CreateCategoryRequest;
+import com.eventmanagement.index.CategoryPathCache;
+import com.eventmanagement.metrics.CategoryMetrics;
+import com.eventmanagement.model.Category;
+import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.store.AdjacencyListTreeStore;
+import com.eventmanagement.service.impl.CategoryServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The recursive paths over a {@link CategoryDto} tree: {@code CategoryServiceImpl#toDto},
+ * reached through {@code createCategory} with a stub repository whose {@code save} returns
+ * a linked entity tree, and Jackson serialization of a subtree as the REST layer writes it.
+ * <p>
+ * Both recurse once per level, so {@code DEEP} chains are left out of the default matrix:
+ * a chain of 1000 categories already passes Jackson's write nesting limit of 1000 (two
+ * levels per category, the object and its {@code children} array) and overflows the stack
+ * of a benchmark thread in {@code toDto}. Pass {@code -p shape=DEEP} to see where.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class CategoryDtoBenchmark {
+
+    @Param({"WIDE", "BALANCED"})
+    public TreeShape shape;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CreateCategoryRequest request = CreateCategoryRequest.builder().label("Created").build();
+    private CategoryServiceImpl categoryService;
+    private CategoryDto subtree;
+
+    @Setup
+    public void setup() {
+        Category root = CategoryTrees.entities(shape, size, true).get(0);
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.save(any(Category.class))).thenReturn(root);
+
+        categoryService = new CategoryServiceImpl(categoryRepository,
+                new AdjacencyListTreeStore(categoryRepository), CategoryTrees.index(shape, size),
+                new CategoryPathCache(new CategoryProperties()), mock(ApplicationEventPublisher.class), objectMapper, new CategoryMetrics(new SimpleMeterRegistry()),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        subtree = CategoryTrees.index(shape, size).subtree(1L);
+    }
+
+    @Benchmark
+    public CategoryDto toDto() {
+        return categoryService.createCategory(request, null);
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), subtree);
+    }
+}
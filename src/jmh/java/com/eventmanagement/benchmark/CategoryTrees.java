@@ -0,0 +1,65 @@
+package com.eventmanagement.benchmark;
+
+import com.eventmanagement.index.CategoryTreeIndex;
+import com.eventmanagement.model.Category;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the trees shared by the benchmarks.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+final class CategoryTrees {
+
+    private CategoryTrees() {
+    }
+
+    static String label(int node) {
+        return "Category " + node;
+    }
+
+    /**
+     * Builds a tree as entities, the form the repository hands to the service.
+     *
+     * @param shape        the tree shape
+     * @param size         the number of categories
+     * @param linkChildren whether to fill the {@code children} collections as well as the parents
+     * @return the categories in ID order, the root first
+     */
+    static List<Category> entities(TreeShape shape, int size, boolean linkChildren) {
+        List<Category> categories = new ArrayList<>(size);
+        for (int node = 1; node <= size; node++) {
+            Category parent = node > 1 ? categories.get(shape.parentOf(node) - 1) : null;
+            Category category = Category.builder()
+                    .id((long) node)
+                    .label(label(node))
+                    .parent(parent)
+                    .build();
+            if (linkChildren && parent != null) {
+                parent.getChildren().add(category);
+            }
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    /**
+     * Loads a tree into a fresh in-memory index.
+     *
+     * @param shape the tree shape
+     * @param size  the number of categories
+     * @return the ready index
+     */
+    static CategoryTreeIndex index(TreeShape shape, int size) {
+        CategoryTreeIndex treeIndex = new CategoryTreeIndex();
+        treeIndex.rebuild(handler -> {
+            for (int node = 1; node <= size; node++) {
+                handler.handle(node, node > 1 ? shape.parentOf(node) : 0, label(node), 0);
+            }
+        });
+        return treeIndex;
+    }
+}
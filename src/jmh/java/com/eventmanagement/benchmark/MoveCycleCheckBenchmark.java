@@ -0,0 +1,62 @@
+package com.eventmanagement.benchmark;
+
+import com.eventmanagement.index.CategoryTreeIndex;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cycle check of a move, applied to the in-memory index: each move walks up from the
+ * new parent to its root before re-linking. The service runs the same walk as one query
+ * against the database; that side is covered by {@code MoveSubtreeBenchmark}.
+ * <p>
+ * The deepest category is moved back and forth between its parent and a second category
+ * of similar depth, so every invocation checks a full path.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class MoveCycleCheckBenchmark {
+
+    @Param({"DEEP", "WIDE", "BALANCED"})
+    public TreeShape shape;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private CategoryTreeIndex treeIndex;
+    private Long source;
+    private Long[] parents;
+    private int next;
+
+    @Setup
+    public void setup() {
+        treeIndex = CategoryTrees.index(shape, size);
+        int parent = shape.parentOf(size);
+        int other = parent > 1 ? shape.parentOf(parent) : 2;
+        source = (long) size;
+        parents = new Long[] {(long) other, (long) parent};
+    }
+
+    @Benchmark
+    public void move() {
+        treeIndex.move(source, parents[next]);
+        next ^= 1;
+    }
+}
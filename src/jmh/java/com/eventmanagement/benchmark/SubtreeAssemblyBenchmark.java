@@ -0,0 +1,92 @@
+package com.eventmanagement.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.dto.CategoryColumns;
+import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.index.CategoryPathCache;
+import com.eventmanagement.metrics.CategoryMetrics;
+import com.eventmanagement.model.Category;
+import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.store.AdjacencyListTreeStore;
+import com.eventmanagement.service.ReadConsistency;
+import com.eventmanagement.service.SubtreeQuery;
+import com.eventmanagement.service.impl.CategoryServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Subtree assembly in {@code CategoryServiceImpl#getSubtree}: the DTO map built from the
+ * repository's entities for strong reads, and the walk of the in-memory index otherwise.
+ * The repository is a stub returning a prepared entity list, so no database is involved.
+ * {@code columnsFromIndex} lists the same subtree as columns, without a DTO per category.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class SubtreeAssemblyBenchmark {
+
+    private static final Long ROOT = 1L;
+
+    @Param({"DEEP", "WIDE", "BALANCED"})
+    public TreeShape shape;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private CategoryServiceImpl categoryService;
+
+    @Setup
+    public void setup() {
+        List<Category> categories = CategoryTrees.entities(shape, size, false);
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findById(ROOT)).thenReturn(Optional.of(categories.get(0)));
+        when(categoryRepository.findSubtreeById(ROOT)).thenReturn(categories);
+
+        categoryService = new CategoryServiceImpl(categoryRepository,
+                new AdjacencyListTreeStore(categoryRepository), CategoryTrees.index(shape, size),
+                new CategoryPathCache(new CategoryProperties()), mock(ApplicationEventPublisher.class), new ObjectMapper(), new CategoryMetrics(new SimpleMeterRegistry()),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Benchmark
+    public CategoryDto fromEntities() {
+        return categoryService.getSubtree(ROOT, ReadConsistency.STRONG);
+    }
+
+    @Benchmark
+    public CategoryDto fromIndex() {
+        return categoryService.getSubtree(ROOT, ReadConsistency.EVENTUAL);
+    }
+
+    @Benchmark
+    public CategoryColumns columnsFromIndex() {
+        return categoryService.getSubtreeColumns(ROOT, SubtreeQuery.full(), ReadConsistency.EVENTUAL);
+    }
+}
@@ -0,0 +1,118 @@
+package com.eventmanagement.benchmark;
+
+import com.eventmanagement.config.CategoryColumnsProtobufHttpMessageConverter;
+import com.eventmanagement.dto.CategoryColumns;
+import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.index.CategoryTreeIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of a subtree in each format the subtree endpoint negotiates: the nested
+ * {@link CategoryDto} JSON and the columnar JSON, CBOR and protobuf encodings of
+ * {@link CategoryColumns}. Each benchmark writes to a counting stream and reports the body
+ * size as the {@code payloadBytes} secondary result next to the time.
+ * <p>
+ * Both representations are taken from the same index up front, so only the writing is
+ * measured; {@code SubtreeAssemblyBenchmark} covers building them. {@code DEEP} chains are
+ * left out as in {@code CategoryDtoBenchmark}, the nested shape exceeding Jackson's nesting
+ * limit; the columnar formats have no such limit.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class SubtreeFormatBenchmark {
+
+    @Param({"WIDE", "BALANCED"})
+    public TreeShape shape;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CBORMapper cborMapper = new CBORMapper();
+    private CategoryDto subtree;
+    private CategoryColumns columns;
+
+    @Setup
+    public void setup() {
+        CategoryTreeIndex treeIndex = CategoryTrees.index(shape, size);
+        subtree = treeIndex.subtree(1L);
+        columns = treeIndex.columns(1L);
+    }
+
+    @Benchmark
+    public void nestedJson(Payload payload) throws IOException {
+        objectMapper.writeValue(payload.stream(), subtree);
+    }
+
+    @Benchmark
+    public void columnsJson(Payload payload) throws IOException {
+        objectMapper.writeValue(payload.stream(), columns);
+    }
+
+    @Benchmark
+    public void columnsCbor(Payload payload) throws IOException {
+        cborMapper.writeValue(payload.stream(), columns);
+    }
+
+    @Benchmark
+    public void columnsProtobuf(Payload payload) throws IOException {
+        CategoryColumnsProtobufHttpMessageConverter.write(columns, payload.stream());
+    }
+
+    /**
+     * Size of the last body written, reported as is rather than summed over invocations.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Payload {
+
+        public long payloadBytes;
+
+        private final CountingOutputStream stream = new CountingOutputStream();
+
+        OutputStream stream() {
+            stream.count = 0;
+            return stream;
+        }
+
+        private final class CountingOutputStream extends OutputStream {
+
+            private long count;
+
+            @Override
+            public void write(int b) {
+                payloadBytes = ++count;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                count += len;
+                payloadBytes = count;
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.eventmanagement.benchmark;
+
+/**
+ * Shapes of the generated category trees.
+ * <p>
+ * Categories are numbered from 1, the root, and every parent has a smaller ID than its
+ * children, so a tree can be built in one pass in ID order.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public enum TreeShape {
+
+    /**
+     * A single chain: every category has exactly one child.
+     */
+    DEEP {
+        @Override
+        int parentOf(int node) {
+            return node - 1;
+        }
+    },
+
+    /**
+     * Every category is a direct child of the root.
+     */
+    WIDE {
+        @Override
+        int parentOf(int node) {
+            return 1;
+        }
+    },
+
+    /**
+     * Every category has ten children, filled level by level.
+     */
+    BALANCED {
+        @Override
+        int parentOf(int node) {
+            return 1 + (node - 2) / 10;
+        }
+    };
+
+    /**
+     * Returns the parent of a category other than the root.
+     *
+     * @param node the category ID, greater than 1
+     * @return the parent category ID
+     */
+    abstract int parentOf(int node);
+}
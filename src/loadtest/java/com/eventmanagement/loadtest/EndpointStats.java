@@ -0,0 +1,82 @@
+package com.eventmanagement.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and outcomes of one endpoint during the measured part of a run.
+ * <p>
+ * Latencies are kept as raw nanosecond samples in a primitive array; a run of a few minutes
+ * at a few thousand requests per second stays in the megabytes, and exact percentiles need no
+ * bucketing.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+final class EndpointStats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private final Map<String, Long> outcomes = new TreeMap<>();
+
+    /**
+     * Records a completed request.
+     *
+     * @param nanos   time from the scheduled start to the response
+     * @param outcome the status code, or the failure
+     * @param error   whether the request failed
+     */
+    synchronized void record(long nanos, String outcome, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        outcomes.merge(outcome, 1L, Long::sum);
+        if (error) {
+            errors++;
+        }
+    }
+
+    /**
+     * Records a request that was never sent, as too many were in flight.
+     */
+    synchronized void dropped() {
+        outcomes.merge("dropped", 1L, Long::sum);
+        errors++;
+    }
+
+    synchronized LoadReport.Endpoint summarize(String endpoint, double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        long requests = outcomes.values().stream().mapToLong(Long::longValue).sum();
+        return LoadReport.Endpoint.builder()
+                .endpoint(endpoint)
+                .requests(requests)
+                .errors(errors)
+                .throughput(requests / seconds)
+                .outcomes(new TreeMap<>(outcomes))
+                .p50(millis(percentile(sorted, 0.50)))
+                .p95(millis(percentile(sorted, 0.95)))
+                .p99(millis(percentile(sorted, 0.99)))
+                .p999(millis(percentile(sorted, 0.999)))
+                .max(millis(count > 0 ? sorted[count - 1] : 0))
+                .mean(millis(count > 0 ? Arrays.stream(sorted).sum() / count : 0))
+                .build();
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1e3) / 1e3;
+    }
+}
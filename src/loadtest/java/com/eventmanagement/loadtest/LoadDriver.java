@@ -0,0 +1,202 @@
+package com.eventmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the mixed workload over HTTP as an open loop.
+ * <p>
+ * Requests are started on a fixed schedule of {@code rate} per second no matter how long
+ * earlier ones take, and each latency is measured from the scheduled start rather than the
+ * actual send. A slow server therefore shows up in the percentiles instead of quietly lowering
+ * the request rate.
+ * <p>
+ * Reads, creates and moves target random seeded categories. Creates add leaves, which moves
+ * and deletes then pick from, so the seeded tree stays intact and no move can form a cycle.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+final class LoadDriver {
+
+    private static final String API = "/api/v1/categories";
+
+    private final LoadOptions options;
+    private final String baseUrl;
+    private final long[] seededIds;
+    private final String labelPrefix;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final Random random;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Deque<Long> created = new ConcurrentLinkedDeque<>();
+    private final AtomicLong labels = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final EndpointStats total = new EndpointStats();
+
+    LoadDriver(LoadOptions options, String baseUrl, long[] seededIds, String labelPrefix, ObjectMapper objectMapper) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.seededIds = seededIds;
+        this.labelPrefix = labelPrefix;
+        this.objectMapper = objectMapper;
+        this.random = new Random(options.getSeed());
+        this.operations = options.getMix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += options.getMix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+            stats.put(operations[i], new EndpointStats());
+        }
+    }
+
+    Map<Operation, EndpointStats> stats() {
+        return stats;
+    }
+
+    EndpointStats total() {
+        return total;
+    }
+
+    /**
+     * Runs the warmup and the measured period, then waits for the requests still in flight.
+     */
+    void run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + options.getWarmup().toNanos();
+        long end = measureFrom + options.getDuration().toNanos();
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * TimeUnit.SECONDS.toNanos(1) / options.getRate();
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = scheduled >= measureFrom;
+            Operation operation = pick();
+            if (inFlight.get() >= options.getMaxInFlight()) {
+                if (measured) {
+                    stats.get(operation).dropped();
+                    total.dropped();
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            send(operation, scheduled, measured);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private Operation pick() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; ; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+    }
+
+    private void send(Operation operation, long scheduled, boolean measured) {
+        long parent = seededIds[random.nextInt(seededIds.length)];
+        Long leaf = operation == Operation.MOVE || operation == Operation.DELETE ? created.pollFirst() : null;
+        if (leaf == null && operation != Operation.READ) {
+            // Nothing to move or delete yet: create instead, recorded as a create
+            operation = Operation.CREATE;
+        }
+        Operation sent = operation;
+        HttpRequest request = switch (operation) {
+            case READ -> get(API + "/" + parent + "/subtree" + readQuery());
+            case CREATE -> json(API + "?parentId=" + parent, "POST",
+                    Map.of("label", labelPrefix + "-" + labels.incrementAndGet()));
+            case MOVE -> json(API + "/" + leaf + "/move", "PUT", Map.of("newParentId", parent));
+            case DELETE -> HttpRequest.newBuilder(uri(API + "/" + leaf)).DELETE().build();
+        };
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+            try {
+                long nanos = System.nanoTime() - scheduled;
+                boolean error = failure != null || response.statusCode() >= 400;
+                if (!error && sent == Operation.CREATE) {
+                    error = !remember(response.body());
+                }
+                // A leaf stays with the workload unless it was deleted
+                if (leaf != null && (sent == Operation.MOVE || error)) {
+                    created.addLast(leaf);
+                }
+                if (measured) {
+                    String outcome = failure != null
+                            ? failure.getClass().getSimpleName()
+                            : String.valueOf(response.statusCode());
+                    stats.get(sent).record(nanos, outcome, error);
+                    total.record(nanos, outcome, error);
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    // Adds a created leaf to the ones the workload owns; false if the response has no ID
+    private boolean remember(String body) {
+        try {
+            created.addLast(objectMapper.readTree(body).get("id").asLong());
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private String readQuery() {
+        StringBuilder query = new StringBuilder();
+        if (options.getReadMaxDepth() != null) {
+            query.append("&maxDepth=").append(options.getReadMaxDepth());
+        }
+        if (options.getConsistency() != null) {
+            query.append("&consistency=").append(options.getConsistency());
+        }
+        return query.isEmpty() ? "" : "?" + query.substring(1);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, Object body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
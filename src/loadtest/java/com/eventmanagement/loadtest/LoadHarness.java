@@ -0,0 +1,190 @@
+package com.eventmanagement.loadtest;
+
+import com.eventmanagement.EventManagementApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end load test of the category endpoints.
+ * <p>
+ * Boots the application on a random port, against an embedded PostgreSQL unless
+ * {@code --jdbc-url} names a database, or targets a running instance given by {@code --target}.
+ * It then seeds a tree through the bulk import, drives a mixed read/create/move/delete
+ * workload at a fixed rate and writes per-endpoint latency percentiles and errors to
+ * {@code report.json} and {@code report.html}.
+ * <p>
+ * Run with {@code mvn -P loadtest -DskipTests verify -Dloadtest.args="--rate=500 --size=100000"};
+ * see {@link LoadOptions} for the options.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public final class LoadHarness {
+
+    private static final String API = "/api/v1/categories";
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+        EmbeddedPostgres postgres = null;
+        ConfigurableApplicationContext context = null;
+        try {
+            String baseUrl = options.getTarget();
+            if (baseUrl == null) {
+                String jdbcUrl = options.getJdbcUrl();
+                if (jdbcUrl == null) {
+                    postgres = EmbeddedPostgres.builder().start();
+                    jdbcUrl = postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true";
+                }
+                context = SpringApplication.run(EventManagementApplication.class, applicationArgs(options, jdbcUrl));
+                baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            }
+            run(options, baseUrl, objectMapper);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    private static void run(LoadOptions options, String baseUrl, ObjectMapper objectMapper) throws Exception {
+        String startedAt = Instant.now().toString();
+        String labelPrefix = "load-" + Long.toString(System.currentTimeMillis(), 36);
+        HttpClient client = HttpClient.newHttpClient();
+
+        System.out.printf("Seeding %d categories (depth %d, fan-out %d) at %s%n",
+                options.getSize(), options.getDepth(), options.getFanOut(), baseUrl);
+        long seedStart = System.nanoTime();
+        String body = objectMapper.writeValueAsString(Map.of("categories",
+                TreeGenerator.generate(labelPrefix, options.getDepth(), options.getFanOut(), options.getSize())));
+        HttpResponse<String> imported = client.send(HttpRequest.newBuilder(URI.create(baseUrl + API + "/bulk"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (imported.statusCode() != 201) {
+            throw new IllegalStateException("Seeding failed with " + imported.statusCode() + ": " + imported.body());
+        }
+        long root = objectMapper.readTree(imported.body()).get("rootIds").get(0).asLong();
+        double seedSeconds = (System.nanoTime() - seedStart) / 1e9;
+        long[] seededIds = seededIds(client, baseUrl, root, objectMapper);
+
+        System.out.printf("Seeded %d categories in %.1f s; running %d req/s for %s after %s warmup%n",
+                seededIds.length, seedSeconds, options.getRate(), options.getDuration(), options.getWarmup());
+        LoadDriver driver = new LoadDriver(options, baseUrl, seededIds, labelPrefix, objectMapper);
+        driver.run();
+
+        double seconds = options.getDuration().toNanos() / 1e9;
+        List<LoadReport.Endpoint> endpoints = new ArrayList<>();
+        driver.stats().forEach((operation, stats) -> endpoints.add(stats.summarize(operation.endpoint(), seconds)));
+        LoadReport report = LoadReport.builder()
+                .startedAt(startedAt)
+                .target(baseUrl)
+                .settings(settings(options))
+                .seededCategories(seededIds.length)
+                .seedSeconds(Math.round(seedSeconds * 10) / 10.0)
+                .measuredSeconds(seconds)
+                .targetRate(options.getRate())
+                .endpoints(endpoints)
+                .total(driver.total().summarize("all", seconds))
+                .build();
+        report.write(objectMapper, options.getOut());
+        print(report);
+        System.out.println("Report written to " + options.getOut().toAbsolutePath());
+    }
+
+    // Streams the seeded subtree as NDJSON to learn the generated IDs
+    private static long[] seededIds(HttpClient client, String baseUrl, long root, ObjectMapper objectMapper) throws Exception {
+        HttpResponse<InputStream> response = client.send(HttpRequest.newBuilder(
+                URI.create(baseUrl + API + "/" + root + "/subtree?stream=FLAT")).build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        long[] ids = new long[1024];
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node = objectMapper.readTree(line);
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                }
+                ids[count++] = node.get("id").asLong();
+            }
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    // Harness defaults first; options given on the command line take their place
+    private static String[] applicationArgs(LoadOptions options, String jdbcUrl) {
+        Map<String, String> args = new LinkedHashMap<>();
+        args.put("server.port", "0");
+        args.put("spring.datasource.url", jdbcUrl);
+        args.put("spring.datasource.username", options.getJdbcUsername());
+        args.put("spring.datasource.password", options.getJdbcPassword());
+        args.put("logging.level.root", "WARN");
+        for (String arg : options.getApplicationArgs()) {
+            int split = arg.indexOf('=');
+            args.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return args.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue()).toArray(String[]::new);
+    }
+
+    private static Map<String, Object> settings(LoadOptions options) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("depth", options.getDepth());
+        settings.put("fanOut", options.getFanOut());
+        settings.put("size", options.getSize());
+        settings.put("rate", options.getRate());
+        settings.put("warmup", options.getWarmup().toString());
+        settings.put("duration", options.getDuration().toString());
+        settings.put("maxInFlight", options.getMaxInFlight());
+        settings.put("mix", options.getMix().toString());
+        settings.put("readMaxDepth", options.getReadMaxDepth());
+        settings.put("consistency", options.getConsistency());
+        settings.put("seed", options.getSeed());
+        settings.put("database", options.getTarget() != null ? "external"
+                : options.getJdbcUrl() != null ? options.getJdbcUrl() : "embedded");
+        settings.put("applicationArgs", options.getApplicationArgs());
+        settings.put("java", Runtime.version().toString());
+        settings.put("processors", Runtime.getRuntime().availableProcessors());
+        return settings;
+    }
+
+    private static void print(LoadReport report) {
+        System.out.printf(Locale.ROOT, "%-45s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms");
+        List<LoadReport.Endpoint> rows = new ArrayList<>(report.getEndpoints());
+        rows.add(report.getTotal());
+        for (LoadReport.Endpoint endpoint : rows) {
+            System.out.printf(Locale.ROOT, "%-45s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint.getEndpoint(), endpoint.getRequests(), endpoint.getErrors(), endpoint.getThroughput(),
+                    endpoint.getP50(), endpoint.getP95(), endpoint.getP99(), endpoint.getP999());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.eventmanagement.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Options of a load test run, parsed from {@code --name=value} arguments.
+ * <p>
+ * Arguments the harness does not know are handed to the application it boots, so any
+ * property such as {@code --spring.threads.virtual.enabled=true} can be set per run.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+class LoadOptions {
+
+    /** Base URL of a running instance; when set nothing is booted or cleaned up. */
+    private String target;
+
+    /** Database for the booted application; an embedded PostgreSQL is started when unset. */
+    private String jdbcUrl;
+    private String jdbcUsername = "postgres";
+    private String jdbcPassword = "postgres";
+
+    /** Levels below the seeded root. */
+    private int depth = 4;
+
+    /** Children per seeded category. */
+    private int fanOut = 10;
+
+    /** Seeded categories; the tree is filled breadth-first up to this size. */
+    private int size = 10_000;
+
+    /** Requests started per second, whether or not earlier ones completed. */
+    private int rate = 200;
+
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+
+    /** Requests in flight beyond which new ones are dropped and counted as errors. */
+    private int maxInFlight = 1_000;
+
+    /** Relative weights of the operations. */
+    private Map<Operation, Integer> mix = new EnumMap<>(Map.of(
+            Operation.READ, 70, Operation.CREATE, 10, Operation.MOVE, 10, Operation.DELETE, 10));
+
+    /** Optional {@code maxDepth} of subtree reads. */
+    private Integer readMaxDepth;
+
+    /** Optional {@code consistency} of subtree reads. */
+    private String consistency;
+
+    private long seed = 42;
+
+    private Path out = Path.of("target", "loadtest");
+
+    /** Arguments passed on to the booted application. */
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    static LoadOptions parse(String[] args) {
+        LoadOptions options = new LoadOptions();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (!arg.startsWith("--") || split < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String value = arg.substring(split + 1);
+            switch (arg.substring(2, split)) {
+                case "target" -> options.target = value.replaceAll("/+$", "");
+                case "jdbc-url" -> options.jdbcUrl = value;
+                case "jdbc-username" -> options.jdbcUsername = value;
+                case "jdbc-password" -> options.jdbcPassword = value;
+                case "depth" -> options.depth = Integer.parseInt(value);
+                case "fan-out" -> options.fanOut = Integer.parseInt(value);
+                case "size" -> options.size = Integer.parseInt(value);
+                case "rate" -> options.rate = Integer.parseInt(value);
+                case "warmup" -> options.warmup = DurationStyle.detectAndParse(value);
+                case "duration" -> options.duration = DurationStyle.detectAndParse(value);
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "mix" -> options.mix = parseMix(value);
+                case "read-max-depth" -> options.readMaxDepth = Integer.parseInt(value);
+                case "consistency" -> options.consistency = value;
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "out" -> options.out = Path.of(value);
+                default -> options.applicationArgs.add(arg);
+            }
+        }
+        if (options.depth < 0 || options.fanOut < 1 || options.size < 1 || options.rate < 1) {
+            throw new IllegalArgumentException("depth must be >= 0, fan-out, size and rate >= 1");
+        }
+        return options;
+    }
+
+    // read=70,create=10,move=10,delete=10; missing operations get no weight
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] weight = part.split("[=:]");
+            mix.put(Operation.valueOf(weight[0].strip().toUpperCase()), Integer.parseInt(weight[1].strip()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix needs a positive weight");
+        }
+        return mix;
+    }
+}
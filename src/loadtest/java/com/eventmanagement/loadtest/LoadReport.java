@@ -0,0 +1,124 @@
+package com.eventmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * Result of a load test run, written as {@code report.json} and {@code report.html}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Builder
+class LoadReport {
+
+    private String startedAt;
+    private String target;
+    private Map<String, Object> settings;
+    private int seededCategories;
+    private double seedSeconds;
+    private double measuredSeconds;
+    private int targetRate;
+    private Endpoint total;
+    private List<Endpoint> endpoints;
+
+    @Data
+    @Builder
+    static class Endpoint {
+        private String endpoint;
+        private long requests;
+        private long errors;
+        private double throughput;
+        private Map<String, Long> outcomes;
+        private double p50;
+        private double p95;
+        private double p99;
+        private double p999;
+        private double max;
+        private double mean;
+    }
+
+    void write(ObjectMapper objectMapper, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("report.json").toFile(), this);
+        Files.writeString(directory.resolve("report.html"), html());
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder("""
+                <!DOCTYPE html>
+                <html><head><meta charset="utf-8"><title>Category load test</title>
+                <style>
+                body { font: 14px sans-serif; margin: 2em; }
+                table { border-collapse: collapse; margin-bottom: 2em; }
+                th, td { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                .bar { display: inline-block; height: 10px; background: #4a7ebb; }
+                </style></head><body>
+                <h1>Category load test</h1>
+                """);
+        html.append("<p>").append(escape(target)).append(", started ").append(escape(startedAt))
+                .append(": ").append(seededCategories).append(" categories seeded in ")
+                .append(format(seedSeconds)).append(" s, ").append(targetRate).append(" req/s for ")
+                .append(format(measuredSeconds)).append(" s.</p>\n");
+
+        html.append("<table><tr><th>Setting</th><th>Value</th></tr>\n");
+        settings.forEach((name, value) -> html.append("<tr><td>").append(escape(name)).append("</td><td>")
+                .append(escape(String.valueOf(value))).append("</td></tr>\n"));
+        html.append("</table>\n");
+
+        html.append("<table><tr><th>Endpoint</th><th>Requests</th><th>Errors</th><th>req/s</th>"
+                + "<th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>p99.9 ms</th><th>max ms</th><th>Outcomes</th></tr>\n");
+        for (Endpoint endpoint : endpoints) {
+            row(html, endpoint);
+        }
+        row(html, total);
+        html.append("</table>\n");
+
+        // Percentile bars, scaled to the slowest p99.9
+        double scale = endpoints.stream().mapToDouble(Endpoint::getP999).max().orElse(0);
+        html.append("<table><tr><th>Endpoint</th><th>Percentile</th><th>ms</th><th></th></tr>\n");
+        for (Endpoint endpoint : endpoints) {
+            double[] values = {endpoint.p50, endpoint.p95, endpoint.p99, endpoint.p999};
+            String[] names = {"p50", "p95", "p99", "p99.9"};
+            for (int i = 0; i < values.length; i++) {
+                int width = scale > 0 ? (int) Math.round(400 * values[i] / scale) : 0;
+                html.append("<tr><td>").append(i == 0 ? escape(endpoint.endpoint) : "").append("</td><td>")
+                        .append(names[i]).append("</td><td>").append(format(values[i]))
+                        .append("</td><td style=\"text-align:left\"><span class=\"bar\" style=\"width:")
+                        .append(width).append("px\"></span></td></tr>\n");
+            }
+        }
+        return html.append("</table>\n</body></html>\n").toString();
+    }
+
+    private static void row(StringBuilder html, Endpoint endpoint) {
+        html.append("<tr><td>").append(escape(endpoint.endpoint)).append("</td><td>").append(endpoint.requests)
+                .append("</td><td>").append(endpoint.errors).append("</td><td>").append(format(endpoint.throughput))
+                .append("</td><td>").append(format(endpoint.p50)).append("</td><td>").append(format(endpoint.p95))
+                .append("</td><td>").append(format(endpoint.p99)).append("</td><td>").append(format(endpoint.p999))
+                .append("</td><td>").append(format(endpoint.max)).append("</td><td>")
+                .append(escape(endpoint.outcomes.toString())).append("</td></tr>\n");
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String escape(String value) {
+        return HtmlUtils.htmlEscape(value);
+    }
+}
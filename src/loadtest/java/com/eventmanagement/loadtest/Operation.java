@@ -0,0 +1,26 @@
+package com.eventmanagement.loadtest;
+
+/**
+ * The category endpoints driven by the load test.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+enum Operation {
+
+    READ("GET /api/v1/categories/{parentId}/subtree"),
+    CREATE("POST /api/v1/categories"),
+    MOVE("PUT /api/v1/categories/{subtreeId}/move"),
+    DELETE("DELETE /api/v1/categories/{id}");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,55 @@
+package com.eventmanagement.loadtest;
+
+import com.eventmanagement.dto.BulkCategoryNode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the seeded tree: a root whose categories have {@code fanOut} children each, down to
+ * {@code depth} levels, filled breadth-first until {@code size} categories exist. A small fan-out
+ * with a large depth gives a deep tree, a large fan-out with depth 1 a wide one.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+final class TreeGenerator {
+
+    private TreeGenerator() {
+    }
+
+    /**
+     * Builds the tree as a flat bulk import list linked by {@code id}/{@code parentId}, so deep
+     * trees stay within the JSON nesting limits.
+     *
+     * @param prefix label prefix, unique per run since labels are unique across the table
+     * @param depth  levels below the root
+     * @param fanOut children per category
+     * @param size   the maximum number of categories
+     * @return the categories, the root first
+     */
+    static List<BulkCategoryNode> generate(String prefix, int depth, int fanOut, int size) {
+        List<BulkCategoryNode> nodes = new ArrayList<>();
+        nodes.add(node(prefix, 1, null));
+        long levelStart = 1;
+        long levelEnd = 1;
+        for (int d = 1; d <= depth && nodes.size() < size; d++) {
+            for (long parent = levelStart; parent <= levelEnd && nodes.size() < size; parent++) {
+                for (int i = 0; i < fanOut && nodes.size() < size; i++) {
+                    nodes.add(node(prefix, nodes.size() + 1, parent));
+                }
+            }
+            levelStart = levelEnd + 1;
+            levelEnd = nodes.size();
+        }
+        return nodes;
+    }
+
+    private static BulkCategoryNode node(String prefix, long id, Long parentId) {
+        return BulkCategoryNode.builder()
+                .id(id)
+                .parentId(parentId)
+                .label(prefix + " " + id)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.eventmanagement.config;
+
+import com.eventmanagement.dto.CategoryColumns;
+import com.eventmanagement.service.SubtreeFormat;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes {@link CategoryColumns} as length-delimited protobuf messages, one per category in
+ * column order, as {@code writeDelimitedTo} would:
+ * <pre>
+ * message Category {
+ *   int64 id = 1;
+ *   int64 parent_id = 2;             // 0 for a root
+ *   string label = 3;
+ *   optional int32 child_count = 4;  // only for reads limited in depth or paged
+ * }
+ * </pre>
+ * The messages are encoded by hand, so clients can generate their classes from the schema
+ * above while the server needs neither the protobuf runtime nor generated code.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class CategoryColumnsProtobufHttpMessageConverter extends AbstractHttpMessageConverter<CategoryColumns> {
+
+    private static final int ID_TAG = 1 << 3;
+    private static final int PARENT_ID_TAG = 2 << 3;
+    private static final int LABEL_TAG = 3 << 3 | 2;
+    private static final int CHILD_COUNT_TAG = 4 << 3;
+
+    public CategoryColumnsProtobufHttpMessageConverter() {
+        super(SubtreeFormat.PROTOBUF.getMediaType());
+    }
+
+    /**
+     * Encodes the columns as length-delimited messages.
+     *
+     * @param columns the subtree
+     * @param out     the stream to write to; it is flushed but not closed
+     * @throws IOException if writing fails
+     */
+    public static void write(CategoryColumns columns, OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, 8192);
+        long[] ids = columns.getIds();
+        long[] parentIds = columns.getParentIds();
+        String[] labels = columns.getLabels();
+        int[] childCounts = columns.getChildCounts();
+        for (int position = 0; position < ids.length; position++) {
+            byte[] label = labels[position].getBytes(StandardCharsets.UTF_8);
+            int length = 1 + varintSize(ids[position]) + 1 + varintSize(label.length) + label.length;
+            if (parentIds[position] != 0) {
+                length += 1 + varintSize(parentIds[position]);
+            }
+            if (childCounts != null) {
+                length += 1 + varintSize(childCounts[position]);
+            }
+
+            writeVarint(buffered, length);
+            buffered.write(ID_TAG);
+            writeVarint(buffered, ids[position]);
+            if (parentIds[position] != 0) {
+                buffered.write(PARENT_ID_TAG);
+                writeVarint(buffered, parentIds[position]);
+            }
+            buffered.write(LABEL_TAG);
+            writeVarint(buffered, label.length);
+            buffered.write(label);
+            if (childCounts != null) {
+                buffered.write(CHILD_COUNT_TAG);
+                writeVarint(buffered, childCounts[position]);
+            }
+        }
+        buffered.flush();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CategoryColumns.class.equals(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected CategoryColumns readInternal(Class<? extends CategoryColumns> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Category columns are not accepted as input", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(CategoryColumns columns, HttpOutputMessage outputMessage) throws IOException {
+        write(columns, outputMessage.getBody());
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,211 @@
+package com.eventmanagement.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for category management, bound from the {@code category.*} namespace.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "category")
+public class CategoryProperties {
+
+    private final Index index = new Index();
+    private final Storage storage = new Storage();
+    private final Database database = new Database();
+    private final Ancestors ancestors = new Ancestors();
+    private final Purge purge = new Purge();
+    private final Changes changes = new Changes();
+    private final Snapshot snapshot = new Snapshot();
+    private final Aggregates aggregates = new Aggregates();
+    private final Responses responses = new Responses();
+    private final Streams streams = new Streams();
+
+    @Data
+    public static class Index {
+
+        /**
+         * Whether subtree reads are served from the in-memory tree index.
+         * When disabled every read goes through the recursive query.
+         */
+        private boolean enabled = true;
+
+        /**
+         * How long a failed load of the tree index waits before it is retried; reads fall back
+         * to the database meanwhile.
+         */
+        private Duration retryDelay = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Storage {
+
+        /**
+         * How the hierarchy is stored and queried.
+         */
+        private TreeStorageMode mode = TreeStorageMode.ADJACENCY;
+    }
+
+    @Data
+    public static class Ancestors {
+
+        /**
+         * How many categories may have their root path cached; the cache starts over when
+         * it grows beyond this.
+         */
+        private int cacheSize = 100_000;
+    }
+
+    @Data
+    public static class Purge {
+
+        /**
+         * How many categories an asynchronous delete removes per transaction.
+         */
+        private int chunkSize = 1_000;
+
+        /**
+         * How long a failed purge waits before it resumes.
+         */
+        private Duration retryDelay = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Changes {
+
+        /**
+         * How many of the latest changes the feed keeps for clients resuming from a sequence
+         * number.
+         */
+        private int bufferSize = 10_000;
+
+        /**
+         * How long an idle change stream waits before writing a heartbeat.
+         */
+        private Duration heartbeat = Duration.ofSeconds(15);
+
+        /**
+         * How long a change stream stays open before the client has to resume it; keep it
+         * below {@code spring.mvc.async.request-timeout}.
+         */
+        private Duration streamDuration = Duration.ofSeconds(25);
+
+        /**
+         * How many change streams may be open at once; keep it below
+         * {@code category.streams.threads} so subtree streams always find a thread.
+         */
+        private int maxStreams = 32;
+
+        /**
+         * How long a change committed after a missing one waits for it before the tree index
+         * reloads and the feed skips the missing one; a change committed by another instance
+         * never arrives.
+         */
+        private Duration reorderTimeout = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class Snapshot {
+
+        /**
+         * File the snapshot endpoint writes the category forest to; blank disables snapshots.
+         */
+        private String path = "";
+
+        /**
+         * Whether the tree index is loaded from the snapshot at startup when no write was
+         * committed since it was taken.
+         */
+        private boolean loadOnStartup = true;
+    }
+
+    @Data
+    public static class Aggregates {
+
+        /**
+         * How often the stored subtree aggregates are checked against the parent links;
+         * 0 disables the check.
+         */
+        private Duration verifyInterval = Duration.ofHours(1);
+
+        /**
+         * Whether aggregates found to have drifted are recomputed from their children.
+         */
+        private boolean repair = false;
+    }
+
+    @Data
+    public static class Responses {
+
+        /**
+         * Memory for encoded subtree response bodies; the least recently used are dropped
+         * beyond it, and 0 disables the cache.
+         */
+        private DataSize cacheSize = DataSize.ofMegabytes(64);
+    }
+
+    @Data
+    public static class Database {
+
+        /**
+         * How many threads may hold a database connection at once; 0 uses the pool size.
+         * Keeps request threads, virtual ones in particular, queueing in front of the pool
+         * instead of inside it.
+         */
+        private int maxConcurrency = 0;
+
+        /**
+         * How long a thread waits for its turn before the request fails.
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(5);
+
+        private final Replica replica = new Replica();
+    }
+
+    @Data
+    public static class Replica {
+
+        /**
+         * JDBC URL of a read replica that read-only transactions are routed to; blank sends
+         * every query to the primary.
+         */
+        private String url = "";
+
+        private String username = "";
+
+        private String password = "";
+
+        /**
+         * Connection pool size of the replica.
+         */
+        private int poolSize = 10;
+
+        /**
+         * How far the replica may fall behind before reads go back to the primary. Clients
+         * also read from the primary for this long, plus the lag check interval, after each
+         * of their writes.
+         */
+        private Duration maxLag = Duration.ofSeconds(2);
+
+        /**
+         * How often the replication lag is measured.
+         */
+        private Duration lagCheckInterval = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Streams {
+
+        /**
+         * Threads writing streamed responses, subtree streams and change streams alike; unused
+         * when {@code spring.threads.virtual.enabled} gives each stream a virtual thread.
+         */
+        private int threads = 64;
+    }
+}
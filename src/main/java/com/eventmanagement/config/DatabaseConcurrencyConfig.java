@@ -0,0 +1,97 @@
+package com.eventmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Puts a {@link ConcurrencyLimitedDataSource} in front of the connection pool, sized by
+ * {@code category.database.max-concurrency} or the pool size, and publishes its permits as
+ * {@code category.db.active} and {@code category.db.waiting}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+public class DatabaseConcurrencyConfig {
+
+    // Hikari only fills in its default pool size once the pool starts
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    // Runs before the replica routing wraps the limited pool
+    static final int POST_PROCESSOR_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(ObjectProvider<CategoryProperties> properties) {
+        return new OrderedPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                return limit(dataSource, properties.getObject().getDatabase());
+            }
+
+            @Override
+            public int getOrder() {
+                return POST_PROCESSOR_ORDER;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseConcurrencyMetrics(DataSource dataSource) {
+        return registry -> {
+            ConcurrencyLimitedDataSource limited = unwrap(dataSource);
+            if (limited != null) {
+                Gauge.builder("category.db.active", limited, ConcurrencyLimitedDataSource::getActive)
+                        .description("Threads holding a database connection")
+                        .register(registry);
+                Gauge.builder("category.db.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                        .description("Threads waiting for their turn at the database")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Limits the connections of a pool as configured.
+     *
+     * @param dataSource the pool
+     * @param database   the {@code category.database} settings
+     * @return the limited pool, or the pool itself if its size is not known
+     */
+    static DataSource limit(DataSource dataSource, CategoryProperties.Database database) {
+        int maxConcurrency = database.getMaxConcurrency();
+        if (maxConcurrency <= 0 && dataSource instanceof HikariDataSource hikari) {
+            maxConcurrency = hikari.getMaximumPoolSize() > 0
+                    ? hikari.getMaximumPoolSize()
+                    : HIKARI_DEFAULT_POOL_SIZE;
+        }
+        return maxConcurrency > 0
+                ? new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, database.getAcquireTimeout())
+                : dataSource;
+    }
+
+    // The limited pool may sit behind the replica routing proxy
+    private static ConcurrencyLimitedDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)
+                    ? dataSource.unwrap(ConcurrencyLimitedDataSource.class)
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    interface OrderedPostProcessor extends BeanPostProcessor, Ordered {
+    }
+}
@@ -0,0 +1,126 @@
+package com.eventmanagement.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The read replica: its connection pool and how far it lags behind the primary.
+ * <p>
+ * The lag is measured every {@code category.database.replica.lag-check-interval} as the age
+ * of the last transaction the replica replayed, and counts as zero once it has replayed all
+ * WAL it received. Until the first measurement succeeds, and after a failed measurement or
+ * connection, the lag is unknown and reads stay on the primary.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public class ReplicaDatabase implements AutoCloseable {
+
+    static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE coalesce(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final DataSource dataSource;
+    private final Duration lagCheckInterval;
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile long lagMillis = UNKNOWN_LAG;
+
+    public ReplicaDatabase(DataSource dataSource, Duration lagCheckInterval) {
+        this.dataSource = dataSource;
+        this.lagCheckInterval = lagCheckInterval;
+    }
+
+    /**
+     * Starts measuring the replication lag.
+     */
+    public void start() {
+        executor.scheduleWithFixedDelay(this::checkLag, 0, lagCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Measures the replication lag once.
+     */
+    public void checkLag() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(LAG_QUERY)) {
+            result.next();
+            lagMillis = Math.max(0, result.getLong(1));
+        } catch (SQLException | RuntimeException ex) {
+            markUnavailable(ex);
+        }
+    }
+
+    /**
+     * Sends reads to the primary until the next successful lag measurement.
+     *
+     * @param cause why the replica cannot be used
+     */
+    public void markUnavailable(Exception cause) {
+        if (lagMillis != UNKNOWN_LAG) {
+            log.warn("Read replica unavailable, reading from the primary: {}", cause.getMessage());
+        }
+        lagMillis = UNKNOWN_LAG;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Returns the last measured replication lag.
+     *
+     * @return the lag in milliseconds, or {@link Long#MAX_VALUE} if it is unknown
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public Duration getLagCheckInterval() {
+        return lagCheckInterval;
+    }
+
+    void recordRead(boolean onReplica) {
+        (onReplica ? replicaReads : primaryReads).increment();
+    }
+
+    public long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    public long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdownNow();
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        } else if (dataSource.isWrapperFor(AutoCloseable.class)) {
+            dataSource.unwrap(AutoCloseable.class).close();
+        }
+    }
+}
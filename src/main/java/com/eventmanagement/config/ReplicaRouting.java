@@ -0,0 +1,74 @@
+package com.eventmanagement.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the read-only transactions of the current thread to the primary database.
+ * <p>
+ * With a read replica configured, read-only transactions go to the replica unless it lags
+ * behind. Reads that must see every committed write, such as strongly consistent reads and
+ * those filling a cache, run through {@link #onPrimary(Supplier)} instead. Without a replica
+ * this has no effect.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * Runs a read with every transaction it starts on the primary.
+     *
+     * @param read the read
+     * @param <T>  the result type
+     * @return the result of the read
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Runs a read without a result with every transaction it starts on the primary.
+     *
+     * @param read the read
+     */
+    public static void runOnPrimary(Runnable read) {
+        onPrimary(() -> {
+            read.run();
+            return null;
+        });
+    }
+
+    /**
+     * Whether read-only transactions of the current thread have to use the primary.
+     *
+     * @return {@code true} inside {@link #onPrimary(Supplier)} or a request pinned to the primary
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    // For the request interceptor, which sets and clears it in separate callbacks
+    static void setPrimaryRequired(boolean required) {
+        restore(required ? Boolean.TRUE : null);
+    }
+
+    private static void restore(Boolean previous) {
+        if (previous != null) {
+            PRIMARY_REQUIRED.set(previous);
+        } else {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+}
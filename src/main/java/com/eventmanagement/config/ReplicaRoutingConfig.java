@@ -0,0 +1,119 @@
+package com.eventmanagement.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Routes read-only transactions to the read replica at {@code category.database.replica.url}.
+ * <p>
+ * The primary pool is put behind a {@link LazyConnectionDataSourceProxy}, which only takes a
+ * connection once a transaction runs its first statement and by then knows whether it is
+ * read-only. Read-only ones get theirs from a {@link ReplicaRoutingDataSource}, everything
+ * else from the primary. The replica has its own pool, limited like the primary one.
+ * <p>
+ * With open-in-view, Hibernate keeps the connection of a request's first transaction for the
+ * whole request. Write endpoints therefore start with their write transaction, and a read
+ * pinned to the primary has to be pinned before its first query.
+ * <p>
+ * Publishes {@code category.db.replica.lag} and {@code category.db.reads}, the connections
+ * of read-only transactions by {@code target}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnExpression("!'${category.database.replica.url:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaDatabase replicaDatabase(CategoryProperties properties) {
+        CategoryProperties.Database database = properties.getDatabase();
+        CategoryProperties.Replica replica = database.getReplica();
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica");
+        config.setJdbcUrl(replica.getUrl());
+        if (StringUtils.hasText(replica.getUsername())) {
+            config.setUsername(replica.getUsername());
+            config.setPassword(replica.getPassword());
+        }
+        config.setMaximumPoolSize(replica.getPoolSize());
+        // Waiting longer than the replica may lag costs more than reading from the primary,
+        // and a replica that is down must not keep the application from starting
+        config.setConnectionTimeout(Math.max(250, replica.getMaxLag().toMillis()));
+        config.setInitializationFailTimeout(-1);
+        return new ReplicaDatabase(DatabaseConcurrencyConfig.limit(new HikariDataSource(config), database),
+                replica.getLagCheckInterval());
+    }
+
+    @Bean
+    public static BeanPostProcessor replicaRoutingPostProcessor(ObjectProvider<CategoryProperties> properties,
+                                                                ObjectProvider<ReplicaDatabase> replica) {
+        return new DatabaseConcurrencyConfig.OrderedPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource primary) || bean instanceof LazyConnectionDataSourceProxy
+                        || !"dataSource".equals(beanName)) {
+                    return bean;
+                }
+                LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+                proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica.getObject(),
+                        properties.getObject().getDatabase().getReplica().getMaxLag()));
+                return proxy;
+            }
+
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer replicaRoutingInterceptorConfigurer(CategoryProperties properties) {
+        CategoryProperties.Replica replica = properties.getDatabase().getReplica();
+        ReplicaRoutingInterceptor interceptor =
+                new ReplicaRoutingInterceptor(replica.getMaxLag().plus(replica.getLagCheckInterval()));
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ReplicaDatabase replica) {
+        return registry -> {
+            TimeGauge.builder("category.db.replica.lag", replica, TimeUnit.MILLISECONDS,
+                            database -> database.getLagMillis() != ReplicaDatabase.UNKNOWN_LAG
+                                    ? database.getLagMillis()
+                                    : Double.NaN)
+                    .description("Replication lag of the read replica at the last check")
+                    .register(registry);
+            FunctionCounter.builder("category.db.reads", replica, ReplicaDatabase::getReplicaReads)
+                    .description("Connections of read-only transactions")
+                    .tag("target", "replica")
+                    .register(registry);
+            FunctionCounter.builder("category.db.reads", replica, ReplicaDatabase::getPrimaryReads)
+                    .description("Connections of read-only transactions")
+                    .tag("target", "primary")
+                    .register(registry);
+        };
+    }
+}
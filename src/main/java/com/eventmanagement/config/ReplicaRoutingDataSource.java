@@ -0,0 +1,60 @@
+package com.eventmanagement.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Hands out the connections of read-only transactions, from the replica when it is close
+ * enough behind and from the primary otherwise.
+ * <p>
+ * The primary is used while the current thread is pinned to it through
+ * {@link ReplicaRouting}, while the last measured lag exceeds
+ * {@code category.database.replica.max-lag}, and when the replica refuses a connection.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final ReplicaDatabase replica;
+    private final long maxLagMillis;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaDatabase replica, Duration maxLag) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica.getDataSource()));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Target.REPLICA) {
+            try {
+                Connection connection = getResolvedDataSources().get(Target.REPLICA).getConnection();
+                replica.recordRead(true);
+                return connection;
+            } catch (SQLException ex) {
+                replica.markUnavailable(ex);
+            }
+        }
+        replica.recordRead(false);
+        return primary.getConnection();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        return ReplicaRouting.isPrimaryRequired() || replica.getLagMillis() > maxLagMillis
+                ? Target.PRIMARY
+                : Target.REPLICA;
+    }
+}
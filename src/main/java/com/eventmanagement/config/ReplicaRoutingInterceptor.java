@@ -0,0 +1,70 @@
+package com.eventmanagement.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Lets clients read their own writes while the replica catches up.
+ * <p>
+ * After a successful write a client's reads are pinned to the primary for the maximum lag
+ * plus the lag check interval: the replica can be further behind than the last measurement
+ * by at most the time since it was taken. Clients are told apart by their
+ * {@value #CLIENT_ID_HEADER} header, or else by their address.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReplicaRoutingInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    // Beyond this many recent writers, expired ones are dropped on the next write
+    private static final int MAX_TRACKED_CLIENTS = 100_000;
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReplicaRoutingInterceptor(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (READ_METHODS.contains(request.getMethod())) {
+            Long written = lastWrites.get(client(request));
+            if (written != null && System.nanoTime() - written < windowNanos) {
+                ReplicaRouting.setPrimaryRequired(true);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRouting.setPrimaryRequired(false);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRouting.setPrimaryRequired(false);
+        if (!READ_METHODS.contains(request.getMethod()) && ex == null && response.getStatus() < 400) {
+            long now = System.nanoTime();
+            if (lastWrites.size() >= MAX_TRACKED_CLIENTS) {
+                lastWrites.values().removeIf(written -> now - written >= windowNanos);
+            }
+            lastWrites.put(client(request), now);
+        }
+    }
+
+    private static String client(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,82 @@
+package com.eventmanagement.config;
+
+import java.util.concurrent.Callable;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Runs streamed responses, subtree streams and change streams, on their own executor.
+ * <p>
+ * Spring MVC otherwise writes them on Boot's {@code applicationTaskExecutor}, whose eight
+ * core threads and unbounded queue let a handful of idle change streams, each waiting up to
+ * {@code category.changes.stream-duration} for a change, hold up every other stream. With
+ * {@code spring.threads.virtual.enabled} each stream gets a virtual thread; otherwise they
+ * share {@code category.streams.threads} threads, and {@code category.changes.max-streams}
+ * keeps some of them free for subtree streams.
+ * <p>
+ * A resource passed to {@link #closeOnCompletion(WebRequest, AutoCloseable)} is closed once
+ * the request ends, including when the stream times out or fails before it is written.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+public class StreamingConfig {
+
+    private static final String CLOSE_ON_COMPLETION = StreamingConfig.class.getName() + ".closeOnCompletion";
+
+    /**
+     * Closes {@code resource} when the streamed response of the request completes, times out
+     * or fails.
+     */
+    public static void closeOnCompletion(WebRequest request, AutoCloseable resource) {
+        request.setAttribute(CLOSE_ON_COMPLETION, resource, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Bean
+    public AsyncTaskExecutor streamingTaskExecutor(CategoryProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stream-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        int threads = properties.getStreams().getThreads();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("stream-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean
+    public WebMvcConfigurer streamingAsyncSupport(AsyncTaskExecutor streamingTaskExecutor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(streamingTaskExecutor);
+                configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) throws Exception {
+                        Object resource = request.getAttribute(CLOSE_ON_COMPLETION, RequestAttributes.SCOPE_REQUEST);
+                        if (resource instanceof AutoCloseable closeable) {
+                            closeable.close();
+                        }
+                    }
+                });
+            }
+        };
+    }
+}
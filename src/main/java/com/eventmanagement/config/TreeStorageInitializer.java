@@ -0,0 +1,32 @@
+package com.eventmanagement.config;
+
+import com.eventmanagement.repository.store.TreeStore;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Backfills the auxiliary structures of the configured storage mode at startup, so a mode
+ * can be switched on for an existing categories table.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@AllArgsConstructor
+public class TreeStorageInitializer {
+
+    private final TreeStore treeStore;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        treeStore.initialize();
+    }
+}
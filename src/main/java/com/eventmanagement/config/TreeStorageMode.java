@@ -0,0 +1,33 @@
+package com.eventmanagement.config;
+
+/**
+ * Storage strategies for the category hierarchy.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public enum TreeStorageMode {
+
+    /**
+     * Parent IDs only; subtrees are read with a recursive query.
+     */
+    ADJACENCY,
+
+    /**
+     * Parent IDs plus a materialized ancestor path; subtrees are read with an indexed prefix scan.
+     */
+    MATERIALIZED_PATH,
+
+    /**
+     * Parent IDs plus a closure table of every ancestor/descendant pair; constant-time
+     * descendant checks and join-based subtree reads.
+     */
+    CLOSURE_TABLE,
+
+    /**
+     * Parent IDs plus nested-set intervals; interval subtree reads, but writes renumber
+     * part of the tree. Best for trees that are read a lot and rarely written.
+     */
+    NESTED_SET
+}
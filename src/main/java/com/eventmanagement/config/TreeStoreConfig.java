@@ -0,0 +1,38 @@
+package com.eventmanagement.config;
+
+import com.eventmanagement.repository.CategoryClosureRepository;
+import com.eventmanagement.repository.CategoryNestedSetRepository;
+import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.store.AdjacencyListTreeStore;
+import com.eventmanagement.repository.store.ClosureTableTreeStore;
+import com.eventmanagement.repository.store.MaterializedPathTreeStore;
+import com.eventmanagement.repository.store.NestedSetTreeStore;
+import com.eventmanagement.repository.store.TreeStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Selects the {@link TreeStore} for the configured {@code category.storage.mode}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+public class TreeStoreConfig {
+
+    @Bean
+    public TreeStore treeStore(CategoryProperties properties,
+                               CategoryRepository categoryRepository,
+                               CategoryClosureRepository closureRepository,
+                               CategoryNestedSetRepository nestedSetRepository,
+                               JdbcTemplate jdbcTemplate) {
+        return switch (properties.getStorage().getMode()) {
+            case ADJACENCY -> new AdjacencyListTreeStore(categoryRepository);
+            case MATERIALIZED_PATH -> new MaterializedPathTreeStore(categoryRepository);
+            case CLOSURE_TABLE -> new ClosureTableTreeStore(categoryRepository, closureRepository);
+            case NESTED_SET -> new NestedSetTreeStore(categoryRepository, nestedSetRepository, jdbcTemplate);
+        };
+    }
+}
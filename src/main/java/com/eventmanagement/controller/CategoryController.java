@@ -1,21 +1,58 @@
 package com.eventmanagement.controller;
 
+import com.eventmanagement.config.StreamingConfig;
+import com.eventmanagement.dto.BatchMoveRequest;
+import com.eventmanagement.dto.BulkImportRequest;
+import com.eventmanagement.dto.BulkImportResponse;
+import com.eventmanagement.dto.CategoryChange;
+import com.eventmanagement.dto.CategoryChildrenPage;
+import com.eventmanagement.dto.CategoryColumns;
 import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.dto.CategorySearchResult;
+import com.eventmanagement.dto.CategoryStatsDto;
 import com.eventmanagement.dto.CreateCategoryRequest;
 import com.eventmanagement.dto.MoveRequest;
+import com.eventmanagement.dto.PurgeJobDto;
+import com.eventmanagement.dto.SnapshotDto;
 import com.eventmanagement.exceptions.ErrorResponse;
+import com.eventmanagement.exceptions.InvalidRequestException;
 import com.eventmanagement.exceptions.NotFoundException;
+import com.eventmanagement.exceptions.ServiceException;
+import com.eventmanagement.exceptions.ServiceUnavailableException;
+import com.eventmanagement.index.CategoryResponseCache;
+import com.eventmanagement.service.CategoryChangeService;
+import com.eventmanagement.service.CategoryPurgeService;
 import com.eventmanagement.service.CategoryService;
+import com.eventmanagement.service.CategorySnapshotService;
+import com.eventmanagement.service.ChangeStream;
+import com.eventmanagement.service.ChangeStreamFormat;
+import com.eventmanagement.service.ReadConsistency;
+import com.eventmanagement.service.ResponseEncoding;
+import com.eventmanagement.service.SubtreeFormat;
+import com.eventmanagement.service.SubtreeQuery;
+import com.eventmanagement.service.SubtreeStreamFormat;
+import com.eventmanagement.service.SubtreeWriter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for managing event categories.
@@ -34,6 +71,10 @@ import org.springframework.web.bind.annotation.*;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryPurgeService purgeService;
+    private final CategoryChangeService changeService;
+    private final CategorySnapshotService snapshotService;
+    private final CategoryResponseCache responseCache;
 
     /**
      * Create a new category.
@@ -82,16 +123,83 @@ public class CategoryController {
                 .body(categoryService.createCategory(request, parentId));
     }
 
+    /**
+     * Import category trees in bulk.
+     *
+     * @param request  nested trees and/or a flat list of categories linked by client-side ids
+     * @param parentId the existing category to attach the top-level categories to (optional)
+     * @return the number of created categories and the IDs of the top-level ones
+     * @throws NotFoundException if a parentId is provided but the parent category does not exist
+     */
+    @Operation(
+            summary = "Import categories in bulk",
+            description = "Creates whole category trees in a single transaction. Optionally accepts a parent category."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Categories successfully created",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkImportResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Blank label, duplicate or unknown id reference, or a cycle in the payload",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Parent category not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "A label is repeated or already exists",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkImportResponse> importCategories(
+            @RequestBody BulkImportRequest request,
+            @RequestParam(name = "parentId", required = false) Long parentId
+    ) {
+        return ResponseEntity.status(201)
+                .body(categoryService.importCategories(request.getCategories(), parentId));
+    }
+
     /**
      * Retrieve the subtree of a category.
+     * <p>
+     * The response carries the subtree version as a strong {@code ETag}. A request whose
+     * {@code If-None-Match} holds the current version is answered with 304 Not Modified
+     * after a single version lookup, without assembling the subtree. Full subtrees are
+     * served from the response cache when the current version was written before, gzipped
+     * if the client accepts it.
      *
-     * @param parentId the parent category ID
-     * @return the category subtree
+     * @param parentId    the parent category ID
+     * @param maxDepth    the deepest level to include, the category itself being level 0 (optional)
+     * @param after       return only direct children with a greater ID, for keyset paging (optional)
+     * @param limit       the maximum number of direct children to return (optional)
+     * @param consistency {@code STRONG} to bypass the in-memory index and read from the database
+     * @param webRequest  the current request, checked against the subtree version
+     * @return the category subtree, or 304 if the client's copy is current
      * @throws NotFoundException if the category does not exist
      */
     @Operation(
             summary = "Get category subtree",
-            description = "Retrieves a category and all its nested children"
+            description = "Retrieves a category and its nested children. Optionally limited in depth and "
+                    + "paged over the direct children; truncated categories report their childCount"
     )
     @ApiResponses({
             @ApiResponse(
@@ -102,6 +210,18 @@ public class CategoryController {
                             schema = @Schema(implementation = CategoryDto.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Subtree unchanged since the version in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Negative maxDepth or non-positive limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Category not found",
@@ -112,8 +232,381 @@ public class CategoryController {
             )
     })
     @GetMapping("/{parentId}/subtree")
-    public ResponseEntity<CategoryDto> getSubtree(@PathVariable Long parentId) {
-        return ResponseEntity.ok(categoryService.getSubtree(parentId));
+    public ResponseEntity<byte[]> getSubtree(
+            @PathVariable Long parentId,
+            @RequestParam(name = "maxDepth", required = false) Integer maxDepth,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "consistency", defaultValue = "EVENTUAL") ReadConsistency consistency,
+            WebRequest webRequest
+    ) {
+        SubtreeQuery query = SubtreeQuery.builder()
+                .maxDepth(maxDepth)
+                .after(after)
+                .limit(limit)
+                .build();
+        query.validate();
+
+        return subtreeResponse(parentId, query, consistency, SubtreeFormat.NESTED, webRequest,
+                () -> categoryService.getSubtree(parentId, query, consistency));
+    }
+
+    /**
+     * Retrieve the subtree of a category as columns, for clients that rebuild the tree.
+     * <p>
+     * Selected by {@code Accept}: columnar JSON, the same columns as CBOR, or length-delimited
+     * protobuf messages. Bounds, consistency, revalidation and caching work as for the nested
+     * subtree; each format has its own {@code ETag}.
+     *
+     * @param parentId    the parent category ID
+     * @param maxDepth    the deepest level to include, the category itself being level 0 (optional)
+     * @param after       return only direct children with a greater ID, for keyset paging (optional)
+     * @param limit       the maximum number of direct children to return (optional)
+     * @param consistency {@code STRONG} to bypass the in-memory index and read from the database
+     * @param webRequest  the current request, checked against the subtree version
+     * @return the category subtree breadth-first, or 304 if the client's copy is current
+     * @throws NotFoundException if the category does not exist
+     */
+    @Operation(
+            summary = "Get category subtree as columns",
+            description = "Retrieves a category and its descendants breadth-first as parallel ids, parentIds and "
+                    + "labels columns, in JSON, CBOR or length-delimited protobuf as negotiated through Accept"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Category subtree retrieved successfully",
+                    content = {
+                            @Content(mediaType = SubtreeFormat.COLUMNS_JSON_VALUE,
+                                    schema = @Schema(implementation = CategoryColumns.class)),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    schema = @Schema(implementation = CategoryColumns.class)),
+                            @Content(mediaType = SubtreeFormat.PROTOBUF_VALUE)
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Subtree unchanged since the version in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Negative maxDepth or non-positive limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/{parentId}/subtree",
+            produces = {SubtreeFormat.COLUMNS_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SubtreeFormat.PROTOBUF_VALUE})
+    public ResponseEntity<byte[]> getSubtreeColumns(
+            @PathVariable Long parentId,
+            @RequestParam(name = "maxDepth", required = false) Integer maxDepth,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "consistency", defaultValue = "EVENTUAL") ReadConsistency consistency,
+            WebRequest webRequest
+    ) {
+        SubtreeQuery query = SubtreeQuery.builder()
+                .maxDepth(maxDepth)
+                .after(after)
+                .limit(limit)
+                .build();
+        query.validate();
+
+        SubtreeFormat format = SubtreeFormat.negotiateColumns(webRequest.getHeader(HttpHeaders.ACCEPT));
+        return subtreeResponse(parentId, query, consistency, format, webRequest,
+                () -> categoryService.getSubtreeColumns(parentId, query, consistency));
+    }
+
+    /**
+     * Stream the subtree of a category straight from the database.
+     *
+     * @param parentId the parent category ID
+     * @param stream   {@code NESTED} for a single JSON document, {@code FLAT} for NDJSON
+     * @return the category subtree, written as rows are read
+     * @throws NotFoundException if the category does not exist
+     */
+    @Operation(
+            summary = "Stream category subtree",
+            description = "Streams a category and all its nested children without buffering them, "
+                    + "as nested JSON or as one category per line (NDJSON)"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Category subtree streamed successfully",
+                    content = {
+                            @Content(mediaType = "application/json", schema = @Schema(implementation = CategoryDto.class)),
+                            @Content(mediaType = "application/x-ndjson")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/{parentId}/subtree", params = "stream")
+    public ResponseEntity<StreamingResponseBody> streamSubtree(
+            @PathVariable Long parentId,
+            @RequestParam(name = "stream") SubtreeStreamFormat stream
+    ) {
+        SubtreeWriter writer = categoryService.streamSubtree(parentId, stream);
+        return ResponseEntity.ok()
+                .contentType(stream == SubtreeStreamFormat.FLAT ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(writer::writeTo);
+    }
+
+    /**
+     * Stream committed changes to the category tree.
+     *
+     * @param after       the resume token of the last change applied; omit to get new changes only
+     * @param lastEventId the {@code Last-Event-ID} an {@code EventSource} resumes with; wins over {@code after}
+     * @param format      {@code SSE} for server-sent events, {@code NDJSON} for one change per line
+     * @return the changes, written as they are committed until the stream duration is up
+     * @throws InvalidRequestException     if the resume token is malformed
+     * @throws ServiceException            if the changes after the resume token are no longer kept, or it is from
+     *                                     another feed
+     * @throws ServiceUnavailableException if {@code category.changes.max-streams} streams are open
+     */
+    @Operation(
+            summary = "Stream category changes",
+            description = "Streams creates, moves, deletes and imports as they are committed, each with an "
+                    + "increasing sequence number in commit order. Resume with after or Last-Event-ID set to the "
+                    + "epoch-sequence token of the last change applied; the stream ends after "
+                    + "category.changes.stream-duration and is resumed the same way"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Change stream opened",
+                    content = {
+                            @Content(mediaType = "text/event-stream", schema = @Schema(implementation = CategoryChange.class)),
+                            @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = CategoryChange.class))
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed resume token",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Changes after the resume token are no longer kept, or it is from another feed; "
+                            + "re-read the tree",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many change streams are open, or the feed is starting; retry later",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<StreamingResponseBody> streamChanges(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(name = "format", defaultValue = "SSE") ChangeStreamFormat format,
+            WebRequest webRequest
+    ) {
+        ChangeStream stream = changeService.streamChanges(lastEventId != null ? lastEventId : after, format);
+        // Frees its slot if the request times out or fails before the stream is written
+        StreamingConfig.closeOnCompletion(webRequest, stream);
+        return ResponseEntity.ok()
+                .contentType(format == ChangeStreamFormat.SSE ? MediaType.TEXT_EVENT_STREAM : MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noStore())
+                .body(stream::writeTo);
+    }
+
+    /**
+     * Search categories by label prefix.
+     *
+     * @param q           the prefix to match, case-insensitively
+     * @param limit       the maximum number of results
+     * @param consistency where the search is served from
+     * @return the matching categories with their ancestors
+     */
+    @Operation(
+            summary = "Search categories",
+            description = "Finds categories whose label, or a later space-separated word of it, starts with "
+                    + "the query, ignoring case. Labels starting with the query come first"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Matching categories with their ancestors, from the root down",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CategorySearchResult.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Blank query or limit outside 1 to 100",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<CategorySearchResult>> searchCategories(
+            @RequestParam(name = "q") String q,
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @RequestParam(name = "consistency", defaultValue = "EVENTUAL") ReadConsistency consistency
+    ) {
+        return ResponseEntity.ok(categoryService.searchCategories(q, limit, consistency));
+    }
+
+    /**
+     * Get the ancestors of a category.
+     *
+     * @param id          the category ID
+     * @param consistency where the path is served from
+     * @return the ancestors from the root down to the parent
+     */
+    @Operation(
+            summary = "Get category ancestors",
+            description = "Retrieves the path from the root down to the parent of a category, for breadcrumbs"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Ancestors from the root down; empty for a root category",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CategorySearchResult.Ancestor.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/{id}/ancestors")
+    public ResponseEntity<List<CategorySearchResult.Ancestor>> getAncestors(
+            @PathVariable Long id,
+            @RequestParam(name = "consistency", defaultValue = "EVENTUAL") ReadConsistency consistency
+    ) {
+        return ResponseEntity.ok(categoryService.getAncestors(id, consistency));
+    }
+
+    /**
+     * List the direct children of a category one page at a time.
+     *
+     * @param id          the parent category ID; absent for {@code /root/children}, which lists
+     *                    the top-level categories
+     * @param after       return only children with a greater ID, the {@code nextAfter} of the
+     *                    previous page
+     * @param limit       the maximum number of children to return
+     * @param consistency where the children are served from
+     * @return the children, each telling whether it has children of its own
+     * @throws NotFoundException if the category does not exist
+     */
+    @Operation(
+            summary = "Get category children",
+            description = "Lists the direct children of a category in ascending id order, keyset-paged with "
+                    + "after and limit, for tree views expanding one node at a time. Use root as the id "
+                    + "to list the top-level categories"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "A page of children, with nextAfter set when more follow",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryChildrenPage.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Negative after or limit outside 1 to 1000",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping({"/{id}/children", "/root/children"})
+    public ResponseEntity<CategoryChildrenPage> getChildren(
+            @PathVariable(name = "id", required = false) Long id,
+            @RequestParam(name = "after", defaultValue = "0") long after,
+            @RequestParam(name = "limit", defaultValue = "100") int limit,
+            @RequestParam(name = "consistency", defaultValue = "EVENTUAL") ReadConsistency consistency
+    ) {
+        return ResponseEntity.ok(categoryService.getChildren(id, after, limit, consistency));
+    }
+
+    /**
+     * Get the size of a category's subtree.
+     *
+     * @param id          the category ID
+     * @param consistency where the aggregates are served from
+     * @return the descendant count, leaf count and height of the subtree
+     * @throws NotFoundException if the category does not exist
+     */
+    @Operation(
+            summary = "Get category subtree stats",
+            description = "Reports how many categories and leaves lie below a category and how many levels "
+                    + "deep its subtree is, without reading the subtree"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Subtree aggregates of the category",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryStatsDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<CategoryStatsDto> getStats(
+            @PathVariable Long id,
+            @RequestParam(name = "consistency", defaultValue = "EVENTUAL") ReadConsistency consistency
+    ) {
+        return ResponseEntity.ok(categoryService.getStats(id, consistency));
     }
 
     /**
@@ -150,6 +643,53 @@ public class CategoryController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Move many category subtrees at once.
+     *
+     * @param request the moves, each a subtree root and its new parent
+     * @return empty response with HTTP 200 status
+     */
+    @Operation(
+            summary = "Move category subtrees in a batch",
+            description = "Applies all moves in one transaction, checked together against the resulting tree; "
+                    + "either every move is applied or none is"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Category subtrees moved successfully"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty batch, missing subtree ID or a category moved more than once",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category or new parent not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "A category would end up inside its own subtree",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PutMapping("/move-batch")
+    public ResponseEntity<Void> moveSubtrees(@Valid @RequestBody BatchMoveRequest request) {
+        categoryService.moveSubtrees(request.getMoves());
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * Delete a category.
      *
@@ -180,4 +720,134 @@ public class CategoryController {
         categoryService.deleteCategory(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Delete a category in the background.
+     *
+     * @param id the category ID
+     * @return the purge job, with HTTP 202 status and its URL in {@code Location}
+     */
+    @Operation(
+            summary = "Delete a category asynchronously",
+            description = "Removes the category and its subtree from reads and writes at once, then deletes "
+                    + "the rows in the background in short transactions"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Subtree deleted; its rows are being purged",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PurgeJobDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @DeleteMapping(value = "/{id}", params = "async=true")
+    public ResponseEntity<PurgeJobDto> deleteCategoryAsync(@PathVariable Long id) {
+        PurgeJobDto job = purgeService.purgeCategory(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/categories/jobs/" + job.getId()))
+                .body(job);
+    }
+
+    /**
+     * Get the progress of an asynchronous delete.
+     *
+     * @param jobId the job ID
+     * @return the purge job
+     */
+    @Operation(
+            summary = "Get a purge job",
+            description = "Reports how many rows of an asynchronously deleted subtree have been removed"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Purge job found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PurgeJobDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Job not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<PurgeJobDto> getPurgeJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(purgeService.getPurgeJob(jobId));
+    }
+
+    /**
+     * Write a binary snapshot of the category forest for warm starts.
+     *
+     * @return where the snapshot was written and its size
+     * @throws InvalidRequestException if {@code category.snapshot.path} is not set
+     */
+    @Operation(
+            summary = "Write a category snapshot",
+            description = "Writes every category to the configured snapshot file, from which instances "
+                    + "load their tree index at startup if nothing was committed since"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Snapshot written",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SnapshotDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Snapshots are disabled",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/snapshot")
+    public ResponseEntity<SnapshotDto> writeSnapshot() {
+        return ResponseEntity.ok(snapshotService.writeSnapshot());
+    }
+
+    // The version picks the cache entry: a body written for it is served as is, and a miss
+    // reads the subtree only after the version, like an uncached read. STRONG reads must come
+    // from the database, so they neither use nor fill the cache
+    private ResponseEntity<byte[]> subtreeResponse(Long id, SubtreeQuery query, ReadConsistency consistency,
+                                                   SubtreeFormat format, WebRequest webRequest,
+                                                   Supplier<?> representation) {
+        ResponseEncoding encoding = ResponseEncoding.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        long version = categoryService.getSubtreeVersion(id, consistency);
+        String etag = format.etag(version, encoding);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        byte[] body = responseCache.body(new CategoryResponseCache.Key(id, version, format, encoding),
+                query.isFull() && consistency != ReadConsistency.STRONG, representation);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(format.getMediaType());
+        if (encoding != ResponseEncoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+        }
+        return response.body(body);
+    }
 }
@@ -0,0 +1,31 @@
+package com.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMoveRequest {
+
+    @Schema(description = "Subtree moves, applied together in one transaction")
+    private List<Move> moves;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Move {
+
+        @Schema(description = "Root category of the subtree to move", required = true, example = "5")
+        private Long subtreeId;
+
+        @Schema(description = "New parent category; absent to make the subtree a root", example = "3")
+        private Long newParentId;
+    }
+}
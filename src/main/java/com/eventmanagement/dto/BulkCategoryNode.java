@@ -0,0 +1,27 @@
+package com.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCategoryNode {
+
+    @Schema(description = "Client-side reference of the node, unique within the import", example = "1")
+    private Long id;
+
+    @Schema(description = "Client-side reference of the parent node; only used on top-level entries", example = "1")
+    private Long parentId;
+
+    @Schema(description = "Label of the category", required = true, example = "Sports")
+    private String label;
+
+    @Schema(description = "Nested child nodes")
+    private List<BulkCategoryNode> children;
+}
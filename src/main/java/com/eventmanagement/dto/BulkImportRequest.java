@@ -0,0 +1,18 @@
+package com.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportRequest {
+
+    @Schema(description = "Categories to import, as nested trees and/or a flat list linked by id/parentId")
+    private List<BulkCategoryNode> categories;
+}
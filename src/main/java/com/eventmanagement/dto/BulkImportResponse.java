@@ -0,0 +1,17 @@
+package com.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkImportResponse {
+
+    @Schema(description = "Number of created categories", example = "3")
+    private int created;
+
+    @Schema(description = "Ids of the created top-level categories")
+    private List<Long> rootIds;
+}
@@ -0,0 +1,36 @@
+package com.eventmanagement.dto;
+
+import com.eventmanagement.event.CategoryChangedEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CategoryChange {
+
+    @Schema(description = "Feed the sequence number belongs to; it changes when the instance restarts", example = "3f9c2a1b")
+    private String epoch;
+
+    @Schema(description = "Position of the change in commit order; resume after it with after or Last-Event-ID set to epoch-sequence", example = "1042")
+    private long sequence;
+
+    @Schema(description = "CREATED, MOVED or DELETED; IMPORTED when a bulk import added subtrees under parentId")
+    private CategoryChangedEvent.Type type;
+
+    @Schema(description = "Id of the category, not set for IMPORTED", example = "7")
+    private Long categoryId;
+
+    @Schema(description = "Label of a CREATED category", example = "Jazz")
+    private String label;
+
+    @Schema(description = "Parent after the change; for DELETED the parent the subtree was removed from", example = "3")
+    private Long parentId;
+
+    @Schema(description = "Parent before a MOVED change", example = "4")
+    private Long previousParentId;
+
+    @Schema(description = "When the change was committed")
+    private Instant committedAt;
+}
@@ -0,0 +1,37 @@
+package com.eventmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CategoryChildrenPage {
+
+    @Schema(description = "Direct children with an id greater than after, in ascending id order")
+    private List<Child> children;
+
+    @Schema(description = "Value of after that returns the next page; absent on the last page", example = "42")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long nextAfter;
+
+    @Data
+    @Builder
+    public static class Child {
+
+        @Schema(description = "Id of the category", example = "7")
+        private Long id;
+
+        @Schema(description = "Label of the category", example = "Jazz")
+        private String label;
+
+        @Schema(description = "Id of the parent category, absent for a top-level category", example = "3")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long parentId;
+
+        @Schema(description = "Whether the category has children of its own, so it can be expanded", example = "true")
+        private boolean hasChildren;
+    }
+}
@@ -0,0 +1,45 @@
+package com.eventmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A subtree as parallel columns, one entry per category.
+ * <p>
+ * Categories are listed breadth-first from the requested one, so every category comes after
+ * its parent and a client can rebuild the tree in a single pass.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Builder
+public class CategoryColumns {
+
+    @ArraySchema(schema = @Schema(description = "Ids of the categories, the requested one first", example = "3"))
+    private long[] ids;
+
+    @ArraySchema(schema = @Schema(description = "Id of the parent of each category, 0 for a root", example = "1"))
+    private long[] parentIds;
+
+    @ArraySchema(schema = @Schema(description = "Label of each category", example = "Sports"))
+    private String[] labels;
+
+    @ArraySchema(schema = @Schema(description = "Total number of children of each category, whether included "
+            + "or not; only for reads limited in depth or paged", example = "12"))
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private int[] childCounts;
+
+    /**
+     * Returns the number of categories.
+     *
+     * @return the length of the columns
+     */
+    public int size() {
+        return ids.length;
+    }
+}
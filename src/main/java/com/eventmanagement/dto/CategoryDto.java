@@ -1,5 +1,6 @@
 package com.eventmanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import lombok.Builder;
@@ -20,4 +21,21 @@ public class CategoryDto {
 
     @Schema(description = "Category Subtree")
     public List<CategoryDto> children;
+
+    @Schema(description = "Total number of children, reported when they are not all included "
+            + "(depth limit reached or children paged)", example = "12")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer childCount;
+
+    @Schema(description = "Number of categories below the category, whether included or not", example = "1250")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long descendantCount;
+
+    @Schema(description = "Number of categories without children in the subtree", example = "980")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long leafCount;
+
+    @Schema(description = "Number of levels below the category, 0 for a leaf", example = "4")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer height;
 }
@@ -0,0 +1,34 @@
+package com.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CategorySearchResult {
+
+    @Schema(description = "Id of the category", example = "7")
+    private Long id;
+
+    @Schema(description = "Label of the category", example = "Jazz")
+    private String label;
+
+    @Schema(description = "Id of the parent category", example = "3")
+    private Long parentId;
+
+    @Schema(description = "Ancestors of the category, from the root down to the parent")
+    private List<Ancestor> ancestors;
+
+    @Data
+    @Builder
+    public static class Ancestor {
+
+        @Schema(description = "Id of the ancestor", example = "3")
+        private Long id;
+
+        @Schema(description = "Label of the ancestor", example = "Music")
+        private String label;
+    }
+}
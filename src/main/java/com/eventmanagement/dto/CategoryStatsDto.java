@@ -0,0 +1,23 @@
+package com.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CategoryStatsDto {
+
+    @Schema(description = "Id of the category", example = "3")
+    private Long id;
+
+    @Schema(description = "Number of categories below the category", example = "1250")
+    private long descendantCount;
+
+    @Schema(description = "Number of categories without children in the subtree, the category itself "
+            + "included if it has none", example = "980")
+    private long leafCount;
+
+    @Schema(description = "Number of levels below the category, 0 for a leaf", example = "4")
+    private int height;
+}
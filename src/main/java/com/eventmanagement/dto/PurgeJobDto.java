@@ -0,0 +1,37 @@
+package com.eventmanagement.dto;
+
+import com.eventmanagement.model.CategoryPurgeJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PurgeJobDto {
+
+    @Schema(description = "Job ID", example = "0b6f3c1e-5d0a-4c55-9a57-3f0e3c9b7a10")
+    private UUID id;
+
+    @Schema(description = "Root of the deleted subtree", example = "5")
+    private Long categoryId;
+
+    @Schema(description = "PENDING until the purge starts, RUNNING while rows are removed, then COMPLETED")
+    private CategoryPurgeJob.Status status;
+
+    @Schema(description = "Categories in the subtree, known once the purge has started", example = "250000")
+    private Long total;
+
+    @Schema(description = "Categories removed so far", example = "120000")
+    private long purged;
+
+    @Schema(description = "When the subtree was deleted")
+    private Instant createdAt;
+
+    @Schema(description = "When the last row was removed")
+    private Instant finishedAt;
+
+    @Schema(description = "Failure of the last attempt; the purge is retried until it completes")
+    private String lastError;
+}
@@ -0,0 +1,23 @@
+package com.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SnapshotDto {
+
+    @Schema(description = "File the snapshot was written to", example = "/var/lib/categories/index.snapshot")
+    private String path;
+
+    @Schema(description = "Categories in the snapshot", example = "1000000")
+    private int categories;
+
+    @Schema(description = "Size of the file in bytes", example = "21734512")
+    private long sizeBytes;
+
+    @Schema(description = "When the snapshot was written")
+    private Instant writtenAt;
+}
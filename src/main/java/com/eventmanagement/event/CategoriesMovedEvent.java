@@ -0,0 +1,35 @@
+package com.eventmanagement.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Domain event describing a committed batch move.
+ * <p>
+ * The batch is published as one event because it is one change to the tree: the database
+ * advances the version of each category on the affected paths once for the whole batch, and
+ * listeners keeping versions have to do the same. Listeners that track single categories
+ * handle the {@link CategoryChangedEvent.Type#MOVED} events it lists, in the order the moves
+ * were applied, which is also the order of their sequence numbers.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CategoriesMovedEvent {
+
+    private final List<CategoryChangedEvent> moves;
+
+    public long getFirstSequence() {
+        return moves.get(0).getSequence();
+    }
+
+    public long getLastSequence() {
+        return moves.get(moves.size() - 1).getSequence();
+    }
+}
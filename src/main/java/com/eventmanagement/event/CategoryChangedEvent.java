@@ -0,0 +1,79 @@
+package com.eventmanagement.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Domain event describing a committed change to the category tree.
+ * <p>
+ * Published by the service layer inside the write transaction and consumed by
+ * {@code @TransactionalEventListener}s after commit, so listeners never observe
+ * changes that were rolled back.
+ * <p>
+ * Just before the commit each event takes the next number of the database change sequence.
+ * Listeners are called after their own commit, in no particular order across threads; the
+ * sequence tells them the order the changes were committed in.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryChangedEvent {
+
+    public enum Type {
+        CREATED,
+        MOVED,
+        DELETED,
+        IMPORTED
+    }
+
+    private final Type type;
+    private final Long categoryId;
+    private final String label;
+    private final Long parentId;
+    private final Long previousParentId;
+    @ToString.Exclude
+    private final Imported imported;
+
+    /**
+     * Number of the change in commit order, starting at 1; 0 until the transaction commits.
+     */
+    @Setter
+    private long sequence;
+
+    public static CategoryChangedEvent created(Long categoryId, String label, Long parentId) {
+        return new CategoryChangedEvent(Type.CREATED, categoryId, label, parentId, null, null);
+    }
+
+    public static CategoryChangedEvent moved(Long categoryId, Long previousParentId, Long parentId) {
+        return new CategoryChangedEvent(Type.MOVED, categoryId, null, parentId, previousParentId, null);
+    }
+
+    public static CategoryChangedEvent deleted(Long categoryId, Long parentId) {
+        return new CategoryChangedEvent(Type.DELETED, categoryId, null, parentId, parentId, null);
+    }
+
+    /**
+     * A bulk import added one or more subtrees; {@code categoryId} is not set.
+     *
+     * @param parentId  the category the subtrees were added under, or {@code null} for roots
+     * @param ids       the new category IDs, every parent before its children
+     * @param parentIds the parent IDs, {@code 0} for root categories
+     * @param labels    the labels
+     */
+    public static CategoryChangedEvent imported(Long parentId, long[] ids, long[] parentIds, String[] labels) {
+        return new CategoryChangedEvent(Type.IMPORTED, null, null, parentId, null, new Imported(ids, parentIds, labels));
+    }
+
+    /**
+     * The categories a bulk import added, as parallel columns.
+     */
+    public record Imported(long[] ids, long[] parentIds, String[] labels) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.eventmanagement.event;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A subtree was deleted asynchronously; once the deletion commits, its rows can be purged.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CategoryPurgeScheduledEvent {
+
+    private final UUID jobId;
+}
@@ -0,0 +1,112 @@
+package com.eventmanagement.event;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Puts changes delivered out of order back in the order of their sequence numbers.
+ * <p>
+ * After-commit listeners of two transactions may run at the same time on different threads,
+ * so a change can arrive before one committed ahead of it. A change is held back until every
+ * number before its first one has been polled; changes the consumer already reflects, below
+ * the number it restarted after, are dropped. A number can go missing for good, when the
+ * change was committed by another instance or its listener failed, so the consumer checks
+ * whether the buffer is stalled and then skips the gap or starts over from the database.
+ * <p>
+ * Not thread-safe; callers synchronize on it.
+ *
+ * @param <T> the type of the buffered changes
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public class CommitOrderBuffer<T> {
+
+    private final TreeMap<Long, Entry<T>> pending = new TreeMap<>();
+    // 0 until the consumer has loaded its starting point
+    private long next;
+    private long stalledSince;
+    private boolean stalled;
+
+    /**
+     * Buffers a change numbered {@code first} to {@code last}; a batch takes consecutive
+     * numbers. Nothing is polled before the first {@link #restartAfter(long)}.
+     */
+    public void add(long first, long last, T change) {
+        if (last >= next) {
+            pending.put(first, new Entry<>(last, change));
+        }
+        updateStall();
+    }
+
+    /**
+     * Takes the change holding the next number.
+     *
+     * @return the change, or {@code null} if it has not arrived yet
+     */
+    public T poll() {
+        Map.Entry<Long, Entry<T>> head = pending.firstEntry();
+        if (next == 0 || head == null || head.getKey() > next) {
+            return null;
+        }
+        pending.pollFirstEntry();
+        next = head.getValue().last() + 1;
+        stalled = false;
+        updateStall();
+        return head.getValue().change();
+    }
+
+    /**
+     * Continues after {@code sequence}, dropping the changes up to it: the consumer was
+     * reloaded from a state that already reflects them.
+     */
+    public void restartAfter(long sequence) {
+        next = sequence + 1;
+        pending.headMap(next).clear();
+        stalled = false;
+        updateStall();
+    }
+
+    /**
+     * Gives up on the missing numbers before the first buffered change.
+     *
+     * @return the number of skipped changes
+     */
+    public long skipGap() {
+        if (next == 0 || pending.isEmpty()) {
+            return 0;
+        }
+        long skipped = pending.firstKey() - next;
+        next = pending.firstKey();
+        stalled = false;
+        updateStall();
+        return skipped;
+    }
+
+    /**
+     * Whether changes have been waiting for a missing number for at least {@code timeout},
+     * without any progress in between.
+     */
+    public boolean isStalledFor(Duration timeout) {
+        return stalled && System.nanoTime() - stalledSince >= timeout.toNanos();
+    }
+
+    /**
+     * The number of the last change polled or skipped over, or restarted after.
+     */
+    public long lastSequence() {
+        return Math.max(next - 1, 0);
+    }
+
+    private void updateStall() {
+        boolean waiting = next > 0 && !pending.isEmpty() && pending.firstKey() > next;
+        if (waiting && !stalled) {
+            stalledSince = System.nanoTime();
+        }
+        stalled = waiting;
+    }
+
+    private record Entry<T>(long last, T change) {
+    }
+}
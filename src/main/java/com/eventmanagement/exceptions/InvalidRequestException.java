@@ -0,0 +1,7 @@
+package com.eventmanagement.exceptions;
+
+public class InvalidRequestException extends RuntimeException {
+   public InvalidRequestException(String message) {
+       super(message);
+   }
+}
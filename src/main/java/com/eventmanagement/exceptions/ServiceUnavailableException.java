@@ -0,0 +1,7 @@
+package com.eventmanagement.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+   public ServiceUnavailableException(String message) {
+       super(message);
+   }
+}
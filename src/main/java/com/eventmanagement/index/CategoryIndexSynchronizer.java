@@ -0,0 +1,285 @@
+package com.eventmanagement.index;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.config.ReplicaRouting;
+import com.eventmanagement.event.CategoriesMovedEvent;
+import com.eventmanagement.event.CategoryChangedEvent;
+import com.eventmanagement.event.CommitOrderBuffer;
+import com.eventmanagement.metrics.CategoryMetrics;
+import com.eventmanagement.repository.CategoryChangeSequenceRepository;
+import com.eventmanagement.repository.CategoryRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Loads the in-memory category indexes at startup and applies committed tree changes to them,
+ * to the root path cache and to the subtree response cache.
+ * <p>
+ * With {@code category.snapshot.path} set, the index is loaded from the snapshot file when
+ * the table has not changed since it was written, instead of from a full table scan.
+ * <p>
+ * Changes are applied in the order of their sequence numbers, not in the order their
+ * listeners run: two writers committing one after the other may have their listeners called
+ * the other way round. A change that arrives early waits for the ones committed before it.
+ * The index is loaded together with the number of the last change it reflects, and changes
+ * up to that number are dropped.
+ * If a number is still missing after
+ * {@code category.changes.reorder-timeout}, as happens when another instance committed it,
+ * the index is reloaded.
+ * <p>
+ * An index found inconsistent while a change is applied is dropped, and reads fall back to
+ * the database until a background reload has loaded it again. Failed reloads are retried
+ * after {@code category.index.retry-delay}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryIndexSynchronizer {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryChangeSequenceRepository sequenceRepository;
+    private final CategoryTreeIndex treeIndex;
+    private final CategoryPathCache pathCache;
+    private final CategoryResponseCache responseCache;
+    private final CategoryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryMetrics metrics;
+    // Guards itself and loading
+    private final CommitOrderBuffer<Runnable> changes = new CommitOrderBuffer<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "category-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean loading = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        metrics.gaugeIndexReady(() -> treeIndex.isReady() ? 1 : 0);
+        if (!properties.getIndex().isEnabled()) {
+            return;
+        }
+        if (!loadSnapshot()) {
+            metrics.recordIndexReload(CategoryMetrics.RELOAD_STARTUP);
+            if (!reload()) {
+                reloadLater(CategoryMetrics.RELOAD_STARTUP);
+            }
+        }
+        long interval = Math.max(properties.getChanges().getReorderTimeout().toMillis() / 2, 1);
+        executor.scheduleWithFixedDelay(this::checkOrder, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Loads the index from the database. Changes arriving meanwhile wait, and are applied
+     * afterwards unless the loaded rows already reflect them.
+     *
+     * @return whether the index was loaded; if not, changes keep waiting for the next reload
+     */
+    public boolean reload() {
+        synchronized (changes) {
+            loading = true;
+        }
+        long sequence = inSnapshot(() -> {
+            long last = sequenceRepository.findLastSequence().orElse(0L);
+            treeIndex.rebuild(categoryRepository::forEachVisibleRow);
+            return last;
+        });
+        if (!treeIndex.isReady()) {
+            return false;
+        }
+        resumeAfter(sequence);
+        return true;
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.getType() == CategoryChangedEvent.Type.MOVED || event.getType() == CategoryChangedEvent.Type.DELETED) {
+            pathCache.invalidate(event.getCategoryId());
+        }
+        receive(event.getSequence(), event.getSequence(), () -> {
+            switch (event.getType()) {
+                case CREATED -> treeIndex.put(event.getCategoryId(), event.getParentId(), event.getLabel());
+                case MOVED -> treeIndex.move(event.getCategoryId(), event.getParentId());
+                case DELETED -> treeIndex.remove(event.getCategoryId());
+                // One batch, so the path above the import advances once, as in the database
+                case IMPORTED -> treeIndex.putAll(event.getImported().ids(), event.getImported().parentIds(),
+                        event.getImported().labels());
+            }
+            invalidateResponses(event);
+        });
+    }
+
+    // Applied as one change, so shared ancestors advance once, as in the database
+    @TransactionalEventListener
+    public void onCategoriesMoved(CategoriesMovedEvent event) {
+        List<CategoryChangedEvent> moves = event.getMoves();
+        for (CategoryChangedEvent move : moves) {
+            pathCache.invalidate(move.getCategoryId());
+        }
+        receive(event.getFirstSequence(), event.getLastSequence(), () -> {
+            long[] ids = new long[moves.size()];
+            long[] parentIds = new long[moves.size()];
+            for (int move = 0; move < ids.length; move++) {
+                ids[move] = moves.get(move).getCategoryId();
+                parentIds[move] = moves.get(move).getParentId() != null ? moves.get(move).getParentId() : 0;
+            }
+            treeIndex.moveAll(ids, parentIds);
+            moves.forEach(this::invalidateResponses);
+        });
+    }
+
+    // Without the index there is nothing to keep in order: the responses are dropped at once
+    private void receive(long firstSequence, long lastSequence, Runnable change) {
+        if (!properties.getIndex().isEnabled()) {
+            change.run();
+            return;
+        }
+        synchronized (changes) {
+            changes.add(firstSequence, lastSequence, change);
+            applyInOrder();
+        }
+    }
+
+    private void resumeAfter(long sequence) {
+        synchronized (changes) {
+            changes.restartAfter(sequence);
+            loading = false;
+            applyInOrder();
+        }
+        // Cached bodies were keyed by the versions of the previous index
+        responseCache.clear();
+    }
+
+    // Called holding the monitor of changes
+    private void applyInOrder() {
+        if (loading) {
+            return;
+        }
+        for (Runnable change = changes.poll(); change != null; change = changes.poll()) {
+            change.run();
+            if (!treeIndex.isReady()) {
+                loading = true;
+                executor.execute(() -> tryReload(CategoryMetrics.RELOAD_INVALIDATED));
+                return;
+            }
+        }
+    }
+
+    // A change missing for this long was committed elsewhere, or its listener failed
+    private void checkOrder() {
+        Duration timeout = properties.getChanges().getReorderTimeout();
+        long missing;
+        synchronized (changes) {
+            if (loading || !changes.isStalledFor(timeout)) {
+                return;
+            }
+            missing = changes.lastSequence() + 1;
+        }
+        log.warn("Category change {} not received within {}, reloading the tree index", missing, timeout);
+        tryReload(CategoryMetrics.RELOAD_REORDER);
+    }
+
+    private void tryReload(String cause) {
+        metrics.recordIndexReload(cause);
+        try {
+            if (reload()) {
+                return;
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Category tree index not reloaded", ex);
+        }
+        reloadLater(cause);
+    }
+
+    private void reloadLater(String cause) {
+        Duration delay = properties.getIndex().getRetryDelay();
+        log.info("Category tree index reload retried in {}", delay);
+        executor.schedule(() -> tryReload(cause), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // The change touched the subtrees of the category and of its old and new ancestors, whose
+    // paths come from the index; without it every cached response is dropped
+    private void invalidateResponses(CategoryChangedEvent event) {
+        if (!treeIndex.isReady()) {
+            responseCache.clear();
+            return;
+        }
+        if (event.getCategoryId() != null) {
+            responseCache.invalidate(event.getCategoryId());
+        }
+        responseCache.invalidate(treeIndex.path(event.getParentId()));
+        responseCache.invalidate(treeIndex.path(event.getPreviousParentId()));
+    }
+
+    // A snapshot is only used if no write was committed since it was taken
+    private boolean loadSnapshot() {
+        CategoryProperties.Snapshot settings = properties.getSnapshot();
+        if (!settings.isLoadOnStartup() || !StringUtils.hasText(settings.getPath())) {
+            return false;
+        }
+        Path path = Path.of(settings.getPath());
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try {
+            long start = System.nanoTime();
+            CategorySnapshot snapshot = CategorySnapshot.open(path);
+            long sequence = inSnapshot(() -> {
+                if (!snapshot.matches(categoryRepository.findFingerprint())) {
+                    return -1L;
+                }
+                // Same transaction as the fingerprint, so it numbers the last change the file reflects
+                return sequenceRepository.findLastSequence().orElse(0L);
+            });
+            if (sequence < 0) {
+                log.info("Category snapshot {} is outdated, loading the index from the database", path);
+                return false;
+            }
+            treeIndex.rebuild(snapshot::forEachRow);
+            log.info("Category tree index loaded from snapshot {} in {} ms", path, (System.nanoTime() - start) / 1_000_000);
+            if (!treeIndex.isReady()) {
+                return false;
+            }
+            resumeAfter(sequence);
+            return true;
+        } catch (IOException ex) {
+            log.warn("Category snapshot {} not loaded: {}", path, ex.getMessage());
+            return false;
+        }
+    }
+
+    // Always from the primary: changes are applied as they commit there, and one a replica
+    // has not replayed yet would be missing from the index for good
+    private long inSnapshot(LongSupplier read) {
+        TransactionTemplate snapshot = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        snapshot.setReadOnly(true);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        return ReplicaRouting.onPrimary(() -> snapshot.execute(status -> read.getAsLong()));
+    }
+}
@@ -0,0 +1,407 @@
+package com.eventmanagement.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Sorted prefix index over normalized category labels, owned by {@link CategoryTreeIndex}
+ * and guarded by its lock.
+ * <p>
+ * Each entry is a primitive {@code long} packing a node with an offset into its normalized
+ * label, so the key of an entry is the label suffix starting there and no substrings are
+ * allocated. One array holds the whole labels, a second one the starts of the following
+ * space-separated words; both are kept in key order, so a prefix lookup is a binary search
+ * followed by a scan of the matching range.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+final class CategoryLabelIndex {
+
+    private static final int OFFSET_BITS = 16;
+    private static final int MAX_OFFSET = (1 << OFFSET_BITS) - 1;
+    private static final int CHUNK_CHARS = 4;
+    private static final int POSITION_BITS = 31;
+    private static final long POSITION_MASK = (1L << POSITION_BITS) - 1;
+
+    private String[] keys = new String[0];
+    private final Entries labels = new Entries();
+    private final Entries words = new Entries();
+
+    /**
+     * Normalizes a label or query for matching.
+     *
+     * @param value the raw text
+     * @return the text stripped and lower-cased
+     */
+    static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Brings the index in line with the given labels.
+     * <p>
+     * Entries of unchanged labels keep their place; only new and changed labels are sorted
+     * and merged in, so a reload after a bulk import mostly costs the imported labels.
+     *
+     * @param labelsByNode category labels indexed by node, {@code null} where there is no category
+     */
+    void rebuild(String[] labelsByNode) {
+        String[] previous = keys;
+        keys = new String[labelsByNode.length];
+        BitSet changed = new BitSet();
+        Entries addedLabels = new Entries();
+        Entries addedWords = new Entries();
+        for (int node = 0; node < labelsByNode.length; node++) {
+            if (labelsByNode[node] != null) {
+                keys[node] = normalize(labelsByNode[node]);
+            }
+            if (!Objects.equals(keys[node], node < previous.length ? previous[node] : null)) {
+                changed.set(node);
+                if (keys[node] != null) {
+                    int added = node;
+                    addedLabels.append(entry(added, 0));
+                    forEachWordStart(keys[added], offset -> addedWords.append(entry(added, offset)));
+                }
+            }
+        }
+        labels.compact(changed);
+        words.compact(changed);
+        addedLabels.sort();
+        addedWords.sort();
+        labels.mergeIn(addedLabels);
+        words.mergeIn(addedWords);
+    }
+
+    void add(int node, String label) {
+        if (node >= keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(node + 1, keys.length + (keys.length >> 1)));
+        }
+        String key = normalize(label);
+        if (key.equals(keys[node])) {
+            return;
+        }
+        if (keys[node] != null) {
+            remove(node);
+        }
+        keys[node] = key;
+        labels.insert(entry(node, 0));
+        forEachWordStart(key, offset -> words.insert(entry(node, offset)));
+    }
+
+    void remove(int node) {
+        if (node >= keys.length || keys[node] == null) {
+            return;
+        }
+        labels.delete(entry(node, 0));
+        forEachWordStart(keys[node], offset -> words.delete(entry(node, offset)));
+        keys[node] = null;
+    }
+
+    /**
+     * Drops a node without touching the entry arrays; {@link #compact()} removes its entries.
+     * Used when a whole subtree goes at once.
+     */
+    void forget(int node) {
+        if (node < keys.length) {
+            keys[node] = null;
+        }
+    }
+
+    void compact() {
+        labels.compact(new BitSet());
+        words.compact(new BitSet());
+    }
+
+    void clear() {
+        keys = new String[0];
+        labels.clear();
+        words.clear();
+    }
+
+    /**
+     * Finds up to {@code limit} nodes whose label starts with the prefix, followed by nodes
+     * with a later word starting with it. Each group is in key order.
+     *
+     * @param prefix a normalized, non-empty prefix
+     * @param limit  the maximum number of nodes
+     * @return the matching nodes
+     */
+    int[] search(String prefix, int limit) {
+        int[] found = new int[limit];
+        int count = labels.collect(prefix, found, 0);
+        count = words.collect(prefix, found, count);
+        return Arrays.copyOf(found, count);
+    }
+
+    private static void forEachWordStart(String key, OffsetConsumer consumer) {
+        int end = Math.min(key.length(), MAX_OFFSET);
+        for (int offset = 1; offset < end; offset++) {
+            if (key.charAt(offset - 1) == ' ' && key.charAt(offset) != ' ') {
+                consumer.accept(offset);
+            }
+        }
+    }
+
+    private static long entry(int node, int offset) {
+        return (long) node << OFFSET_BITS | offset;
+    }
+
+    private static int node(long entry) {
+        return (int) (entry >>> OFFSET_BITS);
+    }
+
+    private static int offset(long entry) {
+        return (int) (entry & MAX_OFFSET);
+    }
+
+    @FunctionalInterface
+    private interface OffsetConsumer {
+        void accept(int offset);
+    }
+
+    /**
+     * One sorted entry array.
+     */
+    private final class Entries {
+
+        private long[] data = new long[0];
+        private int size;
+
+        void clear() {
+            data = new long[0];
+            size = 0;
+        }
+
+        void append(long entry) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, Math.max(16, size + (size >> 1)));
+            }
+            data[size++] = entry;
+        }
+
+        void insert(long entry) {
+            int position = -(find(entry) + 1);
+            if (position < 0) {
+                return;
+            }
+            append(entry);
+            System.arraycopy(data, position, data, position + 1, size - 1 - position);
+            data[position] = entry;
+        }
+
+        void delete(long entry) {
+            int position = find(entry);
+            if (position >= 0) {
+                System.arraycopy(data, position + 1, data, position, size - 1 - position);
+                size--;
+            }
+        }
+
+        // Drops the entries of removed nodes and of the given ones
+        void compact(BitSet stale) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int node = node(data[i]);
+                if (node < keys.length && keys[node] != null && !stale.get(node)) {
+                    data[kept++] = data[i];
+                }
+            }
+            size = kept;
+        }
+
+        // Merges sorted entries of other nodes into this array
+        void mergeIn(Entries added) {
+            if (size == 0) {
+                data = added.data;
+                size = added.size;
+                return;
+            }
+            long[] merged = new long[size + added.size];
+            int from = 0;
+            int to = 0;
+            for (int k = 0; k < added.size; k++) {
+                long entry = added.data[k];
+                int position = find(entry, from);
+                position = position < 0 ? -(position + 1) : position;
+                System.arraycopy(data, from, merged, to, position - from);
+                to += position - from;
+                merged[to++] = entry;
+                from = position;
+            }
+            System.arraycopy(data, from, merged, to, size - from);
+            data = merged;
+            size += added.size;
+        }
+
+        // Adds the matching nodes not collected yet, from position `count` of `found`
+        int collect(String prefix, int[] found, int count) {
+            for (int i = lowerBound(prefix); i < size && count < found.length; i++) {
+                int node = node(data[i]);
+                if (!keys[node].startsWith(prefix, offset(data[i]))) {
+                    break;
+                }
+                if (!contains(found, count, node)) {
+                    found[count++] = node;
+                }
+            }
+            return count;
+        }
+
+        // Most-significant-chunk-first sort: entries are ordered by four packed chars of
+        // their key, then each run sharing those chars by the next four, so label chars are
+        // read once per level rather than once per comparison. Each level packs the chunk
+        // above the position in the run and sorts the resulting primitives.
+        void sort() {
+            long[] sortKeys = new long[size];
+            long[] entryBuffer = new long[size];
+            sort(0, size, 0, sortKeys, entryBuffer);
+        }
+
+        private void sort(int low, int high, int depth, long[] sortKeys, long[] entryBuffer) {
+            for (int i = low; i < high; i++) {
+                sortKeys[i] = chunk(data[i], depth) << POSITION_BITS | (i - low);
+            }
+            Arrays.sort(sortKeys, low, high);
+            System.arraycopy(data, low, entryBuffer, low, high - low);
+            for (int i = low; i < high; i++) {
+                data[i] = entryBuffer[low + (int) (sortKeys[i] & POSITION_MASK)];
+            }
+
+            int run = low;
+            for (int i = low + 1; i <= high; i++) {
+                if (i < high && sortKeys[i] >>> POSITION_BITS == sortKeys[run] >>> POSITION_BITS) {
+                    continue;
+                }
+                if (i - run > 1) {
+                    if (isComplete(sortKeys[run] >>> POSITION_BITS)) {
+                        sort(run, i, depth + 1, sortKeys, entryBuffer);
+                    } else {
+                        sortByKey(run, i, entryBuffer);
+                    }
+                }
+                run = i;
+            }
+        }
+
+        // Merge sort on the full keys, for runs whose chunks cannot tell them apart; these
+        // mostly hold the same text, such as a word shared by many labels, ordered by node
+        private void sortByKey(int low, int high, long[] entryBuffer) {
+            for (int width = 1; width < high - low; width *= 2) {
+                for (int from = low; from < high - width; from += 2 * width) {
+                    int middle = from + width;
+                    int to = Math.min(from + 2 * width, high);
+                    if (compare(data[middle - 1], data[middle]) <= 0) {
+                        continue;
+                    }
+                    System.arraycopy(data, from, entryBuffer, from, to - from);
+                    int left = from;
+                    int right = middle;
+                    for (int i = from; i < to; i++) {
+                        boolean takeLeft = right >= to
+                                || (left < middle && compare(entryBuffer[left], entryBuffer[right]) <= 0);
+                        data[i] = takeLeft ? entryBuffer[left++] : entryBuffer[right++];
+                    }
+                }
+            }
+        }
+
+        // Four chars of the key from position depth * 4, one byte each and zero-padded.
+        // A char that does not fit in a byte ends the chunk with 0xFF.
+        private long chunk(long entry, int depth) {
+            String key = keys[node(entry)];
+            int from = offset(entry) + depth * CHUNK_CHARS;
+            long chunk = 0;
+            boolean open = true;
+            for (int i = 0; i < CHUNK_CHARS; i++) {
+                int c = 0;
+                if (open && from + i < key.length()) {
+                    c = Math.min(key.charAt(from + i), 0xFF);
+                    open = c != 0 && c != 0xFF;
+                }
+                chunk = chunk << 8 | c;
+            }
+            return chunk;
+        }
+
+        // Whether equal chunks imply equal chars so far and more chars may follow
+        private static boolean isComplete(long chunk) {
+            for (int i = 0; i < CHUNK_CHARS; i++, chunk >>>= 8) {
+                int c = (int) (chunk & 0xFF);
+                if (c == 0 || c == 0xFF) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Binary search for an exact entry, with the result convention of Arrays.binarySearch
+        private int find(long entry) {
+            return find(entry, 0);
+        }
+
+        private int find(long entry, int from) {
+            int low = from;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int cmp = compare(data[middle], entry);
+                if (cmp < 0) {
+                    low = middle + 1;
+                } else if (cmp > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        // First entry whose key is not less than the prefix
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                long entry = data[middle];
+                if (compareKey(keys[node(entry)], offset(entry), prefix, 0) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int compare(long a, long b) {
+            int cmp = compareKey(keys[node(a)], offset(a), keys[node(b)], offset(b));
+            return cmp != 0 ? cmp : Integer.compare(node(a), node(b));
+        }
+    }
+
+    private static int compareKey(String a, int fromA, String b, int fromB) {
+        int lengthA = a.length() - fromA;
+        int lengthB = b.length() - fromB;
+        int length = Math.min(lengthA, lengthB);
+        for (int i = 0; i < length; i++) {
+            char ca = a.charAt(fromA + i);
+            char cb = b.charAt(fromB + i);
+            if (ca != cb) {
+                return ca - cb;
+            }
+        }
+        return lengthA - lengthB;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
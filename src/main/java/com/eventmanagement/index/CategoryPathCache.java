@@ -0,0 +1,172 @@
+package com.eventmanagement.index;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.dto.CategorySearchResult;
+import com.eventmanagement.repository.CategoryRepository.PathRow;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the root paths of categories, for breadcrumbs.
+ * <p>
+ * Each cached category points to the entry of its parent, so a path is a walk up the
+ * entries and categories sharing ancestors share their entries. Entries also know their
+ * cached children: a committed move or delete drops the entries of the affected subtree
+ * only, and every other path stays cached. Labels never change, so creates and imports
+ * leave the cache alone.
+ * <p>
+ * A path read from the database is only added if no subtree was dropped since the read
+ * started; otherwise it may predate the change and is left to the next lookup.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class CategoryPathCache {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final int capacity;
+    private long generation;
+
+    public CategoryPathCache(CategoryProperties properties) {
+        this.capacity = properties.getAncestors().getCacheSize();
+    }
+
+    /**
+     * Returns the current generation, to be passed to {@link #put} with a path read afterwards.
+     *
+     * @return a counter advanced by every dropped subtree
+     */
+    public long generation() {
+        lock.readLock().lock();
+        try {
+            return generation;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the cached ancestors of a category.
+     *
+     * @param id the category ID
+     * @return the ancestors from the root down to the parent, or {@code null} if not cached
+     */
+    public List<CategorySearchResult.Ancestor> ancestors(Long id) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            List<CategorySearchResult.Ancestor> ancestors = new ArrayList<>();
+            for (Entry ancestor = entry.parent; ancestor != null; ancestor = ancestor.parent) {
+                ancestors.add(CategorySearchResult.Ancestor.builder()
+                        .id(ancestor.id)
+                        .label(ancestor.label)
+                        .build());
+            }
+            Collections.reverse(ancestors);
+            return ancestors;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Caches a root path, and with it the paths of every category on it.
+     *
+     * @param path       the path from the root down to a category
+     * @param generation the {@link #generation()} taken before the path was read
+     */
+    public void put(List<PathRow> path, long generation) {
+        lock.writeLock().lock();
+        try {
+            if (generation != this.generation) {
+                return;
+            }
+            if (entries.size() + path.size() > capacity) {
+                entries.clear();
+            }
+            Entry parent = null;
+            for (PathRow row : path) {
+                Entry entry = entries.get(row.getId());
+                if (entry == null) {
+                    entry = new Entry(row.getId(), row.getLabel(), parent);
+                    entries.put(entry.id, entry);
+                    if (parent != null) {
+                        parent.children.add(entry);
+                    }
+                }
+                parent = entry;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the cached paths of a category and its descendants, after it moved or was deleted.
+     *
+     * @param id the root of the changed subtree
+     */
+    public void invalidate(Long id) {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            Entry root = entries.get(id);
+            if (root == null) {
+                return;
+            }
+            if (root.parent != null) {
+                root.parent.children.remove(root);
+            }
+            Deque<Entry> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Entry entry = pending.pop();
+                entries.remove(entry.id);
+                entry.children.forEach(pending::push);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of cached paths.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final class Entry {
+
+        private final long id;
+        private final String label;
+        private final Entry parent;
+        private final List<Entry> children = new ArrayList<>(0);
+
+        private Entry(long id, String label, Entry parent) {
+            this.id = id;
+            this.label = label;
+            this.parent = parent;
+        }
+    }
+}
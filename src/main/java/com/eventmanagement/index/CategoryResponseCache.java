@@ -0,0 +1,246 @@
+package com.eventmanagement.index;
+
+import com.eventmanagement.config.CategoryColumnsProtobufHttpMessageConverter;
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.dto.CategoryColumns;
+import com.eventmanagement.metrics.CategoryMetrics;
+import com.eventmanagement.service.ResponseEncoding;
+import com.eventmanagement.service.SubtreeFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of encoded subtree response bodies, serialized in their format and compressed in
+ * their content coding, so a hot subtree is written once per version.
+ * <p>
+ * Entries are keyed by category, subtree version, format and coding. A request looks its
+ * version up first, so a change below a category moves its readers to a new key and an
+ * outdated body is never served. Committed changes still drop the entries of every category
+ * whose subtree they touched, and an entry drops the older versions of its category, so
+ * outdated bodies do not hold memory until they are evicted.
+ * <p>
+ * The version is read before the subtree, so a body may be newer than its key, never older.
+ * <p>
+ * Bodies are bounded by {@code category.responses.cache-size} in bytes and evicted least
+ * recently used first. A body larger than a quarter of the cache is not cached, so one huge
+ * subtree cannot push out all the others. Strongly consistent reads bypass the cache, as they
+ * must be read from the database.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class CategoryResponseCache {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, List<Key>> keysById = new HashMap<>();
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final CategoryMetrics metrics;
+    private final long capacity;
+    private long bytes;
+
+    public CategoryResponseCache(ObjectMapper objectMapper, CategoryProperties properties, CategoryMetrics metrics) {
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.capacity = properties.getResponses().getCacheSize().toBytes();
+        metrics.gaugeResponseCacheSize(this::bytes);
+    }
+
+    /**
+     * Identifies an encoded body.
+     *
+     * @param id       the category ID
+     * @param version  the subtree version the body was read at, or after
+     * @param format   the representation
+     * @param encoding the content coding
+     */
+    public record Key(long id, long version, SubtreeFormat format, ResponseEncoding encoding) {
+    }
+
+    /**
+     * Returns the encoded body of a subtree, from the cache or by writing it.
+     *
+     * @param key            the body wanted
+     * @param cacheable      whether the body is the same for every request with the key;
+     *                       {@code false} for bounded and strongly consistent reads, which
+     *                       are written but not cached
+     * @param representation reads the {@code CategoryDto} or {@link CategoryColumns} on a miss
+     * @return the body, serialized and compressed
+     */
+    public byte[] body(Key key, boolean cacheable, Supplier<?> representation) {
+        if (!cacheable || capacity == 0) {
+            return encode(key, representation.get());
+        }
+        byte[] body = get(key);
+        metrics.recordResponseCacheLookup(body != null);
+        if (body == null) {
+            body = encode(key, representation.get());
+            put(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * Returns a cached body.
+     *
+     * @param key the body wanted
+     * @return the body, or {@code null} if not cached
+     */
+    public byte[] get(Key key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Caches a body, replacing the bodies of older versions of the same category.
+     *
+     * @param key  the body's key
+     * @param body the encoded body
+     */
+    public void put(Key key, byte[] body) {
+        if (body.length > capacity / 4) {
+            return;
+        }
+        lock.lock();
+        try {
+            List<Key> keys = keysById.computeIfAbsent(key.id(), id -> new ArrayList<>(2));
+            for (Key cached : List.copyOf(keys)) {
+                if (cached.version() > key.version()) {
+                    return;
+                }
+                if (cached.version() < key.version()) {
+                    remove(cached);
+                }
+            }
+            keys = keysById.computeIfAbsent(key.id(), id -> new ArrayList<>(2));
+            byte[] previous = entries.put(key, body);
+            if (previous != null) {
+                bytes -= previous.length;
+            } else {
+                keys.add(key);
+            }
+            bytes += body.length;
+
+            Iterator<Map.Entry<Key, byte[]>> eldest = entries.entrySet().iterator();
+            while (bytes > capacity && eldest.hasNext()) {
+                Map.Entry<Key, byte[]> entry = eldest.next();
+                eldest.remove();
+                bytes -= entry.getValue().length;
+                forget(entry.getKey());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the bodies of the given categories in every version, format and coding.
+     *
+     * @param ids the categories whose subtree changed
+     */
+    public void invalidate(long... ids) {
+        lock.lock();
+        try {
+            for (long id : ids) {
+                List<Key> keys = keysById.remove(id);
+                if (keys == null) {
+                    continue;
+                }
+                for (Key key : keys) {
+                    byte[] body = entries.remove(key);
+                    if (body != null) {
+                        bytes -= body.length;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops every body.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            keysById.clear();
+            bytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the memory held by the cached bodies.
+     *
+     * @return the total body length in bytes
+     */
+    public long bytes() {
+        lock.lock();
+        try {
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Key key) {
+        byte[] body = entries.remove(key);
+        if (body != null) {
+            bytes -= body.length;
+        }
+        forget(key);
+    }
+
+    private void forget(Key key) {
+        List<Key> keys = keysById.get(key.id());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysById.remove(key.id());
+            }
+        }
+    }
+
+    // JSON bodies are timed like the ones the message converter writes
+    private byte[] encode(Key key, Object representation) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+        long start = System.nanoTime();
+        try (OutputStream out = key.encoding() == ResponseEncoding.GZIP ? new GZIPOutputStream(buffer, 8192) : buffer) {
+            switch (key.format()) {
+                case NESTED, COLUMNS_JSON -> objectMapper.writeValue(out, representation);
+                case CBOR -> cborMapper.writeValue(out, representation);
+                case PROTOBUF -> CategoryColumnsProtobufHttpMessageConverter.write((CategoryColumns) representation, out);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (key.format() == SubtreeFormat.NESTED || key.format() == SubtreeFormat.COLUMNS_JSON) {
+            metrics.recordJsonWrite(representation.getClass().getSimpleName(), System.nanoTime() - start);
+        }
+        return buffer.toByteArray();
+    }
+}
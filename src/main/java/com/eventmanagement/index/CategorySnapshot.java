@@ -0,0 +1,269 @@
+package com.eventmanagement.index;
+
+import com.eventmanagement.repository.CategoryRepository.TableFingerprint;
+import com.eventmanagement.repository.CategoryRowHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary snapshot of the category forest, for loading the tree index without a
+ * table scan.
+ * <p>
+ * After an 8-byte magic and a CRC-32 of the rest of the file, a header of varints holds the
+ * {@link TableFingerprint} of the table the snapshot was taken from, the category and label
+ * counts, and the length of each section. The sections are columns of varints: ID deltas
+ * (zigzag-encoded, so any row order works), parent IDs ({@code 0} for roots), subtree
+ * versions and label references, then the deduplicated labels as a column of UTF-8 lengths
+ * and one blob.
+ * <p>
+ * An opened snapshot is memory-mapped and checked against its CRC once; reading it back
+ * decodes the columns in place and allocates only one string per distinct label.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CategorySnapshot {
+
+    private static final byte[] MAGIC = {'C', 'A', 'T', 'S', 'N', 'A', 'P', 1};
+    private static final int HEADER_OFFSET = MAGIC.length + Integer.BYTES;
+
+    private final ByteBuffer ids;
+    private final ByteBuffer parentIds;
+    private final ByteBuffer versions;
+    private final ByteBuffer labelRefs;
+    private final ByteBuffer labelLengths;
+    private final ByteBuffer labelBlob;
+    private final long rowCount;
+    private final long maxId;
+    private final long versionSum;
+    private final int size;
+    private final int labelCount;
+
+    private CategorySnapshot(MappedByteBuffer file) throws IOException {
+        ByteBuffer header = file.slice(HEADER_OFFSET, file.limit() - HEADER_OFFSET);
+        rowCount = readVarint(header);
+        maxId = readVarint(header);
+        versionSum = readVarint(header);
+        size = (int) readVarint(header);
+        labelCount = (int) readVarint(header);
+        int offset = HEADER_OFFSET + header.position() + 6 * Integer.BYTES;
+        ByteBuffer[] sections = new ByteBuffer[6];
+        for (int section = 0; section < sections.length; section++) {
+            int length = header.getInt();
+            if (length < 0 || offset + length > file.limit()) {
+                throw new IOException("Truncated category snapshot");
+            }
+            sections[section] = file.slice(offset, length);
+            offset += length;
+        }
+        ids = sections[0];
+        parentIds = sections[1];
+        versions = sections[2];
+        labelRefs = sections[3];
+        labelLengths = sections[4];
+        labelBlob = sections[5];
+    }
+
+    /**
+     * Maps a snapshot file and verifies its format and checksum.
+     *
+     * @param file the snapshot file
+     * @return the opened snapshot
+     * @throws IOException if the file cannot be read or is not an intact snapshot
+     */
+    public static CategorySnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_OFFSET || length > Integer.MAX_VALUE) {
+                throw new IOException("Not a category snapshot: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            for (byte expected : MAGIC) {
+                if (mapped.get() != expected) {
+                    throw new IOException("Not a category snapshot: " + file);
+                }
+            }
+            int checksum = mapped.getInt();
+            CRC32 crc = new CRC32();
+            crc.update(mapped.slice(HEADER_OFFSET, (int) length - HEADER_OFFSET));
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Corrupt category snapshot: " + file);
+            }
+            return new CategorySnapshot(mapped);
+        }
+    }
+
+    /**
+     * Writes a snapshot, replacing the file only once it is complete.
+     *
+     * @param file        the snapshot file
+     * @param fingerprint the state of the table the rows are read from
+     * @param source      a scan feeding every category row to the given handler
+     * @return the number of categories written
+     * @throws IOException if the file cannot be written
+     */
+    public static int write(Path file, TableFingerprint fingerprint, Consumer<CategoryRowHandler> source)
+            throws IOException {
+        Section ids = new Section();
+        Section parentIds = new Section();
+        Section versions = new Section();
+        Section labelRefs = new Section();
+        Section labelLengths = new Section();
+        Section labelBlob = new Section();
+        Map<String, Integer> labels = new HashMap<>();
+        int[] size = new int[1];
+        long[] previousId = new long[1];
+
+        source.accept((id, parentId, label, version) -> {
+            ids.writeVarint(zigzag(id - previousId[0]));
+            parentIds.writeVarint(parentId);
+            versions.writeVarint(version);
+            labelRefs.writeVarint(labels.computeIfAbsent(label, added -> {
+                byte[] bytes = added.getBytes(StandardCharsets.UTF_8);
+                labelLengths.writeVarint(bytes.length);
+                labelBlob.writeBytes(bytes);
+                return labels.size();
+            }));
+            previousId[0] = id;
+            size[0]++;
+        });
+
+        Section[] sections = {ids, parentIds, versions, labelRefs, labelLengths, labelBlob};
+        Section header = new Section();
+        header.writeVarint(fingerprint.getRowCount());
+        header.writeVarint(fingerprint.getMaxId());
+        header.writeVarint(fingerprint.getVersionSum());
+        header.writeVarint(size[0]);
+        header.writeVarint(labels.size());
+        ByteBuffer lengths = ByteBuffer.allocate(sections.length * Integer.BYTES);
+        for (Section section : sections) {
+            lengths.putInt(section.size());
+        }
+        header.writeBytes(lengths.array());
+
+        CRC32 crc = new CRC32();
+        crc.update(header.buffer(), 0, header.size());
+        for (Section section : sections) {
+            crc.update(section.buffer(), 0, section.size());
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer prefix = ByteBuffer.allocate(HEADER_OFFSET).put(MAGIC).putInt((int) crc.getValue()).flip();
+                writeFully(channel, prefix);
+                writeFully(channel, ByteBuffer.wrap(header.buffer(), 0, header.size()));
+                for (Section section : sections) {
+                    writeFully(channel, ByteBuffer.wrap(section.buffer(), 0, section.size()));
+                }
+                channel.force(false);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return size[0];
+    }
+
+    /**
+     * Whether the snapshot was taken from a table in the given state.
+     *
+     * @param fingerprint the current state of the table
+     * @return {@code true} if no write was committed since the snapshot was taken
+     */
+    public boolean matches(TableFingerprint fingerprint) {
+        return fingerprint.getRowCount() == rowCount
+                && fingerprint.getMaxId() == maxId
+                && fingerprint.getVersionSum() == versionSum;
+    }
+
+    /**
+     * Returns the number of categories in the snapshot.
+     *
+     * @return the category count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Feeds every category of the snapshot to a handler, in the order they were written.
+     *
+     * @param handler the callback invoked once per category
+     */
+    public void forEachRow(CategoryRowHandler handler) {
+        byte[] blob = new byte[labelBlob.limit()];
+        labelBlob.get(0, blob);
+        String[] labels = new String[labelCount];
+        ByteBuffer lengths = labelLengths.duplicate();
+        for (int label = 0, offset = 0; label < labelCount; label++) {
+            int length = (int) readVarint(lengths);
+            labels[label] = new String(blob, offset, length, StandardCharsets.UTF_8);
+            offset += length;
+        }
+
+        ByteBuffer idColumn = ids.duplicate();
+        ByteBuffer parentColumn = parentIds.duplicate();
+        ByteBuffer versionColumn = versions.duplicate();
+        ByteBuffer labelColumn = labelRefs.duplicate();
+        long id = 0;
+        for (int row = 0; row < size; row++) {
+            id += unzigzag(readVarint(idColumn));
+            handler.handle(id, readVarint(parentColumn), labels[(int) readVarint(labelColumn)], readVarint(versionColumn));
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Section extends ByteArrayOutputStream {
+
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,890 @@
+package com.eventmanagement.index;
+
+import com.eventmanagement.dto.CategoryChildrenPage;
+import com.eventmanagement.dto.CategoryColumns;
+import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.dto.CategorySearchResult;
+import com.eventmanagement.dto.CategoryStatsDto;
+import com.eventmanagement.repository.CategoryRowHandler;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resident adjacency index of the category forest.
+ * <p>
+ * Nodes live in primitive arrays keyed by category ID ({@code parent}, {@code firstChild},
+ * {@code lastChild}, {@code nextSibling}), so a subtree can be assembled without touching
+ * the database. Siblings are linked in ascending ID order, matching the ordering of the
+ * recursive subtree query. The index is rebuilt from the database at startup and kept
+ * current by committed create, move and delete operations.
+ * <p>
+ * Labels are also held in a {@link CategoryLabelIndex} for prefix search; ancestor paths
+ * of the matches come from the {@code parent} links, so moves need no label updates.
+ * <p>
+ * Each node also carries its subtree version. The index advances the versions along the
+ * same paths as the write that produced the change, so they match the database and a
+ * client revalidating against either source sees the same value.
+ * <p>
+ * Descendant count, leaf count and height of every subtree are computed when the index is
+ * rebuilt and then maintained along the ancestor chain of each change, by the same rules
+ * as the database applies to its aggregate columns.
+ * <p>
+ * Reads share a read lock; the rare writes take the write lock.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class CategoryTreeIndex {
+
+    private static final int NONE = 0;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long MAX_ID = Integer.MAX_VALUE - 8;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int[] parent = new int[INITIAL_CAPACITY];
+    private int[] firstChild = new int[INITIAL_CAPACITY];
+    private int[] lastChild = new int[INITIAL_CAPACITY];
+    private int[] nextSibling = new int[INITIAL_CAPACITY];
+    private String[] labels = new String[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private int[] descendantCounts = new int[INITIAL_CAPACITY];
+    private int[] leafCounts = new int[INITIAL_CAPACITY];
+    private int[] heights = new int[INITIAL_CAPACITY];
+    private final CategoryLabelIndex labelIndex = new CategoryLabelIndex();
+    private int size;
+
+    private volatile boolean ready;
+
+    /**
+     * Whether the index has been loaded and can serve reads.
+     *
+     * @return {@code true} once a rebuild completed successfully
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the number of indexed categories.
+     *
+     * @return the node count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index from a full scan of the categories.
+     * <p>
+     * Reads fall back to the database while the rebuild is running. Changes committed while
+     * the source is read may or may not be part of it; callers read the source in one snapshot
+     * and skip the changes it already reflects.
+     *
+     * @param source a scan feeding every category row to the given handler
+     */
+    public void rebuild(Consumer<CategoryRowHandler> source) {
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            clear();
+            source.accept((id, parentId, label, version) -> {
+                int node = toIndex(id);
+                int parentNode = parentId != NONE ? toIndex(parentId) : NONE;
+                ensureCapacity(Math.max(node, parentNode));
+                parent[node] = parentNode;
+                labels[node] = label;
+                versions[node] = version;
+                size++;
+            });
+
+            // Link children in descending order so each prepend leaves siblings ascending
+            for (int node = labels.length - 1; node > NONE; node--) {
+                if (labels[node] != null && parent[node] != NONE) {
+                    int p = parent[node];
+                    if (firstChild[p] == NONE) {
+                        lastChild[p] = node;
+                    }
+                    nextSibling[node] = firstChild[p];
+                    firstChild[p] = node;
+                }
+            }
+            computeAggregates();
+            labelIndex.rebuild(labels);
+            ready = true;
+            log.info("Category tree index loaded with {} nodes", size);
+        } catch (InconsistentIndexException ex) {
+            clear();
+            labelIndex.clear();
+            log.warn("Category tree index disabled: {}", ex.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a category, or re-links it if it is already indexed.
+     *
+     * @param id       the category ID
+     * @param parentId the parent category ID, or {@code null} for a root category
+     * @param label    the category label
+     */
+    public void put(Long id, Long parentId, String label) {
+        lock.writeLock().lock();
+        try {
+            int node = toIndex(id);
+            int newParent = parentId != null ? toIndex(parentId) : NONE;
+            ensureCapacity(Math.max(node, newParent));
+            if (labels[node] != null) {
+                detach(node);
+            } else {
+                versions[node] = 0;
+                descendantCounts[node] = 0;
+                leafCounts[node] = 1;
+                heights[node] = 0;
+                size++;
+            }
+            touchPaths(newParent, NONE);
+            labels[node] = label;
+            labelIndex.add(node, label);
+            attach(node, newParent);
+        } catch (InconsistentIndexException ex) {
+            invalidate(ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds imported subtrees as one change. The path of each subtree's parent advances its
+     * version once, as the database does for the import, and the aggregates of the new
+     * categories are summed up once rather than along the ancestor chain of every one of them.
+     *
+     * @param ids       the new category IDs, every parent before its children
+     * @param parentIds the parent IDs, {@code 0} for root categories
+     * @param newLabels the category labels
+     */
+    public void putAll(long[] ids, long[] parentIds, String[] newLabels) {
+        lock.writeLock().lock();
+        try {
+            int[] nodes = new int[ids.length];
+            int[] newParents = new int[ids.length];
+            int highest = NONE;
+            for (int k = 0; k < ids.length; k++) {
+                nodes[k] = toIndex(ids[k]);
+                newParents[k] = parentIds[k] != 0 ? toIndex(parentIds[k]) : NONE;
+                highest = Math.max(highest, Math.max(nodes[k], newParents[k]));
+            }
+            ensureCapacity(highest);
+
+            // New categories stop the walk up, so only the paths above the import advance
+            BitSet touched = new BitSet();
+            for (int k = 0; k < ids.length; k++) {
+                if (contains(nodes[k])) {
+                    detach(nodes[k]);
+                } else {
+                    size++;
+                }
+                versions[nodes[k]] = 0;
+                descendantCounts[nodes[k]] = 0;
+                leafCounts[nodes[k]] = 1;
+                heights[nodes[k]] = 0;
+                labels[nodes[k]] = newLabels[k];
+                labelIndex.add(nodes[k], newLabels[k]);
+                touched.set(nodes[k]);
+            }
+            for (int k = 0; k < ids.length; k++) {
+                touchPath(newParents[k], touched);
+            }
+            // Children first: a subtree is complete before it is added to its ancestors
+            for (int k = ids.length - 1; k >= 0; k--) {
+                attach(nodes[k], newParents[k]);
+            }
+        } catch (InconsistentIndexException ex) {
+            invalidate(ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Re-links a category, and with it its whole subtree, under a new parent.
+     *
+     * @param id          the category ID
+     * @param newParentId the new parent ID, or {@code null} to make it a root category
+     */
+    public void move(Long id, Long newParentId) {
+        lock.writeLock().lock();
+        try {
+            int node = toIndex(id);
+            int newParent = newParentId != null ? toIndex(newParentId) : NONE;
+            if (!contains(node)) {
+                return;
+            }
+            touchPaths(node, newParent);
+            relink(node, newParent);
+        } catch (InconsistentIndexException ex) {
+            invalidate(ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a batch move as one change. Every node on the paths of the moved categories and
+     * of their new parents, as they were before the batch, advances its version once, as the
+     * database does for the batch; single moves would advance shared ancestors once per move.
+     *
+     * @param ids       the moved category IDs, in the order the moves were applied
+     * @param parentIds the new parent IDs, {@code 0} for root categories
+     */
+    public void moveAll(long[] ids, long[] parentIds) {
+        lock.writeLock().lock();
+        try {
+            int[] nodes = new int[ids.length];
+            int[] newParents = new int[ids.length];
+            BitSet touched = new BitSet();
+            for (int move = 0; move < ids.length; move++) {
+                nodes[move] = toIndex(ids[move]);
+                newParents[move] = parentIds[move] != 0 ? toIndex(parentIds[move]) : NONE;
+                if (contains(nodes[move])) {
+                    touchPath(nodes[move], touched);
+                    touchPath(newParents[move], touched);
+                }
+            }
+            for (int move = 0; move < ids.length; move++) {
+                if (contains(nodes[move])) {
+                    relink(nodes[move], newParents[move]);
+                }
+            }
+        } catch (InconsistentIndexException ex) {
+            invalidate(ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a category together with its whole subtree.
+     *
+     * @param id the root of the subtree to remove
+     * @return the number of removed nodes
+     */
+    public int remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            int node = toIndex(id);
+            if (!contains(node)) {
+                return 0;
+            }
+            touchPaths(parent[node], NONE);
+            detach(node);
+
+            int removed = 0;
+            int[] stack = new int[16];
+            int top = 0;
+            stack[top++] = node;
+            while (top > 0) {
+                int current = stack[--top];
+                for (int child = firstChild[current]; child != NONE; child = nextSibling[child]) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = child;
+                }
+                parent[current] = NONE;
+                firstChild[current] = NONE;
+                lastChild[current] = NONE;
+                nextSibling[current] = NONE;
+                labels[current] = null;
+                versions[current] = 0;
+                descendantCounts[current] = 0;
+                leafCounts[current] = 0;
+                heights[current] = 0;
+                labelIndex.forget(current);
+                removed++;
+            }
+            labelIndex.compact();
+            size -= removed;
+            return removed;
+        } catch (InconsistentIndexException ex) {
+            return 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the subtree version of a category.
+     *
+     * @param id the category ID
+     * @return the version, or {@code null} if the category is not indexed
+     */
+    public Long version(Long id) {
+        lock.readLock().lock();
+        try {
+            if (id == null || id <= NONE || id > MAX_ID || !contains(id.intValue())) {
+                return null;
+            }
+            return versions[id.intValue()];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a category and its ancestors, whose subtrees all contain it.
+     *
+     * @param id the category ID, possibly {@code null}
+     * @return the category and its ancestors up to the root, or none if it is not indexed
+     */
+    public long[] path(Long id) {
+        lock.readLock().lock();
+        try {
+            if (id == null || id <= NONE || id > MAX_ID || !contains(id.intValue())) {
+                return new long[0];
+            }
+            int node = id.intValue();
+            long[] path = new long[depth(node)];
+            for (int position = 0; node != NONE; node = parent[node]) {
+                path[position++] = node;
+            }
+            return path;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the subtree aggregates of a category.
+     *
+     * @param id the category ID
+     * @return the aggregates, or {@code null} if the category is not indexed
+     */
+    public CategoryStatsDto stats(Long id) {
+        lock.readLock().lock();
+        try {
+            if (id == null || id <= NONE || id > MAX_ID || !contains(id.intValue())) {
+                return null;
+            }
+            int node = id.intValue();
+            return CategoryStatsDto.builder()
+                    .id(id)
+                    .descendantCount(descendantCounts[node])
+                    .leafCount(leafCounts[node])
+                    .height(heights[node])
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Assembles the subtree rooted at the given category.
+     *
+     * @param id the root category ID
+     * @return the subtree, or {@code null} if the category is not indexed
+     */
+    public CategoryDto subtree(Long id) {
+        return subtree(id, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Assembles a bounded view of the subtree rooted at the given category.
+     * <p>
+     * Categories at {@code maxDepth} are returned without children but with their
+     * {@code childCount}. When the root's children are paged, the root reports its total
+     * {@code childCount}.
+     *
+     * @param id       the root category ID
+     * @param maxDepth the deepest level to include, the root being level 0
+     * @param after    only include root children with a greater ID
+     * @param limit    the maximum number of root children to include
+     * @return the subtree, or {@code null} if the category is not indexed
+     */
+    public CategoryDto subtree(Long id, int maxDepth, long after, int limit) {
+        lock.readLock().lock();
+        try {
+            if (id == null || id <= NONE || id > MAX_ID || !contains(id.intValue())) {
+                return null;
+            }
+            int rootNode = id.intValue();
+            CategoryDto root = toDto(rootNode);
+            if (after > 0 || limit < Integer.MAX_VALUE) {
+                root.setChildCount(childCount(rootNode));
+            }
+
+            Deque<CategoryDto> pending = new ArrayDeque<>();
+            pending.push(root);
+            Deque<Integer> depths = new ArrayDeque<>();
+            depths.push(0);
+            while (!pending.isEmpty()) {
+                CategoryDto current = pending.pop();
+                int depth = depths.pop();
+                int node = current.getId().intValue();
+                if (depth == maxDepth) {
+                    current.setChildCount(childCount(node));
+                    continue;
+                }
+                int taken = 0;
+                for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                    if (depth == 0) {
+                        if (child <= after) {
+                            continue;
+                        }
+                        if (taken++ == limit) {
+                            break;
+                        }
+                    }
+                    CategoryDto childDto = toDto(child);
+                    current.getChildren().add(childDto);
+                    pending.push(childDto);
+                    depths.push(depth + 1);
+                }
+            }
+            return root;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lists the subtree rooted at the given category as columns.
+     *
+     * @param id the root category ID
+     * @return the subtree, or {@code null} if the category is not indexed
+     */
+    public CategoryColumns columns(Long id) {
+        return columns(id, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Lists a bounded view of the subtree rooted at the given category as columns,
+     * breadth-first, without creating an object per category.
+     * <p>
+     * The bounds are those of {@link #subtree(Long, int, long, int)}. When any of them is
+     * set, the total child count of every listed category is included as well.
+     *
+     * @param id       the root category ID
+     * @param maxDepth the deepest level to include, the root being level 0
+     * @param after    only include root children with a greater ID
+     * @param limit    the maximum number of root children to include
+     * @return the subtree, or {@code null} if the category is not indexed
+     */
+    public CategoryColumns columns(Long id, int maxDepth, long after, int limit) {
+        lock.readLock().lock();
+        try {
+            if (id == null || id <= NONE || id > MAX_ID || !contains(id.intValue())) {
+                return null;
+            }
+            int rootNode = id.intValue();
+            // The descendant count bounds the view, so the queue never grows
+            int[] nodes = new int[descendantCounts[rootNode] + 1];
+            int[] depths = new int[nodes.length];
+            nodes[0] = rootNode;
+            int count = 1;
+            for (int next = 0; next < count; next++) {
+                int node = nodes[next];
+                int depth = depths[next];
+                if (depth == maxDepth) {
+                    continue;
+                }
+                int taken = 0;
+                for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                    if (depth == 0) {
+                        if (child <= after) {
+                            continue;
+                        }
+                        if (taken++ == limit) {
+                            break;
+                        }
+                    }
+                    nodes[count] = child;
+                    depths[count++] = depth + 1;
+                }
+            }
+
+            boolean bounded = maxDepth < Integer.MAX_VALUE || after > 0 || limit < Integer.MAX_VALUE;
+            long[] ids = new long[count];
+            long[] parentIds = new long[count];
+            String[] columnLabels = new String[count];
+            int[] childCounts = bounded ? new int[count] : null;
+            for (int position = 0; position < count; position++) {
+                int node = nodes[position];
+                ids[position] = node;
+                parentIds[position] = parent[node];
+                columnLabels[position] = labels[node];
+                if (bounded) {
+                    childCounts[position] = childCount(node);
+                }
+            }
+            return CategoryColumns.builder()
+                    .ids(ids)
+                    .parentIds(parentIds)
+                    .labels(columnLabels)
+                    .childCounts(childCounts)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lists a page of the direct children of a category, or of the root categories.
+     * <p>
+     * Children come from the sibling links. Root categories have no such list, so their
+     * page scans the nodes after {@code after} until the page is full.
+     *
+     * @param id    the parent category ID, or {@code null} for the root categories
+     * @param after only include categories with a greater ID
+     * @param limit the maximum number of categories to include
+     * @return the page, or {@code null} if the parent is not indexed
+     */
+    public CategoryChildrenPage children(Long id, long after, int limit) {
+        lock.readLock().lock();
+        try {
+            List<CategoryChildrenPage.Child> children = new ArrayList<>();
+            boolean more = false;
+            if (id == null) {
+                for (long node = Math.max(after, NONE) + 1; node < labels.length; node++) {
+                    if (labels[(int) node] == null || parent[(int) node] != NONE) {
+                        continue;
+                    }
+                    if (children.size() == limit) {
+                        more = true;
+                        break;
+                    }
+                    children.add(toChild((int) node));
+                }
+            } else {
+                if (id <= NONE || id > MAX_ID || !contains(id.intValue())) {
+                    return null;
+                }
+                for (int child = firstChild[id.intValue()]; child != NONE; child = nextSibling[child]) {
+                    if (child <= after) {
+                        continue;
+                    }
+                    if (children.size() == limit) {
+                        more = true;
+                        break;
+                    }
+                    children.add(toChild(child));
+                }
+            }
+            return CategoryChildrenPage.builder()
+                    .children(children)
+                    .nextAfter(more ? children.get(children.size() - 1).getId() : null)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds categories by label prefix, ignoring case.
+     * <p>
+     * Categories whose label starts with the query come first, followed by categories with
+     * a later space-separated word starting with it; each group is ordered by the
+     * matched text.
+     *
+     * @param query the prefix to match
+     * @param limit the maximum number of results
+     * @return the matches with their ancestors
+     */
+    public List<CategorySearchResult> search(String query, int limit) {
+        String prefix = CategoryLabelIndex.normalize(query);
+        lock.readLock().lock();
+        try {
+            int[] nodes = labelIndex.search(prefix, limit);
+            List<CategorySearchResult> results = new ArrayList<>(nodes.length);
+            for (int node : nodes) {
+                List<CategorySearchResult.Ancestor> ancestors = new ArrayList<>();
+                for (int ancestor = parent[node]; ancestor != NONE; ancestor = parent[ancestor]) {
+                    ancestors.add(CategorySearchResult.Ancestor.builder()
+                            .id((long) ancestor)
+                            .label(labels[ancestor])
+                            .build());
+                }
+                Collections.reverse(ancestors);
+                results.add(CategorySearchResult.builder()
+                        .id((long) node)
+                        .label(labels[node])
+                        .parentId(parent[node] != NONE ? (long) parent[node] : null)
+                        .ancestors(ancestors)
+                        .build());
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Advances the version of every node on the paths from a and b up to their roots, once
+    // per node even where the paths join, as the database does for the same change
+    private void touchPaths(int a, int b) {
+        int depthA = depth(a);
+        int depthB = depth(b);
+        for (; depthA > depthB; depthA--, a = parent[a]) {
+            versions[a]++;
+        }
+        for (; depthB > depthA; depthB--, b = parent[b]) {
+            versions[b]++;
+        }
+        for (; a != b; a = parent[a], b = parent[b]) {
+            versions[a]++;
+            versions[b]++;
+        }
+        for (; a != NONE; a = parent[a]) {
+            versions[a]++;
+        }
+    }
+
+    // Advances the version of every node from this one up to its root that no earlier path of
+    // the same change has reached; the ancestors of a reached node are reached as well
+    private void touchPath(int node, BitSet touched) {
+        for (; node != NONE && !touched.get(node); node = parent[node]) {
+            touched.set(node);
+            versions[node]++;
+        }
+    }
+
+    private void relink(int node, int newParent) {
+        if (parent[node] == newParent) {
+            return;
+        }
+        for (int ancestor = newParent; ancestor != NONE; ancestor = parent[ancestor]) {
+            if (ancestor == node) {
+                throw new InconsistentIndexException("move of " + node + " under " + newParent + " would create a cycle");
+            }
+        }
+        detach(node);
+        attach(node, newParent);
+    }
+
+    // Links a node, whose own aggregates are current, and adds its subtree to every ancestor;
+    // the new parent stops being a leaf if it had no descendants
+    private void attach(int node, int newParent) {
+        link(node, newParent);
+        if (newParent == NONE) {
+            return;
+        }
+        int descendants = descendantCounts[node] + 1;
+        int leaves = leafCounts[node] - (descendantCounts[newParent] == 0 ? 1 : 0);
+        int level = 1;
+        for (int ancestor = newParent; ancestor != NONE; ancestor = parent[ancestor], level++) {
+            descendantCounts[ancestor] += descendants;
+            leafCounts[ancestor] += leaves;
+            heights[ancestor] = Math.max(heights[ancestor], heights[node] + level);
+        }
+    }
+
+    // Unlinks a node and takes its subtree off every ancestor. Heights are recomputed from the
+    // children up to the first ancestor whose height stays the same
+    private void detach(int node) {
+        int oldParent = parent[node];
+        unlink(node);
+        if (oldParent == NONE) {
+            return;
+        }
+        int descendants = descendantCounts[node] + 1;
+        int leaves = leafCounts[node] - (descendantCounts[oldParent] == descendants ? 1 : 0);
+        for (int ancestor = oldParent; ancestor != NONE; ancestor = parent[ancestor]) {
+            descendantCounts[ancestor] -= descendants;
+            leafCounts[ancestor] -= leaves;
+        }
+        for (int ancestor = oldParent; ancestor != NONE; ancestor = parent[ancestor]) {
+            int height = 0;
+            for (int child = firstChild[ancestor]; child != NONE; child = nextSibling[child]) {
+                height = Math.max(height, heights[child] + 1);
+            }
+            if (height == heights[ancestor]) {
+                break;
+            }
+            heights[ancestor] = height;
+        }
+    }
+
+    // Breadth-first from the roots, then backwards, so every subtree is complete before its root
+    private void computeAggregates() {
+        int[] order = new int[size];
+        int ordered = 0;
+        for (int node = NONE + 1; node < labels.length; node++) {
+            if (labels[node] != null && parent[node] == NONE) {
+                order[ordered++] = node;
+            }
+        }
+        for (int head = 0; head < ordered; head++) {
+            for (int child = firstChild[order[head]]; child != NONE; child = nextSibling[child]) {
+                order[ordered++] = child;
+            }
+        }
+        for (int k = ordered - 1; k >= 0; k--) {
+            int node = order[k];
+            if (firstChild[node] == NONE) {
+                leafCounts[node] = 1;
+            }
+            int p = parent[node];
+            if (p != NONE) {
+                descendantCounts[p] += descendantCounts[node] + 1;
+                leafCounts[p] += leafCounts[node];
+                heights[p] = Math.max(heights[p], heights[node] + 1);
+            }
+        }
+    }
+
+    private int depth(int node) {
+        int depth = 0;
+        for (; node != NONE; node = parent[node]) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private int childCount(int node) {
+        int count = 0;
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            count++;
+        }
+        return count;
+    }
+
+    private CategoryDto toDto(int node) {
+        return CategoryDto.builder()
+                .id((long) node)
+                .label(labels[node])
+                .parentId(parent[node] != NONE ? (long) parent[node] : null)
+                .children(new ArrayList<>())
+                .descendantCount((long) descendantCounts[node])
+                .leafCount((long) leafCounts[node])
+                .height(heights[node])
+                .build();
+    }
+
+    private CategoryChildrenPage.Child toChild(int node) {
+        return CategoryChildrenPage.Child.builder()
+                .id((long) node)
+                .label(labels[node])
+                .parentId(parent[node] != NONE ? (long) parent[node] : null)
+                .hasChildren(firstChild[node] != NONE)
+                .build();
+    }
+
+    private boolean contains(int node) {
+        return node < labels.length && labels[node] != null;
+    }
+
+    private void link(int node, int newParent) {
+        parent[node] = newParent;
+        nextSibling[node] = NONE;
+        if (newParent == NONE) {
+            return;
+        }
+        if (firstChild[newParent] == NONE) {
+            firstChild[newParent] = node;
+            lastChild[newParent] = node;
+        } else if (node > lastChild[newParent]) {
+            nextSibling[lastChild[newParent]] = node;
+            lastChild[newParent] = node;
+        } else if (node < firstChild[newParent]) {
+            nextSibling[node] = firstChild[newParent];
+            firstChild[newParent] = node;
+        } else {
+            int previous = firstChild[newParent];
+            while (nextSibling[previous] != NONE && nextSibling[previous] < node) {
+                previous = nextSibling[previous];
+            }
+            nextSibling[node] = nextSibling[previous];
+            nextSibling[previous] = node;
+        }
+    }
+
+    private void unlink(int node) {
+        int oldParent = parent[node];
+        if (oldParent != NONE) {
+            if (firstChild[oldParent] == node) {
+                firstChild[oldParent] = nextSibling[node];
+                if (lastChild[oldParent] == node) {
+                    lastChild[oldParent] = NONE;
+                }
+            } else {
+                int previous = firstChild[oldParent];
+                while (nextSibling[previous] != node) {
+                    previous = nextSibling[previous];
+                }
+                nextSibling[previous] = nextSibling[node];
+                if (lastChild[oldParent] == node) {
+                    lastChild[oldParent] = previous;
+                }
+            }
+        }
+        parent[node] = NONE;
+        nextSibling[node] = NONE;
+    }
+
+    private void ensureCapacity(int node) {
+        if (node < labels.length) {
+            return;
+        }
+        int capacity = (int) Math.min(MAX_ID + 1, Math.max(node + 1L, labels.length + (labels.length >> 1)));
+        parent = Arrays.copyOf(parent, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        lastChild = Arrays.copyOf(lastChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        labels = Arrays.copyOf(labels, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        descendantCounts = Arrays.copyOf(descendantCounts, capacity);
+        leafCounts = Arrays.copyOf(leafCounts, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+    }
+
+    private void clear() {
+        parent = new int[INITIAL_CAPACITY];
+        firstChild = new int[INITIAL_CAPACITY];
+        lastChild = new int[INITIAL_CAPACITY];
+        nextSibling = new int[INITIAL_CAPACITY];
+        labels = new String[INITIAL_CAPACITY];
+        versions = new long[INITIAL_CAPACITY];
+        descendantCounts = new int[INITIAL_CAPACITY];
+        leafCounts = new int[INITIAL_CAPACITY];
+        heights = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    // Reads fall back to the database until the next rebuild
+    private void invalidate(InconsistentIndexException ex) {
+        ready = false;
+        clear();
+        labelIndex.clear();
+        log.warn("Category tree index disabled: {}", ex.getMessage());
+    }
+
+    private static int toIndex(long id) {
+        if (id <= NONE || id > MAX_ID) {
+            throw new InconsistentIndexException("category id " + id + " is outside the indexable range");
+        }
+        return (int) id;
+    }
+
+    private static class InconsistentIndexException extends RuntimeException {
+        InconsistentIndexException(String message) {
+            super(message);
+        }
+    }
+}
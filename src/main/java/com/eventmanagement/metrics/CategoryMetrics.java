@@ -0,0 +1,222 @@
+package com.eventmanagement.metrics;
+
+import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.exceptions.InvalidRequestException;
+import com.eventmanagement.exceptions.NotFoundException;
+import com.eventmanagement.exceptions.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters of the category operations, next to the ones Spring Boot records itself:
+ * {@code http.server.requests} for the controller and {@code spring.data.repository.invocations}
+ * for the repository queries.
+ * <p>
+ * Together they split a slow subtree request into the query, the DTO assembly
+ * ({@value #SUBTREE_ASSEMBLY}) and the JSON writing ({@value #JSON_WRITE}). All timers publish
+ * percentile histograms.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@AllArgsConstructor
+public class CategoryMetrics {
+
+    public static final String OPERATIONS = "category.operations";
+    public static final String SUBTREE_ASSEMBLY = "category.subtree.assembly";
+    public static final String SUBTREE_NODES = "category.subtree.nodes";
+    public static final String SUBTREE_DEPTH = "category.subtree.depth";
+    public static final String JSON_WRITE = "category.json.write";
+    public static final String ANCESTOR_LOOKUPS = "category.ancestors.lookups";
+    public static final String AGGREGATE_DRIFT = "category.aggregates.drift";
+    public static final String RESPONSE_CACHE = "category.responses.cache";
+    public static final String RESPONSE_CACHE_SIZE = "category.responses.cache.size";
+    public static final String INDEX_READY = "category.index.ready";
+    public static final String INDEX_RELOADS = "category.index.reloads";
+
+    public static final String SOURCE_INDEX = "index";
+    public static final String SOURCE_DATABASE = "database";
+
+    public static final String RELOAD_STARTUP = "startup";
+    public static final String RELOAD_REORDER = "reorder";
+    public static final String RELOAD_INVALIDATED = "invalidated";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Records a completed service operation.
+     *
+     * @param operation the service method
+     * @param nanos     the elapsed time, including the commit of write operations
+     * @param error     the exception it ended with, or {@code null}
+     */
+    public void recordOperation(String operation, long nanos, Throwable error) {
+        Timer.builder(OPERATIONS)
+                .description("Category service operations")
+                .tag("operation", operation)
+                .tag("outcome", outcome(error))
+                .tag("exception", error != null ? error.getClass().getSimpleName() : "none")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the assembly of a subtree response, with its node count and depth.
+     *
+     * @param source {@value #SOURCE_INDEX} or {@value #SOURCE_DATABASE}
+     * @param root   the assembled subtree
+     * @param nanos  the time spent assembling the DTOs, without the query
+     */
+    public void recordSubtree(String source, CategoryDto root, long nanos) {
+        Timer.builder(SUBTREE_ASSEMBLY)
+                .description("Assembly of subtree DTOs")
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        // Iterative, as chains can be far deeper than the stack allows
+        long nodes = 0;
+        int depth = 0;
+        Deque<CategoryDto> pending = new ArrayDeque<>();
+        Deque<Integer> depths = new ArrayDeque<>();
+        pending.push(root);
+        depths.push(0);
+        while (!pending.isEmpty()) {
+            CategoryDto current = pending.pop();
+            int level = depths.pop();
+            nodes++;
+            depth = Math.max(depth, level);
+            for (CategoryDto child : current.getChildren()) {
+                pending.push(child);
+                depths.push(level + 1);
+            }
+        }
+        summary(SUBTREE_NODES, "Categories in a subtree response", source).record(nodes);
+        summary(SUBTREE_DEPTH, "Levels below the root of a subtree response", source).record(depth);
+    }
+
+    /**
+     * Records the serialization of a response body.
+     *
+     * @param type  the body type
+     * @param nanos the time spent writing it
+     */
+    public void recordJsonWrite(String type, long nanos) {
+        Timer.builder(JSON_WRITE)
+                .description("JSON serialization of response bodies")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a lookup of the root path cache.
+     *
+     * @param hit whether the path was cached
+     */
+    public void recordAncestorLookup(boolean hit) {
+        Counter.builder(ANCESTOR_LOOKUPS)
+                .description("Root path cache lookups")
+                .tag("result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Counts categories whose stored subtree aggregates did not match their subtree.
+     *
+     * @param drifted  the number of categories found
+     * @param repaired whether they were recomputed
+     */
+    public void recordAggregateDrift(int drifted, boolean repaired) {
+        Counter.builder(AGGREGATE_DRIFT)
+                .description("Categories found with drifted subtree aggregates")
+                .tag("repaired", String.valueOf(repaired))
+                .register(registry)
+                .increment(drifted);
+    }
+
+    /**
+     * Counts a lookup of the subtree response cache.
+     *
+     * @param hit whether the encoded body was cached
+     */
+    public void recordResponseCacheLookup(boolean hit) {
+        Counter.builder(RESPONSE_CACHE)
+                .description("Subtree response cache lookups")
+                .tag("result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Publishes the memory held by the subtree response cache.
+     *
+     * @param bytes reads the bytes of the cached bodies
+     */
+    public void gaugeResponseCacheSize(Supplier<Number> bytes) {
+        Gauge.builder(RESPONSE_CACHE_SIZE, bytes)
+                .description("Bytes of cached subtree response bodies")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Publishes whether the tree index serves reads.
+     *
+     * @param ready reads 1 while the index is loaded, 0 while reads fall back to the database
+     */
+    public void gaugeIndexReady(Supplier<Number> ready) {
+        Gauge.builder(INDEX_READY, ready)
+                .description("Whether the category tree index serves reads")
+                .register(registry);
+    }
+
+    /**
+     * Counts an attempt to load the tree index from the database.
+     *
+     * @param cause {@value #RELOAD_STARTUP}, {@value #RELOAD_REORDER} or {@value #RELOAD_INVALIDATED}
+     */
+    public void recordIndexReload(String cause) {
+        Counter.builder(INDEX_RELOADS)
+                .description("Loads of the category tree index from the database")
+                .tag("cause", cause)
+                .register(registry)
+                .increment();
+    }
+
+    private DistributionSummary summary(String name, String description, String source) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    // Same outcome names as http.server.requests; the mapped exceptions all become 4xx responses
+    static String outcome(Throwable error) {
+        if (error == null) {
+            return "SUCCESS";
+        }
+        if (error instanceof NotFoundException
+                || error instanceof ServiceException
+                || error instanceof InvalidRequestException) {
+            return "CLIENT_ERROR";
+        }
+        return "SERVER_ERROR";
+    }
+}
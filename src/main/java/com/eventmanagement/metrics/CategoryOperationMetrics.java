@@ -0,0 +1,42 @@
+package com.eventmanagement.metrics;
+
+import lombok.AllArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every call into {@code CategoryService}, tagged with the operation and its outcome.
+ * <p>
+ * Ordered before the transaction interceptor, so write operations are timed up to and
+ * including their commit and the index update that follows it.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@AllArgsConstructor
+public class CategoryOperationMetrics {
+
+    private final CategoryMetrics metrics;
+
+    @Around("execution(* com.eventmanagement.service.CategoryService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            metrics.recordOperation(operation, System.nanoTime() - start, null);
+            return result;
+        } catch (Throwable ex) {
+            metrics.recordOperation(operation, System.nanoTime() - start, ex);
+            throw ex;
+        }
+    }
+}
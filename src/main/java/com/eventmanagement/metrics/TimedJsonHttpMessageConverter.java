@@ -0,0 +1,40 @@
+package com.eventmanagement.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * The JSON message converter of the application, timing how long each response body takes
+ * to serialize and write.
+ * <p>
+ * Being a {@link MappingJackson2HttpMessageConverter} bean, it takes the place of the one
+ * Spring Boot would otherwise register, with the same {@link ObjectMapper}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final CategoryMetrics metrics;
+
+    public TimedJsonHttpMessageConverter(ObjectMapper objectMapper, CategoryMetrics metrics) {
+        super(objectMapper);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            metrics.recordJsonWrite(object.getClass().getSimpleName(), System.nanoTime() - start);
+        }
+    }
+}
@@ -7,9 +7,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,9 +20,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "categories")
+@Table(name = "categories", indexes = {
+        @Index(name = "idx_categories_parent_id", columnList = "parent_id, id"),
+        @Index(name = "idx_categories_path", columnList = "path")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -28,8 +34,17 @@ import lombok.Setter;
 @Builder
 public class Category {
 
+    /**
+     * Sequence backing category IDs. Each {@code nextval} reserves a block of
+     * {@link #ID_ALLOCATION_SIZE} IDs starting at the returned value (pooled-lo), which
+     * lets both Hibernate and the bulk importer assign IDs without a round trip per row.
+     */
+    public static final String ID_SEQUENCE = "categories_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -42,4 +57,47 @@ public class Category {
     @Builder.Default
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Category> children = new ArrayList<>();
+
+    /**
+     * Materialized path of ancestor IDs, e.g. {@code /1/5/9/}; maintained only in
+     * materialized-path storage mode. The "C" collation makes the btree index usable
+     * for byte-wise prefix range scans.
+     */
+    @Column(name = "path", columnDefinition = "text COLLATE \"C\"")
+    private String path;
+
+    /**
+     * Counter raised whenever the subtree of this category changes: a category is created,
+     * moved or deleted below it, or the category itself is moved. Written only by
+     * {@code CategoryRepository#touchPaths}, never by entity flushes.
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "subtree_version", nullable = false, updatable = false)
+    private long subtreeVersion = 0;
+
+    /**
+     * Number of categories below this one. Like the other aggregates it is maintained along
+     * the ancestor chain by the repository statements of each write, never by entity flushes.
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "descendant_count", nullable = false, updatable = false)
+    private long descendantCount = 0;
+
+    /**
+     * Number of categories without children in the subtree, this one included if it has none.
+     */
+    @Builder.Default
+    @ColumnDefault("1")
+    @Column(name = "leaf_count", nullable = false, updatable = false)
+    private long leafCount = 1;
+
+    /**
+     * Number of levels below this category; {@code 0} for a leaf.
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "height", nullable = false, updatable = false)
+    private int height = 0;
 }
@@ -0,0 +1,33 @@
+package com.eventmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Number of the last committed change to the category tree.
+ * <p>
+ * The table holds a single row. Every transaction that changes the tree advances it as its
+ * last statement and keeps the row lock until it commits, so the next transaction can only
+ * take its number once this one is committed: the numbers follow the commit order, without
+ * gaps. A rolled-back transaction gives its number back.
+ */
+@Entity
+@Table(name = "category_change_sequence")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class CategoryChangeSequence {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+}
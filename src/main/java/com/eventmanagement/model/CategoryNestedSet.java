@@ -0,0 +1,48 @@
+package com.eventmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Nested-set interval of a category: every descendant's interval lies within
+ * {@code [lft, rgt]}. Rows are removed by the database together with their category.
+ */
+@Entity
+@Table(name = "category_nested_set", indexes = {
+        @Index(name = "idx_category_nested_set_lft", columnList = "lft, rgt")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CategoryNestedSet {
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private int lft;
+
+    @Column(nullable = false)
+    private int rgt;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "category_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Category category;
+}
@@ -0,0 +1,73 @@
+package com.eventmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Background removal of a deleted subtree.
+ * <p>
+ * While the job is not {@link Status#COMPLETED COMPLETED} it is the tombstone of its root:
+ * the root is detached from its parent and every category below it counts as deleted,
+ * although its rows are only removed chunk by chunk. The root is not a foreign key, as it
+ * is removed before the job ends.
+ */
+@Entity
+@Table(name = "category_purge_jobs", indexes = {
+        @Index(name = "idx_category_purge_jobs_status", columnList = "status, root_id")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CategoryPurgeJob {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED
+    }
+
+    @Id
+    private UUID id;
+
+    @Column(name = "root_id", nullable = false)
+    private Long rootId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    /**
+     * Number of categories in the subtree, known once the purge has started.
+     */
+    private Long total;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long purged = 0;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    /**
+     * Failure of the last attempt; the purge is retried until it completes.
+     */
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
@@ -0,0 +1,22 @@
+package com.eventmanagement.repository;
+
+/**
+ * Callback receiving the stored subtree aggregates of a category.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface CategoryAggregateHandler {
+
+    /**
+     * Handles the aggregates of a single category.
+     *
+     * @param id              the category ID
+     * @param descendantCount the number of categories below it
+     * @param leafCount       the number of leaves in its subtree
+     * @param height          the number of levels below it
+     */
+    void handle(long id, long descendantCount, long leafCount, int height);
+}
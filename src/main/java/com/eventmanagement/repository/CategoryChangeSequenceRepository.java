@@ -0,0 +1,49 @@
+package com.eventmanagement.repository;
+
+import com.eventmanagement.model.CategoryChangeSequence;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository of the {@link CategoryChangeSequence}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface CategoryChangeSequenceRepository extends JpaRepository<CategoryChangeSequence, Integer> {
+
+    /**
+     * Takes the next sequence numbers, creating the row on first use. The row stays locked
+     * until the transaction ends, so callers run this last, after every other write has been
+     * flushed.
+     *
+     * @param count the number of changes to number
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                INSERT INTO category_change_sequence (id, last_sequence)
+                VALUES (1, :count)
+                ON CONFLICT (id) DO UPDATE
+                SET last_sequence = category_change_sequence.last_sequence + EXCLUDED.last_sequence
+                """,
+            nativeQuery = true
+    )
+    int advance(@Param("count") int count);
+
+    /**
+     * Reads the number of the last committed change, or of the last one taken by the
+     * current transaction. Callers run it in their transaction, whose snapshot it shares.
+     *
+     * @return the number, or empty if no change was ever numbered
+     */
+    @Query(value = "SELECT last_sequence FROM category_change_sequence WHERE id = 1", nativeQuery = true)
+    Optional<Long> findLastSequence();
+}
@@ -0,0 +1,164 @@
+package com.eventmanagement.repository;
+
+import com.eventmanagement.model.CategoryClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository maintaining the {@link CategoryClosure} table with set-based statements.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosure.Key> {
+
+    /**
+     * Checks whether a category lies in the subtree of another one.
+     *
+     * @param ancestorId   the ancestor category ID
+     * @param descendantId the candidate descendant ID
+     * @return {@code true} if the pair exists, including a category paired with itself
+     */
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    /**
+     * Counts the categories that have their self-referencing row.
+     *
+     * @return the number of categories covered by the closure table
+     */
+    @Query("SELECT COUNT(c) FROM CategoryClosure c WHERE c.depth = 0")
+    long countNodes();
+
+    /**
+     * Adds the rows of a newly created category: itself plus every ancestor of its parent.
+     *
+     * @param id       the new category ID
+     * @param parentId the parent category ID, or {@code null} for a root category
+     * @return the number of inserted rows
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+                SELECT ancestor_id, :id, depth + 1
+                FROM category_closure
+                WHERE descendant_id = :parentId
+                UNION ALL
+                SELECT :id, :id, 0
+                """,
+            nativeQuery = true
+    )
+    int insertNode(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    /**
+     * Removes the links between a subtree and the strict ancestors of its root.
+     *
+     * @param id the root of the detached subtree
+     * @return the number of deleted rows
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                DELETE FROM category_closure link
+                USING category_closure sub, category_closure sup
+                WHERE sub.ancestor_id = :id
+                  AND sup.descendant_id = :id
+                  AND sup.ancestor_id <> :id
+                  AND link.ancestor_id = sup.ancestor_id
+                  AND link.descendant_id = sub.descendant_id
+                """,
+            nativeQuery = true
+    )
+    int detachSubtree(@Param("id") Long id);
+
+    /**
+     * Links every node of a subtree to the new parent and all of its ancestors.
+     *
+     * @param id       the root of the attached subtree
+     * @param parentId the new parent category ID
+     * @return the number of inserted rows
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+                SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1
+                FROM category_closure sup
+                CROSS JOIN category_closure sub
+                WHERE sup.descendant_id = :parentId
+                  AND sub.ancestor_id = :id
+                """,
+            nativeQuery = true
+    )
+    int attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    /**
+     * Clears the closure table before a rebuild.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM category_closure", nativeQuery = true)
+    void deleteAllRows();
+
+    /**
+     * Recomputes the closure table from the parent IDs.
+     *
+     * @return the number of inserted rows
+     */
+    @Modifying
+    @Query(
+            value = """
+                INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+                WITH RECURSIVE pairs AS (
+                    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth
+                    FROM categories
+
+                    UNION ALL
+
+                    SELECT p.ancestor_id, c.id, p.depth + 1
+                    FROM pairs p
+                    INNER JOIN categories c ON c.parent_id = p.descendant_id
+                )
+                SELECT ancestor_id, descendant_id, depth
+                FROM pairs
+                """,
+            nativeQuery = true
+    )
+    int rebuild();
+
+    /**
+     * Adds the pairs of categories that have no closure rows yet, such as rows written by
+     * a bulk import, by walking from each of them up to its root.
+     *
+     * @return the number of inserted rows
+     */
+    @Modifying
+    @Query(
+            value = """
+                INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+                WITH RECURSIVE pairs AS (
+                    SELECT c.id AS ancestor_id, c.id AS descendant_id, 0 AS depth, c.parent_id
+                    FROM categories c
+                    WHERE NOT EXISTS (
+                        SELECT 1
+                        FROM category_closure cc
+                        WHERE cc.ancestor_id = c.id AND cc.descendant_id = c.id
+                    )
+
+                    UNION ALL
+
+                    SELECT a.id, p.descendant_id, p.depth + 1, a.parent_id
+                    FROM pairs p
+                    INNER JOIN categories a ON a.id = p.parent_id
+                )
+                SELECT ancestor_id, descendant_id, depth
+                FROM pairs
+                """,
+            nativeQuery = true
+    )
+    int insertMissing();
+}
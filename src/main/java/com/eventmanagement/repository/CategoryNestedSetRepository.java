@@ -0,0 +1,155 @@
+package com.eventmanagement.repository;
+
+import com.eventmanagement.model.CategoryNestedSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository maintaining the {@link CategoryNestedSet} intervals with set-based statements.
+ * <p>
+ * Interval shifts are only consistent while no other writer renumbers the tree, so every
+ * write starts with {@link #lockForWrite()}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface CategoryNestedSetRepository extends JpaRepository<CategoryNestedSet, Long> {
+
+    /**
+     * Serializes nested-set writers for the rest of the transaction while still allowing reads.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE category_nested_set IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForWrite();
+
+    /**
+     * Checks whether a category lies in the subtree of another one.
+     *
+     * @param ancestorId   the ancestor category ID
+     * @param descendantId the candidate descendant ID
+     * @return {@code true} if the candidate's interval lies within the ancestor's interval
+     */
+    @Query(
+            value = """
+                SELECT EXISTS (
+                    SELECT 1
+                    FROM category_nested_set a, category_nested_set d
+                    WHERE a.category_id = :ancestorId
+                      AND d.category_id = :descendantId
+                      AND d.lft BETWEEN a.lft AND a.rgt
+                )
+                """,
+            nativeQuery = true
+    )
+    boolean isDescendant(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
+    /**
+     * Reads the current interval of a category, bypassing the persistence context.
+     *
+     * @param categoryId the category ID
+     * @return the interval, or {@code null} if the category has none
+     */
+    @Query(value = "SELECT lft, rgt FROM category_nested_set WHERE category_id = :categoryId", nativeQuery = true)
+    Interval findInterval(@Param("categoryId") Long categoryId);
+
+    /**
+     * Returns the right bound of the last interval, or {@code 0} for an empty tree.
+     *
+     * @return the highest right bound
+     */
+    @Query(value = "SELECT COALESCE(MAX(rgt), 0) FROM category_nested_set", nativeQuery = true)
+    int findMaxRgt();
+
+    /**
+     * Opens a gap of {@code width} positions starting at {@code position}.
+     *
+     * @param position the first position of the gap
+     * @param width    the width of the gap
+     * @return the number of shifted intervals
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                UPDATE category_nested_set
+                SET lft = CASE WHEN lft >= :position THEN lft + :width ELSE lft END,
+                    rgt = rgt + :width
+                WHERE rgt >= :position
+                """,
+            nativeQuery = true
+    )
+    int openGap(@Param("position") int position, @Param("width") int width);
+
+    /**
+     * Closes the gap of {@code width} positions that ends at {@code end}.
+     *
+     * @param end   the last position of the gap
+     * @param width the width of the gap
+     * @return the number of shifted intervals
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                UPDATE category_nested_set
+                SET lft = CASE WHEN lft > :end THEN lft - :width ELSE lft END,
+                    rgt = rgt - :width
+                WHERE rgt > :end
+                """,
+            nativeQuery = true
+    )
+    int closeGap(@Param("end") int end, @Param("width") int width);
+
+    /**
+     * Shifts every interval within {@code [lft, rgt]} by {@code offset}.
+     *
+     * @param lft    the left bound of the moved subtree
+     * @param rgt    the right bound of the moved subtree
+     * @param offset the distance to move by
+     * @return the number of shifted intervals
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                UPDATE category_nested_set
+                SET lft = lft + :offset,
+                    rgt = rgt + :offset
+                WHERE lft >= :lft AND rgt <= :rgt
+                """,
+            nativeQuery = true
+    )
+    int shiftRange(@Param("lft") int lft, @Param("rgt") int rgt, @Param("offset") int offset);
+
+    /**
+     * Inserts the interval of a category.
+     *
+     * @param categoryId the category ID
+     * @param lft        the left bound
+     * @param rgt        the right bound
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = "INSERT INTO category_nested_set (category_id, lft, rgt) VALUES (:categoryId, :lft, :rgt)",
+            nativeQuery = true
+    )
+    void insertInterval(@Param("categoryId") Long categoryId, @Param("lft") int lft, @Param("rgt") int rgt);
+
+    /**
+     * Clears all intervals before a rebuild.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM category_nested_set", nativeQuery = true)
+    void deleteAllRows();
+
+    /**
+     * Projection of a nested-set interval.
+     */
+    interface Interval {
+        int getLft();
+
+        int getRgt();
+    }
+}
@@ -0,0 +1,41 @@
+package com.eventmanagement.repository;
+
+import com.eventmanagement.model.CategoryPurgeJob;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository of {@link CategoryPurgeJob}s.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+public interface CategoryPurgeJobRepository extends JpaRepository<CategoryPurgeJob, UUID> {
+
+    /**
+     * Retrieves jobs by status, oldest first.
+     *
+     * @param statuses the statuses to match
+     * @return the matching jobs
+     */
+    List<CategoryPurgeJob> findByStatusInOrderByCreatedAt(Collection<CategoryPurgeJob.Status> statuses);
+
+    /**
+     * Adds to the progress of a job in the transaction that removed the rows.
+     *
+     * @param id     the job ID
+     * @param purged the number of categories just removed
+     * @return the number of updated jobs
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CategoryPurgeJob j SET j.purged = j.purged + :purged WHERE j.id = :id")
+    int addPurged(@Param("id") UUID id, @Param("purged") long purged);
+}
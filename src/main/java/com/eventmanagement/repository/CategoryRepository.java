@@ -1,12 +1,15 @@
 package com.eventmanagement.repository;
 
 import com.eventmanagement.model.Category;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for managing {@link Category} entities.
@@ -20,7 +23,7 @@ import org.springframework.stereotype.Repository;
  * @see JpaRepository
  */
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+public interface CategoryRepository extends JpaRepository<Category, Long>, CategoryRepositoryCustom {
 
     /**
      * Finds a category by its unique label.
@@ -39,16 +42,17 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * @param id the root category ID
      * @return a list of categories representing the subtree
      */
+    @Transactional(readOnly = true)
     @Query(
             value = """
                 WITH RECURSIVE sub AS (
-                    SELECT id, label, parent_id
+                    SELECT id, label, parent_id, path, subtree_version, descendant_count, leaf_count, height
                     FROM categories
                     WHERE id = :id
 
                     UNION ALL
 
-                    SELECT c.id, c.label, c.parent_id
+                    SELECT c.id, c.label, c.parent_id, c.path, c.subtree_version, c.descendant_count, c.leaf_count, c.height
                     FROM categories c
                     INNER JOIN sub s ON c.parent_id = s.id
                 )
@@ -59,4 +63,765 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
             nativeQuery = true
     )
     List<Category> findSubtreeById(@Param("id") Long id);
+
+    /**
+     * Retrieves a bounded view of a subtree without hydrating entities.
+     * <p>
+     * The depth bound is part of the recursive term, so the walk stops at {@code maxDepth}
+     * instead of filtering a full subtree. Root children are paged by ID; rows at the depth
+     * bound carry their {@code childCount}.
+     *
+     * @param id       the root category ID
+     * @param maxDepth the deepest level to include, the root being level 0
+     * @param after    only include root children with a greater ID
+     * @param limit    the maximum number of root children to include
+     * @return the rows of the bounded subtree, ordered by parent ID then ID
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                WITH RECURSIVE sub AS (
+                    SELECT id, label, parent_id, descendant_count, leaf_count, height, 0 AS depth
+                    FROM categories
+                    WHERE id = :id
+
+                    UNION ALL
+
+                    SELECT c.id, c.label, c.parent_id, c.descendant_count, c.leaf_count, c.height, s.depth + 1
+                    FROM categories c
+                    INNER JOIN sub s ON c.parent_id = s.id
+                    WHERE s.depth < :maxDepth
+                      AND (s.depth > 0 OR c.id IN (
+                          SELECT p.id
+                          FROM categories p
+                          WHERE p.parent_id = :id AND p.id > :after
+                          ORDER BY p.id
+                          LIMIT :limit))
+                )
+                SELECT id, label, parent_id AS parentId,
+                       descendant_count AS descendantCount, leaf_count AS leafCount, height,
+                       CASE WHEN depth = :maxDepth
+                            THEN (SELECT count(*) FROM categories k WHERE k.parent_id = sub.id)
+                       END AS childCount
+                FROM sub
+                ORDER BY parent_id NULLS FIRST, id
+                """,
+            nativeQuery = true
+    )
+    List<SubtreeRow> findSubtreeById(@Param("id") Long id,
+                                     @Param("maxDepth") int maxDepth,
+                                     @Param("after") long after,
+                                     @Param("limit") int limit);
+
+    /**
+     * Counts the direct children of a category.
+     *
+     * @param parentId the parent category ID
+     * @return the number of children
+     */
+    @Transactional(readOnly = true)
+    long countByParentId(Long parentId);
+
+    /**
+     * Reads a page of the direct children of a category, keyset-paged on {@code (parent_id, id)}
+     * so each page is a range scan of {@code idx_categories_parent_id}. Whether each child
+     * has children of its own is answered by an {@code EXISTS} probe of the same index.
+     *
+     * @param parentId the parent category ID
+     * @param after    only return children with a greater ID
+     * @param limit    the maximum number of rows
+     * @return the children in ascending ID order
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                SELECT c.id, c.label, c.parent_id AS parentId,
+                       EXISTS (SELECT 1 FROM categories k WHERE k.parent_id = c.id) AS hasChildren
+                FROM categories c
+                WHERE c.parent_id = :parentId AND c.id > :after
+                ORDER BY c.id
+                LIMIT :limit
+                """,
+            nativeQuery = true
+    )
+    List<ChildRow> findChildrenPage(@Param("parentId") long parentId,
+                                    @Param("after") long after,
+                                    @Param("limit") int limit);
+
+    /**
+     * Reads a page of the top-level categories, like {@link #findChildrenPage} does for the
+     * children of a category. Subtrees being purged are detached roots and are left out.
+     *
+     * @param after only return categories with a greater ID
+     * @param limit the maximum number of rows
+     * @return the top-level categories in ascending ID order
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                SELECT c.id, c.label, c.parent_id AS parentId,
+                       EXISTS (SELECT 1 FROM categories k WHERE k.parent_id = c.id) AS hasChildren
+                FROM categories c
+                WHERE c.parent_id IS NULL AND c.id > :after
+                  AND NOT EXISTS (SELECT 1 FROM category_purge_jobs j
+                                  WHERE j.root_id = c.id AND j.status <> 'COMPLETED')
+                ORDER BY c.id
+                LIMIT :limit
+                """,
+            nativeQuery = true
+    )
+    List<ChildRow> findRootsPage(@Param("after") long after, @Param("limit") int limit);
+
+    /**
+     * Checks whether a category lies in the subtree of another by walking up from the candidate.
+     * <p>
+     * The walk costs one primary-key lookup per level and stops at {@code ancestorId} or at a
+     * root, so it is bounded by the depth of the candidate rather than the size of the subtree.
+     * A category counts as its own descendant.
+     *
+     * @param ancestorId   the root of the subtree
+     * @param descendantId the candidate category
+     * @return whether {@code descendantId} is {@code ancestorId} or one of its descendants
+     */
+    @Query(
+            value = """
+                WITH RECURSIVE up AS (
+                    SELECT id, parent_id
+                    FROM categories
+                    WHERE id = :descendantId
+
+                    UNION
+
+                    SELECT c.id, c.parent_id
+                    FROM categories c
+                    INNER JOIN up u ON c.id = u.parent_id
+                    WHERE u.id <> :ancestorId
+                )
+                SELECT EXISTS (SELECT 1 FROM up WHERE id = :ancestorId)
+                """,
+            nativeQuery = true
+    )
+    boolean isDescendant(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
+    /**
+     * Deletes a category and all of its descendants in a single set-based statement.
+     * <p>
+     * No entities are loaded; the persistence context is flushed before and cleared after
+     * the delete so no stale instances survive it. Closure and nested-set rows of the
+     * deleted categories are removed by their cascading foreign keys.
+     *
+     * @param id the root category ID
+     * @return the number of deleted categories
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = """
+                WITH RECURSIVE sub AS (
+                    SELECT id
+                    FROM categories
+                    WHERE id = :id
+
+                    UNION ALL
+
+                    SELECT c.id
+                    FROM categories c
+                    INNER JOIN sub s ON c.parent_id = s.id
+                )
+                DELETE FROM categories
+                WHERE id IN (SELECT id FROM sub)
+                """,
+            nativeQuery = true
+    )
+    int deleteSubtreeById(@Param("id") Long id);
+
+    /**
+     * Returns which of the given categories lie in a subtree that is being purged, walking up
+     * from each to its root. Costs a single lookup of the job table while no purge runs.
+     *
+     * @param ids the category IDs
+     * @return the subset of IDs below, or equal to, the root of an unfinished purge
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                WITH RECURSIVE up AS (
+                    SELECT c.id AS category_id, c.id, c.parent_id
+                    FROM categories c
+                    WHERE c.id IN (:ids)
+                      AND EXISTS (SELECT 1 FROM category_purge_jobs WHERE status <> 'COMPLETED')
+
+                    UNION ALL
+
+                    SELECT u.category_id, p.id, p.parent_id
+                    FROM up u
+                    INNER JOIN categories p ON p.id = u.parent_id
+                )
+                SELECT DISTINCT u.category_id
+                FROM up u
+                INNER JOIN category_purge_jobs j ON j.root_id = u.id AND j.status <> 'COMPLETED'
+                """,
+            nativeQuery = true
+    )
+    List<Long> findPurgingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Makes a category a root without touching its subtree, so the subtree stops being part
+     * of its former ancestors' subtrees.
+     *
+     * @param id the category ID
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE categories SET parent_id = NULL WHERE id = :id", nativeQuery = true)
+    int detachFromParent(@Param("id") Long id);
+
+    /**
+     * Reads the subtree version of a category with a primary key lookup.
+     *
+     * @param id the category ID
+     * @return the version, or empty if the category does not exist
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT c.subtreeVersion FROM Category c WHERE c.id = :id")
+    Optional<Long> findSubtreeVersionById(@Param("id") Long id);
+
+    /**
+     * Reads the subtree aggregates of a category with a primary key lookup.
+     *
+     * @param id the category ID
+     * @return the aggregates, or empty if the category does not exist
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                SELECT id, descendant_count AS descendantCount, leaf_count AS leafCount, height
+                FROM categories
+                WHERE id = :id
+                """,
+            nativeQuery = true
+    )
+    Optional<StatsRow> findStatsById(@Param("id") Long id);
+
+    /**
+     * Adds a subtree that was just linked below a category to the aggregates of that category
+     * and of all its ancestors, costing one primary key update per level.
+     * <p>
+     * The category stops being a leaf if it had no descendants, which its stored count tells.
+     * Callers must hold the lock of the path, as taken by {@link #touchPaths}.
+     *
+     * @param id          the new parent of the subtree
+     * @param descendants the number of categories added, subtree roots included
+     * @param leaves      the number of leaves added
+     * @param height      the height of the tallest added subtree
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = """
+                WITH RECURSIVE path AS (
+                    SELECT id, parent_id, 1 AS level
+                    FROM categories
+                    WHERE id = :id
+
+                    UNION ALL
+
+                    SELECT c.id, c.parent_id, p.level + 1
+                    FROM categories c
+                    INNER JOIN path p ON c.id = p.parent_id
+                )
+                UPDATE categories c
+                SET descendant_count = c.descendant_count + :descendants,
+                    leaf_count = c.leaf_count + :leaves
+                        - (SELECT CASE WHEN q.descendant_count = 0 THEN 1 ELSE 0 END FROM categories q WHERE q.id = :id),
+                    height = GREATEST(c.height, :height + path.level)
+                FROM path
+                WHERE c.id = path.id
+                """,
+            nativeQuery = true
+    )
+    int addToAncestors(@Param("id") Long id,
+                       @Param("descendants") long descendants,
+                       @Param("leaves") long leaves,
+                       @Param("height") int height);
+
+    /**
+     * Removes a subtree that was just unlinked from below a category from the counts of that
+     * category and of all its ancestors. Heights are left to {@link #refreshHeights}.
+     * <p>
+     * The category becomes a leaf if the subtree held all its descendants.
+     *
+     * @param id          the former parent of the subtree
+     * @param descendants the number of categories removed, subtree root included
+     * @param leaves      the number of leaves removed
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = """
+                WITH RECURSIVE path AS (
+                    SELECT id, parent_id
+                    FROM categories
+                    WHERE id = :id
+
+                    UNION ALL
+
+                    SELECT c.id, c.parent_id
+                    FROM categories c
+                    INNER JOIN path p ON c.id = p.parent_id
+                )
+                UPDATE categories c
+                SET descendant_count = c.descendant_count - :descendants,
+                    leaf_count = c.leaf_count - :leaves
+                        + (SELECT CASE WHEN q.descendant_count = :descendants THEN 1 ELSE 0 END FROM categories q WHERE q.id = :id)
+                FROM path
+                WHERE c.id = path.id
+                """,
+            nativeQuery = true
+    )
+    int removeFromAncestors(@Param("id") Long id,
+                            @Param("descendants") long descendants,
+                            @Param("leaves") long leaves);
+
+    /**
+     * Recomputes the heights of a category and its ancestors after a subtree left it.
+     * <p>
+     * Each level is derived from the stored heights of its children, so the walk reads the
+     * children of every category on the way. It stops at the first category whose height did
+     * not change, as nothing above it changes either.
+     *
+     * @param id the former parent of the removed subtree
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = """
+                WITH RECURSIVE up AS (
+                    SELECT c.id, c.parent_id, c.height AS old_height,
+                           COALESCE((SELECT max(k.height) + 1 FROM categories k WHERE k.parent_id = c.id), 0) AS height
+                    FROM categories c
+                    WHERE c.id = :id
+
+                    UNION ALL
+
+                    SELECT p.id, p.parent_id, p.height,
+                           GREATEST(u.height + 1, COALESCE((SELECT max(k.height) + 1
+                                                            FROM categories k
+                                                            WHERE k.parent_id = p.id AND k.id <> u.id), 0))
+                    FROM up u
+                    INNER JOIN categories p ON p.id = u.parent_id
+                    WHERE u.height <> u.old_height
+                )
+                UPDATE categories c
+                SET height = up.height
+                FROM up
+                WHERE c.id = up.id AND c.height <> up.height
+                """,
+            nativeQuery = true
+    )
+    int refreshHeights(@Param("id") Long id);
+
+    /**
+     * Advances the subtree version of the given categories and of all their ancestors,
+     * once per category even where the paths join.
+     * <p>
+     * Rows are locked in ID order before the update, so concurrent writes whose paths share
+     * ancestors (every write below the same root) queue up instead of deadlocking.
+     *
+     * @param ids the categories at the lower ends of the paths
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query(
+            value = """
+                WITH RECURSIVE path AS (
+                    SELECT id, parent_id
+                    FROM categories
+                    WHERE id IN (:ids)
+
+                    UNION
+
+                    SELECT c.id, c.parent_id
+                    FROM categories c
+                    INNER JOIN path p ON c.id = p.parent_id
+                ),
+                locked AS (
+                    SELECT c.id
+                    FROM categories c
+                    WHERE c.id IN (SELECT id FROM path)
+                    ORDER BY c.id
+                    FOR NO KEY UPDATE
+                )
+                UPDATE categories c
+                SET subtree_version = c.subtree_version + 1
+                FROM locked
+                WHERE c.id = locked.id
+                """,
+            nativeQuery = true
+    )
+    int touchPaths(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves a subtree through the closure table.
+     *
+     * @param id the root category ID
+     * @return a list of categories representing the subtree
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                SELECT c.*
+                FROM category_closure cc
+                INNER JOIN categories c ON c.id = cc.descendant_id
+                WHERE cc.ancestor_id = :id
+                ORDER BY c.parent_id NULLS FIRST, c.id
+                """,
+            nativeQuery = true
+    )
+    List<Category> findSubtreeByClosure(@Param("id") Long id);
+
+    /**
+     * Retrieves a subtree through the nested-set intervals.
+     *
+     * @param id the root category ID
+     * @return a list of categories representing the subtree
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                SELECT c.*
+                FROM category_nested_set r
+                INNER JOIN category_nested_set n ON n.lft BETWEEN r.lft AND r.rgt
+                INNER JOIN categories c ON c.id = n.category_id
+                WHERE r.category_id = :id
+                ORDER BY c.parent_id NULLS FIRST, c.id
+                """,
+            nativeQuery = true
+    )
+    List<Category> findSubtreeByNestedSet(@Param("id") Long id);
+
+    /**
+     * Retrieves a subtree through its materialized path with an indexed range scan.
+     * <p>
+     * Paths end with a separator, so every descendant path sorts between {@code path}
+     * and {@code upperBound}, which is the path with its trailing {@code '/'} replaced by
+     * the next byte ({@code '0'}).
+     *
+     * @param path       the materialized path of the root category
+     * @param upperBound the exclusive upper bound of the range
+     * @return a list of categories representing the subtree
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                SELECT *
+                FROM categories
+                WHERE path >= :path AND path < :upperBound
+                ORDER BY parent_id NULLS FIRST, id
+                """,
+            nativeQuery = true
+    )
+    List<Category> findSubtreeByPath(@Param("path") String path, @Param("upperBound") String upperBound);
+
+    /**
+     * Re-roots the materialized paths of a moved subtree in a single set-based update.
+     *
+     * @param oldPath    the previous path of the subtree root
+     * @param upperBound the exclusive upper bound of the previous path range
+     * @param newPath    the new path of the subtree root
+     * @return the number of rewritten rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = """
+                UPDATE categories
+                SET path = :newPath || substr(path, length(:oldPath) + 1)
+                WHERE path >= :oldPath AND path < :upperBound
+                """,
+            nativeQuery = true
+    )
+    int rewritePaths(@Param("oldPath") String oldPath,
+                     @Param("upperBound") String upperBound,
+                     @Param("newPath") String newPath);
+
+    /**
+     * Recomputes the materialized path of every category from the parent IDs.
+     *
+     * @return the number of rows whose path changed
+     */
+    @Modifying
+    @Query(
+            value = """
+                WITH RECURSIVE tree AS (
+                    SELECT id, '/' || id || '/' AS path
+                    FROM categories
+                    WHERE parent_id IS NULL
+
+                    UNION ALL
+
+                    SELECT c.id, t.path || c.id || '/'
+                    FROM categories c
+                    INNER JOIN tree t ON c.parent_id = t.id
+                )
+                UPDATE categories c
+                SET path = tree.path
+                FROM tree
+                WHERE c.id = tree.id AND c.path IS DISTINCT FROM tree.path
+                """,
+            nativeQuery = true
+    )
+    int rebuildPaths();
+
+    /**
+     * Assigns materialized paths to categories that have none yet, such as rows written by
+     * a bulk import, starting from the first ancestor that already has a path.
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query(
+            value = """
+                WITH RECURSIVE tree AS (
+                    SELECT c.id, COALESCE(p.path, '/') || c.id || '/' AS path
+                    FROM categories c
+                    LEFT JOIN categories p ON p.id = c.parent_id
+                    WHERE c.path IS NULL AND (p.id IS NULL OR p.path IS NOT NULL)
+
+                    UNION ALL
+
+                    SELECT c.id, t.path || c.id || '/'
+                    FROM categories c
+                    INNER JOIN tree t ON c.parent_id = t.id
+                )
+                UPDATE categories c
+                SET path = tree.path
+                FROM tree
+                WHERE c.id = tree.id
+                """,
+            nativeQuery = true
+    )
+    int fillMissingPaths();
+
+    /**
+     * Finds categories by label prefix, ignoring case, without the in-memory index.
+     * <p>
+     * Labels starting with the prefix come first, then labels with a later space-separated
+     * word starting with it. This scans the table; it serves strong reads and instances
+     * running without the index.
+     *
+     * @param prefix the prefix, with {@code LIKE} wildcards escaped
+     * @param limit  the maximum number of rows
+     * @return the matching rows, each group ordered by label
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                SELECT id, label, parent_id AS parentId
+                FROM categories
+                WHERE lower(label) LIKE lower(:prefix) || '%'
+                   OR lower(label) LIKE '% ' || lower(:prefix) || '%'
+                ORDER BY lower(label) NOT LIKE lower(:prefix) || '%', lower(label), id
+                LIMIT :limit
+                """,
+            nativeQuery = true
+    )
+    List<SearchRow> searchByLabel(@Param("prefix") String prefix, @Param("limit") int limit);
+
+    /**
+     * Retrieves the ancestors of several categories at once.
+     *
+     * @param ids the category IDs
+     * @return one row per category and ancestor, ordered by category and then from the root down
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                WITH RECURSIVE up AS (
+                    SELECT c.id AS descendant_id, c.parent_id AS id, 1 AS level
+                    FROM categories c
+                    WHERE c.id IN (:ids) AND c.parent_id IS NOT NULL
+
+                    UNION ALL
+
+                    SELECT u.descendant_id, p.parent_id, u.level + 1
+                    FROM up u
+                    INNER JOIN categories p ON p.id = u.id
+                    WHERE p.parent_id IS NOT NULL
+                )
+                SELECT u.descendant_id AS descendantId, a.id, a.label
+                FROM up u
+                INNER JOIN categories a ON a.id = u.id
+                ORDER BY u.descendant_id, u.level DESC
+                """,
+            nativeQuery = true
+    )
+    List<AncestorRow> findAncestorRows(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Walks up from a category to its root.
+     *
+     * @param id the category ID
+     * @return the path from the root down to the category itself, or nothing if it does not exist
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = """
+                WITH RECURSIVE up AS (
+                    SELECT c.id, c.label, c.parent_id, 0 AS level
+                    FROM categories c
+                    WHERE c.id = :id
+
+                    UNION ALL
+
+                    SELECT p.id, p.label, p.parent_id, u.level + 1
+                    FROM up u
+                    INNER JOIN categories p ON p.id = u.parent_id
+                )
+                SELECT id, label
+                FROM up
+                ORDER BY level DESC
+                """,
+            nativeQuery = true
+    )
+    List<PathRow> findRootPath(@Param("id") Long id);
+
+    /**
+     * Retrieves the parent links of categories and of all their ancestors, in a single query.
+     *
+     * @param ids the category IDs
+     * @return one row per category found and per ancestor, in no particular order
+     */
+    @Query(
+            value = """
+                WITH RECURSIVE up AS (
+                    SELECT c.id, c.parent_id
+                    FROM categories c
+                    WHERE c.id IN (:ids)
+
+                    UNION
+
+                    SELECT p.id, p.parent_id
+                    FROM up u
+                    INNER JOIN categories p ON p.id = u.parent_id
+                )
+                SELECT id, parent_id AS parentId
+                FROM up
+                """,
+            nativeQuery = true
+    )
+    List<ParentRow> findParentRows(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Summarizes the table in a single aggregate, without transferring its rows.
+     * <p>
+     * Every committed write changes the summary: creates and imports raise the maximum ID,
+     * deletes lower the count, and moves and deletes advance subtree versions.
+     *
+     * @return the row count, maximum ID and sum of subtree versions
+     */
+    @Query(
+            value = """
+                SELECT count(*) AS rowCount,
+                       coalesce(max(id), 0) AS maxId,
+                       coalesce(sum(subtree_version), 0)::bigint AS versionSum
+                FROM categories
+                """,
+            nativeQuery = true
+    )
+    TableFingerprint findFingerprint();
+
+    /**
+     * Projection of a category matched by a label search.
+     */
+    interface SearchRow {
+        Long getId();
+
+        String getLabel();
+
+        Long getParentId();
+    }
+
+    /**
+     * Projection of a row of a children page.
+     */
+    interface ChildRow {
+        Long getId();
+
+        String getLabel();
+
+        Long getParentId();
+
+        boolean getHasChildren();
+    }
+
+    /**
+     * Projection of the parent link of a category.
+     */
+    interface ParentRow {
+        Long getId();
+
+        Long getParentId();
+    }
+
+    /**
+     * Projection of a category on a root path.
+     */
+    interface PathRow {
+        Long getId();
+
+        String getLabel();
+    }
+
+    /**
+     * Projection of an ancestor of a category.
+     */
+    interface AncestorRow {
+        Long getDescendantId();
+
+        Long getId();
+
+        String getLabel();
+    }
+
+    /**
+     * Projection of the summary identifying a state of the categories table.
+     */
+    interface TableFingerprint {
+        long getRowCount();
+
+        long getMaxId();
+
+        long getVersionSum();
+    }
+
+    /**
+     * Projection of a row of a bounded subtree.
+     */
+    interface SubtreeRow {
+        Long getId();
+
+        String getLabel();
+
+        Long getParentId();
+
+        Long getChildCount();
+
+        Long getDescendantCount();
+
+        Long getLeafCount();
+
+        Integer getHeight();
+    }
+
+    /**
+     * Projection of the subtree aggregates of a category.
+     */
+    interface StatsRow {
+        Long getId();
+
+        long getDescendantCount();
+
+        long getLeafCount();
+
+        int getHeight();
+    }
 }
@@ -0,0 +1,125 @@
+package com.eventmanagement.repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Custom JDBC-level operations of {@link CategoryRepository} that bypass entity hydration.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CategoryRepositoryCustom {
+
+    /**
+     * Streams every category row through a forward-only cursor.
+     *
+     * @param handler the callback invoked once per row
+     */
+    void forEachRow(CategoryRowHandler handler);
+
+    /**
+     * Streams every category row outside the subtrees being purged through a forward-only cursor.
+     *
+     * @param handler the callback invoked once per row
+     */
+    void forEachVisibleRow(CategoryRowHandler handler);
+
+    /**
+     * Streams the rows of a subtree through a forward-only cursor.
+     *
+     * @param id       the root category ID
+     * @param preOrder {@code true} to receive every category before its descendants, with
+     *                 siblings in ascending ID order; {@code false} for the cheaper
+     *                 breadth-first order of the recursive query
+     * @param handler  the callback invoked once per row
+     */
+    void forEachSubtreeRow(Long id, boolean preOrder, CategoryRowHandler handler);
+
+    /**
+     * Streams the rows of a subtree with their stored aggregates through a forward-only cursor.
+     *
+     * @param id       the root category ID
+     * @param preOrder as for {@link #forEachSubtreeRow(Long, boolean, CategoryRowHandler)}
+     * @param handler  the callback invoked once per row
+     */
+    void forEachSubtreeRowWithAggregates(Long id, boolean preOrder, CategorySubtreeRowHandler handler);
+
+    /**
+     * Returns which of the given labels are already taken, in a single query.
+     *
+     * @param labels the labels to check
+     * @return the subset of labels that exist
+     */
+    Set<String> findExistingLabels(Collection<String> labels);
+
+    /**
+     * Reserves category IDs from the pooled ID sequence.
+     *
+     * @param count the number of IDs to reserve
+     * @return ascending IDs, not shared with any other caller
+     */
+    long[] nextIds(int count);
+
+    /**
+     * Streams the stored subtree aggregates of every category through a forward-only cursor.
+     *
+     * @param handler the callback invoked once per row
+     */
+    void forEachAggregateRow(CategoryAggregateHandler handler);
+
+    /**
+     * Inserts categories with pre-assigned IDs through batched statements.
+     * Parents must precede their children. The subtree aggregates of the inserted rows are
+     * computed from the batch itself; those of existing parents are left to the caller.
+     *
+     * @param ids       the category IDs
+     * @param parentIds the parent IDs, {@code 0} for root categories
+     * @param labels    the labels
+     * @return the number of inserted rows
+     */
+    int insertAll(long[] ids, long[] parentIds, String[] labels);
+
+    /**
+     * Re-parents categories through batched {@code UPDATE ... FROM (VALUES ...)} statements,
+     * then clears the persistence context so no stale parent is read back.
+     *
+     * @param ids       the category IDs
+     * @param parentIds the new parent IDs, {@code 0} for root categories
+     * @return the number of updated rows
+     */
+    int updateParents(long[] ids, long[] parentIds);
+
+    /**
+     * Recomputes the subtree aggregates of categories from the stored aggregates of their
+     * children, one category after the other in a single batch, then clears the persistence
+     * context so no stale aggregate is read back.
+     *
+     * @param ids the category IDs, every category after those of its children that are
+     *            refreshed too
+     * @return the number of updated rows
+     */
+    int refreshAggregates(long[] ids);
+
+    /**
+     * Locks the given categories and all their ancestors with {@code FOR NO KEY UPDATE}, in
+     * ID order. Must run inside a transaction, which holds the locks until it ends.
+     * <p>
+     * A move committed while a lock was waited for can change the paths. The locks are then
+     * released by rolling back to a savepoint and taken again along the new paths, so each
+     * attempt starts without locks and takes them in ID order.
+     *
+     * @param ids the categories at the lower ends of the paths
+     */
+    void lockPaths(Collection<Long> ids);
+
+    /**
+     * Deletes categories by ID in one statement. Children of a deleted category must be
+     * deleted by the same or an earlier call.
+     *
+     * @param ids the category IDs
+     * @return the number of deleted rows
+     */
+    int deleteByIds(long[] ids);
+}
@@ -0,0 +1,330 @@
+package com.eventmanagement.repository;
+
+import com.eventmanagement.model.Category;
+import jakarta.persistence.EntityManager;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JDBC implementation of {@link CategoryRepositoryCustom}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@AllArgsConstructor
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+
+    private static final int FETCH_SIZE = 5_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    // The categories on the paths from the given ones to their roots, read as the statement starts
+    private static final String PATH_QUERY = """
+            WITH RECURSIVE path AS (
+                SELECT id, parent_id
+                FROM categories
+                WHERE id = ANY (?)
+
+                UNION
+
+                SELECT c.id, c.parent_id
+                FROM categories c
+                INNER JOIN path p ON c.id = p.parent_id
+            )
+            SELECT c.id
+            FROM categories c
+            WHERE c.id IN (SELECT id FROM path)
+            ORDER BY c.id""";
+
+    // Sorting by the array of ancestor IDs yields pre-order; Postgres sorts (and spills) server-side
+    private static final String SUBTREE_QUERY = """
+            WITH RECURSIVE sub AS (
+                SELECT id, parent_id, label, subtree_version, descendant_count, leaf_count, height,
+                       ARRAY[id] AS sort_path
+                FROM categories
+                WHERE id = ?
+
+                UNION ALL
+
+                SELECT c.id, c.parent_id, c.label, c.subtree_version, c.descendant_count, c.leaf_count,
+                       c.height, s.sort_path || c.id
+                FROM categories c
+                INNER JOIN sub s ON c.parent_id = s.id
+            )
+            SELECT id, parent_id, label, subtree_version, descendant_count, leaf_count, height
+            FROM sub
+            """;
+
+    // Without unfinished purges the anti-join is against an empty set
+    private static final String VISIBLE_ROWS_QUERY = """
+            WITH RECURSIVE purging AS (
+                SELECT root_id AS id
+                FROM category_purge_jobs
+                WHERE status <> 'COMPLETED'
+
+                UNION ALL
+
+                SELECT c.id
+                FROM categories c
+                INNER JOIN purging p ON c.parent_id = p.id
+            )
+            SELECT id, parent_id, label, subtree_version
+            FROM categories
+            WHERE id NOT IN (SELECT id FROM purging)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    // Postgres only honours the fetch size (server-side cursor) with auto-commit disabled
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachRow(CategoryRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, parent_id, label, subtree_version FROM categories");
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.handle(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getLong(4)));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachVisibleRow(CategoryRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(VISIBLE_ROWS_QUERY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.handle(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getLong(4)));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachAggregateRow(CategoryAggregateHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, descendant_count, leaf_count, height FROM categories");
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.handle(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getInt(4)));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachSubtreeRow(Long id, boolean preOrder, CategoryRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    preOrder ? SUBTREE_QUERY + "ORDER BY sort_path" : SUBTREE_QUERY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, id);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.handle(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getLong(4)));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachSubtreeRowWithAggregates(Long id, boolean preOrder, CategorySubtreeRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    preOrder ? SUBTREE_QUERY + "ORDER BY sort_path" : SUBTREE_QUERY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, id);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.handle(rs.getLong(1), rs.getLong(2), rs.getString(3),
+                rs.getLong(5), rs.getLong(6), rs.getInt(7)));
+    }
+
+    // One array parameter instead of an IN list, which would exceed the bind parameter limit
+    @Override
+    public Set<String> findExistingLabels(Collection<String> labels) {
+        Set<String> existing = new HashSet<>();
+        if (labels.isEmpty()) {
+            return existing;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT label FROM categories WHERE label = ANY (?)");
+            Array array = connection.createArrayOf("text", labels.toArray());
+            statement.setArray(1, array);
+            return statement;
+        }, (RowCallbackHandler) rs -> existing.add(rs.getString(1)));
+        return existing;
+    }
+
+    @Override
+    public long[] nextIds(int count) {
+        long[] ids = new long[count];
+        if (count == 0) {
+            return ids;
+        }
+        int blocks = (count + Category.ID_ALLOCATION_SIZE - 1) / Category.ID_ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(
+                "SELECT nextval('" + Category.ID_SEQUENCE + "') FROM generate_series(1, ?)", Long.class, blocks);
+        int next = 0;
+        for (long start : blockStarts.stream().sorted().toList()) {
+            for (int offset = 0; offset < Category.ID_ALLOCATION_SIZE && next < count; offset++) {
+                ids[next++] = start + offset;
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public int insertAll(long[] ids, long[] parentIds, String[] labels) {
+        // Children follow their parents, so walking backwards completes every subtree before its root
+        long[] descendants = new long[ids.length];
+        long[] leaves = new long[ids.length];
+        int[] heights = new int[ids.length];
+        Map<Long, Integer> positions = new HashMap<>(ids.length * 2);
+        for (int k = 0; k < ids.length; k++) {
+            positions.put(ids[k], k);
+        }
+        for (int k = ids.length - 1; k >= 0; k--) {
+            if (descendants[k] == 0) {
+                leaves[k] = 1;
+            }
+            Integer parent = positions.get(parentIds[k]);
+            if (parent != null) {
+                descendants[parent] += descendants[k] + 1;
+                leaves[parent] += leaves[k];
+                heights[parent] = Math.max(heights[parent], heights[k] + 1);
+            }
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < ids.length; from += BATCH_SIZE) {
+            int offset = from;
+            int size = Math.min(BATCH_SIZE, ids.length - from);
+            jdbcTemplate.batchUpdate("""
+                            INSERT INTO categories (id, label, parent_id, descendant_count, leaf_count, height)
+                            VALUES (?, ?, ?, ?, ?, ?)""",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, ids[offset + i]);
+                            ps.setString(2, labels[offset + i]);
+                            if (parentIds[offset + i] == 0) {
+                                ps.setNull(3, Types.BIGINT);
+                            } else {
+                                ps.setLong(3, parentIds[offset + i]);
+                            }
+                            ps.setLong(4, descendants[offset + i]);
+                            ps.setLong(5, leaves[offset + i]);
+                            ps.setInt(6, heights[offset + i]);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    });
+            inserted += size;
+        }
+        return inserted;
+    }
+
+    // One statement per batch: the rows join the VALUES list instead of one UPDATE per category
+    @Override
+    public int updateParents(long[] ids, long[] parentIds) {
+        entityManager.flush();
+        int updated = 0;
+        for (int from = 0; from < ids.length; from += BATCH_SIZE) {
+            int offset = from;
+            int size = Math.min(BATCH_SIZE, ids.length - from);
+            String values = String.join(", ", Collections.nCopies(size, "(?, ?)"));
+            updated += jdbcTemplate.update("""
+                    UPDATE categories c
+                    SET parent_id = v.parent_id
+                    FROM (VALUES %s) AS v (id, parent_id)
+                    WHERE c.id = v.id
+                    """.formatted(values), ps -> {
+                for (int i = 0; i < size; i++) {
+                    ps.setLong(2 * i + 1, ids[offset + i]);
+                    if (parentIds[offset + i] == 0) {
+                        ps.setNull(2 * i + 2, Types.BIGINT);
+                    } else {
+                        ps.setLong(2 * i + 2, parentIds[offset + i]);
+                    }
+                }
+            });
+        }
+        entityManager.clear();
+        return updated;
+    }
+
+    // Statements of a batch run in order, so each one reads the children refreshed before it
+    @Override
+    public int refreshAggregates(long[] ids) {
+        if (ids.length == 0) {
+            return 0;
+        }
+        entityManager.flush();
+        int[][] counts = jdbcTemplate.batchUpdate("""
+                        UPDATE categories c
+                        SET descendant_count = s.descendants, leaf_count = s.leaves, height = s.height
+                        FROM (SELECT coalesce(sum(k.descendant_count + 1), 0) AS descendants,
+                                     coalesce(sum(k.leaf_count), 1) AS leaves,
+                                     coalesce(max(k.height) + 1, 0) AS height
+                              FROM categories k
+                              WHERE k.parent_id = ?) AS s
+                        WHERE c.id = ?
+                        """,
+                Arrays.stream(ids).boxed().toList(), BATCH_SIZE, (ps, id) -> {
+                    ps.setLong(1, id);
+                    ps.setLong(2, id);
+                });
+        entityManager.clear();
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).sum();
+    }
+
+    // Releasing the savepoint keeps the locks; rolling back to it drops the ones taken since
+    @Override
+    public void lockPaths(Collection<Long> ids) {
+        Long[] lowerEnds = ids.toArray(Long[]::new);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            while (true) {
+                Savepoint savepoint = connection.setSavepoint();
+                List<Long> locked = pathIds(PATH_QUERY + " FOR NO KEY UPDATE", lowerEnds);
+                if (locked.equals(pathIds(PATH_QUERY, lowerEnds))) {
+                    connection.releaseSavepoint(savepoint);
+                    return null;
+                }
+                connection.rollback(savepoint);
+            }
+        });
+    }
+
+    private List<Long> pathIds(String query, Long[] lowerEnds) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(query);
+            statement.setArray(1, connection.createArrayOf("bigint", lowerEnds));
+            return statement;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    @Override
+    public int deleteByIds(long[] ids) {
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement("DELETE FROM categories WHERE id = ANY (?)");
+            statement.setArray(1, connection.createArrayOf("bigint", Arrays.stream(ids).boxed().toArray()));
+            return statement;
+        });
+    }
+}
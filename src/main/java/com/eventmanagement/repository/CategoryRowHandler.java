@@ -0,0 +1,22 @@
+package com.eventmanagement.repository;
+
+/**
+ * Callback receiving raw category rows without entity hydration.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface CategoryRowHandler {
+
+    /**
+     * Handles a single category row.
+     *
+     * @param id       the category ID
+     * @param parentId the parent category ID, or {@code 0} for a root category
+     * @param label    the category label
+     * @param version  the subtree version of the category
+     */
+    void handle(long id, long parentId, String label, long version);
+}
@@ -0,0 +1,24 @@
+package com.eventmanagement.repository;
+
+/**
+ * Callback receiving raw subtree rows together with their stored subtree aggregates.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface CategorySubtreeRowHandler {
+
+    /**
+     * Handles a single category row.
+     *
+     * @param id              the category ID
+     * @param parentId        the parent category ID, or {@code 0} for a root category
+     * @param label           the category label
+     * @param descendantCount the number of categories below it
+     * @param leafCount       the number of leaves in its subtree
+     * @param height          the number of levels below it
+     */
+    void handle(long id, long parentId, String label, long descendantCount, long leafCount, int height);
+}
@@ -0,0 +1,36 @@
+package com.eventmanagement.repository.store;
+
+import com.eventmanagement.config.TreeStorageMode;
+import com.eventmanagement.model.Category;
+import com.eventmanagement.repository.CategoryRepository;
+import java.util.List;
+import lombok.AllArgsConstructor;
+
+/**
+ * {@link TreeStore} relying on the parent IDs alone, with recursive queries for subtrees.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@AllArgsConstructor
+public class AdjacencyListTreeStore implements TreeStore {
+
+    private final CategoryRepository categoryRepository;
+
+    @Override
+    public TreeStorageMode mode() {
+        return TreeStorageMode.ADJACENCY;
+    }
+
+    @Override
+    public List<Category> findSubtree(Category root) {
+        return categoryRepository.findSubtreeById(root.getId());
+    }
+
+    // Walks up from the candidate, so the cost is bounded by its depth, not by the subtree size
+    @Override
+    public boolean isDescendant(Category ancestor, Category candidate) {
+        return categoryRepository.isDescendant(ancestor.getId(), candidate.getId());
+    }
+}
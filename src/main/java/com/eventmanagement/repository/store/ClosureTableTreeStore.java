@@ -0,0 +1,79 @@
+package com.eventmanagement.repository.store;
+
+import com.eventmanagement.config.TreeStorageMode;
+import com.eventmanagement.model.Category;
+import com.eventmanagement.repository.CategoryClosureRepository;
+import com.eventmanagement.repository.CategoryRepository;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link TreeStore} keeping a closure table with one row per ancestor/descendant pair.
+ * Descendant checks are a primary-key lookup and subtrees a single join; a move rewrites
+ * the pairs between the moved subtree and the ancestors it leaves or joins.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@AllArgsConstructor
+public class ClosureTableTreeStore implements TreeStore {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository closureRepository;
+
+    @Override
+    public TreeStorageMode mode() {
+        return TreeStorageMode.CLOSURE_TABLE;
+    }
+
+    @Override
+    public void initialize() {
+        if (closureRepository.countNodes() != categoryRepository.count()) {
+            closureRepository.deleteAllRows();
+            int inserted = closureRepository.rebuild();
+            log.info("Closure table rebuilt with {} rows", inserted);
+        }
+    }
+
+    @Override
+    public List<Category> findSubtree(Category root) {
+        return categoryRepository.findSubtreeByClosure(root.getId());
+    }
+
+    @Override
+    public boolean isDescendant(Category ancestor, Category candidate) {
+        return closureRepository.existsByAncestorIdAndDescendantId(ancestor.getId(), candidate.getId());
+    }
+
+    @Override
+    public void afterCreate(Category category) {
+        Long parentId = category.getParent() != null ? category.getParent().getId() : null;
+        closureRepository.insertNode(category.getId(), parentId);
+    }
+
+    @Override
+    public void afterImport() {
+        closureRepository.insertMissing();
+    }
+
+    @Override
+    public void afterMove(Category source, Category newParent) {
+        closureRepository.detachSubtree(source.getId());
+        if (newParent != null) {
+            closureRepository.attachSubtree(source.getId(), newParent.getId());
+        }
+    }
+
+    @Override
+    public void afterMoves(long[] ids, long[] parentIds) {
+        for (int move = 0; move < ids.length; move++) {
+            closureRepository.detachSubtree(ids[move]);
+            if (parentIds[move] != 0) {
+                closureRepository.attachSubtree(ids[move], parentIds[move]);
+            }
+        }
+    }
+}
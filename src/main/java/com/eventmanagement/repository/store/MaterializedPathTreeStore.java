@@ -0,0 +1,83 @@
+package com.eventmanagement.repository.store;
+
+import com.eventmanagement.config.TreeStorageMode;
+import com.eventmanagement.model.Category;
+import com.eventmanagement.repository.CategoryRepository;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link TreeStore} keeping a materialized path of ancestor IDs (e.g. {@code /1/5/9/}) on
+ * every category, so subtrees are an indexed prefix scan and descendant checks a prefix
+ * comparison.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@AllArgsConstructor
+public class MaterializedPathTreeStore implements TreeStore {
+
+    private final CategoryRepository categoryRepository;
+
+    @Override
+    public TreeStorageMode mode() {
+        return TreeStorageMode.MATERIALIZED_PATH;
+    }
+
+    @Override
+    public void initialize() {
+        int updated = categoryRepository.rebuildPaths();
+        log.info("Materialized paths rebuilt for {} categories", updated);
+    }
+
+    @Override
+    public List<Category> findSubtree(Category root) {
+        if (root.getPath() == null) {
+            return categoryRepository.findSubtreeById(root.getId());
+        }
+        return categoryRepository.findSubtreeByPath(root.getPath(), upperBound(root.getPath()));
+    }
+
+    @Override
+    public boolean isDescendant(Category ancestor, Category candidate) {
+        return candidate.getPath().startsWith(ancestor.getPath());
+    }
+
+    @Override
+    public void afterCreate(Category category) {
+        category.setPath(childPath(category.getParent(), category.getId()));
+    }
+
+    @Override
+    public void afterImport() {
+        categoryRepository.fillMissingPaths();
+    }
+
+    @Override
+    public void afterMove(Category source, Category newParent) {
+        String oldPath = source.getPath();
+        categoryRepository.rewritePaths(oldPath, upperBound(oldPath), childPath(newParent, source.getId()));
+    }
+
+    // Each rewrite clears the persistence context, so the next move reads the paths it left
+    @Override
+    public void afterMoves(long[] ids, long[] parentIds) {
+        for (int move = 0; move < ids.length; move++) {
+            Category source = categoryRepository.findById(ids[move]).orElseThrow();
+            Category newParent = parentIds[move] != 0 ? categoryRepository.findById(parentIds[move]).orElseThrow() : null;
+            afterMove(source, newParent);
+        }
+    }
+
+    static String childPath(Category parent, Long id) {
+        return (parent != null ? parent.getPath() : "/") + id + "/";
+    }
+
+    // Paths end with '/', so descendants sort before the same prefix ending in '0'
+    static String upperBound(String path) {
+        return path.substring(0, path.length() - 1) + '0';
+    }
+}
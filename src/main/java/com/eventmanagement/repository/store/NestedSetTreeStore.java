@@ -0,0 +1,170 @@
+package com.eventmanagement.repository.store;
+
+import com.eventmanagement.config.TreeStorageMode;
+import com.eventmanagement.model.Category;
+import com.eventmanagement.repository.CategoryNestedSetRepository;
+import com.eventmanagement.repository.CategoryNestedSetRepository.Interval;
+import com.eventmanagement.repository.CategoryRepository;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link TreeStore} keeping nested-set intervals for the whole forest. Subtrees and
+ * descendant checks are interval comparisons; every write shifts the intervals to the
+ * right of the change, so writers are serialized with a table lock.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@AllArgsConstructor
+public class NestedSetTreeStore implements TreeStore {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryNestedSetRepository nestedSetRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public TreeStorageMode mode() {
+        return TreeStorageMode.NESTED_SET;
+    }
+
+    @Override
+    public void initialize() {
+        if (nestedSetRepository.count() != categoryRepository.count()) {
+            renumber();
+        }
+    }
+
+    @Override
+    public List<Category> findSubtree(Category root) {
+        return categoryRepository.findSubtreeByNestedSet(root.getId());
+    }
+
+    @Override
+    public boolean isDescendant(Category ancestor, Category candidate) {
+        return nestedSetRepository.isDescendant(ancestor.getId(), candidate.getId());
+    }
+
+    @Override
+    public void afterCreate(Category category) {
+        nestedSetRepository.lockForWrite();
+        int position = insertPosition(category.getParent() != null ? category.getParent().getId() : null);
+        nestedSetRepository.openGap(position, 2);
+        nestedSetRepository.insertInterval(category.getId(), position, position + 1);
+    }
+
+    // Any insert shifts the intervals of the rest of the forest, so a bulk import renumbers once
+    @Override
+    public void afterImport() {
+        renumber();
+    }
+
+    @Override
+    public void afterMove(Category source, Category newParent) {
+        nestedSetRepository.lockForWrite();
+        move(source.getId(), newParent != null ? newParent.getId() : null);
+    }
+
+    @Override
+    public void afterMoves(long[] ids, long[] parentIds) {
+        nestedSetRepository.lockForWrite();
+        for (int move = 0; move < ids.length; move++) {
+            move(ids[move], parentIds[move] != 0 ? parentIds[move] : null);
+        }
+    }
+
+    private void move(Long sourceId, Long newParentId) {
+        Interval interval = nestedSetRepository.findInterval(sourceId);
+        int lft = interval.getLft();
+        int rgt = interval.getRgt();
+        int width = rgt - lft + 1;
+        int position = insertPosition(newParentId);
+
+        nestedSetRepository.openGap(position, width);
+        if (lft >= position) {
+            lft += width;
+            rgt += width;
+        }
+        nestedSetRepository.shiftRange(lft, rgt, position - lft);
+        nestedSetRepository.closeGap(rgt, width);
+    }
+
+    private void renumber() {
+        nestedSetRepository.lockForWrite();
+        nestedSetRepository.deleteAllRows();
+
+        List<Long> roots = new ArrayList<>();
+        Map<Long, List<Long>> children = new HashMap<>();
+        categoryRepository.forEachRow((id, parentId, label, version) -> {
+            if (parentId == 0) {
+                roots.add(id);
+            } else {
+                children.computeIfAbsent(parentId, key -> new ArrayList<>()).add(id);
+            }
+        });
+        roots.sort(null);
+        children.values().forEach(list -> list.sort(null));
+
+        // Iterative DFS: a node is pushed once on entry (lft) and popped on exit (rgt)
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        Map<Long, Integer> lft = new HashMap<>();
+        Deque<Long> stack = new ArrayDeque<>();
+        Deque<Integer> nextChild = new ArrayDeque<>();
+        int position = 0;
+        int inserted = 0;
+        for (Long root : roots) {
+            lft.put(root, ++position);
+            stack.push(root);
+            nextChild.push(0);
+            while (!stack.isEmpty()) {
+                Long node = stack.peek();
+                int childIndex = nextChild.pop();
+                List<Long> nodeChildren = children.getOrDefault(node, List.of());
+                if (childIndex < nodeChildren.size()) {
+                    nextChild.push(childIndex + 1);
+                    Long child = nodeChildren.get(childIndex);
+                    lft.put(child, ++position);
+                    stack.push(child);
+                    nextChild.push(0);
+                } else {
+                    stack.pop();
+                    batch.add(new Object[]{node, lft.remove(node), ++position});
+                    if (batch.size() == BATCH_SIZE) {
+                        inserted += flush(batch);
+                    }
+                }
+            }
+        }
+        inserted += flush(batch);
+        log.info("Nested sets rebuilt for {} categories", inserted);
+    }
+
+    // New nodes and moved subtrees become the last child of their parent, or the last root
+    private int insertPosition(Long parentId) {
+        if (parentId == null) {
+            return nestedSetRepository.findMaxRgt() + 1;
+        }
+        return nestedSetRepository.findInterval(parentId).getRgt();
+    }
+
+    private int flush(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO category_nested_set (category_id, lft, rgt) VALUES (?, ?, ?)", batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+}
@@ -0,0 +1,84 @@
+package com.eventmanagement.repository.store;
+
+import com.eventmanagement.config.TreeStorageMode;
+import com.eventmanagement.model.Category;
+import java.util.List;
+
+/**
+ * Storage strategy for the category hierarchy.
+ * <p>
+ * The {@code parent_id} column stays the source of truth in every mode; a store keeps
+ * its own auxiliary structure (materialized path, closure table, nested-set intervals)
+ * in step with it and uses that structure to answer hierarchical queries. All methods
+ * run inside the caller's transaction.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public interface TreeStore {
+
+    /**
+     * Returns the storage mode implemented by this store.
+     *
+     * @return the storage mode
+     */
+    TreeStorageMode mode();
+
+    /**
+     * Rebuilds the auxiliary structure from the parent IDs if it is incomplete.
+     */
+    default void initialize() {
+    }
+
+    /**
+     * Retrieves a category and all of its descendants, ordered by parent ID then ID.
+     *
+     * @param root the subtree root
+     * @return a list of categories representing the subtree
+     */
+    List<Category> findSubtree(Category root);
+
+    /**
+     * Checks whether {@code candidate} lies in the subtree of {@code ancestor}.
+     *
+     * @param ancestor  the subtree root
+     * @param candidate the category to check
+     * @return {@code true} if the candidate is the ancestor itself or one of its descendants
+     */
+    boolean isDescendant(Category ancestor, Category candidate);
+
+    /**
+     * Registers a newly persisted category.
+     *
+     * @param category the new category, with its ID and parent assigned
+     */
+    default void afterCreate(Category category) {
+    }
+
+    /**
+     * Registers categories that were inserted in bulk without {@link #afterCreate}.
+     * Runs in the import transaction, after all rows are written.
+     */
+    default void afterImport() {
+    }
+
+    /**
+     * Re-links a subtree whose root has just been given a new parent.
+     *
+     * @param source    the subtree root, with its parent already updated
+     * @param newParent the new parent, or {@code null} if the subtree became a root
+     */
+    default void afterMove(Category source, Category newParent) {
+    }
+
+    /**
+     * Re-links subtrees whose roots have just been given new parents in one batch. The moves
+     * are ordered so that applying them one at a time never forms a cycle.
+     *
+     * @param ids       the subtree roots, with their parents already updated
+     * @param parentIds the new parents, {@code 0} for subtrees that became roots
+     */
+    default void afterMoves(long[] ids, long[] parentIds) {
+    }
+}
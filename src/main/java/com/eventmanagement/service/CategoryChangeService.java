@@ -0,0 +1,20 @@
+package com.eventmanagement.service;
+
+/**
+ * Feed of committed changes to the category tree.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CategoryChangeService {
+
+    /**
+     * Opens a stream of the changes after a resume token.
+     *
+     * @param after  the resume token of the last change applied, or {@code null} for new changes only
+     * @param format the wire format
+     * @return the stream, written once the response is committed
+     */
+    ChangeStream streamChanges(String after, ChangeStreamFormat format);
+}
@@ -0,0 +1,17 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.PurgeJobDto;
+import java.util.UUID;
+
+/**
+ * Asynchronous deletion of large subtrees.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CategoryPurgeService {
+
+    PurgeJobDto purgeCategory(Long id);
+    PurgeJobDto getPurgeJob(UUID jobId);
+}
@@ -1,7 +1,15 @@
 package com.eventmanagement.service;
 
+import com.eventmanagement.dto.BatchMoveRequest;
+import com.eventmanagement.dto.BulkCategoryNode;
+import com.eventmanagement.dto.BulkImportResponse;
+import com.eventmanagement.dto.CategoryChildrenPage;
+import com.eventmanagement.dto.CategoryColumns;
 import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.dto.CategorySearchResult;
+import com.eventmanagement.dto.CategoryStatsDto;
 import com.eventmanagement.dto.CreateCategoryRequest;
+import java.util.List;
 
 /**
  * Service interface for managing catgeories.
@@ -15,7 +23,24 @@ import com.eventmanagement.dto.CreateCategoryRequest;
 public interface CategoryService {
 
     CategoryDto createCategory(CreateCategoryRequest request, Long parentId);
-    CategoryDto getSubtree(Long id);
-    void deleteCategory(Long id);
+    BulkImportResponse importCategories(List<BulkCategoryNode> categories, Long parentId);
+    CategoryDto getSubtree(Long id, SubtreeQuery query, ReadConsistency consistency);
+    CategoryColumns getSubtreeColumns(Long id, SubtreeQuery query, ReadConsistency consistency);
+    long getSubtreeVersion(Long id, ReadConsistency consistency);
+    CategoryStatsDto getStats(Long id, ReadConsistency consistency);
+    CategoryChildrenPage getChildren(Long id, long after, int limit, ReadConsistency consistency);
+    SubtreeWriter streamSubtree(Long id, SubtreeStreamFormat format);
+    List<CategorySearchResult> searchCategories(String query, int limit, ReadConsistency consistency);
+    List<CategorySearchResult.Ancestor> getAncestors(Long id, ReadConsistency consistency);
+    int deleteCategory(Long id);
     void moveSubtree(Long sourceId, Long newParentId);
+    int moveSubtrees(List<BatchMoveRequest.Move> moves);
+
+    default CategoryDto getSubtree(Long id, ReadConsistency consistency) {
+        return getSubtree(id, SubtreeQuery.full(), consistency);
+    }
+
+    default CategoryDto getSubtree(Long id) {
+        return getSubtree(id, ReadConsistency.EVENTUAL);
+    }
 }
@@ -0,0 +1,15 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.SnapshotDto;
+
+/**
+ * Binary snapshots of the category forest, for warm starts of the tree index.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CategorySnapshotService {
+
+    SnapshotDto writeSnapshot();
+}
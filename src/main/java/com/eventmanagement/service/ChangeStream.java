@@ -0,0 +1,34 @@
+package com.eventmanagement.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Deferred write of the change feed, run once the response stream is available.
+ * <p>
+ * An open stream holds one of the {@code category.changes.max-streams} slots from the
+ * request on. Writing releases it when done, and so does {@link #close()}, for streams that
+ * time out or fail before they are written.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ChangeStream extends AutoCloseable {
+
+    /**
+     * Writes changes to the given stream until the stream duration is up.
+     *
+     * @param out the target stream; not closed by the writer
+     * @throws IOException if writing fails, typically because the client went away
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Releases the slot of the stream; closing it again has no effect.
+     */
+    @Override
+    default void close() {
+    }
+}
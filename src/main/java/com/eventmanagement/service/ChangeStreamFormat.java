@@ -0,0 +1,22 @@
+package com.eventmanagement.service;
+
+/**
+ * Wire format of the change feed.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public enum ChangeStreamFormat {
+
+    /**
+     * Server-sent events; each change is an event whose {@code id} is its sequence number,
+     * so an {@code EventSource} resumes on its own after a reconnect.
+     */
+    SSE,
+
+    /**
+     * Newline-delimited JSON, one change per line.
+     */
+    NDJSON
+}
@@ -0,0 +1,22 @@
+package com.eventmanagement.service;
+
+/**
+ * Consistency level requested for a category read.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public enum ReadConsistency {
+
+    /**
+     * Served from the in-memory tree index when it is available; reflects every committed
+     * change applied so far on this instance.
+     */
+    EVENTUAL,
+
+    /**
+     * Always read from the database.
+     */
+    STRONG
+}
@@ -0,0 +1,64 @@
+package com.eventmanagement.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+/**
+ * Content coding of a buffered subtree response, negotiated through {@code Accept-Encoding}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public enum ResponseEncoding {
+
+    /**
+     * The body as written, without {@code Content-Encoding}.
+     */
+    IDENTITY(null),
+
+    /**
+     * The body compressed with gzip.
+     */
+    GZIP("gzip");
+
+    private final String token;
+
+    /**
+     * Picks the coding for a client: gzip if it accepts it, the body as written otherwise.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header, possibly {@code null}
+     * @return the coding to respond with
+     */
+    public static ResponseEncoding negotiate(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return IDENTITY;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP.token) || name.equals("*")) {
+                return isRefused(parts) ? IDENTITY : GZIP;
+            }
+        }
+        return IDENTITY;
+    }
+
+    // Only an explicit q=0 refuses a listed coding
+    private static boolean isRefused(String[] parameters) {
+        for (int index = 1; index < parameters.length; index++) {
+            String parameter = parameters[index].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0;
+                } catch (NumberFormatException ex) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
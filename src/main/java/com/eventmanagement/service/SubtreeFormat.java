@@ -0,0 +1,99 @@
+package com.eventmanagement.service;
+
+import java.util.Comparator;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+/**
+ * Representation of a buffered subtree, negotiated through {@code Accept}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public enum SubtreeFormat {
+
+    /**
+     * Nested {@code CategoryDto} JSON, the default.
+     */
+    NESTED(MediaType.APPLICATION_JSON, "json"),
+
+    /**
+     * Columnar JSON: parallel {@code ids}, {@code parentIds} and {@code labels} arrays.
+     */
+    COLUMNS_JSON(MediaType.valueOf(SubtreeFormat.COLUMNS_JSON_VALUE), "columns"),
+
+    /**
+     * The columns encoded as CBOR.
+     */
+    CBOR(MediaType.APPLICATION_CBOR, "cbor"),
+
+    /**
+     * One length-delimited protobuf {@code Category} message per category, in column order.
+     */
+    PROTOBUF(MediaType.valueOf(SubtreeFormat.PROTOBUF_VALUE), "protobuf");
+
+    public static final String COLUMNS_JSON_VALUE = "application/vnd.eventmanagement.columns+json";
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+
+    private final MediaType mediaType;
+    private final String token;
+
+    /**
+     * Builds the strong {@code ETag} of the subtree at a version in this format; each format
+     * gets its own, as the bodies differ.
+     *
+     * @param version the subtree version
+     * @return the quoted entity tag
+     */
+    public String etag(long version) {
+        return etag(version, ResponseEncoding.IDENTITY);
+    }
+
+    /**
+     * Builds the strong {@code ETag} of the subtree at a version in this format and content
+     * coding; a compressed body has its own.
+     *
+     * @param version  the subtree version
+     * @param encoding the content coding of the body
+     * @return the quoted entity tag
+     */
+    public String etag(long version, ResponseEncoding encoding) {
+        StringBuilder etag = new StringBuilder().append('"').append(version);
+        if (this != NESTED) {
+            etag.append('-').append(token);
+        }
+        if (encoding != ResponseEncoding.IDENTITY) {
+            etag.append('-').append(encoding.getToken());
+        }
+        return etag.append('"').toString();
+    }
+
+    /**
+     * Picks the columnar format a client prefers.
+     *
+     * @param accept the {@code Accept} header, possibly {@code null}
+     * @return the columnar format of the highest quality, {@link #COLUMNS_JSON} if none is named
+     */
+    public static SubtreeFormat negotiateColumns(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return COLUMNS_JSON;
+        }
+        List<MediaType> accepted = MediaType.parseMediaTypes(accept).stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .toList();
+        for (MediaType mediaType : accepted) {
+            for (SubtreeFormat format : values()) {
+                if (format != NESTED && mediaType.includes(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return COLUMNS_JSON;
+    }
+}
@@ -0,0 +1,74 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.exceptions.InvalidRequestException;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Bounds applied to a subtree read: how deep to descend and which page of the root's
+ * children to include. Root children are paged by ID (keyset), so a page is stable while
+ * other categories are added.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@Builder
+public class SubtreeQuery {
+
+    private static final SubtreeQuery FULL = SubtreeQuery.builder().build();
+
+    /**
+     * The deepest level to include, the root being level 0; {@code null} for no limit.
+     */
+    private final Integer maxDepth;
+
+    /**
+     * Only include root children with a greater ID; {@code null} for the first page.
+     */
+    private final Long after;
+
+    /**
+     * The maximum number of root children to include; {@code null} for all.
+     */
+    private final Integer limit;
+
+    public static SubtreeQuery full() {
+        return FULL;
+    }
+
+    public boolean isFull() {
+        return maxDepth == null && after == null && limit == null;
+    }
+
+    public boolean isPaged() {
+        return after != null || limit != null;
+    }
+
+    public int depthBound() {
+        return maxDepth != null ? maxDepth : Integer.MAX_VALUE;
+    }
+
+    public long afterBound() {
+        return after != null ? after : 0;
+    }
+
+    public int limitBound() {
+        return limit != null ? limit : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Rejects negative depths and non-positive page sizes.
+     *
+     * @throws InvalidRequestException if a bound is out of range
+     */
+    public void validate() {
+        if (maxDepth != null && maxDepth < 0) {
+            throw new InvalidRequestException("maxDepth must not be negative");
+        }
+        if (limit != null && limit < 1) {
+            throw new InvalidRequestException("limit must be positive");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.eventmanagement.service;
+
+/**
+ * Output format of a streamed subtree.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+public enum SubtreeStreamFormat {
+
+    /**
+     * A single JSON document with the same nested shape as the buffered subtree.
+     */
+    NESTED,
+
+    /**
+     * Newline-delimited JSON, one category per line without {@code children}.
+     */
+    FLAT
+}
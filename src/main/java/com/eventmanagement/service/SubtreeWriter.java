@@ -0,0 +1,23 @@
+package com.eventmanagement.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Deferred write of a subtree, run once the response stream is available.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface SubtreeWriter {
+
+    /**
+     * Writes the subtree to the given stream.
+     *
+     * @param out the target stream; not closed by the writer
+     * @throws IOException if writing fails
+     */
+    void writeTo(OutputStream out) throws IOException;
+}
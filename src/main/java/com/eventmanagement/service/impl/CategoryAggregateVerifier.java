@@ -0,0 +1,156 @@
+package com.eventmanagement.service.impl;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.config.ReplicaRouting;
+import com.eventmanagement.dto.CategoryStatsDto;
+import com.eventmanagement.index.CategoryTreeIndex;
+import com.eventmanagement.metrics.CategoryMetrics;
+import com.eventmanagement.repository.CategoryAggregateHandler;
+import com.eventmanagement.repository.CategoryRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Detects drift of the stored subtree aggregates in the background.
+ * <p>
+ * Every {@code category.aggregates.verify-interval} the parent links are loaded into a
+ * private {@link CategoryTreeIndex}, which computes the aggregates from scratch, and the
+ * stored aggregates are compared against it. Both are read in one repeatable-read
+ * transaction on the primary, so concurrent writes cannot show up as drift. Drifted
+ * categories are logged and counted; with {@code category.aggregates.repair} they are
+ * recomputed from their children under the locks of their paths, children first.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class CategoryAggregateVerifier {
+
+    private static final int LOGGED_IDS = 10;
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryProperties properties;
+    private final CategoryMetrics metrics;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "category-aggregates");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Duration interval = properties.getAggregates().getVerifyInterval();
+        if (interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        executor.scheduleWithFixedDelay(this::run, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Compares the stored aggregates of every visible category with its subtree once, and
+     * repairs the drifted ones if configured to.
+     *
+     * @return the IDs of the categories whose aggregates drifted, children before parents
+     */
+    public long[] verify() {
+        CategoryTreeIndex expected = new CategoryTreeIndex();
+        DriftCollector collector = new DriftCollector(expected);
+        TransactionTemplate snapshot = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        snapshot.setReadOnly(true);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        ReplicaRouting.runOnPrimary(() -> snapshot.executeWithoutResult(status -> {
+            expected.rebuild(categoryRepository::forEachVisibleRow);
+            if (expected.isReady()) {
+                categoryRepository.forEachAggregateRow(collector);
+            }
+        }));
+        if (!expected.isReady()) {
+            log.warn("Category aggregates not verified: the categories could not be indexed");
+            return new long[0];
+        }
+
+        long[] drifted = collector.childrenFirst();
+        if (drifted.length == 0) {
+            return drifted;
+        }
+        boolean repair = properties.getAggregates().isRepair();
+        log.warn("Subtree aggregates of {} categories drifted{}, e.g. {}", drifted.length, repair ? ", repairing" : "",
+                Arrays.toString(Arrays.copyOf(drifted, Math.min(drifted.length, LOGGED_IDS))));
+        if (repair) {
+            transactionTemplate.executeWithoutResult(status -> {
+                categoryRepository.lockPaths(Arrays.stream(drifted).boxed().toList());
+                categoryRepository.refreshAggregates(drifted);
+            });
+        }
+        metrics.recordAggregateDrift(drifted.length, repair);
+        return drifted;
+    }
+
+    private void run() {
+        try {
+            verify();
+        } catch (RuntimeException ex) {
+            log.warn("Category aggregate verification failed", ex);
+        }
+    }
+
+    private static final class DriftCollector implements CategoryAggregateHandler {
+
+        private final CategoryTreeIndex expected;
+        private long[] ids = new long[16];
+        private int[] heights = new int[16];
+        private int count;
+
+        private DriftCollector(CategoryTreeIndex expected) {
+            this.expected = expected;
+        }
+
+        // Categories being purged are not indexed and are skipped
+        @Override
+        public void handle(long id, long descendantCount, long leafCount, int height) {
+            CategoryStatsDto stats = expected.stats(id);
+            if (stats == null
+                    || (stats.getDescendantCount() == descendantCount
+                    && stats.getLeafCount() == leafCount
+                    && stats.getHeight() == height)) {
+                return;
+            }
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                heights = Arrays.copyOf(heights, count * 2);
+            }
+            ids[count] = id;
+            heights[count++] = stats.getHeight();
+        }
+
+        // A child is always lower than its parent, so ascending heights refresh children first
+        private long[] childrenFirst() {
+            return IntStream.range(0, count).boxed()
+                    .sorted(Comparator.comparingInt(k -> heights[k]))
+                    .mapToLong(k -> ids[k])
+                    .toArray();
+        }
+    }
+}
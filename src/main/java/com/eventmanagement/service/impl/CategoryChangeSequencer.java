@@ -0,0 +1,49 @@
+package com.eventmanagement.service.impl;
+
+import com.eventmanagement.event.CategoriesMovedEvent;
+import com.eventmanagement.event.CategoryChangedEvent;
+import com.eventmanagement.repository.CategoryChangeSequenceRepository;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Numbers tree changes in the order they commit.
+ * <p>
+ * Runs just before the commit of each write transaction, after its other writes have been
+ * flushed, and takes the next numbers of the change sequence. The sequence row stays locked
+ * until the commit, so a transaction committing later always gets a higher number, and
+ * listeners called after the commit can put changes delivered out of order back in order.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@AllArgsConstructor
+public class CategoryChangeSequencer {
+
+    private final CategoryChangeSequenceRepository sequenceRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        event.setSequence(advance(1));
+    }
+
+    // One number per move, in the order the moves were applied
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCategoriesMoved(CategoriesMovedEvent event) {
+        List<CategoryChangedEvent> moves = event.getMoves();
+        long first = advance(moves.size()) - moves.size() + 1;
+        for (int move = 0; move < moves.size(); move++) {
+            moves.get(move).setSequence(first + move);
+        }
+    }
+
+    private long advance(int count) {
+        sequenceRepository.advance(count);
+        return sequenceRepository.findLastSequence().orElseThrow();
+    }
+}
@@ -0,0 +1,311 @@
+package com.eventmanagement.service.impl;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.config.ReplicaRouting;
+import com.eventmanagement.dto.CategoryChange;
+import com.eventmanagement.event.CategoriesMovedEvent;
+import com.eventmanagement.event.CategoryChangedEvent;
+import com.eventmanagement.event.CommitOrderBuffer;
+import com.eventmanagement.exceptions.InvalidRequestException;
+import com.eventmanagement.exceptions.ServiceException;
+import com.eventmanagement.exceptions.ServiceUnavailableException;
+import com.eventmanagement.repository.CategoryChangeSequenceRepository;
+import com.eventmanagement.service.CategoryChangeService;
+import com.eventmanagement.service.ChangeStream;
+import com.eventmanagement.service.ChangeStreamFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Implementation of {@link CategoryChangeService}.
+ * <p>
+ * Every {@link CategoryChangedEvent} carries the sequence number its transaction took just
+ * before the commit. Changes are appended in that order, a change whose listener runs early
+ * waiting for the ones committed before it, and the latest
+ * {@code category.changes.buffer-size} are kept in a ring buffer, so a client can resume
+ * after the last change it applied. A number still missing after
+ * {@code category.changes.reorder-timeout} was committed by another instance, or its listener
+ * failed, and is skipped.
+ * <p>
+ * Resume tokens are the sequence number prefixed with an epoch drawn at startup, since each
+ * instance only feeds its own changes and loses its buffer on restart. A token of another
+ * epoch, or one so far behind that its next change was overwritten, tells the client to
+ * re-read the tree instead.
+ * <p>
+ * Each open stream holds a thread, so no more than {@code category.changes.max-streams}
+ * are open at once. A slot is reserved when the stream is requested and released once it is
+ * written, or closed by the request ending without it.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class CategoryChangeServiceImpl implements CategoryChangeService {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final CategoryChange[] buffer;
+    private final Duration heartbeat;
+    private final Duration streamDuration;
+    private final Duration reorderTimeout;
+    private final Semaphore streamSlots;
+    private final ObjectMapper objectMapper;
+    private final CategoryChangeSequenceRepository sequenceRepository;
+    // Changes committed but not appended yet, guarded by lock
+    private final CommitOrderBuffer<CategoryChange> pending = new CommitOrderBuffer<>();
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private boolean started;
+    private long lastSequence;
+
+    public CategoryChangeServiceImpl(CategoryProperties properties, ObjectMapper objectMapper,
+                                     CategoryChangeSequenceRepository sequenceRepository) {
+        this.buffer = new CategoryChange[properties.getChanges().getBufferSize()];
+        this.heartbeat = properties.getChanges().getHeartbeat();
+        this.streamDuration = properties.getChanges().getStreamDuration();
+        this.reorderTimeout = properties.getChanges().getReorderTimeout();
+        this.streamSlots = new Semaphore(properties.getChanges().getMaxStreams());
+        this.objectMapper = objectMapper;
+        this.sequenceRepository = sequenceRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        start(ReplicaRouting.onPrimary(() -> sequenceRepository.findLastSequence().orElse(0L)));
+    }
+
+    /**
+     * Starts the feed after the given change; streams requested before are turned away.
+     *
+     * @param sequence the number of the last change committed before the feed starts
+     */
+    public void start(long sequence) {
+        lock.lock();
+        try {
+            lastSequence = sequence;
+            pending.restartAfter(sequence);
+            started = true;
+            appendInOrder();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The epoch prefixed to the resume tokens of this feed.
+     *
+     * @return the epoch, drawn at startup
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        lock.lock();
+        try {
+            long sequence = event.getSequence();
+            pending.add(sequence, sequence, CategoryChange.builder()
+                    .epoch(epoch)
+                    .sequence(sequence)
+                    .type(event.getType())
+                    .categoryId(event.getCategoryId())
+                    .label(event.getLabel())
+                    .parentId(event.getParentId())
+                    .previousParentId(event.getType() == CategoryChangedEvent.Type.MOVED
+                            ? event.getPreviousParentId() : null)
+                    .committedAt(Instant.now())
+                    .build());
+            appendInOrder();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Each move of a batch is a change of its own to feed clients
+    @TransactionalEventListener
+    public void onCategoriesMoved(CategoriesMovedEvent event) {
+        event.getMoves().forEach(this::onCategoryChanged);
+    }
+
+    @Override
+    public ChangeStream streamChanges(String after, ChangeStreamFormat format) {
+        if (!streamSlots.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many open change streams, please retry");
+        }
+        long from;
+        lock.lock();
+        try {
+            if (!started) {
+                throw new ServiceUnavailableException("The change feed is starting, please retry");
+            }
+            from = after != null ? parseToken(after) : lastSequence;
+            changesAfter(from);
+        } catch (RuntimeException ex) {
+            streamSlots.release();
+            throw ex;
+        } finally {
+            lock.unlock();
+        }
+        return new OpenStream(from, format);
+    }
+
+    /**
+     * Returns the changes after a sequence number, waiting for one if there are none yet.
+     *
+     * @param after   the last sequence number the caller has seen
+     * @param timeout how long to wait for a change
+     * @param unit    the unit of {@code timeout}
+     * @return the changes in sequence order, empty if none arrived in time
+     * @throws ServiceException     if the changes after {@code after} are not in the buffer
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<CategoryChange> awaitChanges(long after, long timeout, TimeUnit unit) throws InterruptedException {
+        lock.lock();
+        try {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            skipStalled();
+            // Wakes up at least every reorder timeout to give up on missing changes
+            for (long nanos = deadline - System.nanoTime(); lastSequence == after && nanos > 0; nanos = deadline - System.nanoTime()) {
+                appended.awaitNanos(Math.min(nanos, reorderTimeout.toNanos()));
+                skipStalled();
+            }
+            return changesAfter(after);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Caller holds the lock
+    private void appendInOrder() {
+        for (CategoryChange change = pending.poll(); change != null; change = pending.poll()) {
+            buffer[index(change.getSequence())] = change;
+            lastSequence = change.getSequence();
+            appended.signalAll();
+        }
+    }
+
+    // Caller holds the lock
+    private void skipStalled() {
+        if (pending.isStalledFor(reorderTimeout)) {
+            log.debug("Change feed skips {} changes not committed by this instance", pending.skipGap());
+            appendInOrder();
+        }
+    }
+
+    // Caller holds the lock
+    private List<CategoryChange> changesAfter(long after) {
+        if (after < 0 || after > lastSequence || lastSequence - after > buffer.length) {
+            throw new ServiceException("Changes after " + token(after) + " are no longer available, "
+                    + "re-read the tree and resume after " + token(lastSequence));
+        }
+        List<CategoryChange> changes = new ArrayList<>((int) (lastSequence - after));
+        for (long sequence = after + 1; sequence <= lastSequence; sequence++) {
+            // Skipped numbers leave the slot to an older change
+            CategoryChange change = buffer[index(sequence)];
+            if (change != null && change.getSequence() == sequence) {
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+
+    // Caller holds the lock
+    private long parseToken(String token) {
+        int separator = token.lastIndexOf('-');
+        long sequence;
+        try {
+            sequence = Long.parseLong(token.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestException("Invalid resume token: " + token);
+        }
+        if (separator < 0 || sequence < 0) {
+            throw new InvalidRequestException("Invalid resume token: " + token);
+        }
+        if (!token.substring(0, separator).equals(epoch)) {
+            throw new ServiceException("Resume token " + token + " is from another feed, "
+                    + "re-read the tree and resume after " + token(lastSequence));
+        }
+        return sequence;
+    }
+
+    private String token(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private int index(long sequence) {
+        return (int) ((sequence - 1) % buffer.length);
+    }
+
+    // Holds a slot from the request on; released once written, or closed unwritten
+    private class OpenStream implements ChangeStream {
+
+        private final long from;
+        private final ChangeStreamFormat format;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        OpenStream(long from, ChangeStreamFormat format) {
+            this.from = from;
+            this.format = format;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                ChangeStreamWriter writer = new ChangeStreamWriter(generator, format);
+                // Sends the headers before the first change arrives
+                writer.flush();
+                long sequence = from;
+                long deadline = System.nanoTime() + streamDuration.toNanos();
+                for (long remaining = streamDuration.toNanos(); remaining > 0; remaining = deadline - System.nanoTime()) {
+                    List<CategoryChange> changes;
+                    try {
+                        changes = awaitChanges(sequence, Math.min(heartbeat.toNanos(), remaining), TimeUnit.NANOSECONDS);
+                    } catch (ServiceException ex) {
+                        // Fell behind the buffer; the resumed stream reports it
+                        return;
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (changes.isEmpty()) {
+                        writer.heartbeat();
+                    }
+                    for (CategoryChange change : changes) {
+                        writer.write(change);
+                        sequence = change.getSequence();
+                    }
+                    writer.flush();
+                }
+            } finally {
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                streamSlots.release();
+            }
+        }
+    }
+}
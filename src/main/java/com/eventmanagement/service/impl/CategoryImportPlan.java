@@ -0,0 +1,193 @@
+package com.eventmanagement.service.impl;
+
+import com.eventmanagement.dto.BulkCategoryNode;
+import com.eventmanagement.exceptions.InvalidRequestException;
+import com.eventmanagement.exceptions.ServiceException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Flattens a bulk import payload into insertion order.
+ * <p>
+ * Nodes are linked either by nesting ({@code children}) or, for top-level entries, by a
+ * {@code parentId} referring to another node's client-side {@code id}. Entries without a
+ * parent become the top-level categories of the import. The plan lists nodes breadth-first,
+ * so every parent precedes its children; {@link #parentIndex(int)} refers back into that
+ * order, or is {@code -1} for a top-level node.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+final class CategoryImportPlan {
+
+    static final int TOP_LEVEL = -1;
+
+    private final String[] labels;
+    private final int[] parentIndex;
+
+    private CategoryImportPlan(String[] labels, int[] parentIndex) {
+        this.labels = labels;
+        this.parentIndex = parentIndex;
+    }
+
+    /**
+     * Validates and orders the payload.
+     *
+     * @param categories the top-level entries of the import
+     * @return the plan
+     * @throws InvalidRequestException if a label is blank, a reference is duplicated or
+     *                                 unknown, or the references form a cycle
+     * @throws ServiceException        if a label occurs more than once in the payload
+     */
+    static CategoryImportPlan of(List<BulkCategoryNode> categories) {
+        if (categories == null || categories.isEmpty()) {
+            throw new InvalidRequestException("Import contains no categories");
+        }
+
+        // Number the nodes in payload order, recording nesting parents as we go
+        List<BulkCategoryNode> nodes = new ArrayList<>();
+        List<Integer> parents = new ArrayList<>();
+        Deque<Integer> pending = new ArrayDeque<>();
+        for (BulkCategoryNode category : categories) {
+            nodes.add(category);
+            parents.add(TOP_LEVEL);
+            pending.push(nodes.size() - 1);
+            while (!pending.isEmpty()) {
+                int node = pending.pop();
+                List<BulkCategoryNode> children = nodes.get(node).getChildren();
+                if (children == null) {
+                    continue;
+                }
+                for (BulkCategoryNode child : children) {
+                    nodes.add(child);
+                    parents.add(node);
+                    pending.push(nodes.size() - 1);
+                }
+            }
+        }
+
+        int size = nodes.size();
+        Map<Long, Integer> byReference = new HashMap<>();
+        Set<String> labels = new HashSet<>();
+        for (int node = 0; node < size; node++) {
+            BulkCategoryNode category = nodes.get(node);
+            if (category.getLabel() == null || category.getLabel().isBlank()) {
+                throw new InvalidRequestException("Category label must not be blank");
+            }
+            if (!labels.add(category.getLabel())) {
+                throw new ServiceException("Category with the label already exists: " + category.getLabel());
+            }
+            if (category.getId() != null && byReference.put(category.getId(), node) != null) {
+                throw new InvalidRequestException("Duplicate id in import: " + category.getId());
+            }
+        }
+
+        // Resolve flat references and link children for the breadth-first walk
+        int[] parent = new int[size];
+        int[] firstChild = new int[size];
+        int[] nextSibling = new int[size];
+        Arrays.fill(firstChild, TOP_LEVEL);
+        Arrays.fill(nextSibling, TOP_LEVEL);
+        for (int node = size - 1; node >= 0; node--) {
+            parent[node] = parents.get(node);
+            Long reference = nodes.get(node).getParentId();
+            if (parent[node] == TOP_LEVEL && reference != null) {
+                Integer referenced = byReference.get(reference);
+                if (referenced == null) {
+                    throw new InvalidRequestException("Parent not found in import with id: " + reference);
+                }
+                parent[node] = referenced;
+            }
+            if (parent[node] != TOP_LEVEL) {
+                nextSibling[node] = firstChild[parent[node]];
+                firstChild[parent[node]] = node;
+            }
+        }
+
+        int[] order = new int[size];
+        int[] position = new int[size];
+        int ordered = 0;
+        for (int node = 0; node < size; node++) {
+            if (parent[node] == TOP_LEVEL) {
+                order[ordered++] = node;
+            }
+        }
+        for (int head = 0; head < ordered; head++) {
+            for (int child = firstChild[order[head]]; child != TOP_LEVEL; child = nextSibling[child]) {
+                order[ordered++] = child;
+            }
+        }
+        if (ordered < size) {
+            throw new InvalidRequestException("Import contains a cycle");
+        }
+
+        String[] orderedLabels = new String[size];
+        int[] orderedParents = new int[size];
+        for (int k = 0; k < size; k++) {
+            position[order[k]] = k;
+        }
+        for (int k = 0; k < size; k++) {
+            int node = order[k];
+            orderedLabels[k] = nodes.get(node).getLabel();
+            orderedParents[k] = parent[node] == TOP_LEVEL ? TOP_LEVEL : position[parent[node]];
+        }
+        return new CategoryImportPlan(orderedLabels, orderedParents);
+    }
+
+    int size() {
+        return labels.length;
+    }
+
+    String[] labels() {
+        return labels;
+    }
+
+    int parentIndex(int node) {
+        return parentIndex[node];
+    }
+
+    /**
+     * Counts the imported categories without children.
+     *
+     * @return the number of leaves the import adds
+     */
+    long leafCount() {
+        boolean[] hasChildren = new boolean[parentIndex.length];
+        for (int parent : parentIndex) {
+            if (parent != TOP_LEVEL) {
+                hasChildren[parent] = true;
+            }
+        }
+        long leaves = 0;
+        for (boolean parent : hasChildren) {
+            if (!parent) {
+                leaves++;
+            }
+        }
+        return leaves;
+    }
+
+    /**
+     * Returns the height of the tallest imported tree.
+     *
+     * @return the number of levels below the deepest-reaching top-level category
+     */
+    int height() {
+        // Parents precede their children, so each depth is known when its children are reached
+        int[] depths = new int[parentIndex.length];
+        int height = 0;
+        for (int node = 0; node < parentIndex.length; node++) {
+            depths[node] = parentIndex[node] == TOP_LEVEL ? 0 : depths[parentIndex[node]] + 1;
+            height = Math.max(height, depths[node]);
+        }
+        return height;
+    }
+}
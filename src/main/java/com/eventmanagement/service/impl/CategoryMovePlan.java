@@ -0,0 +1,224 @@
+package com.eventmanagement.service.impl;
+
+import com.eventmanagement.dto.BatchMoveRequest;
+import com.eventmanagement.exceptions.InvalidRequestException;
+import com.eventmanagement.exceptions.NotFoundException;
+import com.eventmanagement.exceptions.ServiceException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Validates a batch of subtree moves against the tree it will produce.
+ * <p>
+ * The moves are checked together: a move that would be rejected on its own, such as a
+ * category moving under its current descendant, is accepted when another move of the batch
+ * takes that descendant out first, and a batch whose moves only form a cycle together is
+ * rejected. {@link #resolve(Map)} orders the moves by the depth of their category in the
+ * resulting tree, so applying them one at a time in that order never forms a cycle along
+ * the way. Parent IDs use {@code 0} for root categories.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+final class CategoryMovePlan {
+
+    private long[] sourceIds;
+    private long[] parentIds;
+    private long[] previousParentIds;
+    private long[] affectedIds;
+
+    private CategoryMovePlan(long[] sourceIds, long[] parentIds) {
+        this.sourceIds = sourceIds;
+        this.parentIds = parentIds;
+    }
+
+    /**
+     * Validates the payload.
+     *
+     * @param moves the requested moves
+     * @return the plan, in payload order until {@link #resolve(Map)} is called
+     * @throws InvalidRequestException if the batch is empty, a subtree ID is missing or a
+     *                                 category is moved more than once
+     * @throws ServiceException        if a category is moved to itself
+     */
+    static CategoryMovePlan of(List<BatchMoveRequest.Move> moves) {
+        if (moves == null || moves.isEmpty()) {
+            throw new InvalidRequestException("Batch contains no moves");
+        }
+
+        int size = moves.size();
+        long[] sourceIds = new long[size];
+        long[] parentIds = new long[size];
+        Set<Long> sources = new LinkedHashSet<>();
+        for (int move = 0; move < size; move++) {
+            BatchMoveRequest.Move request = moves.get(move);
+            if (request == null || request.getSubtreeId() == null) {
+                throw new InvalidRequestException("Subtree id must not be null");
+            }
+            if (request.getSubtreeId().equals(request.getNewParentId())) {
+                throw new ServiceException("Cannot move category to itself");
+            }
+            if (!sources.add(request.getSubtreeId())) {
+                throw new InvalidRequestException("Category moved more than once in batch: " + request.getSubtreeId());
+            }
+            sourceIds[move] = request.getSubtreeId();
+            parentIds[move] = request.getNewParentId() != null ? request.getNewParentId() : 0;
+        }
+        return new CategoryMovePlan(sourceIds, parentIds);
+    }
+
+    /**
+     * Returns the moved categories and their new parents, whose current ancestors the
+     * check in {@link #resolve(Map)} needs.
+     *
+     * @return the referenced category IDs
+     */
+    Set<Long> referencedIds() {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (int move = 0; move < sourceIds.length; move++) {
+            ids.add(sourceIds[move]);
+            if (parentIds[move] != 0) {
+                ids.add(parentIds[move]);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Checks the resulting tree for cycles and orders the moves from the top down.
+     *
+     * @param currentParents the current parent of every referenced category and of each of
+     *                       their ancestors
+     * @throws NotFoundException if a moved category or new parent does not exist
+     * @throws ServiceException  if a category would end up inside its own subtree
+     */
+    void resolve(Map<Long, Long> currentParents) {
+        int size = sourceIds.length;
+        Map<Long, Long> finalParents = new HashMap<>(currentParents);
+        for (int move = 0; move < size; move++) {
+            if (!currentParents.containsKey(sourceIds[move])) {
+                throw new NotFoundException("Source category not found with id: " + sourceIds[move]);
+            }
+            if (parentIds[move] != 0 && !currentParents.containsKey(parentIds[move])) {
+                throw new NotFoundException("New parent category not found with id: " + parentIds[move]);
+            }
+            finalParents.put(sourceIds[move], parentIds[move]);
+        }
+
+        // Depth of every category walked through, each walked once; revisiting the current walk is a cycle
+        Map<Long, Integer> depths = new HashMap<>();
+        Set<Long> sources = new HashSet<>();
+        Arrays.stream(sourceIds).forEach(sources::add);
+        int[] sourceDepths = new int[size];
+        for (int move = 0; move < size; move++) {
+            List<Long> walk = new ArrayList<>();
+            Set<Long> onWalk = new HashSet<>();
+            long node = sourceIds[move];
+            while (node != 0 && !depths.containsKey(node)) {
+                if (!onWalk.add(node)) {
+                    long source = walk.subList(walk.indexOf(node), walk.size()).stream()
+                            .filter(sources::contains)
+                            .findFirst()
+                            .orElse(node);
+                    throw new ServiceException("New parent cannot be a descendant of the source category with id: " + source);
+                }
+                walk.add(node);
+                node = finalParents.get(node);
+            }
+            int depth = node == 0 ? -1 : depths.get(node);
+            for (int step = walk.size() - 1; step >= 0; step--) {
+                depths.put(walk.get(step), ++depth);
+            }
+            sourceDepths[move] = depths.get(sourceIds[move]);
+        }
+
+        int[] order = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparingInt(move -> sourceDepths[move]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        long[] orderedSources = new long[size];
+        long[] orderedParents = new long[size];
+        long[] previousParents = new long[size];
+        for (int k = 0; k < size; k++) {
+            orderedSources[k] = sourceIds[order[k]];
+            orderedParents[k] = parentIds[order[k]];
+            previousParents[k] = currentParents.get(orderedSources[k]);
+        }
+        sourceIds = orderedSources;
+        parentIds = orderedParents;
+        previousParentIds = previousParents;
+        affectedIds = affected(currentParents, finalParents, depths);
+    }
+
+    // A subtree changes only where a moved category leaves it or enters it, so the affected
+    // categories are the old parents with their current ancestors and the new parents with
+    // their ancestors in the resulting tree
+    private long[] affected(Map<Long, Long> currentParents, Map<Long, Long> finalParents, Map<Long, Integer> depths) {
+        Set<Long> before = new HashSet<>();
+        Set<Long> after = new HashSet<>();
+        for (int move = 0; move < sourceIds.length; move++) {
+            long node = previousParentIds[move];
+            while (node != 0 && before.add(node)) {
+                node = currentParents.get(node);
+            }
+            node = parentIds[move];
+            while (node != 0 && after.add(node)) {
+                node = finalParents.get(node);
+            }
+        }
+        Set<Long> affected = new HashSet<>(before);
+        affected.addAll(after);
+        return affected.stream()
+                .sorted(Comparator.comparingInt((Long node) -> depth(node, finalParents, depths)).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private static int depth(long node, Map<Long, Long> finalParents, Map<Long, Integer> depths) {
+        List<Long> walk = new ArrayList<>();
+        for (; node != 0 && !depths.containsKey(node); node = finalParents.get(node)) {
+            walk.add(node);
+        }
+        int depth = node == 0 ? -1 : depths.get(node);
+        for (int step = walk.size() - 1; step >= 0; step--) {
+            depths.put(walk.get(step), ++depth);
+        }
+        return depth;
+    }
+
+    int size() {
+        return sourceIds.length;
+    }
+
+    long[] sourceIds() {
+        return sourceIds;
+    }
+
+    long[] parentIds() {
+        return parentIds;
+    }
+
+    long previousParentId(int move) {
+        return previousParentIds[move];
+    }
+
+    /**
+     * Returns the categories whose subtree the batch changes, each after all of its
+     * descendants in the resulting tree.
+     *
+     * @return the category IDs, deepest first
+     */
+    long[] affectedIds() {
+        return affectedIds;
+    }
+}
@@ -0,0 +1,91 @@
+package com.eventmanagement.service.impl;
+
+import com.eventmanagement.dto.PurgeJobDto;
+import com.eventmanagement.event.CategoryChangedEvent;
+import com.eventmanagement.event.CategoryPurgeScheduledEvent;
+import com.eventmanagement.exceptions.NotFoundException;
+import com.eventmanagement.model.Category;
+import com.eventmanagement.model.CategoryPurgeJob;
+import com.eventmanagement.repository.CategoryPurgeJobRepository;
+import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.CategoryRepository.StatsRow;
+import com.eventmanagement.service.CategoryPurgeService;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link CategoryPurgeService}.
+ * <p>
+ * Deleting a subtree only detaches its root and records a {@link CategoryPurgeJob}, which
+ * takes a few row locks on the root's path; from then on the subtree is gone for readers and
+ * writers. The rows are removed after commit by the {@link CategoryPurgeWorker}.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@AllArgsConstructor
+public class CategoryPurgeServiceImpl implements CategoryPurgeService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryPurgeJobRepository purgeJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    @Override
+    public PurgeJobDto purgeCategory(Long id) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
+        Long parentId = category.getParent() != null ? category.getParent().getId() : null;
+
+        // Locking the root too makes writers below it wait for this commit, then see the job
+        categoryRepository.touchPaths(List.of(id));
+        if (!categoryRepository.findPurgingIds(List.of(id)).isEmpty()) {
+            throw new NotFoundException("Category not found with id: " + id);
+        }
+
+        StatsRow stats = categoryRepository.findStatsById(id)
+                .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
+        categoryRepository.detachFromParent(id);
+        if (parentId != null) {
+            categoryRepository.removeFromAncestors(parentId, stats.getDescendantCount() + 1, stats.getLeafCount());
+            categoryRepository.refreshHeights(parentId);
+        }
+        CategoryPurgeJob job = purgeJobRepository.save(CategoryPurgeJob.builder()
+                .id(UUID.randomUUID())
+                .rootId(id)
+                .status(CategoryPurgeJob.Status.PENDING)
+                .createdAt(Instant.now())
+                .build());
+        eventPublisher.publishEvent(CategoryChangedEvent.deleted(id, parentId));
+        eventPublisher.publishEvent(new CategoryPurgeScheduledEvent(job.getId()));
+        return toDto(job);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PurgeJobDto getPurgeJob(UUID jobId) {
+        return purgeJobRepository.findById(jobId)
+                .map(CategoryPurgeServiceImpl::toDto)
+                .orElseThrow(() -> new NotFoundException("Job not found with id: " + jobId));
+    }
+
+    static PurgeJobDto toDto(CategoryPurgeJob job) {
+        return PurgeJobDto.builder()
+                .id(job.getId())
+                .categoryId(job.getRootId())
+                .status(job.getStatus())
+                .total(job.getTotal())
+                .purged(job.getPurged())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .lastError(job.getLastError())
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.eventmanagement.service.impl;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.config.ReplicaRouting;
+import com.eventmanagement.event.CategoryPurgeScheduledEvent;
+import com.eventmanagement.model.CategoryPurgeJob;
+import com.eventmanagement.repository.CategoryPurgeJobRepository;
+import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.CategoryRowHandler;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Removes the rows of asynchronously deleted subtrees in the background.
+ * <p>
+ * Writers treat a subtree being purged as deleted, so its IDs are read once, parents before
+ * children, and then deleted from the deepest end in chunks of
+ * {@code category.purge.chunk-size}. Each chunk and the job's progress commit together in a
+ * short transaction. A failed purge is resumed after {@code category.purge.retry-delay}, and
+ * unfinished ones at startup, with whatever rows are left. Jobs run one at a time on a single
+ * thread.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class CategoryPurgeWorker {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryPurgeJobRepository purgeJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryProperties properties;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "category-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @TransactionalEventListener
+    public void onPurgeScheduled(CategoryPurgeScheduledEvent event) {
+        schedule(event.getJobId(), Duration.ZERO);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        purgeJobRepository.findByStatusInOrderByCreatedAt(
+                        EnumSet.of(CategoryPurgeJob.Status.PENDING, CategoryPurgeJob.Status.RUNNING))
+                .forEach(job -> schedule(job.getId(), Duration.ZERO));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Purges the remaining rows of a job and completes it.
+     *
+     * @param jobId the job ID
+     */
+    public void purge(UUID jobId) {
+        CategoryPurgeJob job = purgeJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() == CategoryPurgeJob.Status.COMPLETED) {
+            return;
+        }
+
+        long[] ids = subtreeIds(job.getRootId());
+        long total = job.getPurged() + ids.length;
+        update(jobId, running -> {
+            running.setStatus(CategoryPurgeJob.Status.RUNNING);
+            running.setTotal(total);
+        });
+
+        int chunkSize = properties.getPurge().getChunkSize();
+        for (int to = ids.length; to > 0; to -= chunkSize) {
+            long[] chunk = Arrays.copyOfRange(ids, Math.max(0, to - chunkSize), to);
+            transactionTemplate.executeWithoutResult(status ->
+                    purgeJobRepository.addPurged(jobId, categoryRepository.deleteByIds(chunk)));
+        }
+
+        update(jobId, completed -> {
+            completed.setStatus(CategoryPurgeJob.Status.COMPLETED);
+            completed.setFinishedAt(Instant.now());
+            completed.setLastError(null);
+        });
+        log.info("Purged {} categories below category {}", total, job.getRootId());
+    }
+
+    private void schedule(UUID jobId, Duration delay) {
+        executor.schedule(() -> run(jobId), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void run(UUID jobId) {
+        try {
+            purge(jobId);
+        } catch (RuntimeException ex) {
+            Duration retryDelay = properties.getPurge().getRetryDelay();
+            log.warn("Purge {} failed, retrying in {}", jobId, retryDelay, ex);
+            try {
+                String error = String.valueOf(ex.getMessage());
+                update(jobId, failed -> failed.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error));
+            } catch (RuntimeException recordFailure) {
+                log.warn("Could not record the failure of purge {}", jobId, recordFailure);
+            }
+            schedule(jobId, retryDelay);
+        }
+    }
+
+    // Breadth-first, so every parent precedes its children. From the primary, as rows a
+    // replica has not replayed yet would be left behind
+    private long[] subtreeIds(Long rootId) {
+        IdCollector collector = new IdCollector();
+        ReplicaRouting.runOnPrimary(() -> categoryRepository.forEachSubtreeRow(rootId, false, collector));
+        return Arrays.copyOf(collector.ids, collector.count);
+    }
+
+    private void update(UUID jobId, Consumer<CategoryPurgeJob> change) {
+        transactionTemplate.executeWithoutResult(status -> purgeJobRepository.findById(jobId).ifPresent(change));
+    }
+
+    private static final class IdCollector implements CategoryRowHandler {
+
+        private long[] ids = new long[1024];
+        private int count;
+
+        @Override
+        public void handle(long id, long parentId, String label, long version) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+            }
+            ids[count++] = id;
+        }
+    }
+}
@@ -1,18 +1,52 @@
 package com.eventmanagement.service.impl;
 
+import com.eventmanagement.config.ReplicaRouting;
+import com.eventmanagement.dto.BatchMoveRequest;
+import com.eventmanagement.dto.BulkCategoryNode;
+import com.eventmanagement.dto.BulkImportResponse;
+import com.eventmanagement.dto.CategoryChildrenPage;
+import com.eventmanagement.dto.CategoryColumns;
 import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.dto.CategorySearchResult;
+import com.eventmanagement.dto.CategoryStatsDto;
 import com.eventmanagement.dto.CreateCategoryRequest;
+import com.eventmanagement.event.CategoriesMovedEvent;
+import com.eventmanagement.event.CategoryChangedEvent;
+import com.eventmanagement.exceptions.InvalidRequestException;
 import com.eventmanagement.exceptions.NotFoundException;
 import com.eventmanagement.exceptions.ServiceException;
+import com.eventmanagement.index.CategoryPathCache;
+import com.eventmanagement.index.CategoryTreeIndex;
+import com.eventmanagement.metrics.CategoryMetrics;
 import com.eventmanagement.model.Category;
 import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.store.TreeStore;
 import com.eventmanagement.service.CategoryService;
+import com.eventmanagement.repository.CategoryRepository.AncestorRow;
+import com.eventmanagement.repository.CategoryRepository.ChildRow;
+import com.eventmanagement.repository.CategoryRepository.ParentRow;
+import com.eventmanagement.repository.CategoryRepository.PathRow;
+import com.eventmanagement.repository.CategoryRepository.SearchRow;
+import com.eventmanagement.repository.CategoryRepository.StatsRow;
+import com.eventmanagement.repository.CategoryRepository.SubtreeRow;
+import com.eventmanagement.service.ReadConsistency;
+import com.eventmanagement.service.SubtreeQuery;
+import com.eventmanagement.service.SubtreeStreamFormat;
+import com.eventmanagement.service.SubtreeWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.UncheckedIOException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the {@link CategoryService} interface.
@@ -28,7 +62,18 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
+    static final int MAX_SEARCH_LIMIT = 100;
+    static final int MAX_CHILDREN_LIMIT = 1000;
+    static final int MAX_MOVE_ATTEMPTS = 3;
+
     private final CategoryRepository categoryRepository;
+    private final TreeStore treeStore;
+    private final CategoryTreeIndex treeIndex;
+    private final CategoryPathCache pathCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final CategoryMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     @Override
@@ -47,22 +92,122 @@ public class CategoryServiceImpl implements CategoryService {
             throw new ServiceException("Category with the label already exists");
         }
 
+        if (parentId != null) {
+            categoryRepository.touchPaths(List.of(parentId));
+            requireLive(List.of(parentId), "Parent not found with id: ");
+        }
+
         Category category = Category.builder()
                 .label(label)
                 .parent(parent)
                 .build();
 
-        return toDto(categoryRepository.save(category));
+        Category saved = categoryRepository.save(category);
+        treeStore.afterCreate(saved);
+        if (parentId != null) {
+            categoryRepository.addToAncestors(parentId, 1, 1, 0);
+        }
+        eventPublisher.publishEvent(CategoryChangedEvent.created(saved.getId(), label, parentId));
+        return toDto(saved);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Imports whole trees in one transaction: one query checks every label, IDs come from
+     * the pooled sequence in blocks, and rows are written with batched JDBC inserts.
+     */
+    @Transactional
     @Override
-    public CategoryDto getSubtree(Long id) {
+    public BulkImportResponse importCategories(List<BulkCategoryNode> categories, Long parentId) {
+        CategoryImportPlan plan = CategoryImportPlan.of(categories);
+
+        if (parentId != null && !categoryRepository.existsById(parentId)) {
+            throw new NotFoundException("Parent not found with id: " + parentId);
+        }
+
+        Set<String> existing = categoryRepository.findExistingLabels(Arrays.asList(plan.labels()));
+        if (!existing.isEmpty()) {
+            throw new ServiceException("Category with the label already exists: " + existing.iterator().next());
+        }
+
+        if (parentId != null) {
+            categoryRepository.touchPaths(List.of(parentId));
+            requireLive(List.of(parentId), "Parent not found with id: ");
+        }
+
+        int size = plan.size();
+        long[] ids = categoryRepository.nextIds(size);
+        long[] parentIds = new long[size];
+        List<Long> rootIds = new ArrayList<>();
+        for (int node = 0; node < size; node++) {
+            int parentIndex = plan.parentIndex(node);
+            if (parentIndex == CategoryImportPlan.TOP_LEVEL) {
+                parentIds[node] = parentId != null ? parentId : 0;
+                rootIds.add(ids[node]);
+            } else {
+                parentIds[node] = ids[parentIndex];
+            }
+        }
+
+        categoryRepository.insertAll(ids, parentIds, plan.labels());
+        if (parentId != null) {
+            categoryRepository.addToAncestors(parentId, size, plan.leafCount(), plan.height());
+        }
+        treeStore.afterImport();
+        eventPublisher.publishEvent(CategoryChangedEvent.imported(parentId, ids, parentIds, plan.labels()));
+        return BulkImportResponse.builder()
+                .created(size)
+                .rootIds(rootIds)
+                .build();
+    }
+
+    // Not transactional: index reads must not check out a connection. The fallback runs in
+    // one read-only transaction started by read
+    @Override
+    public CategoryDto getSubtree(Long id, SubtreeQuery query, ReadConsistency consistency) {
+        query.validate();
+        if (consistency != ReadConsistency.STRONG && treeIndex.isReady()) {
+            long start = System.nanoTime();
+            CategoryDto subtree = query.isFull()
+                    ? treeIndex.subtree(id)
+                    : treeIndex.subtree(id, query.depthBound(), query.afterBound(), query.limitBound());
+            if (subtree == null) {
+                throw new NotFoundException("Category not found with id: " + id);
+            }
+            metrics.recordSubtree(CategoryMetrics.SOURCE_INDEX, subtree, System.nanoTime() - start);
+            return subtree;
+        }
+
+        return read(consistency, () -> query.isFull() ? getFullSubtree(id) : getBoundedSubtree(id, query));
+    }
+
+    // Index reads fill the columns straight from the index arrays. Database reads flatten the
+    // assembled subtree, which costs little next to the query
+    @Override
+    public CategoryColumns getSubtreeColumns(Long id, SubtreeQuery query, ReadConsistency consistency) {
+        query.validate();
+        if (consistency != ReadConsistency.STRONG && treeIndex.isReady()) {
+            CategoryColumns columns = query.isFull()
+                    ? treeIndex.columns(id)
+                    : treeIndex.columns(id, query.depthBound(), query.afterBound(), query.limitBound());
+            if (columns == null) {
+                throw new NotFoundException("Category not found with id: " + id);
+            }
+            return columns;
+        }
+
+        return read(consistency, () -> query.isFull()
+                ? toColumns(getFullSubtree(id), false)
+                : toColumns(getBoundedSubtree(id, query), true));
+    }
+
+    private CategoryDto getFullSubtree(Long id) {
         // Ensure category exists
-        categoryRepository.findById(id)
+        Category root = categoryRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
+        requireLive(List.of(id), "Category not found with id: ");
 
-        List<Category> categories = categoryRepository.findSubtreeById(id);
+        List<Category> categories = treeStore.findSubtree(root);
+        long start = System.nanoTime();
         Map<Long, CategoryDto> dtoMap = new HashMap<>();
 
         // Convert all categories to DTOs
@@ -72,6 +217,9 @@ public class CategoryServiceImpl implements CategoryService {
                     .label(category.getLabel())
                     .parentId(category.getParent() != null ? category.getParent().getId() : null)
                     .children(new ArrayList<>())
+                    .descendantCount(category.getDescendantCount())
+                    .leafCount(category.getLeafCount())
+                    .height(category.getHeight())
                     .build());
         }
 
@@ -85,50 +233,447 @@ public class CategoryServiceImpl implements CategoryService {
             }
         }
 
-        return dtoMap.get(id);
+        CategoryDto subtree = dtoMap.get(id);
+        metrics.recordSubtree(CategoryMetrics.SOURCE_DATABASE, subtree, System.nanoTime() - start);
+        return subtree;
     }
 
-    @Transactional
+    // Callers read the version before the subtree: a change in between can then only leave
+    // the version older than the subtree, which costs a full response on the next request
+    // instead of a stale one being confirmed
     @Override
-    public void deleteCategory(Long id) {
-        categoryRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
+    public long getSubtreeVersion(Long id, ReadConsistency consistency) {
+        if (consistency != ReadConsistency.STRONG && treeIndex.isReady()) {
+            Long version = treeIndex.version(id);
+            if (version == null) {
+                throw new NotFoundException("Category not found with id: " + id);
+            }
+            return version;
+        }
+        return read(consistency, () -> {
+            long version = categoryRepository.findSubtreeVersionById(id)
+                    .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
+            requireLive(List.of(id), "Category not found with id: ");
+            return version;
+        });
+    }
+
+    /**
+     * Reads the aggregates maintained on the category itself, so the cost does not depend on
+     * the size of its subtree.
+     */
+    @Override
+    public CategoryStatsDto getStats(Long id, ReadConsistency consistency) {
+        if (consistency != ReadConsistency.STRONG && treeIndex.isReady()) {
+            CategoryStatsDto stats = treeIndex.stats(id);
+            if (stats == null) {
+                throw new NotFoundException("Category not found with id: " + id);
+            }
+            return stats;
+        }
+        return read(consistency, () -> {
+            StatsRow row = categoryRepository.findStatsById(id)
+                    .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
+            requireLive(List.of(id), "Category not found with id: ");
+            return CategoryStatsDto.builder()
+                    .id(row.getId())
+                    .descendantCount(row.getDescendantCount())
+                    .leafCount(row.getLeafCount())
+                    .height(row.getHeight())
+                    .build();
+        });
+    }
+
+    /**
+     * Lists one page of children for tree views expanding a node at a time; {@code id == null}
+     * lists the root categories. One more row than asked for is read to tell whether another
+     * page follows.
+     */
+    @Override
+    public CategoryChildrenPage getChildren(Long id, long after, int limit, ReadConsistency consistency) {
+        if (after < 0) {
+            throw new InvalidRequestException("after must not be negative");
+        }
+        if (limit < 1 || limit > MAX_CHILDREN_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_CHILDREN_LIMIT);
+        }
+        if (consistency != ReadConsistency.STRONG && treeIndex.isReady()) {
+            CategoryChildrenPage page = treeIndex.children(id, after, limit);
+            if (page == null) {
+                throw new NotFoundException("Category not found with id: " + id);
+            }
+            return page;
+        }
+        return read(consistency, () -> {
+            List<ChildRow> rows;
+            if (id == null) {
+                rows = categoryRepository.findRootsPage(after, limit + 1);
+            } else {
+                if (!categoryRepository.existsById(id)) {
+                    throw new NotFoundException("Category not found with id: " + id);
+                }
+                requireLive(List.of(id), "Category not found with id: ");
+                rows = categoryRepository.findChildrenPage(id, after, limit + 1);
+            }
+            List<CategoryChildrenPage.Child> children = rows.stream()
+                    .limit(limit)
+                    .map(row -> CategoryChildrenPage.Child.builder()
+                            .id(row.getId())
+                            .label(row.getLabel())
+                            .parentId(row.getParentId())
+                            .hasChildren(row.getHasChildren())
+                            .build())
+                    .toList();
+            return CategoryChildrenPage.builder()
+                    .children(children)
+                    .nextAfter(rows.size() > limit ? children.get(limit - 1).getId() : null)
+                    .build();
+        });
+    }
+
+    /**
+     * Checks that the category exists, then defers the read: rows are pulled through a JDBC
+     * cursor and written as they arrive, so neither entities nor DTOs are accumulated.
+     */
+    @Override
+    public SubtreeWriter streamSubtree(Long id, SubtreeStreamFormat format) {
+        if (!categoryRepository.existsById(id)) {
+            throw new NotFoundException("Category not found with id: " + id);
+        }
+        requireLive(List.of(id), "Category not found with id: ");
+
+        // The rows are read on another thread, which has to follow this one to the primary
+        boolean onPrimary = ReplicaRouting.isPrimaryRequired();
+        return out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                SubtreeJsonWriter writer = new SubtreeJsonWriter(generator, format);
+                Runnable scan = () -> categoryRepository.forEachSubtreeRowWithAggregates(id,
+                        format == SubtreeStreamFormat.NESTED, writer);
+                if (onPrimary) {
+                    ReplicaRouting.runOnPrimary(scan);
+                } else {
+                    scan.run();
+                }
+                writer.finish();
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+    }
 
-        List<Long> idsToDelete = categoryRepository.findSubtreeById(id)
-                .stream()
-                .map(Category::getId)
+    // Not transactional, like getSubtree: index reads must not check out a connection
+    @Override
+    public List<CategorySearchResult> searchCategories(String query, int limit, ReadConsistency consistency) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        if (consistency != ReadConsistency.STRONG && treeIndex.isReady()) {
+            return treeIndex.search(query, limit);
+        }
+        return read(consistency, () -> searchDatabase(query, limit));
+    }
+
+    private List<CategorySearchResult> searchDatabase(String query, int limit) {
+        String prefix = query.strip()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        List<SearchRow> rows = categoryRepository.searchByLabel(prefix, limit);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> purging = new HashSet<>(categoryRepository.findPurgingIds(rows.stream().map(SearchRow::getId).toList()));
+        if (!purging.isEmpty()) {
+            rows = rows.stream().filter(row -> !purging.contains(row.getId())).toList();
+        }
+
+        Map<Long, List<CategorySearchResult.Ancestor>> ancestors = new HashMap<>();
+        for (AncestorRow row : categoryRepository.findAncestorRows(rows.stream().map(SearchRow::getId).toList())) {
+            ancestors.computeIfAbsent(row.getDescendantId(), key -> new ArrayList<>())
+                    .add(CategorySearchResult.Ancestor.builder()
+                            .id(row.getId())
+                            .label(row.getLabel())
+                            .build());
+        }
+        return rows.stream()
+                .map(row -> CategorySearchResult.builder()
+                        .id(row.getId())
+                        .label(row.getLabel())
+                        .parentId(row.getParentId())
+                        .ancestors(ancestors.getOrDefault(row.getId(), List.of()))
+                        .build())
                 .toList();
+    }
 
-        categoryRepository.deleteAllById(idsToDelete);
+    /**
+     * Serves root paths from the path cache; a miss reads the path with one recursive query
+     * and caches it, together with the paths of the ancestors on it.
+     */
+    @Override
+    public List<CategorySearchResult.Ancestor> getAncestors(Long id, ReadConsistency consistency) {
+        if (consistency != ReadConsistency.STRONG) {
+            List<CategorySearchResult.Ancestor> cached = pathCache.ancestors(id);
+            metrics.recordAncestorLookup(cached != null);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Always from the primary: a path read from a lagging replica could be cached after
+        // the invalidation of a move it does not show yet
+        long generation = pathCache.generation();
+        List<PathRow> path = ReplicaRouting.onPrimary(() -> categoryRepository.findRootPath(id));
+        if (path.isEmpty()) {
+            throw new NotFoundException("Category not found with id: " + id);
+        }
+        requireLive(List.of(id), "Category not found with id: ");
+        pathCache.put(path, generation);
+        return path.subList(0, path.size() - 1).stream()
+                .map(row -> CategorySearchResult.Ancestor.builder()
+                        .id(row.getId())
+                        .label(row.getLabel())
+                        .build())
+                .toList();
     }
 
+    /**
+     * Deletes the category and its descendants with one set-based statement; the subtree is
+     * never loaded as entities.
+     */
     @Transactional
     @Override
+    public int deleteCategory(Long id) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
+        Long parentId = category.getParent() != null ? category.getParent().getId() : null;
+
+        if (parentId != null) {
+            categoryRepository.touchPaths(List.of(parentId));
+        }
+        requireLive(List.of(id), "Category not found with id: ");
+        // Read under the lock of the path, which writers below the category take as well
+        StatsRow stats = categoryRepository.findStatsById(id)
+                .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
+        int deleted = categoryRepository.deleteSubtreeById(id);
+        if (parentId != null) {
+            removeFromAncestors(parentId, stats);
+        }
+        eventPublisher.publishEvent(CategoryChangedEvent.deleted(id, parentId));
+        return deleted;
+    }
+
+    /**
+     * Moves a subtree under the locks of both paths to the root. The cycle check runs once
+     * they are held, so a concurrent move that would form a cycle with this one either
+     * waits for it and then fails the check, or has committed and makes this one fail it.
+     * Moves in different trees share no locks and run in parallel.
+     */
+    @Override
     public void moveSubtree(Long sourceId, Long newParentId) {
         if (Objects.equals(sourceId, newParentId)) {
             throw new ServiceException("Cannot move category to itself");
         }
+        inMoveTransaction(() -> {
+            applyMove(sourceId, newParentId);
+            return null;
+        });
+    }
+
+    private void applyMove(Long sourceId, Long newParentId) {
+        // Both paths are locked before anything is read: the old one through the source itself
+        List<Long> pathIds = newParentId != null ? List.of(sourceId, newParentId) : List.of(sourceId);
+        categoryRepository.lockPaths(pathIds);
 
         Category source = categoryRepository.findById(sourceId)
                 .orElseThrow(() -> new NotFoundException("Source category not found with id: " + sourceId));
 
+        Long previousParentId = source.getParent() != null ? source.getParent().getId() : null;
+
         Category newParent = null;
         if (newParentId != null) {
             newParent = categoryRepository.findById(newParentId)
                     .orElseThrow(() -> new NotFoundException("New parent category not found with id: " + newParentId));
-
-            // Prevent moving into its own subtree
-            Set<Long> subtreeIds = categoryRepository.findSubtreeById(sourceId)
-                    .stream()
-                    .map(Category::getId)
-                    .collect(Collectors.toSet());
-            if (subtreeIds.contains(newParent.getId())) {
-                throw new ServiceException("New parent cannot be a descendant of the source category");
-            }
         }
 
+        // Prevent moving into its own subtree
+        if (newParent != null && treeStore.isDescendant(source, newParent)) {
+            throw new ServiceException("New parent cannot be a descendant of the source category");
+        }
+        categoryRepository.touchPaths(pathIds);
+        requireLive(pathIds, "Category not found with id: ");
         source.setParent(newParent);
         categoryRepository.save(source);
+        treeStore.afterMove(source, newParent);
+        if (!Objects.equals(previousParentId, newParentId)) {
+            StatsRow stats = categoryRepository.findStatsById(sourceId)
+                    .orElseThrow(() -> new NotFoundException("Source category not found with id: " + sourceId));
+            if (previousParentId != null) {
+                removeFromAncestors(previousParentId, stats);
+            }
+            if (newParentId != null) {
+                categoryRepository.addToAncestors(newParentId, stats.getDescendantCount() + 1,
+                        stats.getLeafCount(), stats.getHeight());
+            }
+        }
+        eventPublisher.publishEvent(CategoryChangedEvent.moved(sourceId, previousParentId, newParentId));
+    }
+
+    /**
+     * Applies many moves in one transaction. The current ancestors of every moved category
+     * and new parent are read in one query and the batch is checked for cycles against the
+     * tree it produces; the parent links are then written with batched updates. Like single
+     * moves, the batch is checked once the paths of all referenced categories are locked.
+     * <p>
+     * Moves of a batch may nest, so the subtree aggregates are not adjusted move by move but
+     * recomputed from the children for every category the batch affects, deepest first.
+     */
+    @Override
+    public int moveSubtrees(List<BatchMoveRequest.Move> moves) {
+        CategoryMovePlan plan = CategoryMovePlan.of(moves);
+        return inMoveTransaction(() -> applyMoves(plan));
+    }
+
+    private int applyMoves(CategoryMovePlan plan) {
+        Set<Long> referenced = plan.referencedIds();
+        categoryRepository.lockPaths(referenced);
+
+        Map<Long, Long> currentParents = new HashMap<>();
+        for (ParentRow row : categoryRepository.findParentRows(referenced)) {
+            currentParents.put(row.getId(), row.getParentId() != null ? row.getParentId() : 0L);
+        }
+        plan.resolve(currentParents);
+
+        // Old paths through the moved categories, new ones through their new parents
+        categoryRepository.touchPaths(referenced);
+        requireLive(referenced, "Category not found with id: ");
+        categoryRepository.updateParents(plan.sourceIds(), plan.parentIds());
+        categoryRepository.refreshAggregates(plan.affectedIds());
+        treeStore.afterMoves(plan.sourceIds(), plan.parentIds());
+        List<CategoryChangedEvent> movedEvents = new ArrayList<>(plan.size());
+        for (int move = 0; move < plan.size(); move++) {
+            long previousParentId = plan.previousParentId(move);
+            long parentId = plan.parentIds()[move];
+            movedEvents.add(CategoryChangedEvent.moved(plan.sourceIds()[move],
+                    previousParentId != 0 ? previousParentId : null, parentId != 0 ? parentId : null));
+        }
+        // One event for the batch, which touchPaths has versioned as one change
+        eventPublisher.publishEvent(new CategoriesMovedEvent(movedEvents));
+        return plan.size();
+    }
+
+    // Moves take their locks in ID order and do not deadlock among themselves, but other
+    // writers touching the same rows may. The database then aborts one of them, which starts
+    // over from the tree as the other left it. Inside a caller's transaction there is
+    // nothing to start over
+    private <T> T inMoveTransaction(Supplier<T> move) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> move.get());
+            } catch (PessimisticLockingFailureException ex) {
+                if (attempt == MAX_MOVE_ATTEMPTS || TransactionSynchronizationManager.isActualTransactionActive()) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private void removeFromAncestors(Long parentId, StatsRow removed) {
+        categoryRepository.removeFromAncestors(parentId, removed.getDescendantCount() + 1, removed.getLeafCount());
+        categoryRepository.refreshHeights(parentId);
+    }
+
+    // Categories below a purge root count as deleted although their rows remain. Writers call
+    // this after touchPaths, whose row locks wait for a purge being committed on their path
+    private void requireLive(Collection<Long> ids, String message) {
+        List<Long> purging = categoryRepository.findPurgingIds(ids);
+        if (!purging.isEmpty()) {
+            throw new NotFoundException(message + purging.get(0));
+        }
+    }
+
+    // STRONG reads bypass the read replica as well as the index. The queries of a read share
+    // one snapshot, so a category deleted after its existence check is still read whole
+    // instead of coming back empty
+    private <T> T read(ReadConsistency consistency, Supplier<T> query) {
+        TransactionTemplate snapshot = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        snapshot.setReadOnly(true);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        Supplier<T> read = () -> snapshot.execute(status -> query.get());
+        return consistency == ReadConsistency.STRONG ? ReplicaRouting.onPrimary(read) : read.get();
+    }
+
+    private CategoryDto getBoundedSubtree(Long id, SubtreeQuery query) {
+        List<SubtreeRow> rows = categoryRepository.findSubtreeById(id,
+                query.depthBound(), query.afterBound(), query.limitBound());
+        if (rows.isEmpty()) {
+            throw new NotFoundException("Category not found with id: " + id);
+        }
+        requireLive(List.of(id), "Category not found with id: ");
+
+        long start = System.nanoTime();
+        Map<Long, CategoryDto> dtoMap = new HashMap<>();
+        for (SubtreeRow row : rows) {
+            dtoMap.put(row.getId(), CategoryDto.builder()
+                    .id(row.getId())
+                    .label(row.getLabel())
+                    .parentId(row.getParentId())
+                    .children(new ArrayList<>())
+                    .childCount(row.getChildCount() != null ? row.getChildCount().intValue() : null)
+                    .descendantCount(row.getDescendantCount())
+                    .leafCount(row.getLeafCount())
+                    .height(row.getHeight())
+                    .build());
+        }
+        for (SubtreeRow row : rows) {
+            CategoryDto parentDto = row.getParentId() != null ? dtoMap.get(row.getParentId()) : null;
+            if (parentDto != null && !row.getId().equals(id)) {
+                parentDto.getChildren().add(dtoMap.get(row.getId()));
+            }
+        }
+
+        CategoryDto root = dtoMap.get(id);
+        metrics.recordSubtree(CategoryMetrics.SOURCE_DATABASE, root, System.nanoTime() - start);
+        if (query.isPaged()) {
+            root.setChildCount((int) categoryRepository.countByParentId(id));
+        }
+        return root;
+    }
+
+    // Breadth-first, as the index lists them; a category without a childCount has all of its
+    // children included
+    private static CategoryColumns toColumns(CategoryDto root, boolean withChildCounts) {
+        List<CategoryDto> order = new ArrayList<>();
+        order.add(root);
+        for (int next = 0; next < order.size(); next++) {
+            order.addAll(order.get(next).getChildren());
+        }
+
+        int count = order.size();
+        long[] ids = new long[count];
+        long[] parentIds = new long[count];
+        String[] labels = new String[count];
+        int[] childCounts = withChildCounts ? new int[count] : null;
+        for (int position = 0; position < count; position++) {
+            CategoryDto category = order.get(position);
+            ids[position] = category.getId();
+            parentIds[position] = category.getParentId() != null ? category.getParentId() : 0;
+            labels[position] = category.getLabel();
+            if (withChildCounts) {
+                childCounts[position] = category.getChildCount() != null
+                        ? category.getChildCount()
+                        : category.getChildren().size();
+            }
+        }
+        return CategoryColumns.builder()
+                .ids(ids)
+                .parentIds(parentIds)
+                .labels(labels)
+                .childCounts(childCounts)
+                .build();
     }
 
     private CategoryDto toDto(Category category) {
@@ -139,6 +684,9 @@ public class CategoryServiceImpl implements CategoryService {
                 .children(category.getChildren() != null
                         ? category.getChildren().stream().map(this::toDto).toList()
                         : Collections.emptyList())
+                .descendantCount(category.getDescendantCount())
+                .leafCount(category.getLeafCount())
+                .height(category.getHeight())
                 .build();
     }
 }
@@ -0,0 +1,70 @@
+package com.eventmanagement.service.impl;
+
+import com.eventmanagement.dto.CategoryChange;
+import com.eventmanagement.service.ChangeStreamFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+
+/**
+ * Writes changes of the feed to a {@link JsonGenerator} in the requested format.
+ * <p>
+ * In {@link ChangeStreamFormat#SSE} format every change is an event named after its type,
+ * with its resume token, the epoch and sequence number, as event ID and the change as JSON data; a heartbeat is a
+ * comment line. In {@link ChangeStreamFormat#NDJSON} format every change is a line and a
+ * heartbeat is an empty line.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+final class ChangeStreamWriter {
+
+    private final JsonGenerator generator;
+    private final ChangeStreamFormat format;
+
+    ChangeStreamWriter(JsonGenerator generator, ChangeStreamFormat format) {
+        this.generator = generator;
+        this.format = format;
+        generator.setRootValueSeparator(null);
+    }
+
+    void write(CategoryChange change) throws IOException {
+        if (format == ChangeStreamFormat.SSE) {
+            generator.writeRaw("id: " + change.getEpoch() + "-" + change.getSequence() + "\nevent: " + change.getType() + "\ndata: ");
+        }
+        generator.writeStartObject();
+        generator.writeStringField("epoch", change.getEpoch());
+        generator.writeNumberField("sequence", change.getSequence());
+        generator.writeStringField("type", change.getType().name());
+        writeId("categoryId", change.getCategoryId());
+        if (change.getLabel() != null) {
+            generator.writeStringField("label", change.getLabel());
+        }
+        writeId("parentId", change.getParentId());
+        writeId("previousParentId", change.getPreviousParentId());
+        generator.writeStringField("committedAt", change.getCommittedAt().toString());
+        generator.writeEndObject();
+        generator.writeRaw(format == ChangeStreamFormat.SSE ? "\n\n" : "\n");
+    }
+
+    /**
+     * Writes a line that clients ignore, so idle connections are kept open and dead ones found.
+     *
+     * @throws IOException if writing fails
+     */
+    void heartbeat() throws IOException {
+        generator.writeRaw(format == ChangeStreamFormat.SSE ? ":\n\n" : "\n");
+    }
+
+    void flush() throws IOException {
+        generator.flush();
+    }
+
+    private void writeId(String field, Long id) throws IOException {
+        if (id == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, id);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.eventmanagement.service.impl;
+
+import com.eventmanagement.repository.CategorySubtreeRowHandler;
+import com.eventmanagement.service.SubtreeStreamFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Writes category rows straight to a {@link JsonGenerator} as they arrive from a cursor.
+ * <p>
+ * In {@link SubtreeStreamFormat#NESTED} format rows must arrive in pre-order; an explicit
+ * stack of open categories is closed back to each row's parent before the row is opened,
+ * so only the current root-to-node path is held in memory. In
+ * {@link SubtreeStreamFormat#FLAT} format every row is written as its own line.
+ * <p>
+ * Fields are written in the order of {@code CategoryDto}, so a nested stream matches the
+ * buffered subtree; the aggregates of an open category follow its children when it is closed.
+ *
+ * @author Chibuike Okeke
+ * @version 1.0
+ * @since 1.0
+ */
+final class SubtreeJsonWriter implements CategorySubtreeRowHandler {
+
+    private final JsonGenerator generator;
+    private final SubtreeStreamFormat format;
+
+    private long[] open = new long[64];
+    private long[] openDescendantCounts = new long[64];
+    private long[] openLeafCounts = new long[64];
+    private int[] openHeights = new int[64];
+    private int depth;
+
+    SubtreeJsonWriter(JsonGenerator generator, SubtreeStreamFormat format) {
+        this.generator = generator;
+        this.format = format;
+        // Lines are separated by the raw newline only, not the default root value separator
+        generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void handle(long id, long parentId, String label, long descendantCount, long leafCount, int height) {
+        try {
+            if (format == SubtreeStreamFormat.FLAT) {
+                writeFields(id, parentId, label);
+                writeAggregates(descendantCount, leafCount, height);
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                return;
+            }
+            while (depth > 0 && open[depth - 1] != parentId) {
+                close();
+            }
+            writeFields(id, parentId, label);
+            generator.writeArrayFieldStart("children");
+            if (depth == open.length) {
+                open = Arrays.copyOf(open, depth * 2);
+                openDescendantCounts = Arrays.copyOf(openDescendantCounts, depth * 2);
+                openLeafCounts = Arrays.copyOf(openLeafCounts, depth * 2);
+                openHeights = Arrays.copyOf(openHeights, depth * 2);
+            }
+            open[depth] = id;
+            openDescendantCounts[depth] = descendantCount;
+            openLeafCounts[depth] = leafCount;
+            openHeights[depth] = height;
+            depth++;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Closes every category still open and flushes the generator.
+     *
+     * @throws IOException if writing fails
+     */
+    void finish() throws IOException {
+        while (depth > 0) {
+            close();
+        }
+        generator.flush();
+    }
+
+    private void writeFields(long id, long parentId, String label) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", id);
+        generator.writeStringField("label", label);
+        if (parentId == 0) {
+            generator.writeNullField("parentId");
+        } else {
+            generator.writeNumberField("parentId", parentId);
+        }
+    }
+
+    private void writeAggregates(long descendantCount, long leafCount, int height) throws IOException {
+        generator.writeNumberField("descendantCount", descendantCount);
+        generator.writeNumberField("leafCount", leafCount);
+        generator.writeNumberField("height", height);
+    }
+
+    private void close() throws IOException {
+        depth--;
+        generator.writeEndArray();
+        writeAggregates(openDescendantCounts[depth], openLeafCounts[depth], openHeights[depth]);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,64 @@
+package com.eventmanagement.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    @Test
+    @DisplayName("Permits - Taken per connection and returned once on close")
+    void testPermits() throws Exception {
+        // Arrange
+        DataSource target = mock(DataSource.class);
+        Connection first = mock(Connection.class);
+        Connection second = mock(Connection.class);
+        when(target.getConnection()).thenReturn(first, second, first);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+
+        // Act
+        Connection a = dataSource.getConnection();
+        Connection b = dataSource.getConnection();
+
+        // Assert
+        assertEquals(2, dataSource.getActive());
+        SQLTransientConnectionException thrown = assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals("08001", thrown.getSQLState());
+
+        a.close();
+        a.close();
+        assertEquals(1, dataSource.getActive());
+        verify(first, times(2)).close();
+
+        dataSource.getConnection();
+        assertEquals(2, dataSource.getActive());
+        b.close();
+        assertEquals(1, dataSource.getActive());
+    }
+
+    @Test
+    @DisplayName("Permits - Returned when the pool fails to hand out a connection")
+    void testFailedConnection() throws Exception {
+        // Arrange
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("pool timeout"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+        // Act and Assert
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getActive());
+        assertThrows(SQLException.class, dataSource::getConnection);
+        verify(target, times(2)).getConnection();
+    }
+}
@@ -0,0 +1,170 @@
+package com.eventmanagement.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReplicaRoutingTest {
+
+    private DataSource primary;
+    private DataSource replicaPool;
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private ResultSet lag;
+    private ReplicaDatabase replica;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        primary = mock(DataSource.class);
+        replicaPool = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaPool.getConnection()).thenReturn(replicaConnection);
+        Statement statement = mock(Statement.class);
+        lag = mock(ResultSet.class);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(lag);
+        replica = new ReplicaDatabase(replicaPool, Duration.ofSeconds(1));
+        routing = new ReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Routing - Replica while it lags less than the maximum")
+    void testRoutesByLag() throws Exception {
+        // Arrange
+        when(lag.getLong(1)).thenReturn(1_500L, 2_500L);
+
+        // Act and Assert: nothing measured yet
+        assertSame(primaryConnection, routing.getConnection());
+
+        replica.checkLag();
+        assertEquals(1_500, replica.getLagMillis());
+        assertSame(replicaConnection, routing.getConnection());
+
+        replica.checkLag();
+        assertSame(primaryConnection, routing.getConnection());
+        assertEquals(1, replica.getReplicaReads());
+        assertEquals(2, replica.getPrimaryReads());
+    }
+
+    @Test
+    @DisplayName("Routing - Pinned threads use the primary, also in nested reads")
+    void testPinnedToPrimary() throws Exception {
+        // Arrange
+        when(lag.getLong(1)).thenReturn(0L);
+        replica.checkLag();
+
+        // Act
+        Connection pinned = ReplicaRouting.onPrimary(() -> {
+            ReplicaRouting.runOnPrimary(() -> { });
+            try {
+                return routing.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        // Assert
+        assertSame(primaryConnection, pinned);
+        assertFalse(ReplicaRouting.isPrimaryRequired());
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    @DisplayName("Routing - A replica refusing connections is skipped until it measures again")
+    void testFallsBackToPrimary() throws Exception {
+        // Arrange
+        when(lag.getLong(1)).thenReturn(0L);
+        replica.checkLag();
+        DataSource failing = mock(DataSource.class);
+        when(failing.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaDatabase down = new ReplicaDatabase(failing, Duration.ofSeconds(1));
+        ReplicaRoutingDataSource failover = new ReplicaRoutingDataSource(primary, down, Duration.ofSeconds(2));
+        down.checkLag();
+
+        // Act and Assert: a failed measurement leaves the lag unknown
+        assertEquals(ReplicaDatabase.UNKNOWN_LAG, down.getLagMillis());
+        assertSame(primaryConnection, failover.getConnection());
+        verify(failing, times(1)).getConnection();
+
+        // A refused connection falls back and marks the replica unavailable
+        ReplicaRoutingDataSource refused = new ReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(2));
+        when(replicaPool.getConnection()).thenThrow(new SQLException("Connection refused"));
+        assertSame(primaryConnection, refused.getConnection());
+        assertSame(primaryConnection, refused.getConnection());
+        verify(replicaPool, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Read your writes - A client reads from the primary right after writing")
+    void testReadYourWrites() {
+        // Arrange
+        ReplicaRoutingInterceptor interceptor = new ReplicaRoutingInterceptor(Duration.ofMinutes(1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletRequest write = request("POST", "client-a");
+        MockHttpServletRequest failedWrite = request("DELETE", "client-b");
+        MockHttpServletResponse conflict = new MockHttpServletResponse();
+        conflict.setStatus(409);
+
+        // Act
+        interceptor.preHandle(write, response, null);
+        interceptor.afterCompletion(write, response, null, null);
+        interceptor.preHandle(failedWrite, conflict, null);
+        interceptor.afterCompletion(failedWrite, conflict, null, null);
+
+        // Assert
+        interceptor.preHandle(request("GET", "client-a"), response, null);
+        assertTrue(ReplicaRouting.isPrimaryRequired());
+        interceptor.afterCompletion(request("GET", "client-a"), response, null, null);
+        assertFalse(ReplicaRouting.isPrimaryRequired());
+
+        interceptor.preHandle(request("GET", "client-b"), response, null);
+        assertFalse(ReplicaRouting.isPrimaryRequired());
+        interceptor.preHandle(request("GET", null), response, null);
+        assertFalse(ReplicaRouting.isPrimaryRequired());
+    }
+
+    @Test
+    @DisplayName("Read your writes - The pin ends with the window")
+    void testReadYourWritesExpires() throws Exception {
+        // Arrange
+        ReplicaRoutingInterceptor interceptor = new ReplicaRoutingInterceptor(Duration.ofMillis(20));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.afterCompletion(request("PUT", "client-a"), response, null, null);
+
+        // Act
+        Thread.sleep(40);
+        interceptor.preHandle(request("GET", "client-a"), response, null);
+
+        // Assert
+        assertFalse(ReplicaRouting.isPrimaryRequired());
+    }
+
+    private static MockHttpServletRequest request(String method, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/categories/1");
+        if (clientId != null) {
+            request.addHeader(ReplicaRoutingInterceptor.CLIENT_ID_HEADER, clientId);
+        }
+        return request;
+    }
+}
@@ -1,35 +1,77 @@
 package com.eventmanagement.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.eventmanagement.dto.BatchMoveRequest;
+import com.eventmanagement.dto.BulkCategoryNode;
+import com.eventmanagement.dto.BulkImportRequest;
+import com.eventmanagement.dto.BulkImportResponse;
+import com.eventmanagement.dto.CategoryChildrenPage;
+import com.eventmanagement.dto.CategoryColumns;
 import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.dto.CategorySearchResult;
+import com.eventmanagement.dto.CategoryStatsDto;
 import com.eventmanagement.dto.CreateCategoryRequest;
 import com.eventmanagement.dto.MoveRequest;
+import com.eventmanagement.dto.PurgeJobDto;
+import com.eventmanagement.dto.SnapshotDto;
+import com.eventmanagement.exceptions.InvalidRequestException;
+import com.eventmanagement.exceptions.NotFoundException;
+import com.eventmanagement.exceptions.ServiceException;
+import com.eventmanagement.index.CategoryResponseCache;
 import com.eventmanagement.model.Category;
+import com.eventmanagement.model.CategoryPurgeJob;
+import com.eventmanagement.service.CategoryChangeService;
+import com.eventmanagement.service.CategoryPurgeService;
 import com.eventmanagement.service.CategoryService;
+import com.eventmanagement.service.CategorySnapshotService;
+import com.eventmanagement.service.ChangeStreamFormat;
+import com.eventmanagement.service.ReadConsistency;
+import com.eventmanagement.service.SubtreeFormat;
+import com.eventmanagement.service.SubtreeQuery;
+import com.eventmanagement.service.SubtreeStreamFormat;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class CategoryControllerTest {
@@ -39,12 +81,24 @@ class CategoryControllerTest {
     @MockitoBean
     private CategoryService categoryService;
 
+    @MockitoBean
+    private CategoryPurgeService purgeService;
+
+    @MockitoBean
+    private CategoryChangeService changeService;
+
+    @MockitoBean
+    private CategorySnapshotService snapshotService;
+
     @Autowired
     protected ObjectMapper objectMapper;
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CategoryResponseCache responseCache;
+
     private final CreateCategoryRequest.CreateCategoryRequestBuilder createCategoryRequestBuilder = CreateCategoryRequest.builder();
     private final CategoryDto.CategoryDtoBuilder categoryDtoBuilder = CategoryDto.builder();
     private final Category.CategoryBuilder categoryBuilder = Category.builder();
@@ -63,6 +117,8 @@ class CategoryControllerTest {
                 .label("Category 1")
                 .parentId(null)
                 .children(new ArrayList<>());
+
+        responseCache.clear();
     }
 
     @Test
@@ -81,6 +137,27 @@ class CategoryControllerTest {
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    @DisplayName("POST " + BASE_URL + "/bulk - Import Categories")
+    void testImportCategories() throws Exception
+    {
+        // Arrange
+        BulkImportRequest request = BulkImportRequest.builder()
+                .categories(List.of(BulkCategoryNode.builder()
+                        .label("Category 1")
+                        .children(List.of(BulkCategoryNode.builder().label("Category 2").build()))
+                        .build()))
+                .build();
+
+        when(categoryService.importCategories(anyList(), any()))
+                .thenReturn(BulkImportResponse.builder().created(2).rootIds(List.of(1L)).build());
+
+        // Act && Assert
+        performPost(BASE_URL + "/bulk", request)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2));
+    }
+
     @Test
     @DisplayName("GET " + BASE_URL + " - Get Category Subtree")
     void testGetSubtree() throws Exception
@@ -90,12 +167,338 @@ class CategoryControllerTest {
                 .parentId(1L)
                 .build();
 
-        when(categoryService.getSubtree(anyLong()))
+        when(categoryService.getSubtree(anyLong(), any(SubtreeQuery.class), any(ReadConsistency.class)))
                 .thenReturn(categoryDto);
+        when(categoryService.getSubtreeVersion(1L, ReadConsistency.EVENTUAL)).thenReturn(4L);
+
+        // Act && Assert
+        performGet(BASE_URL + "/1/subtree")
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + " - Unchanged Category Subtree is not rebuilt")
+    void testGetSubtreeNotModified() throws Exception
+    {
+        // Arrange
+        when(categoryService.getSubtreeVersion(1L, ReadConsistency.EVENTUAL)).thenReturn(4L);
+
+        // Act && Assert
+        mockMvc.perform(get(BASE_URL + "/1/subtree").header("If-None-Match", "\"3\", \"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(content().string(""));
+        verify(categoryService, never()).getSubtree(anyLong(), any(SubtreeQuery.class), any(ReadConsistency.class));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + " - Category Subtree is written once per version and encoding")
+    void testGetSubtreeCached() throws Exception
+    {
+        // Arrange
+        CategoryDto categoryDto = categoryDtoBuilder.id(1L).build();
+
+        when(categoryService.getSubtree(anyLong(), any(SubtreeQuery.class), any(ReadConsistency.class)))
+                .thenReturn(categoryDto);
+        when(categoryService.getSubtreeVersion(1L, ReadConsistency.EVENTUAL)).thenReturn(4L);
+
+        // Act
+        performGet(BASE_URL + "/1/subtree")
+                .andExpect(status().isOk());
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/1/subtree").header("Accept-Encoding", "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"4-gzip\""))
+                .andReturn();
+        mockMvc.perform(get(BASE_URL + "/1/subtree").header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(result.getResponse().getContentAsByteArray()));
+        performGet(BASE_URL + "/1/subtree")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.label").value("Category 1"));
+
+        // Assert
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertEquals("Category 1", objectMapper.readTree(body).get("label").asText());
+        }
+        verify(categoryService, times(2)).getSubtree(anyLong(), any(SubtreeQuery.class), any(ReadConsistency.class));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + " - Strongly consistent Category Subtree is not served from the cache")
+    void testGetSubtreeStrongBypassesCache() throws Exception
+    {
+        // Arrange
+        when(categoryService.getSubtree(eq(1L), any(SubtreeQuery.class), eq(ReadConsistency.EVENTUAL)))
+                .thenReturn(categoryDtoBuilder.id(1L).build());
+        when(categoryService.getSubtree(eq(1L), any(SubtreeQuery.class), eq(ReadConsistency.STRONG)))
+                .thenReturn(categoryDtoBuilder.id(1L).label("Category 1 (primary)").build());
+        when(categoryService.getSubtreeVersion(eq(1L), any(ReadConsistency.class))).thenReturn(4L);
 
         // Act && Assert
         performGet(BASE_URL + "/1/subtree")
                 .andExpect(status().isOk());
+        performGet(BASE_URL + "/1/subtree?consistency=STRONG")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.label").value("Category 1 (primary)"));
+        performGet(BASE_URL + "/1/subtree?consistency=STRONG")
+                .andExpect(status().isOk());
+        verify(categoryService, times(2)).getSubtree(eq(1L), any(SubtreeQuery.class), eq(ReadConsistency.STRONG));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + " - Get Category Subtree with depth limit and paging")
+    void testGetSubtreeBounded() throws Exception
+    {
+        // Arrange
+        CategoryDto categoryDto = categoryDtoBuilder
+                .childCount(12)
+                .build();
+
+        when(categoryService.getSubtree(eq(1L),
+                argThat(query -> query.getMaxDepth() == 2 && query.getAfter() == 5L && query.getLimit() == 10),
+                eq(ReadConsistency.EVENTUAL)))
+                .thenReturn(categoryDto);
+
+        // Act && Assert
+        performGet(BASE_URL + "/1/subtree?maxDepth=2&after=5&limit=10")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.childCount").value(12));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + " - Get Category Subtree as columnar JSON")
+    void testGetSubtreeColumns() throws Exception
+    {
+        // Arrange
+        when(categoryService.getSubtreeColumns(anyLong(), any(SubtreeQuery.class), any(ReadConsistency.class)))
+                .thenReturn(columns());
+        when(categoryService.getSubtreeVersion(1L, ReadConsistency.EVENTUAL)).thenReturn(4L);
+
+        // Act && Assert
+        mockMvc.perform(get(BASE_URL + "/1/subtree").accept(SubtreeFormat.COLUMNS_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", SubtreeFormat.COLUMNS_JSON_VALUE))
+                .andExpect(header().string("ETag", "\"4-columns\""))
+                .andExpect(jsonPath("$.ids[1]").value(2))
+                .andExpect(jsonPath("$.parentIds[1]").value(1))
+                .andExpect(jsonPath("$.labels[1]").value("Child"))
+                .andExpect(jsonPath("$.childCounts").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + " - Get Category Subtree as length-delimited protobuf")
+    void testGetSubtreeProtobuf() throws Exception
+    {
+        // Arrange
+        when(categoryService.getSubtreeColumns(anyLong(), any(SubtreeQuery.class), any(ReadConsistency.class)))
+                .thenReturn(columns());
+        when(categoryService.getSubtreeVersion(1L, ReadConsistency.EVENTUAL)).thenReturn(4L);
+
+        // Act && Assert
+        mockMvc.perform(get(BASE_URL + "/1/subtree").accept(SubtreeFormat.PROTOBUF_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4-protobuf\""))
+                .andExpect(content().bytes(new byte[]{
+                        8, 8, 1, 26, 4, 'R', 'o', 'o', 't',
+                        11, 8, 2, 16, 1, 26, 5, 'C', 'h', 'i', 'l', 'd'}));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + " - Stream Category Subtree as NDJSON")
+    void testStreamSubtree() throws Exception
+    {
+        // Arrange
+        when(categoryService.streamSubtree(1L, SubtreeStreamFormat.FLAT))
+                .thenReturn(out -> out.write("{\"id\":1}\n".getBytes()));
+
+        // Act
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/1/subtree").param("stream", "FLAT"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + "/changes - Stream Changes as Server-Sent Events")
+    void testStreamChanges() throws Exception
+    {
+        // Arrange
+        when(changeService.streamChanges("a1-7", ChangeStreamFormat.SSE))
+                .thenReturn(out -> out.write("id: a1-8\nevent: CREATED\ndata: {}\n\n".getBytes()));
+
+        // Act: the Last-Event-ID of a reconnecting EventSource wins over the original query
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/changes").param("after", "a1-3").header("Last-Event-ID", "a1-7"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string("id: a1-8\nevent: CREATED\ndata: {}\n\n"));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + "/changes - Resume point no longer kept")
+    void testStreamChangesExpired() throws Exception
+    {
+        // Arrange
+        when(changeService.streamChanges("a1-1", ChangeStreamFormat.NDJSON))
+                .thenThrow(new ServiceException("Changes after a1-1 are no longer available"));
+
+        // Act and Assert
+        performGet(BASE_URL + "/changes?after=a1-1&format=NDJSON")
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + "/changes - Malformed resume token")
+    void testStreamChangesInvalidToken() throws Exception
+    {
+        // Arrange
+        when(changeService.streamChanges("7", ChangeStreamFormat.SSE))
+                .thenThrow(new InvalidRequestException("Invalid resume token: 7"));
+
+        // Act and Assert
+        performGet(BASE_URL + "/changes?after=7")
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST " + BASE_URL + "/snapshot - Write Snapshot")
+    void testWriteSnapshot() throws Exception
+    {
+        // Arrange
+        when(snapshotService.writeSnapshot()).thenReturn(SnapshotDto.builder()
+                .path("/tmp/categories.snapshot")
+                .categories(3)
+                .sizeBytes(64)
+                .build());
+
+        // Act and Assert
+        mockMvc.perform(post(BASE_URL + "/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories").value(3))
+                .andExpect(jsonPath("$.sizeBytes").value(64));
+    }
+
+    @Test
+    @DisplayName("POST " + BASE_URL + "/snapshot - Snapshots Disabled")
+    void testWriteSnapshotDisabled() throws Exception
+    {
+        // Arrange
+        when(snapshotService.writeSnapshot())
+                .thenThrow(new InvalidRequestException("Snapshots are disabled; set category.snapshot.path"));
+
+        // Act and Assert
+        mockMvc.perform(post(BASE_URL + "/snapshot"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + "/search - Search Categories")
+    void testSearchCategories() throws Exception
+    {
+        // Arrange
+        CategorySearchResult result = CategorySearchResult.builder()
+                .id(2L)
+                .label("Jazz")
+                .parentId(1L)
+                .ancestors(List.of(CategorySearchResult.Ancestor.builder().id(1L).label("Music").build()))
+                .build();
+
+        when(categoryService.searchCategories("ja", 10, ReadConsistency.EVENTUAL)).thenReturn(List.of(result));
+
+        // Act && Assert
+        performGet(BASE_URL + "/search?q=ja")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].label").value("Jazz"))
+                .andExpect(jsonPath("$[0].ancestors[0].label").value("Music"));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + "/{id}/children - Get a page of Category Children")
+    void testGetChildren() throws Exception
+    {
+        // Arrange
+        CategoryChildrenPage page = CategoryChildrenPage.builder()
+                .children(List.of(CategoryChildrenPage.Child.builder().id(7L).label("Jazz").parentId(3L).hasChildren(true).build()))
+                .nextAfter(7L)
+                .build();
+        when(categoryService.getChildren(3L, 5L, 1, ReadConsistency.EVENTUAL)).thenReturn(page);
+
+        // Act && Assert
+        performGet(BASE_URL + "/3/children?after=5&limit=1")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children[0].label").value("Jazz"))
+                .andExpect(jsonPath("$.children[0].hasChildren").value(true))
+                .andExpect(jsonPath("$.nextAfter").value(7));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + "/root/children - Get the top-level Categories")
+    void testGetRootChildren() throws Exception
+    {
+        // Arrange
+        CategoryChildrenPage page = CategoryChildrenPage.builder()
+                .children(List.of(CategoryChildrenPage.Child.builder().id(1L).label("Music").build()))
+                .build();
+        when(categoryService.getChildren(null, 0L, 100, ReadConsistency.EVENTUAL)).thenReturn(page);
+
+        // Act && Assert
+        performGet(BASE_URL + "/root/children")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children[0].id").value(1))
+                .andExpect(jsonPath("$.children[0].parentId").doesNotExist())
+                .andExpect(jsonPath("$.nextAfter").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + "/{id}/ancestors - Get Category Ancestors")
+    void testGetAncestors() throws Exception
+    {
+        // Arrange
+        when(categoryService.getAncestors(3L, ReadConsistency.STRONG)).thenReturn(List.of(
+                CategorySearchResult.Ancestor.builder().id(1L).label("Root").build(),
+                CategorySearchResult.Ancestor.builder().id(2L).label("Music").build()));
+
+        // Act && Assert
+        performGet(BASE_URL + "/3/ancestors?consistency=STRONG")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].label").value("Root"))
+                .andExpect(jsonPath("$[1].id").value(2));
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + "/{id}/stats - Get Category Subtree Stats")
+    void testGetStats() throws Exception
+    {
+        // Arrange
+        when(categoryService.getStats(3L, ReadConsistency.EVENTUAL)).thenReturn(CategoryStatsDto.builder()
+                .id(3L)
+                .descendantCount(12)
+                .leafCount(9)
+                .height(2)
+                .build());
+        when(categoryService.getStats(9L, ReadConsistency.EVENTUAL))
+                .thenThrow(new NotFoundException("Category not found with id: 9"));
+
+        // Act && Assert
+        performGet(BASE_URL + "/3/stats")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.descendantCount").value(12))
+                .andExpect(jsonPath("$.leafCount").value(9))
+                .andExpect(jsonPath("$.height").value(2));
+        performGet(BASE_URL + "/9/stats")
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -119,19 +522,100 @@ class CategoryControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("PUT " + BASE_URL + "/move-batch - Move Category Subtrees")
+    void testMoveSubtrees() throws Exception
+    {
+        // Arrange
+        List<BatchMoveRequest.Move> moves = List.of(
+                BatchMoveRequest.Move.builder().subtreeId(1L).newParentId(2L).build(),
+                BatchMoveRequest.Move.builder().subtreeId(3L).build());
+        when(categoryService.moveSubtrees(moves)).thenReturn(2);
+
+        // Act && Assert
+        performPut(BASE_URL + "/move-batch", BatchMoveRequest.builder().moves(moves).build())
+                .andExpect(status().isOk());
+        verify(categoryService).moveSubtrees(moves);
+    }
+
 
     @Test
     @DisplayName("DELETE " + BASE_URL + " - Delete Category")
     void testDeleteCategory() throws Exception
     {
         // Arrange
-        doNothing().when(categoryService).deleteCategory(anyLong());
+        when(categoryService.deleteCategory(anyLong())).thenReturn(1);
 
         // Act and Assert
         performDelete(BASE_URL + "/1")
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @DisplayName("DELETE " + BASE_URL + "?async=true - Schedule Purge")
+    void testDeleteCategoryAsync() throws Exception
+    {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        when(purgeService.purgeCategory(1L)).thenReturn(PurgeJobDto.builder()
+                .id(jobId)
+                .categoryId(1L)
+                .status(CategoryPurgeJob.Status.PENDING)
+                .purged(0)
+                .build());
+
+        // Act and Assert
+        performDelete(BASE_URL + "/1?async=true")
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", BASE_URL + "/jobs/" + jobId))
+                .andExpect(jsonPath("$.id").value(jobId.toString()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+        verify(categoryService, never()).deleteCategory(anyLong());
+    }
+
+    @Test
+    @DisplayName("GET " + BASE_URL + "/jobs/{jobId} - Get Purge Job")
+    void testGetPurgeJob() throws Exception
+    {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(purgeService.getPurgeJob(jobId)).thenReturn(PurgeJobDto.builder()
+                .id(jobId)
+                .categoryId(1L)
+                .status(CategoryPurgeJob.Status.RUNNING)
+                .total(3000L)
+                .purged(1000)
+                .build());
+        when(purgeService.getPurgeJob(missing)).thenThrow(new NotFoundException("Job not found with id: " + missing));
+
+        // Act and Assert
+        performGet(BASE_URL + "/jobs/" + jobId)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3000))
+                .andExpect(jsonPath("$.purged").value(1000));
+        performGet(BASE_URL + "/jobs/" + missing)
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - Handled exceptions are tagged on request metrics")
+    void testPrometheusMetrics() throws Exception
+    {
+        // Arrange
+        when(categoryService.getSubtreeVersion(404L, ReadConsistency.EVENTUAL))
+                .thenThrow(new NotFoundException("Category not found"));
+        performGet(BASE_URL + "/404/subtree")
+                .andExpect(status().isNotFound());
+
+        // Act and Assert
+        performGet("/actuator/prometheus")
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("exception=\"NotFoundException\"")))
+                .andExpect(content().string(containsString("category_json_write_seconds_bucket")));
+    }
+
     protected ResultActions performPost(String url, Object dto) throws Exception {
         return mockMvc.perform(post(url)
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -149,6 +633,14 @@ class CategoryControllerTest {
                 .contentType(MediaType.APPLICATION_JSON_VALUE));
     }
 
+    private static CategoryColumns columns() {
+        return CategoryColumns.builder()
+                .ids(new long[]{1, 2})
+                .parentIds(new long[]{0, 1})
+                .labels(new String[]{"Root", "Child"})
+                .build();
+    }
+
     protected ResultActions performGet(String url) throws Exception {
         return mockMvc.perform(get(url));
     }
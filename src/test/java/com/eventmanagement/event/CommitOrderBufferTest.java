@@ -0,0 +1,96 @@
+package com.eventmanagement.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CommitOrderBufferTest {
+
+    private final CommitOrderBuffer<String> buffer = new CommitOrderBuffer<>();
+
+    @Test
+    @DisplayName("Poll - Holds a change back until the ones committed before it arrive")
+    void testPollRestoresCommitOrder() {
+        // Arrange
+        buffer.restartAfter(0);
+
+        // Act
+        buffer.add(2, 2, "second");
+
+        // Assert
+        assertNull(buffer.poll());
+        buffer.add(1, 1, "first");
+        assertEquals("first", buffer.poll());
+        assertEquals("second", buffer.poll());
+        assertNull(buffer.poll());
+        assertEquals(2, buffer.lastSequence());
+    }
+
+    @Test
+    @DisplayName("Poll - A batch holds consecutive numbers")
+    void testPollBatch() {
+        // Arrange
+        buffer.restartAfter(0);
+        buffer.add(4, 4, "after");
+        buffer.add(1, 3, "batch");
+
+        // Act & Assert
+        assertEquals("batch", buffer.poll());
+        assertEquals("after", buffer.poll());
+        assertEquals(4, buffer.lastSequence());
+    }
+
+    @Test
+    @DisplayName("Restart - Drops the changes a reload already reflects")
+    void testRestartDropsCoveredChanges() {
+        // Arrange
+        buffer.add(6, 6, "covered");
+        buffer.add(8, 8, "pending");
+        assertNull(buffer.poll());
+
+        // Act
+        buffer.restartAfter(7);
+        buffer.add(7, 7, "late");
+
+        // Assert
+        assertEquals("pending", buffer.poll());
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    @DisplayName("Skip gap - Gives up on a missing number once stalled")
+    void testSkipGap() {
+        // Arrange
+        buffer.restartAfter(0);
+        buffer.add(3, 3, "third");
+        assertNull(buffer.poll());
+        assertTrue(buffer.isStalledFor(Duration.ZERO));
+        assertFalse(buffer.isStalledFor(Duration.ofMinutes(1)));
+
+        // Act
+        long skipped = buffer.skipGap();
+
+        // Assert
+        assertEquals(2, skipped);
+        assertFalse(buffer.isStalledFor(Duration.ZERO));
+        assertEquals("third", buffer.poll());
+        assertEquals(3, buffer.lastSequence());
+    }
+
+    @Test
+    @DisplayName("Poll - Nothing is taken before the starting point is known")
+    void testPollBeforeRestart() {
+        // Act
+        buffer.add(1, 1, "first");
+
+        // Assert
+        assertNull(buffer.poll());
+        assertFalse(buffer.isStalledFor(Duration.ZERO));
+        assertEquals(0, buffer.skipGap());
+    }
+}
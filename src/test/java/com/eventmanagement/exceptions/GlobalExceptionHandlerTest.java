@@ -7,6 +7,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -50,6 +51,51 @@ class GlobalExceptionHandlerTest {
         assertThat(body.getMessage()).isEqualTo("Entity not found");
     }
 
+    @Test
+    void handleInvalidRequestException_ShouldReturnBadRequestResponse() {
+        InvalidRequestException ex = new InvalidRequestException("Import contains a cycle");
+
+        ResponseEntity<Object> response = exceptionHandler.handleInvalidRequestException(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isInstanceOf(ErrorResponse.class);
+
+        ErrorResponse body = (ErrorResponse) response.getBody();
+        assertThat(body.getStatus()).isEqualTo(400);
+        assertThat(body.getError()).isEqualTo("Invalid Request");
+        assertThat(body.getMessage()).isEqualTo("Import contains a cycle");
+    }
+
+    @Test
+    void handleUnavailableException_ShouldReturnServiceUnavailableResponse() {
+        CannotCreateTransactionException ex = new CannotCreateTransactionException("Could not open JPA EntityManager");
+
+        ResponseEntity<Object> response = exceptionHandler.handleUnavailableException(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isInstanceOf(ErrorResponse.class);
+
+        ErrorResponse body = (ErrorResponse) response.getBody();
+        assertThat(body.getStatus()).isEqualTo(503);
+        assertThat(body.getError()).isEqualTo("Service Unavailable");
+        assertThat(body.getMessage()).isEqualTo("Database is busy, please retry");
+    }
+
+    @Test
+    void handleServiceUnavailableException_ShouldReturnServiceUnavailableResponse() {
+        ServiceUnavailableException ex = new ServiceUnavailableException("Too many open change streams, please retry");
+
+        ResponseEntity<Object> response = exceptionHandler.handleServiceUnavailableException(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isInstanceOf(ErrorResponse.class);
+
+        ErrorResponse body = (ErrorResponse) response.getBody();
+        assertThat(body.getStatus()).isEqualTo(503);
+        assertThat(body.getError()).isEqualTo("Service Unavailable");
+        assertThat(body.getMessage()).isEqualTo("Too many open change streams, please retry");
+    }
+
     @Test
     void handleRuntimeException_ShouldReturnInternalServerErrorResponse() {
         RuntimeException ex = new RuntimeException("Something went wrong");
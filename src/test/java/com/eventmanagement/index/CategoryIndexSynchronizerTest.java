@@ -0,0 +1,167 @@
+package com.eventmanagement.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.event.CategoryChangedEvent;
+import com.eventmanagement.metrics.CategoryMetrics;
+import com.eventmanagement.repository.CategoryChangeSequenceRepository;
+import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.CategoryRowHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class CategoryIndexSynchronizerTest {
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final CategoryChangeSequenceRepository sequenceRepository = mock(CategoryChangeSequenceRepository.class);
+    private final CategoryTreeIndex treeIndex = new CategoryTreeIndex();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CategoryIndexSynchronizer synchronizer;
+
+    @BeforeEach
+    void setup() {
+        CategoryProperties properties = new CategoryProperties();
+        synchronizer = new CategoryIndexSynchronizer(categoryRepository, sequenceRepository, treeIndex,
+                new CategoryPathCache(properties),
+                new CategoryResponseCache(new ObjectMapper(), properties, new CategoryMetrics(meterRegistry)),
+                properties, new TransactionTemplate(mock(PlatformTransactionManager.class)), new CategoryMetrics(meterRegistry));
+
+        // Categories 1, 2 and 4 are roots, 3 is a child of 4; nothing was numbered yet
+        when(sequenceRepository.findLastSequence()).thenReturn(Optional.of(0L));
+        doAnswer(invocation -> {
+            CategoryRowHandler handler = invocation.getArgument(0);
+            handler.handle(1, 0, "A", 1);
+            handler.handle(2, 0, "B", 1);
+            handler.handle(3, 4, "X", 1);
+            handler.handle(4, 0, "C", 1);
+            return null;
+        }).when(categoryRepository).forEachVisibleRow(any());
+        synchronizer.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        synchronizer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Moves - Delivered out of order, applied in commit order")
+    void testMovesAppliedInCommitOrder() {
+        // Arrange
+        CategoryChangedEvent toA = sequenced(CategoryChangedEvent.moved(3L, 4L, 1L), 1);
+        CategoryChangedEvent toB = sequenced(CategoryChangedEvent.moved(3L, 1L, 2L), 2);
+
+        // Act
+        synchronizer.onCategoryChanged(toB);
+
+        // Assert
+        assertArrayEquals(new long[]{3, 4}, treeIndex.path(3L));
+        synchronizer.onCategoryChanged(toA);
+        assertArrayEquals(new long[]{3, 2}, treeIndex.path(3L));
+    }
+
+    @Test
+    @DisplayName("Create - Not applied after the deletion of its parent committed later")
+    void testCreateBeforeParentDeletion() {
+        // Arrange
+        CategoryChangedEvent created = sequenced(CategoryChangedEvent.created(5L, "E", 1L), 1);
+        CategoryChangedEvent deleted = sequenced(CategoryChangedEvent.deleted(1L, null), 2);
+
+        // Act
+        synchronizer.onCategoryChanged(deleted);
+        synchronizer.onCategoryChanged(created);
+
+        // Assert
+        assertNull(treeIndex.stats(1L));
+        assertNull(treeIndex.stats(5L));
+        assertEquals(3, treeIndex.size());
+    }
+
+    @Test
+    @DisplayName("Reload - Changes the loaded rows already reflect are not applied again")
+    void testReloadSkipsReflectedChanges() {
+        // Arrange: the move of 3 under 1 committed while the rows were read
+        when(sequenceRepository.findLastSequence()).thenReturn(Optional.of(1L));
+        doAnswer(invocation -> {
+            CategoryRowHandler handler = invocation.getArgument(0);
+            handler.handle(1, 0, "A", 2);
+            handler.handle(2, 0, "B", 1);
+            handler.handle(3, 1, "X", 2);
+            handler.handle(4, 0, "C", 2);
+            return null;
+        }).when(categoryRepository).forEachVisibleRow(any());
+        synchronizer.reload();
+
+        // Act
+        synchronizer.onCategoryChanged(sequenced(CategoryChangedEvent.moved(3L, 4L, 1L), 1));
+        synchronizer.onCategoryChanged(sequenced(CategoryChangedEvent.created(5L, "E", 2L), 2));
+
+        // Assert
+        assertEquals(2L, treeIndex.version(1L));
+        assertEquals(2L, treeIndex.version(2L));
+        assertArrayEquals(new long[]{3, 1}, treeIndex.path(3L));
+        assertArrayEquals(new long[]{5, 2}, treeIndex.path(5L));
+    }
+
+    @Test
+    @DisplayName("Import - New categories added without a reload")
+    void testImportAppliedInPlace() {
+        // Act
+        synchronizer.onCategoryChanged(sequenced(CategoryChangedEvent.imported(2L,
+                new long[]{6, 7}, new long[]{2, 6}, new String[]{"F", "G"}), 1));
+
+        // Assert
+        verify(categoryRepository, times(1)).forEachVisibleRow(any());
+        assertArrayEquals(new long[]{7, 6, 2}, treeIndex.path(7L));
+        assertEquals(2L, treeIndex.version(2L));
+        assertEquals(6, treeIndex.size());
+    }
+
+    @Test
+    @DisplayName("Invalidation - The dropped index is reloaded in the background")
+    void testInvalidatedIndexReloads() {
+        // Act: an ID the index cannot hold makes it inconsistent
+        synchronizer.onCategoryChanged(sequenced(CategoryChangedEvent.created(Long.MAX_VALUE, "Z", null), 1));
+
+        // Assert
+        verify(categoryRepository, timeout(1000).times(2)).forEachVisibleRow(any());
+        await(treeIndex::isReady);
+        assertEquals(4, treeIndex.size());
+        assertEquals(1.0, meterRegistry.get(CategoryMetrics.INDEX_READY).gauge().value());
+        assertEquals(1.0, meterRegistry.get(CategoryMetrics.INDEX_RELOADS)
+                .tag("cause", CategoryMetrics.RELOAD_INVALIDATED).counter().count());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static CategoryChangedEvent sequenced(CategoryChangedEvent event, long sequence) {
+        event.setSequence(sequence);
+        return event;
+    }
+}
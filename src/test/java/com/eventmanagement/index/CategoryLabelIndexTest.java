@@ -0,0 +1,125 @@
+package com.eventmanagement.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CategoryLabelIndexTest {
+
+    private static final String[] WORDS = {"rock", "Roll", "jazz", "JAZZY", "r", "ro", "blues", "b b"};
+
+    @Test
+    @DisplayName("Search - Rebuilt and incrementally updated indexes match a full scan")
+    void testSearchMatchesScan() {
+        // Arrange
+        Random random = new Random(42);
+        String[] labels = new String[500];
+        for (int node = 1; node < labels.length; node++) {
+            if (random.nextInt(4) > 0) {
+                labels[node] = randomLabel(random, node);
+            }
+        }
+        CategoryLabelIndex rebuilt = new CategoryLabelIndex();
+        rebuilt.rebuild(labels);
+        CategoryLabelIndex incremental = new CategoryLabelIndex();
+        for (int node = labels.length - 1; node > 0; node--) {
+            if (labels[node] != null) {
+                incremental.add(node, labels[node]);
+            }
+        }
+
+        // Remove a few nodes both one by one and in bulk
+        for (int node = 1; node < labels.length; node += 7) {
+            if (labels[node] != null) {
+                rebuilt.remove(node);
+                incremental.forget(node);
+                labels[node] = null;
+            }
+        }
+        incremental.compact();
+
+        // Act and Assert
+        for (String prefix : List.of("r", "ro", "roc", "roll", "jazz", "jazzy", "b", "b b", "x", "rock j", "7")) {
+            int[] expected = scan(labels, prefix, 1000);
+            assertArrayEquals(expected, rebuilt.search(prefix, 1000), prefix);
+            assertArrayEquals(expected, incremental.search(prefix, 1000), prefix);
+            assertArrayEquals(scan(labels, prefix, 5), rebuilt.search(prefix, 5), prefix);
+        }
+    }
+
+    @Test
+    @DisplayName("Rebuild - Reloading changed labels keeps the index exact")
+    void testRebuildWithChanges() {
+        // Arrange
+        Random random = new Random(7);
+        String[] labels = new String[300];
+        for (int node = 1; node < 200; node++) {
+            labels[node] = randomLabel(random, node);
+        }
+        CategoryLabelIndex index = new CategoryLabelIndex();
+        index.rebuild(labels);
+
+        // Drop, relabel and add nodes, then reload from a longer array
+        for (int node = 1; node < labels.length; node++) {
+            int change = random.nextInt(5);
+            if (node >= 200 || change == 0) {
+                labels[node] = randomLabel(random, node);
+            } else if (change == 1) {
+                labels[node] = null;
+            }
+        }
+
+        // Act
+        index.rebuild(labels);
+
+        // Assert
+        for (String prefix : List.of("r", "ro", "roll", "jazz", "b", "b b", "1", "x")) {
+            assertArrayEquals(scan(labels, prefix, 1000), index.search(prefix, 1000), prefix);
+        }
+    }
+
+    private static String randomLabel(Random random, int node) {
+        int words = 1 + random.nextInt(3);
+        StringBuilder label = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            label.append(i > 0 ? " " : "").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return label.append(' ').append(node).toString();
+    }
+
+    // Label prefix matches in key order, then word matches in key order of the matched word
+    private static int[] scan(String[] labels, String prefix, int limit) {
+        List<String[]> labelMatches = new ArrayList<>();
+        List<String[]> wordMatches = new ArrayList<>();
+        for (int node = 1; node < labels.length; node++) {
+            if (labels[node] == null) {
+                continue;
+            }
+            String key = CategoryLabelIndex.normalize(labels[node]);
+            if (key.startsWith(prefix)) {
+                labelMatches.add(new String[] {key, String.valueOf(node)});
+            }
+            for (int offset = 1; offset < key.length(); offset++) {
+                if (key.charAt(offset - 1) == ' ' && key.charAt(offset) != ' ' && key.startsWith(prefix, offset)) {
+                    wordMatches.add(new String[] {key.substring(offset), String.valueOf(node)});
+                }
+            }
+        }
+        Comparator<String[]> order = Comparator.<String[], String>comparing(match -> match[0])
+                .thenComparingInt(match -> Integer.parseInt(match[1]));
+        labelMatches.sort(order);
+        wordMatches.sort(order);
+
+        Set<Integer> nodes = new LinkedHashSet<>();
+        labelMatches.forEach(match -> nodes.add(Integer.parseInt(match[1])));
+        wordMatches.forEach(match -> nodes.add(Integer.parseInt(match[1])));
+        return nodes.stream().limit(limit).mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,107 @@
+package com.eventmanagement.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.dto.CategorySearchResult;
+import com.eventmanagement.repository.CategoryRepository.PathRow;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CategoryPathCacheTest {
+
+    private final CategoryPathCache cache = new CategoryPathCache(new CategoryProperties());
+
+    @Test
+    @DisplayName("Put - Caches the path of every category on it")
+    void testPutCachesPrefixes() {
+        // Act
+        cache.put(path(1, 2, 3), cache.generation());
+        cache.put(path(1, 2, 4), cache.generation());
+
+        // Assert
+        assertEquals(List.of(1L, 2L), ids(cache.ancestors(3L)));
+        assertEquals(List.of(1L, 2L), ids(cache.ancestors(4L)));
+        assertEquals(List.of(1L), ids(cache.ancestors(2L)));
+        assertEquals(List.of(), ids(cache.ancestors(1L)));
+        assertEquals("c1", cache.ancestors(2L).get(0).getLabel());
+        assertNull(cache.ancestors(5L));
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    @DisplayName("Invalidate - Drops the changed subtree only")
+    void testInvalidateDropsSubtree() {
+        // Arrange
+        cache.put(path(1, 2, 3, 4), cache.generation());
+        cache.put(path(1, 5, 6), cache.generation());
+
+        // Act
+        cache.invalidate(3L);
+
+        // Assert
+        assertNull(cache.ancestors(3L));
+        assertNull(cache.ancestors(4L));
+        assertEquals(List.of(1L, 5L), ids(cache.ancestors(6L)));
+        assertEquals(List.of(1L), ids(cache.ancestors(2L)));
+        assertEquals(4, cache.size());
+
+        // A re-read path links under the remaining entries again
+        cache.put(path(1, 5, 6, 3), cache.generation());
+        assertEquals(List.of(1L, 5L, 6L), ids(cache.ancestors(3L)));
+    }
+
+    @Test
+    @DisplayName("Put - A path read before an invalidation is not cached")
+    void testPutRejectsStalePath() {
+        // Arrange
+        long generation = cache.generation();
+        cache.invalidate(42L);
+
+        // Act
+        cache.put(path(1, 2), generation);
+
+        // Assert
+        assertNull(cache.ancestors(2L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Put - A full cache is cleared before growing past its size")
+    void testPutClearsWhenFull() {
+        // Arrange
+        CategoryProperties properties = new CategoryProperties();
+        properties.getAncestors().setCacheSize(3);
+        CategoryPathCache small = new CategoryPathCache(properties);
+        small.put(path(1, 2, 3), small.generation());
+
+        // Act
+        small.put(path(1, 4), small.generation());
+
+        // Assert
+        assertNull(small.ancestors(3L));
+        assertEquals(List.of(1L), ids(small.ancestors(4L)));
+        assertEquals(2, small.size());
+    }
+
+    private static List<PathRow> path(long... ids) {
+        return Arrays.stream(ids).mapToObj(id -> (PathRow) new PathRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getLabel() {
+                return "c" + id;
+            }
+        }).toList();
+    }
+
+    private static List<Long> ids(List<CategorySearchResult.Ancestor> ancestors) {
+        return ancestors.stream().map(CategorySearchResult.Ancestor::getId).toList();
+    }
+}
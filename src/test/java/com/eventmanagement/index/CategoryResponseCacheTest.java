@@ -0,0 +1,118 @@
+package com.eventmanagement.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.index.CategoryResponseCache.Key;
+import com.eventmanagement.metrics.CategoryMetrics;
+import com.eventmanagement.service.ResponseEncoding;
+import com.eventmanagement.service.SubtreeFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class CategoryResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CategoryResponseCache cache;
+
+    @BeforeEach
+    void setup() {
+        CategoryProperties properties = new CategoryProperties();
+        properties.getResponses().setCacheSize(DataSize.ofBytes(400));
+        cache = new CategoryResponseCache(new ObjectMapper(), properties, new CategoryMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Body - Written and compressed once per key")
+    void testBodyCachedPerKey() throws IOException {
+        // Arrange
+        CategoryDto subtree = CategoryDto.builder().id(1L).label("Root").children(List.of()).build();
+        Key key = new Key(1, 3, SubtreeFormat.NESTED, ResponseEncoding.GZIP);
+
+        // Act
+        byte[] first = cache.body(key, true, () -> subtree);
+        byte[] second = cache.body(key, true, () -> {
+            throw new AssertionError("Cached body rewritten");
+        });
+
+        // Assert
+        assertArrayEquals(first, second);
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(second))) {
+            assertEquals("Root", new ObjectMapper().readTree(body).get("label").asText());
+        }
+        assertEquals(1, meterRegistry.get(CategoryMetrics.RESPONSE_CACHE).tag("result", "hit").counter().count());
+        assertEquals(first.length, cache.bytes());
+    }
+
+    @Test
+    @DisplayName("Put - A newer version replaces the older ones of the category")
+    void testPutReplacesOlderVersions() {
+        // Act
+        cache.put(key(1, 3), new byte[10]);
+        cache.put(key(1, 4), new byte[20]);
+        cache.put(key(1, 2), new byte[30]);
+
+        // Assert
+        assertNull(cache.get(key(1, 3)));
+        assertNull(cache.get(key(1, 2)));
+        assertNotNull(cache.get(key(1, 4)));
+        assertEquals(20, cache.bytes());
+    }
+
+    @Test
+    @DisplayName("Put - Evicts the least recently used bodies beyond the size and skips large ones")
+    void testPutEvictsBySize() {
+        // Arrange
+        cache.put(key(1, 0), new byte[100]);
+        cache.put(key(2, 0), new byte[100]);
+        cache.put(key(3, 0), new byte[100]);
+        cache.get(key(1, 0));
+
+        // Act
+        cache.put(key(4, 0), new byte[100]);
+        cache.put(key(5, 0), new byte[100]);
+        cache.put(key(6, 0), new byte[101]);
+
+        // Assert
+        assertNotNull(cache.get(key(1, 0)));
+        assertNull(cache.get(key(2, 0)));
+        assertNull(cache.get(key(6, 0)));
+        assertEquals(400, cache.bytes());
+    }
+
+    @Test
+    @DisplayName("Invalidate - Drops every body of the given categories")
+    void testInvalidate() {
+        // Arrange
+        cache.put(key(1, 0), new byte[10]);
+        cache.put(new Key(1, 0, SubtreeFormat.CBOR, ResponseEncoding.IDENTITY), new byte[10]);
+        cache.put(key(2, 0), new byte[10]);
+        cache.put(key(3, 0), new byte[10]);
+
+        // Act
+        cache.invalidate(1, 2);
+
+        // Assert
+        assertNull(cache.get(key(1, 0)));
+        assertNull(cache.get(key(2, 0)));
+        assertNotNull(cache.get(key(3, 0)));
+        assertEquals(10, cache.bytes());
+    }
+
+    private static Key key(long id, long version) {
+        return new Key(id, version, SubtreeFormat.NESTED, ResponseEncoding.IDENTITY);
+    }
+}
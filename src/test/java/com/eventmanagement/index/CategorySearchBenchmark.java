@@ -0,0 +1,92 @@
+package com.eventmanagement.index;
+
+import com.eventmanagement.repository.CategoryRowHandler;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Measures label search latency of {@link CategoryTreeIndex} over a million categories.
+ * <p>
+ * Skipped by default; run with {@code mvn test -Dtest=CategorySearchBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CategorySearchBenchmark {
+
+    private static final int CATEGORIES = 1_000_000;
+    private static final int IMPORTED = 10_000;
+    private static final int FAN_OUT = 10;
+    private static final int VOCABULARY = 2_000;
+    private static final int WARMUP = 50_000;
+    private static final int QUERIES = 200_000;
+    private static final int LIMIT = 10;
+
+    @Test
+    @DisplayName("Benchmark - Search latency percentiles over 1M labels")
+    void benchmark() {
+        Random random = new Random(7);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = randomWord(random);
+        }
+
+        String[] labels = new String[CATEGORIES + IMPORTED + 1];
+        for (int id = 1; id < labels.length; id++) {
+            StringBuilder label = new StringBuilder(words[random.nextInt(VOCABULARY)]);
+            for (int extra = random.nextInt(3); extra > 0; extra--) {
+                label.append(' ').append(words[random.nextInt(VOCABULARY)]);
+            }
+            labels[id] = label.append(' ').append(id).toString();
+        }
+
+        CategoryTreeIndex treeIndex = new CategoryTreeIndex();
+        long start = System.nanoTime();
+        treeIndex.rebuild(load(labels, CATEGORIES));
+        System.out.printf("%nrebuild: %.0f ms%n", (System.nanoTime() - start) / 1e6);
+        start = System.nanoTime();
+        treeIndex.rebuild(load(labels, CATEGORIES + IMPORTED));
+        System.out.printf("reload after importing %d: %.0f ms%n", IMPORTED, (System.nanoTime() - start) / 1e6);
+
+        String[] queries = new String[WARMUP + QUERIES];
+        for (int i = 0; i < queries.length; i++) {
+            String word = words[random.nextInt(VOCABULARY)];
+            queries[i] = word.substring(0, 1 + random.nextInt(Math.min(4, word.length())));
+        }
+        for (int i = 0; i < WARMUP; i++) {
+            treeIndex.search(queries[i], LIMIT);
+        }
+
+        long[] nanos = new long[QUERIES];
+        long results = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            long begin = System.nanoTime();
+            results += treeIndex.search(queries[WARMUP + i], LIMIT).size();
+            nanos[i] = System.nanoTime() - begin;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("queries: %d, avg results: %.1f%n", QUERIES, (double) results / QUERIES);
+        System.out.printf("p50: %.1f us, p99: %.1f us, p99.9: %.1f us, max: %.1f us%n",
+                nanos[QUERIES / 2] / 1e3, nanos[QUERIES * 99 / 100] / 1e3,
+                nanos[QUERIES * 999 / 1000] / 1e3, nanos[QUERIES - 1] / 1e3);
+    }
+
+    private static Consumer<CategoryRowHandler> load(String[] labels, int count) {
+        return handler -> {
+            for (int id = 1; id <= count; id++) {
+                handler.handle(id, id == 1 ? 0 : 1 + (id - 2) / FAN_OUT, labels[id], 0);
+            }
+        };
+    }
+
+    private static String randomWord(Random random) {
+        char[] word = new char[3 + random.nextInt(8)];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = (char) ('a' + random.nextInt(26));
+        }
+        word[0] = Character.toUpperCase(word[0]);
+        return new String(word);
+    }
+}
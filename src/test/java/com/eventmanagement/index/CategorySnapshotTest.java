@@ -0,0 +1,119 @@
+package com.eventmanagement.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.eventmanagement.repository.CategoryRepository.TableFingerprint;
+import com.eventmanagement.repository.CategoryRowHandler;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CategorySnapshotTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Snapshot - Rows read back as written, in any ID order")
+    void testRoundTrip() throws IOException {
+        // Arrange
+        Path file = directory.resolve("categories.snapshot");
+        List<String> rows = List.of("300|0|Music|7", "5|300|Jazz|2", "70000000000|300|Kölsch & Café 🎷|0", "6|0|Sport|1");
+
+        // Act
+        int written = CategorySnapshot.write(file, fingerprint(4, 70_000_000_000L, 10), source(rows));
+        CategorySnapshot snapshot = CategorySnapshot.open(file);
+
+        // Assert
+        assertEquals(4, written);
+        assertEquals(4, snapshot.size());
+        List<String> read = new ArrayList<>();
+        snapshot.forEachRow((id, parentId, label, version) -> read.add(id + "|" + parentId + "|" + label + "|" + version));
+        assertEquals(rows, read);
+        assertTrue(snapshot.matches(fingerprint(4, 70_000_000_000L, 10)));
+        assertFalse(snapshot.matches(fingerprint(4, 70_000_000_000L, 11)));
+        assertFalse(snapshot.matches(fingerprint(5, 70_000_000_001L, 10)));
+    }
+
+    @Test
+    @DisplayName("Snapshot - An empty forest")
+    void testEmpty() throws IOException {
+        Path file = directory.resolve("empty.snapshot");
+
+        CategorySnapshot.write(file, fingerprint(0, 0, 0), handler -> { });
+
+        CategorySnapshot snapshot = CategorySnapshot.open(file);
+        assertEquals(0, snapshot.size());
+        snapshot.forEachRow((id, parentId, label, version) -> { throw new AssertionError("No rows expected"); });
+    }
+
+    @Test
+    @DisplayName("Snapshot - Corrupt and foreign files are rejected")
+    void testRejectsDamagedFiles() throws IOException {
+        // Arrange
+        Path file = directory.resolve("categories.snapshot");
+        CategorySnapshot.write(file, fingerprint(1, 1, 0), source(List.of("1|0|Root|0")));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Path corrupt = Files.write(directory.resolve("corrupt.snapshot"), bytes);
+        Path foreign = Files.writeString(directory.resolve("foreign.snapshot"), "id,parent_id,label\n1,,Root\n");
+
+        // Act and Assert
+        IOException corrupted = assertThrows(IOException.class, () -> CategorySnapshot.open(corrupt));
+        IOException unknown = assertThrows(IOException.class, () -> CategorySnapshot.open(foreign));
+        assertTrue(corrupted.getMessage().startsWith("Corrupt category snapshot"));
+        assertTrue(unknown.getMessage().startsWith("Not a category snapshot"));
+    }
+
+    @Test
+    @DisplayName("Snapshot - Loads the tree index")
+    void testLoadsTreeIndex() throws IOException {
+        // Arrange
+        Path file = directory.resolve("categories.snapshot");
+        CategorySnapshot.write(file, fingerprint(3, 3, 0), source(List.of("1|0|Root|0", "2|1|A|0", "3|2|A1|0")));
+        CategoryTreeIndex index = new CategoryTreeIndex();
+
+        // Act
+        index.rebuild(CategorySnapshot.open(file)::forEachRow);
+
+        // Assert
+        assertTrue(index.isReady());
+        assertEquals(3, index.size());
+        assertEquals("A1", index.subtree(1L).getChildren().get(0).getChildren().get(0).getLabel());
+    }
+
+    private static Consumer<CategoryRowHandler> source(List<String> rows) {
+        return handler -> rows.forEach(row -> {
+            String[] fields = row.split("\\|");
+            handler.handle(Long.parseLong(fields[0]), Long.parseLong(fields[1]), fields[2], Long.parseLong(fields[3]));
+        });
+    }
+
+    private static TableFingerprint fingerprint(long rowCount, long maxId, long versionSum) {
+        return new TableFingerprint() {
+            @Override
+            public long getRowCount() {
+                return rowCount;
+            }
+
+            @Override
+            public long getMaxId() {
+                return maxId;
+            }
+
+            @Override
+            public long getVersionSum() {
+                return versionSum;
+            }
+        };
+    }
+}
@@ -0,0 +1,338 @@
+package com.eventmanagement.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.eventmanagement.dto.CategoryChildrenPage;
+import com.eventmanagement.dto.CategoryColumns;
+import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.dto.CategorySearchResult;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CategoryTreeIndexTest {
+
+    private CategoryTreeIndex treeIndex;
+
+    @BeforeEach
+    void setup() {
+        // 1 -> (2 -> (4), 3), 5
+        treeIndex = new CategoryTreeIndex();
+        treeIndex.rebuild(handler -> {
+            handler.handle(4, 2, "Grandchild", 0);
+            handler.handle(3, 1, "Child 2", 0);
+            handler.handle(1, 0, "Root", 3);
+            handler.handle(5, 0, "Other Root", 0);
+            handler.handle(2, 1, "Child 1", 1);
+        });
+    }
+
+    @Test
+    @DisplayName("Rebuild - Subtree with children in ascending id order")
+    void testRebuildAndSubtree() {
+        // Act
+        CategoryDto root = treeIndex.subtree(1L);
+
+        // Assert
+        assertTrue(treeIndex.isReady());
+        assertEquals(5, treeIndex.size());
+        assertEquals("Root", root.getLabel());
+        assertNull(root.getParentId());
+        assertEquals(List.of(2L, 3L), childIds(root));
+        assertEquals(List.of(4L), childIds(root.getChildren().get(0)));
+        assertEquals(2L, root.getChildren().get(0).getChildren().get(0).getParentId());
+    }
+
+    @Test
+    @DisplayName("Version - Changes advance the versions of the affected paths")
+    void testVersions() {
+        // Act and Assert
+        assertEquals(3L, treeIndex.version(1L));
+        assertNull(treeIndex.version(9L));
+
+        treeIndex.put(6L, 4L, "Leaf");
+        assertEquals(List.of(4L, 2L, 0L, 1L, 0L, 0L), versions(1, 2, 3, 4, 5, 6));
+
+        // Old path 4 -> 2 -> 1 and new path 3 -> 1 share the root, which advances once
+        treeIndex.move(4L, 3L);
+        assertEquals(List.of(5L, 3L, 1L, 2L, 0L, 0L), versions(1, 2, 3, 4, 5, 6));
+
+        treeIndex.move(3L, 5L);
+        assertEquals(List.of(6L, 3L, 2L, 2L, 1L, 0L), versions(1, 2, 3, 4, 5, 6));
+
+        treeIndex.remove(4L);
+        assertEquals(List.of(6L, 3L, 3L, 2L), versions(1, 2, 3, 5));
+        assertNull(treeIndex.version(6L));
+    }
+
+    @Test
+    @DisplayName("Version - A batch move advances each affected category once, like the database")
+    void testBatchMoveVersions() {
+        // Act: both moves leave the root, whose version advances once for the batch
+        treeIndex.moveAll(new long[]{2, 3}, new long[]{5, 5});
+
+        // Assert
+        assertEquals(List.of(4L, 2L, 1L, 0L, 1L), versions(1, 2, 3, 4, 5));
+        assertEquals(List.of(2L, 3L), childIds(treeIndex.subtree(5L)));
+        assertEquals(List.of("0/1/0", "3/2/2"), aggregates(1, 5));
+    }
+
+    @Test
+    @DisplayName("Aggregates - Computed on rebuild and maintained along the ancestor chain")
+    void testAggregates() {
+        // Descendant count, leaf count and height per category
+        assertEquals(List.of("3/2/2", "1/1/1", "0/1/0", "0/1/0", "0/1/0"), aggregates(1, 2, 3, 4, 5));
+        assertNull(treeIndex.stats(9L));
+
+        treeIndex.put(6L, 4L, "Leaf");
+        assertEquals(List.of("4/2/3", "2/1/2", "1/1/1", "0/1/0"), aggregates(1, 2, 4, 6));
+
+        treeIndex.move(2L, 5L);
+        assertEquals(List.of("1/1/1", "3/1/3"), aggregates(1, 5));
+
+        treeIndex.remove(4L);
+        assertEquals(List.of("1/1/1", "0/1/0", "1/1/1"), aggregates(1, 2, 5));
+
+        CategoryDto subtree = treeIndex.subtree(5L);
+        assertEquals(1L, subtree.getDescendantCount());
+        assertEquals(1L, subtree.getLeafCount());
+        assertEquals(1, subtree.getHeight());
+    }
+
+    @Test
+    @DisplayName("Put all - Imported subtrees advance the path above them once")
+    void testPutAll() {
+        // Act: 6 -> (7 -> (9), 8) under 4, and 10 as a new root
+        treeIndex.putAll(new long[]{6, 7, 8, 9, 10}, new long[]{4, 6, 6, 7, 0},
+                new String[]{"Imported", "Imported 1", "Imported 2", "Imported 1.1", "Imported Root"});
+
+        // Assert
+        assertEquals(10, treeIndex.size());
+        assertEquals(List.of(4L, 2L, 0L, 1L, 0L, 0L, 0L, 0L, 0L, 0L), versions(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        assertEquals(List.of("7/3/5", "5/2/4", "4/2/3", "3/2/2", "1/1/1", "0/1/0", "0/1/0"), aggregates(1, 2, 4, 6, 7, 8, 10));
+        assertEquals(List.of(7L, 8L), childIds(treeIndex.subtree(6L)));
+        assertEquals("Imported 1.1", treeIndex.search("imported 1.1", 1).get(0).getLabel());
+    }
+
+    @Test
+    @DisplayName("Subtree - Depth limit reports child counts at the boundary")
+    void testSubtreeMaxDepth() {
+        // Act
+        CategoryDto root = treeIndex.subtree(1L, 1, 0, Integer.MAX_VALUE);
+
+        // Assert
+        assertNull(root.getChildCount());
+        assertEquals(List.of(2L, 3L), childIds(root));
+        assertEquals(1, root.getChildren().get(0).getChildCount());
+        assertTrue(root.getChildren().get(0).getChildren().isEmpty());
+        assertEquals(0, root.getChildren().get(1).getChildCount());
+    }
+
+    @Test
+    @DisplayName("Subtree - Root children are paged by id")
+    void testSubtreePaged() {
+        // Arrange
+        treeIndex.put(6L, 1L, "Child 3");
+
+        // Act
+        CategoryDto firstPage = treeIndex.subtree(1L, Integer.MAX_VALUE, 0, 2);
+        CategoryDto secondPage = treeIndex.subtree(1L, Integer.MAX_VALUE, 3, 2);
+
+        // Assert
+        assertEquals(List.of(2L, 3L), childIds(firstPage));
+        assertEquals(List.of(4L), childIds(firstPage.getChildren().get(0)));
+        assertEquals(3, firstPage.getChildCount());
+        assertEquals(List.of(6L), childIds(secondPage));
+    }
+
+    @Test
+    @DisplayName("Children - Keyset pages of children and of root categories")
+    void testChildren() {
+        // Act
+        CategoryChildrenPage firstPage = treeIndex.children(1L, 0, 1);
+        CategoryChildrenPage secondPage = treeIndex.children(1L, firstPage.getNextAfter(), 1);
+        CategoryChildrenPage roots = treeIndex.children(null, 0, 10);
+
+        // Assert
+        assertEquals(2L, firstPage.getChildren().get(0).getId());
+        assertTrue(firstPage.getChildren().get(0).isHasChildren());
+        assertEquals(2L, firstPage.getNextAfter());
+        assertEquals(3L, secondPage.getChildren().get(0).getId());
+        assertFalse(secondPage.getChildren().get(0).isHasChildren());
+        assertNull(secondPage.getNextAfter());
+        assertEquals(List.of(1L, 5L), roots.getChildren().stream().map(CategoryChildrenPage.Child::getId).toList());
+        assertNull(roots.getChildren().get(0).getParentId());
+        assertNull(treeIndex.children(9L, 0, 10));
+    }
+
+    @Test
+    @DisplayName("Path - Category and its ancestors up to the root")
+    void testPath() {
+        // Act and Assert
+        assertArrayEquals(new long[]{4, 2, 1}, treeIndex.path(4L));
+        assertArrayEquals(new long[]{5}, treeIndex.path(5L));
+        assertArrayEquals(new long[0], treeIndex.path(9L));
+        assertArrayEquals(new long[0], treeIndex.path(null));
+    }
+
+    @Test
+    @DisplayName("Columns - Subtree breadth-first, with child counts only when bounded")
+    void testColumns() {
+        // Act
+        CategoryColumns full = treeIndex.columns(1L);
+        CategoryColumns paged = treeIndex.columns(1L, 1, 2, 10);
+
+        // Assert
+        assertArrayEquals(new long[]{1, 2, 3, 4}, full.getIds());
+        assertArrayEquals(new long[]{0, 1, 1, 2}, full.getParentIds());
+        assertArrayEquals(new String[]{"Root", "Child 1", "Child 2", "Grandchild"}, full.getLabels());
+        assertNull(full.getChildCounts());
+        assertArrayEquals(new long[]{1, 3}, paged.getIds());
+        assertArrayEquals(new int[]{2, 0}, paged.getChildCounts());
+        assertNull(treeIndex.columns(9L));
+    }
+
+    @Test
+    @DisplayName("Subtree - Unknown id")
+    void testSubtreeUnknownId() {
+        assertNull(treeIndex.subtree(99L));
+        assertNull(treeIndex.subtree(-1L));
+    }
+
+    @Test
+    @DisplayName("Subtree - Not ready before the first rebuild")
+    void testNotReadyBeforeRebuild() {
+        assertFalse(new CategoryTreeIndex().isReady());
+    }
+
+    @Test
+    @DisplayName("Put - Child is inserted in id order")
+    void testPut() {
+        // Act
+        treeIndex.put(6L, 1L, "Child 3");
+        treeIndex.put(7L, 5L, "Other Child");
+
+        // Assert
+        assertEquals(List.of(2L, 3L, 6L), childIds(treeIndex.subtree(1L)));
+        assertEquals(List.of(7L), childIds(treeIndex.subtree(5L)));
+        assertEquals(7, treeIndex.size());
+    }
+
+    @Test
+    @DisplayName("Move - Subtree is re-linked under the new parent")
+    void testMove() {
+        // Act
+        treeIndex.move(2L, 5L);
+
+        // Assert
+        assertEquals(List.of(3L), childIds(treeIndex.subtree(1L)));
+        CategoryDto moved = treeIndex.subtree(5L).getChildren().get(0);
+        assertEquals(2L, moved.getId());
+        assertEquals(5L, moved.getParentId());
+        assertEquals(List.of(4L), childIds(moved));
+    }
+
+    @Test
+    @DisplayName("Move - Into a middle sibling position and to the root")
+    void testMoveOrderingAndToRoot() {
+        // Act
+        treeIndex.move(4L, 1L);
+        treeIndex.move(3L, null);
+
+        // Assert
+        assertEquals(List.of(2L, 4L), childIds(treeIndex.subtree(1L)));
+        assertNull(treeIndex.subtree(3L).getParentId());
+    }
+
+    @Test
+    @DisplayName("Move - Cycle invalidates the index")
+    void testMoveIntoOwnSubtree() {
+        // Act
+        treeIndex.move(1L, 4L);
+
+        // Assert
+        assertFalse(treeIndex.isReady());
+    }
+
+    @Test
+    @DisplayName("Remove - Whole subtree is removed")
+    void testRemove() {
+        // Act
+        int removed = treeIndex.remove(2L);
+
+        // Assert
+        assertEquals(2, removed);
+        assertEquals(3, treeIndex.size());
+        assertNull(treeIndex.subtree(4L));
+        assertEquals(List.of(3L), childIds(treeIndex.subtree(1L)));
+    }
+
+    @Test
+    @DisplayName("Search - Label prefixes first, then later words, ignoring case")
+    void testSearch() {
+        // Arrange
+        treeIndex.put(6L, 2L, "Children's Choir");
+        treeIndex.put(7L, 5L, "Rock Music");
+
+        // Act
+        List<CategorySearchResult> results = treeIndex.search("  CHILD", 10);
+
+        // Assert
+        assertEquals(List.of(2L, 3L, 6L), results.stream().map(CategorySearchResult::getId).toList());
+        assertEquals(List.of(7L), treeIndex.search("mus", 10).stream().map(CategorySearchResult::getId).toList());
+        assertTrue(treeIndex.search("usic", 10).isEmpty());
+        assertEquals(2, treeIndex.search("child", 2).size());
+    }
+
+    @Test
+    @DisplayName("Search - Results carry their ancestors from the root down")
+    void testSearchAncestors() {
+        // Act
+        CategorySearchResult grandchild = treeIndex.search("grand", 10).get(0);
+        CategorySearchResult root = treeIndex.search("root", 1).get(0);
+
+        // Assert
+        assertEquals(4L, grandchild.getId());
+        assertEquals(2L, grandchild.getParentId());
+        assertEquals(List.of(1L, 2L), grandchild.getAncestors().stream().map(CategorySearchResult.Ancestor::getId).toList());
+        assertEquals("Root", grandchild.getAncestors().get(0).getLabel());
+        assertNull(root.getParentId());
+        assertTrue(root.getAncestors().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Search - Follows moves and removals")
+    void testSearchAfterMoveAndRemove() {
+        // Act
+        treeIndex.move(2L, 5L);
+        List<CategorySearchResult> moved = treeIndex.search("grand", 10);
+        treeIndex.remove(5L);
+
+        // Assert
+        assertEquals(List.of(5L, 2L), moved.get(0).getAncestors().stream().map(CategorySearchResult.Ancestor::getId).toList());
+        assertTrue(treeIndex.search("grand", 10).isEmpty());
+        assertTrue(treeIndex.search("other", 10).isEmpty());
+        assertEquals(List.of(3L), treeIndex.search("child", 10).stream().map(CategorySearchResult::getId).toList());
+    }
+
+    private List<String> aggregates(long... ids) {
+        return Arrays.stream(ids)
+                .mapToObj(treeIndex::stats)
+                .map(stats -> stats.getDescendantCount() + "/" + stats.getLeafCount() + "/" + stats.getHeight())
+                .toList();
+    }
+
+    private List<Long> versions(long... ids) {
+        return Arrays.stream(ids).mapToObj(treeIndex::version).toList();
+    }
+
+    private static List<Long> childIds(CategoryDto dto) {
+        return dto.getChildren().stream().map(CategoryDto::getId).toList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.eventmanagement.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.exceptions.InvalidRequestException;
+import com.eventmanagement.exceptions.NotFoundException;
+import com.eventmanagement.exceptions.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CategoryMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CategoryMetrics metrics = new CategoryMetrics(registry);
+
+    @Test
+    @DisplayName("Operations - Tagged with the outcome of the mapped exceptions")
+    void testRecordOperation() {
+        // Act
+        metrics.recordOperation("getSubtree", 1_000, null);
+        metrics.recordOperation("getSubtree", 1_000, new NotFoundException("missing"));
+        metrics.recordOperation("createCategory", 1_000, new ServiceException("duplicate"));
+        metrics.recordOperation("searchCategories", 1_000, new InvalidRequestException("blank"));
+        metrics.recordOperation("moveSubtree", 1_000, new IllegalStateException("broken"));
+
+        // Assert
+        assertEquals(1, timerCount("getSubtree", "SUCCESS", "none"));
+        assertEquals(1, timerCount("getSubtree", "CLIENT_ERROR", "NotFoundException"));
+        assertEquals(1, timerCount("createCategory", "CLIENT_ERROR", "ServiceException"));
+        assertEquals(1, timerCount("searchCategories", "CLIENT_ERROR", "InvalidRequestException"));
+        assertEquals(1, timerCount("moveSubtree", "SERVER_ERROR", "IllegalStateException"));
+    }
+
+    @Test
+    @DisplayName("Subtree - Node count and depth of a deep chain")
+    void testRecordSubtree() {
+        // Arrange: a chain of 5000 categories, deeper than a recursive walk could go
+        CategoryDto root = dto(1);
+        CategoryDto current = root;
+        for (long id = 2; id <= 5_000; id++) {
+            CategoryDto child = dto(id);
+            current.getChildren().add(child);
+            current = child;
+        }
+
+        // Act
+        metrics.recordSubtree(CategoryMetrics.SOURCE_INDEX, root, 1_000);
+
+        // Assert
+        assertEquals(5_000, registry.get(CategoryMetrics.SUBTREE_NODES).tag("source", "index").summary().max());
+        assertEquals(4_999, registry.get(CategoryMetrics.SUBTREE_DEPTH).tag("source", "index").summary().max());
+        assertEquals(1, registry.get(CategoryMetrics.SUBTREE_ASSEMBLY).tag("source", "index").timer().count());
+    }
+
+    private long timerCount(String operation, String outcome, String exception) {
+        return registry.get(CategoryMetrics.OPERATIONS)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer()
+                .count();
+    }
+
+    private static CategoryDto dto(long id) {
+        return CategoryDto.builder()
+                .id(id)
+                .label("Category " + id)
+                .children(new ArrayList<>())
+                .build();
+    }
+}
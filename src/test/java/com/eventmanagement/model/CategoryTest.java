@@ -33,7 +33,7 @@ class CategoryTest {
     @Test
     void testALlArgsConstructor() {
         // Arrange
-        Category category = new Category(1L, "Category 1", null, List.of());
+        Category category = new Category(1L, "Category 1", null, List.of(), null, 0, 0, 1, 0);
 
         // Assert
         assertEquals(1, category.getId());
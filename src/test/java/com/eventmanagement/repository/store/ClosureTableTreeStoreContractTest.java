@@ -0,0 +1,7 @@
+package com.eventmanagement.repository.store;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "category.storage.mode=closure-table")
+class ClosureTableTreeStoreContractTest extends TreeStoreContractTest {
+}
@@ -0,0 +1,92 @@
+package com.eventmanagement.repository.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventmanagement.model.Category;
+import com.eventmanagement.repository.CategoryRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MaterializedPathTreeStoreTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private MaterializedPathTreeStore treeStore;
+
+    @BeforeEach
+    void setup() {
+        treeStore = new MaterializedPathTreeStore(categoryRepository);
+    }
+
+    @Test
+    @DisplayName("afterCreate - Assigns the child path")
+    void testAfterCreate() {
+        // Arrange
+        Category parent = Category.builder().id(1L).label("Parent").path("/1/").build();
+        Category child = Category.builder().id(7L).label("Child").parent(parent).build();
+        Category root = Category.builder().id(8L).label("Root").build();
+
+        // Act
+        treeStore.afterCreate(child);
+        treeStore.afterCreate(root);
+
+        // Assert
+        assertEquals("/1/7/", child.getPath());
+        assertEquals("/8/", root.getPath());
+    }
+
+    @Test
+    @DisplayName("findSubtree - Prefix range scan")
+    void testFindSubtree() {
+        // Arrange
+        Category root = Category.builder().id(1L).label("Root").path("/1/").build();
+        when(categoryRepository.findSubtreeByPath("/1/", "/10")).thenReturn(List.of(root));
+
+        // Act
+        List<Category> subtree = treeStore.findSubtree(root);
+
+        // Assert
+        assertEquals(List.of(root), subtree);
+        verify(categoryRepository, never()).findSubtreeById(anyLong());
+    }
+
+    @Test
+    @DisplayName("isDescendant - Prefix comparison")
+    void testIsDescendant() {
+        // Arrange
+        Category source = Category.builder().id(1L).label("Source").path("/1/").build();
+        Category descendant = Category.builder().id(5L).label("Descendant").path("/1/2/5/").build();
+        Category sibling = Category.builder().id(12L).label("Sibling").path("/12/").build();
+
+        // Assert
+        assertTrue(treeStore.isDescendant(source, descendant));
+        assertFalse(treeStore.isDescendant(source, sibling));
+    }
+
+    @Test
+    @DisplayName("afterMove - Rewrites the subtree paths in one update")
+    void testAfterMove() {
+        // Arrange
+        Category newParent = Category.builder().id(3L).label("New Parent").path("/3/").build();
+        Category source = Category.builder().id(2L).label("Source").path("/1/2/").parent(newParent).build();
+
+        // Act
+        treeStore.afterMove(source, newParent);
+
+        // Assert
+        verify(categoryRepository).rewritePaths("/1/2/", "/1/20", "/3/2/");
+    }
+}
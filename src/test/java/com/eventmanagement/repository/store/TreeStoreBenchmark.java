@@ -0,0 +1,144 @@
+package com.eventmanagement.repository.store;
+
+import com.eventmanagement.model.Category;
+import com.eventmanagement.repository.CategoryClosureRepository;
+import com.eventmanagement.repository.CategoryNestedSetRepository;
+import com.eventmanagement.repository.CategoryRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Compares the {@link TreeStore} implementations on a deep chain and a wide, shallow tree.
+ * <p>
+ * Skipped by default; run with {@code mvn test -Dtest=TreeStoreBenchmark -Dbenchmark=true}.
+ * All seeded rows are rolled back.
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TreeStoreBenchmark {
+
+    private static final int DEPTH = 500;
+    private static final int FAN_OUT = 100;
+    private static final int LEAVES_PER_CHILD = 50;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryClosureRepository closureRepository;
+
+    @Autowired
+    private CategoryNestedSetRepository nestedSetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Benchmark - Subtree read, descendant check and move per storage mode")
+    void benchmark() {
+        long[] chain = seedChain();
+        long[] wide = seedWide();
+        List<TreeStore> stores = List.of(
+                new AdjacencyListTreeStore(categoryRepository),
+                new MaterializedPathTreeStore(categoryRepository),
+                new ClosureTableTreeStore(categoryRepository, closureRepository),
+                new NestedSetTreeStore(categoryRepository, nestedSetRepository, jdbcTemplate));
+        stores.forEach(TreeStore::initialize);
+        entityManager.flush();
+        entityManager.clear();
+
+        System.out.printf("%n%-18s %-5s %12s %12s %12s%n", "mode", "tree", "subtree ms", "descend ms", "move ms");
+        for (TreeStore store : stores) {
+            report(store, "deep", chain[0], chain[chain.length - 1], chain[DEPTH / 2], chain[1]);
+            report(store, "wide", wide[0], wide[wide.length - 1], wide[1], wide[2]);
+        }
+    }
+
+    // Moves `moved` under `target` and back each iteration, so the tree is unchanged afterwards
+    private void report(TreeStore store, String tree, Long rootId, Long leafId, Long movedId, Long targetId) {
+        double subtree = time(() -> store.findSubtree(find(rootId)).size());
+        double descendant = time(() -> store.isDescendant(find(rootId), find(leafId)));
+        double move = time(() -> {
+            Category moved = find(movedId);
+            Category original = moved.getParent();
+            move(store, moved, find(targetId));
+            move(store, find(movedId), original != null ? find(original.getId()) : null);
+            return null;
+        }) / 2;
+        System.out.printf("%-18s %-5s %12.3f %12.3f %12.3f%n", store.mode(), tree, subtree, descendant, move);
+    }
+
+    private void move(TreeStore store, Category source, Category newParent) {
+        source.setParent(newParent);
+        categoryRepository.saveAndFlush(source);
+        store.afterMove(source, newParent);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private double time(Supplier<?> operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.get();
+            entityManager.clear();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.get();
+            entityManager.clear();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private Category find(Long id) {
+        return categoryRepository.findById(id).orElseThrow();
+    }
+
+    private long[] seedChain() {
+        long[] ids = categoryRepository.nextIds(DEPTH);
+        long[] parentIds = new long[DEPTH];
+        String[] labels = new String[DEPTH];
+        for (int i = 0; i < DEPTH; i++) {
+            parentIds[i] = i == 0 ? 0 : ids[i - 1];
+            labels[i] = "deep-" + i;
+        }
+        categoryRepository.insertAll(ids, parentIds, labels);
+        return ids;
+    }
+
+    // Root first, then the FAN_OUT children, then their leaves
+    private long[] seedWide() {
+        int total = 1 + FAN_OUT + FAN_OUT * LEAVES_PER_CHILD;
+        long[] ids = categoryRepository.nextIds(total);
+        long[] parentIds = new long[total];
+        String[] labels = new String[total];
+        labels[0] = "wide-root";
+        for (int child = 0; child < FAN_OUT; child++) {
+            parentIds[1 + child] = ids[0];
+            labels[1 + child] = "wide-" + child;
+        }
+        int next = 1 + FAN_OUT;
+        for (int child = 0; child < FAN_OUT; child++) {
+            for (int leaf = 0; leaf < LEAVES_PER_CHILD; leaf++) {
+                parentIds[next] = ids[1 + child];
+                labels[next] = "wide-" + child + "-" + leaf;
+                next++;
+            }
+        }
+        categoryRepository.insertAll(ids, parentIds, labels);
+        return ids;
+    }
+}
@@ -0,0 +1,389 @@
+package com.eventmanagement.repository.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.eventmanagement.dto.BatchMoveRequest;
+import com.eventmanagement.dto.BulkCategoryNode;
+import com.eventmanagement.dto.BulkImportResponse;
+import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.dto.CategorySearchResult;
+import com.eventmanagement.dto.CreateCategoryRequest;
+import com.eventmanagement.dto.PurgeJobDto;
+import com.eventmanagement.exceptions.NotFoundException;
+import com.eventmanagement.exceptions.ServiceException;
+import com.eventmanagement.model.CategoryPurgeJob;
+import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.service.CategoryPurgeService;
+import com.eventmanagement.service.CategoryService;
+import com.eventmanagement.service.ReadConsistency;
+import com.eventmanagement.service.SubtreeQuery;
+import com.eventmanagement.service.SubtreeStreamFormat;
+import com.eventmanagement.service.impl.CategoryPurgeWorker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs the {@link CategoryService} contract against a real database for one {@link TreeStore}.
+ * Subclasses select the storage mode; every test rolls back.
+ */
+@Transactional
+abstract class TreeStoreContractTest {
+
+    @Autowired
+    protected CategoryService categoryService;
+
+    @Autowired
+    protected CategoryRepository categoryRepository;
+
+    @Autowired
+    protected TreeStore treeStore;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    protected CategoryPurgeService purgeService;
+
+    @Autowired
+    protected CategoryPurgeWorker purgeWorker;
+
+    // root -> (a -> (a1, a2), b -> (b1)), other
+    protected Long root;
+    protected Long a;
+    protected Long a1;
+    protected Long a2;
+    protected Long b;
+    protected Long b1;
+    protected Long other;
+
+    @BeforeEach
+    void seed() {
+        root = create("Root", null);
+        a = create("A", root);
+        a1 = create("A1", a);
+        a2 = create("A2", a);
+        b = create("B", root);
+        b1 = create("B1", b);
+        other = create("Other", null);
+    }
+
+    @Test
+    @DisplayName("Subtree - All descendants with children in id order")
+    void testGetSubtree() {
+        CategoryDto subtree = subtree(root);
+
+        assertEquals(List.of(a, b), childIds(subtree));
+        assertEquals(List.of(a1, a2), childIds(subtree.getChildren().get(0)));
+        assertEquals(List.of(b1), childIds(subtree.getChildren().get(1)));
+        assertEquals(7, categoryRepository.count());
+    }
+
+    @Test
+    @DisplayName("Subtree - Depth limit and keyset paging")
+    void testGetBoundedSubtree() {
+        CategoryDto shallow = categoryService.getSubtree(root,
+                SubtreeQuery.builder().maxDepth(1).build(), ReadConsistency.STRONG);
+        CategoryDto firstPage = categoryService.getSubtree(root,
+                SubtreeQuery.builder().limit(1).build(), ReadConsistency.STRONG);
+        CategoryDto secondPage = categoryService.getSubtree(root,
+                SubtreeQuery.builder().after(a).limit(1).build(), ReadConsistency.STRONG);
+
+        assertEquals(List.of(a, b), childIds(shallow));
+        assertNull(shallow.getChildCount());
+        assertEquals(2, shallow.getChildren().get(0).getChildCount());
+        assertTrue(shallow.getChildren().get(0).getChildren().isEmpty());
+        assertEquals(List.of(a), childIds(firstPage));
+        assertEquals(List.of(a1, a2), childIds(firstPage.getChildren().get(0)));
+        assertEquals(2, firstPage.getChildCount());
+        assertEquals(List.of(b), childIds(secondPage));
+        assertThrows(NotFoundException.class, () -> categoryService.getSubtree(Long.MAX_VALUE,
+                SubtreeQuery.builder().maxDepth(1).build(), ReadConsistency.STRONG));
+    }
+
+    @Test
+    @DisplayName("Stream - Nested stream matches the buffered subtree")
+    void testStreamSubtree() throws Exception {
+        categoryService.moveSubtree(b, a2);
+        ByteArrayOutputStream nested = new ByteArrayOutputStream();
+        ByteArrayOutputStream flat = new ByteArrayOutputStream();
+
+        categoryService.streamSubtree(root, SubtreeStreamFormat.NESTED).writeTo(nested);
+        categoryService.streamSubtree(a, SubtreeStreamFormat.FLAT).writeTo(flat);
+
+        assertEquals(objectMapper.writeValueAsString(subtree(root)), nested.toString());
+        assertEquals(5, flat.toString().lines().count());
+        assertThrows(NotFoundException.class, () -> categoryService.streamSubtree(Long.MAX_VALUE, SubtreeStreamFormat.FLAT));
+    }
+
+    @Test
+    @DisplayName("Create - Duplicate label and missing parent are rejected")
+    void testCreateRejected() {
+        assertThrows(ServiceException.class, () -> create("A", root));
+        assertThrows(NotFoundException.class, () -> create("Orphan", Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Move - Subtree is re-linked under the new parent")
+    void testMoveSubtree() {
+        categoryService.moveSubtree(a, b1);
+        Long a3 = create("A3", a);
+
+        assertEquals(List.of(b), childIds(subtree(root)));
+        CategoryDto moved = subtree(b1).getChildren().get(0);
+        assertEquals(a, moved.getId());
+        assertEquals(List.of(a1, a2, a3), childIds(moved));
+        assertTrue(treeStore.isDescendant(categoryRepository.getReferenceById(b),
+                categoryRepository.findById(a2).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("Move batch - Moves are applied together against the resulting tree")
+    void testMoveSubtrees() {
+        // a goes under its own child a1, which the batch first moves under other
+        categoryService.moveSubtrees(List.of(
+                BatchMoveRequest.Move.builder().subtreeId(a).newParentId(a1).build(),
+                BatchMoveRequest.Move.builder().subtreeId(a1).newParentId(other).build(),
+                BatchMoveRequest.Move.builder().subtreeId(b).build()));
+        Long a3 = create("A3", a);
+
+        assertEquals(List.of(), childIds(subtree(root)));
+        assertEquals(List.of(b1), childIds(subtree(b)));
+        CategoryDto moved = subtree(other).getChildren().get(0);
+        assertEquals(a1, moved.getId());
+        assertEquals(List.of(a), childIds(moved));
+        assertEquals(List.of(a2, a3), childIds(moved.getChildren().get(0)));
+        assertEquals(List.of(other, a1, a), ancestorIds(a3));
+        assertTrue(treeStore.isDescendant(categoryRepository.findById(other).orElseThrow(),
+                categoryRepository.findById(a2).orElseThrow()));
+        assertFalse(treeStore.isDescendant(categoryRepository.findById(root).orElseThrow(),
+                categoryRepository.findById(a2).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("Move batch - A cycle formed by the moves together is rejected")
+    void testMoveSubtreesCycle() {
+        assertThrows(ServiceException.class, () -> categoryService.moveSubtrees(List.of(
+                BatchMoveRequest.Move.builder().subtreeId(a).newParentId(b1).build(),
+                BatchMoveRequest.Move.builder().subtreeId(b).newParentId(a2).build())));
+
+        assertEquals(List.of(a, b), childIds(subtree(root)));
+    }
+
+    @Test
+    @DisplayName("Move - Into its own subtree is rejected")
+    void testMoveIntoDescendant() {
+        ServiceException thrown = assertThrows(ServiceException.class,
+                () -> categoryService.moveSubtree(root, a1));
+
+        assertEquals("New parent cannot be a descendant of the source category", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Move - Cycle check follows earlier moves")
+    void testMoveCycleCheckAfterMove() {
+        categoryService.moveSubtree(a, b1);
+
+        assertThrows(ServiceException.class, () -> categoryService.moveSubtree(b, a2));
+        categoryService.moveSubtree(a1, other);
+        assertEquals(List.of(a1), childIds(subtree(other)));
+    }
+
+    @Test
+    @DisplayName("Move - To the root and back under another tree")
+    void testMoveToRootAndAcrossTrees() {
+        categoryService.moveSubtree(b, null);
+        assertNull(subtree(b).getParentId());
+        assertEquals(List.of(a), childIds(subtree(root)));
+
+        categoryService.moveSubtree(b, other);
+        categoryService.moveSubtree(root, b1);
+
+        CategoryDto subtree = subtree(other);
+        assertEquals(List.of(b), childIds(subtree));
+        assertEquals(List.of(root), childIds(subtree.getChildren().get(0).getChildren().get(0)));
+        assertFalse(treeStore.isDescendant(categoryRepository.findById(root).orElseThrow(),
+                categoryRepository.findById(other).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("Delete - Whole subtree is removed")
+    void testDeleteCategory() {
+        int deleted = categoryService.deleteCategory(a);
+
+        assertEquals(3, deleted);
+        assertEquals(List.of(b), childIds(subtree(root)));
+        assertFalse(categoryRepository.existsById(a1));
+        assertEquals(4, categoryRepository.count());
+        assertThrows(NotFoundException.class, () -> subtree(a));
+    }
+
+    @Test
+    @DisplayName("Purge - Subtree is gone at once and its rows are removed later")
+    void testPurgeCategory() {
+        PurgeJobDto job = purgeService.purgeCategory(a);
+
+        assertEquals(List.of(b), childIds(subtree(root)));
+        assertThrows(NotFoundException.class, () -> subtree(a));
+        assertThrows(NotFoundException.class, () -> subtree(a1));
+        assertThrows(NotFoundException.class, () -> ancestorIds(a1));
+        assertThrows(NotFoundException.class, () -> create("C", a1));
+        assertThrows(NotFoundException.class, () -> categoryService.moveSubtree(b1, a2));
+        assertThrows(NotFoundException.class, () -> purgeService.purgeCategory(a1));
+        assertTrue(categoryRepository.existsById(a1));
+
+        purgeWorker.purge(job.getId());
+
+        PurgeJobDto completed = purgeService.getPurgeJob(job.getId());
+        assertEquals(CategoryPurgeJob.Status.COMPLETED, completed.getStatus());
+        assertEquals(3L, completed.getTotal());
+        assertEquals(3, completed.getPurged());
+        assertFalse(categoryRepository.existsById(a1));
+        assertEquals(4, categoryRepository.count());
+        categoryService.moveSubtree(b1, root);
+        assertEquals(List.of(b, b1), childIds(subtree(root)));
+    }
+
+    @Test
+    @DisplayName("Delete - Tree stays consistent for later writes")
+    void testDeleteThenCreateAndMove() {
+        categoryService.deleteCategory(a);
+        Long c = create("C", b);
+        categoryService.moveSubtree(b1, c);
+
+        CategoryDto tree = subtree(root);
+        assertEquals(List.of(b), childIds(tree));
+        assertEquals(List.of(c), childIds(child(tree, "B")));
+        assertEquals(List.of(b1), childIds(child(child(tree, "B"), "C")));
+    }
+
+    @Test
+    @DisplayName("Fingerprint - Every kind of write changes the table fingerprint")
+    void testFingerprintChanges() {
+        List<String> fingerprints = new ArrayList<>();
+        fingerprints.add(fingerprint());
+
+        create("C", a1);
+        fingerprints.add(fingerprint());
+        categoryService.moveSubtree(b1, other);
+        fingerprints.add(fingerprint());
+        categoryService.deleteCategory(a2);
+        fingerprints.add(fingerprint());
+        purgeService.purgeCategory(b);
+        fingerprints.add(fingerprint());
+
+        assertEquals(fingerprints.size(), Set.copyOf(fingerprints).size(), fingerprints.toString());
+    }
+
+    @Test
+    @DisplayName("Version - Writes advance the versions of the affected paths only")
+    void testSubtreeVersions() {
+        List<Long> before = versions(root, a, a1, a2, b, b1, other);
+
+        create("C", a1);
+        categoryService.moveSubtree(b1, other);
+        categoryService.deleteCategory(a2);
+
+        // root: create, move, delete; a: create, delete; a1: create; b, b1, other: move
+        List<Long> after = versions(root, a, a1, b, b1, other);
+        assertEquals(List.of(before.get(0) + 3, before.get(1) + 2, before.get(2) + 1,
+                before.get(4) + 1, before.get(5) + 1, before.get(6) + 1), after);
+        assertThrows(NotFoundException.class, () -> categoryService.getSubtreeVersion(a2, ReadConsistency.STRONG));
+    }
+
+    @Test
+    @DisplayName("Import - Nested and flat nodes land under the given parent")
+    void testImportCategories() {
+        List<BulkCategoryNode> categories = List.of(
+                BulkCategoryNode.builder().label("C").children(List.of(
+                        BulkCategoryNode.builder().id(1L).label("C1").build())).build(),
+                BulkCategoryNode.builder().parentId(1L).label("C1a").build());
+
+        BulkImportResponse response = categoryService.importCategories(categories, a1);
+        Long c = response.getRootIds().get(0);
+        Long c2 = create("C2", c);
+
+        assertEquals(3, response.getCreated());
+        assertEquals(List.of(c), childIds(subtree(a1)));
+        CategoryDto imported = subtree(c);
+        assertEquals(2, imported.getChildren().size());
+        CategoryDto c1 = child(imported, "C1");
+        assertEquals("C1a", c1.getChildren().get(0).getLabel());
+        assertEquals(c2, child(imported, "C2").getId());
+        assertTrue(treeStore.isDescendant(categoryRepository.findById(root).orElseThrow(),
+                categoryRepository.findById(c1.getChildren().get(0).getId()).orElseThrow()));
+
+        categoryService.moveSubtree(a, other);
+        assertEquals(List.of(a), childIds(subtree(other)));
+        assertEquals(List.of(c), childIds(subtree(a1)));
+    }
+
+    @Test
+    @DisplayName("Search - Database search matches labels and words with ancestors")
+    void testSearchCategories() {
+        Long jazz = create("Smooth Jazz", a1);
+
+        List<CategorySearchResult> byLabel = categoryService.searchCategories("a", 10, ReadConsistency.STRONG);
+        List<CategorySearchResult> byWord = categoryService.searchCategories("JA", 10, ReadConsistency.STRONG);
+
+        assertEquals(List.of(a, a1, a2), byLabel.stream().map(CategorySearchResult::getId).toList());
+        assertEquals(List.of(root, a), byLabel.get(1).getAncestors().stream().map(CategorySearchResult.Ancestor::getId).toList());
+        assertEquals(List.of(jazz), byWord.stream().map(CategorySearchResult::getId).toList());
+        assertEquals(List.of(root, a, a1), byWord.get(0).getAncestors().stream().map(CategorySearchResult.Ancestor::getId).toList());
+        assertTrue(categoryService.searchCategories("a_", 10, ReadConsistency.STRONG).isEmpty());
+        assertTrue(categoryService.searchCategories("%", 10, ReadConsistency.STRONG).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Ancestors - Root path is read from the root down to the parent")
+    void testGetAncestors() {
+        categoryService.moveSubtree(a, b1);
+
+        assertEquals(List.of(root, b, b1, a), ancestorIds(a1));
+        assertEquals(List.of(), ancestorIds(other));
+        assertThrows(NotFoundException.class, () -> categoryService.getAncestors(-1L, ReadConsistency.STRONG));
+    }
+
+    protected Long create(String label, Long parentId) {
+        return categoryService.createCategory(CreateCategoryRequest.builder().label(label).build(), parentId).getId();
+    }
+
+    protected String fingerprint() {
+        CategoryRepository.TableFingerprint fingerprint = categoryRepository.findFingerprint();
+        return fingerprint.getRowCount() + "/" + fingerprint.getMaxId() + "/" + fingerprint.getVersionSum();
+    }
+
+    protected List<Long> versions(Long... ids) {
+        return Arrays.stream(ids).map(id -> categoryService.getSubtreeVersion(id, ReadConsistency.STRONG)).toList();
+    }
+
+    protected List<Long> ancestorIds(Long id) {
+        return categoryService.getAncestors(id, ReadConsistency.STRONG).stream()
+                .map(CategorySearchResult.Ancestor::getId)
+                .toList();
+    }
+
+    protected CategoryDto subtree(Long id) {
+        return categoryService.getSubtree(id, ReadConsistency.STRONG);
+    }
+
+    protected static CategoryDto child(CategoryDto dto, String label) {
+        return dto.getChildren().stream().filter(c -> c.getLabel().equals(label)).findFirst().orElseThrow();
+    }
+
+    protected static List<Long> childIds(CategoryDto dto) {
+        return dto.getChildren().stream().map(CategoryDto::getId).toList();
+    }
+}
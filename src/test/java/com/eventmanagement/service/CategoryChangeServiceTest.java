@@ -0,0 +1,257 @@
+package com.eventmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.dto.CategoryChange;
+import com.eventmanagement.event.CategoriesMovedEvent;
+import com.eventmanagement.event.CategoryChangedEvent;
+import com.eventmanagement.exceptions.InvalidRequestException;
+import com.eventmanagement.exceptions.ServiceException;
+import com.eventmanagement.exceptions.ServiceUnavailableException;
+import com.eventmanagement.repository.CategoryChangeSequenceRepository;
+import com.eventmanagement.service.impl.CategoryChangeServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CategoryChangeServiceTest {
+
+    private CategoryProperties properties;
+    private CategoryChangeServiceImpl changeService;
+
+    @BeforeEach
+    void setup() {
+        properties = new CategoryProperties();
+        properties.getChanges().setBufferSize(3);
+        properties.getChanges().setHeartbeat(Duration.ofMillis(50));
+        properties.getChanges().setStreamDuration(Duration.ofMillis(80));
+        changeService = newChangeService();
+    }
+
+    @Test
+    @DisplayName("Feed - Changes delivered out of order are appended in commit order")
+    void testChangesAreNumbered() throws Exception {
+        // Act
+        changeService.onCategoryChanged(sequenced(CategoryChangedEvent.moved(2L, 1L, 3L), 2));
+        changeService.onCategoryChanged(sequenced(CategoryChangedEvent.deleted(4L, 3L), 3));
+        assertTrue(changeService.awaitChanges(0, 0, TimeUnit.MILLISECONDS).isEmpty());
+        changeService.onCategoryChanged(sequenced(CategoryChangedEvent.created(1L, "Music", null), 1));
+
+        // Assert
+        List<CategoryChange> changes = changeService.awaitChanges(0, 0, TimeUnit.MILLISECONDS);
+        assertEquals(List.of(1L, 2L, 3L), changes.stream().map(CategoryChange::getSequence).toList());
+        assertEquals("Music", changes.get(0).getLabel());
+        assertEquals(1L, changes.get(1).getPreviousParentId());
+        assertEquals(3L, changes.get(2).getParentId());
+        assertNull(changes.get(2).getPreviousParentId());
+        assertEquals(List.of(3L), changeService.awaitChanges(2, 0, TimeUnit.MILLISECONDS).stream()
+                .map(CategoryChange::getSequence).toList());
+    }
+
+    @Test
+    @DisplayName("Feed - Each move of a batch is a change of its own")
+    void testBatchMovesAreNumbered() throws Exception {
+        // Act
+        changeService.onCategoriesMoved(new CategoriesMovedEvent(List.of(
+                sequenced(CategoryChangedEvent.moved(2L, 1L, 3L), 1),
+                sequenced(CategoryChangedEvent.moved(4L, 1L, 3L), 2))));
+
+        // Assert
+        List<CategoryChange> changes = changeService.awaitChanges(0, 0, TimeUnit.MILLISECONDS);
+        assertEquals(List.of(1L, 2L), changes.stream().map(CategoryChange::getSequence).toList());
+        assertEquals(List.of(2L, 4L), changes.stream().map(CategoryChange::getCategoryId).toList());
+        assertEquals(CategoryChangedEvent.Type.MOVED, changes.get(1).getType());
+        assertEquals(1L, changes.get(1).getPreviousParentId());
+    }
+
+    @Test
+    @DisplayName("Feed - Resuming behind the buffer or ahead of the feed is rejected")
+    void testResumeOutsideBuffer() throws Exception {
+        // Arrange: the buffer keeps changes 2 to 4
+        for (long id = 1; id <= 4; id++) {
+            changeService.onCategoryChanged(sequenced(CategoryChangedEvent.created(id, "c" + id, null), id));
+        }
+
+        // Act and Assert
+        assertEquals(3, changeService.awaitChanges(1, 0, TimeUnit.MILLISECONDS).size());
+        assertThrows(ServiceException.class, () -> changeService.streamChanges(token(0), ChangeStreamFormat.SSE));
+        assertThrows(ServiceException.class, () -> changeService.streamChanges(token(5), ChangeStreamFormat.SSE));
+    }
+
+    @Test
+    @DisplayName("Feed - Tokens of another epoch are rejected, malformed ones are invalid")
+    void testResumeTokenOfAnotherEpoch() {
+        // Arrange
+        changeService.onCategoryChanged(sequenced(CategoryChangedEvent.created(1L, "Music", null), 1));
+
+        // Act and Assert
+        ServiceException foreign = assertThrows(ServiceException.class,
+                () -> changeService.streamChanges(newChangeService().getEpoch() + "-1", ChangeStreamFormat.SSE));
+        assertTrue(foreign.getMessage().endsWith("resume after " + token(1)), foreign.getMessage());
+        assertThrows(InvalidRequestException.class, () -> changeService.streamChanges("1", ChangeStreamFormat.SSE));
+        assertThrows(InvalidRequestException.class, () -> changeService.streamChanges(changeService.getEpoch() + "-x",
+                ChangeStreamFormat.SSE));
+    }
+
+    @Test
+    @DisplayName("Feed - A change committed elsewhere is skipped after the reorder timeout")
+    void testMissingChangeSkipped() throws Exception {
+        // Arrange
+        properties.getChanges().setReorderTimeout(Duration.ofMillis(10));
+        changeService = newChangeService();
+
+        // Act
+        changeService.onCategoryChanged(sequenced(CategoryChangedEvent.created(2L, "Jazz", null), 2));
+        List<CategoryChange> changes = changeService.awaitChanges(0, 1, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of(2L), changes.stream().map(CategoryChange::getSequence).toList());
+    }
+
+    @Test
+    @DisplayName("Feed - Streams wait for the feed to start after the last committed change")
+    void testStreamBeforeStart() throws Exception {
+        // Arrange
+        changeService = new CategoryChangeServiceImpl(properties, new ObjectMapper(),
+                mock(CategoryChangeSequenceRepository.class));
+        changeService.onCategoryChanged(sequenced(CategoryChangedEvent.created(1L, "Music", null), 1));
+        changeService.onCategoryChanged(sequenced(CategoryChangedEvent.created(2L, "Jazz", null), 2));
+
+        // Act and Assert
+        assertThrows(ServiceUnavailableException.class, () -> changeService.streamChanges(null, ChangeStreamFormat.SSE));
+        changeService.start(1);
+        assertEquals(List.of(2L), changeService.awaitChanges(1, 0, TimeUnit.MILLISECONDS).stream()
+                .map(CategoryChange::getSequence).toList());
+    }
+
+    @Test
+    @DisplayName("Feed - An idle wait times out empty")
+    void testAwaitTimesOut() throws Exception {
+        assertTrue(changeService.awaitChanges(0, 10, TimeUnit.MILLISECONDS).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Stream - Server-sent events resume after the given sequence")
+    void testStreamSse() throws Exception {
+        // Arrange
+        changeService.onCategoryChanged(sequenced(CategoryChangedEvent.created(1L, "Music", null), 1));
+        changeService.onCategoryChanged(sequenced(CategoryChangedEvent.moved(1L, null, 7L), 2));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        changeService.streamChanges(token(1), ChangeStreamFormat.SSE).writeTo(out);
+
+        // Assert
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("id: " + token(2) + "\nevent: MOVED\ndata: {\"epoch\":\"" + changeService.getEpoch()
+                + "\",\"sequence\":2,\"type\":\"MOVED\",\"categoryId\":1,"
+                + "\"parentId\":7,\"previousParentId\":null,\"committedAt\":\""), body);
+        assertTrue(body.contains("\"}\n\n:\n\n"), body);
+        assertTrue(body.endsWith(":\n\n"), body);
+    }
+
+    @Test
+    @DisplayName("Stream - NDJSON writes one change per line")
+    void testStreamNdjson() throws Exception {
+        // Arrange
+        changeService.onCategoryChanged(sequenced(CategoryChangedEvent.imported(5L, new long[]{6L}, new long[]{5L},
+                new String[]{"Imported"}), 1));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        changeService.streamChanges(token(0), ChangeStreamFormat.NDJSON).writeTo(out);
+
+        // Assert
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("{\"epoch\":\"" + changeService.getEpoch() + "\",\"sequence\":1,\"type\":\"IMPORTED\",\"categoryId\":null,\"parentId\":5,"), body);
+        assertEquals(1, body.lines().filter(line -> !line.isEmpty()).count());
+    }
+
+    @Test
+    @DisplayName("Stream - Streams beyond the limit are turned away until one ends")
+    void testStreamLimit() throws Exception {
+        // Arrange
+        properties.getChanges().setMaxStreams(1);
+        changeService = newChangeService();
+        CountDownLatch opened = new CountDownLatch(1);
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void flush() {
+                opened.countDown();
+            }
+        };
+        ChangeStream first = changeService.streamChanges(null, ChangeStreamFormat.SSE);
+
+        // Act
+        CompletableFuture<Void> written = CompletableFuture.runAsync(() -> {
+            try {
+                first.writeTo(out);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertTrue(opened.await(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertThrows(ServiceUnavailableException.class, () -> changeService.streamChanges(null, ChangeStreamFormat.SSE));
+        written.get(5, TimeUnit.SECONDS);
+        changeService.streamChanges(null, ChangeStreamFormat.NDJSON).writeTo(new ByteArrayOutputStream());
+    }
+
+    @Test
+    @DisplayName("Stream - A slot is reserved when requested and freed when closed unwritten")
+    void testStreamSlotReservedOnRequest() {
+        // Arrange
+        properties.getChanges().setMaxStreams(1);
+        changeService = newChangeService();
+        assertThrows(InvalidRequestException.class, () -> changeService.streamChanges("1", ChangeStreamFormat.SSE));
+
+        // Act
+        ChangeStream first = changeService.streamChanges(null, ChangeStreamFormat.SSE);
+
+        // Assert
+        assertThrows(ServiceUnavailableException.class, () -> changeService.streamChanges(null, ChangeStreamFormat.SSE));
+        first.close();
+        first.close();
+        changeService.streamChanges(null, ChangeStreamFormat.SSE).close();
+        assertThrows(ServiceUnavailableException.class, () -> {
+            ChangeStream second = changeService.streamChanges(null, ChangeStreamFormat.SSE);
+            changeService.streamChanges(null, ChangeStreamFormat.SSE);
+            second.close();
+        });
+    }
+
+    private CategoryChangeServiceImpl newChangeService() {
+        CategoryChangeServiceImpl service = new CategoryChangeServiceImpl(properties, new ObjectMapper(),
+                mock(CategoryChangeSequenceRepository.class));
+        service.start(0);
+        return service;
+    }
+
+    private String token(long sequence) {
+        return changeService.getEpoch() + "-" + sequence;
+    }
+
+    private static CategoryChangedEvent sequenced(CategoryChangedEvent event, long sequence) {
+        event.setSequence(sequence);
+        return event;
+    }
+}
@@ -0,0 +1,188 @@
+package com.eventmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.refEq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.dto.PurgeJobDto;
+import com.eventmanagement.event.CategoryChangedEvent;
+import com.eventmanagement.event.CategoryPurgeScheduledEvent;
+import com.eventmanagement.exceptions.NotFoundException;
+import com.eventmanagement.model.Category;
+import com.eventmanagement.model.CategoryPurgeJob;
+import com.eventmanagement.repository.CategoryPurgeJobRepository;
+import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.CategoryRowHandler;
+import com.eventmanagement.service.impl.CategoryPurgeServiceImpl;
+import com.eventmanagement.service.impl.CategoryPurgeWorker;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryPurgeServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryPurgeJobRepository purgeJobRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CategoryPurgeServiceImpl purgeService;
+
+    private CategoryPurgeWorker purgeWorker;
+
+    @BeforeEach
+    void setup() {
+        CategoryProperties properties = new CategoryProperties();
+        properties.getPurge().setChunkSize(2);
+        purgeService = new CategoryPurgeServiceImpl(categoryRepository, purgeJobRepository, eventPublisher);
+        purgeWorker = new CategoryPurgeWorker(categoryRepository, purgeJobRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties);
+    }
+
+    @Test
+    @DisplayName("Purge - Detaches the root and schedules a job")
+    void testPurgeCategory() {
+        // Arrange
+        Category parent = Category.builder().id(1L).label("Parent").build();
+        Category category = Category.builder().id(2L).label("Child").parent(parent).build();
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(category));
+        when(categoryRepository.findPurgingIds(List.of(2L))).thenReturn(List.of());
+        when(categoryRepository.findStatsById(2L)).thenReturn(Optional.of(CategoryServiceTest.stats(2L, 2, 2, 1)));
+        when(purgeJobRepository.save(any(CategoryPurgeJob.class))).then(returnsFirstArg());
+
+        // Act
+        PurgeJobDto job = purgeService.purgeCategory(2L);
+
+        // Assert
+        assertNotNull(job.getId());
+        assertEquals(2L, job.getCategoryId());
+        assertEquals(CategoryPurgeJob.Status.PENDING, job.getStatus());
+        assertNull(job.getTotal());
+        InOrder order = inOrder(categoryRepository, purgeJobRepository);
+        order.verify(categoryRepository).touchPaths(List.of(2L));
+        order.verify(categoryRepository).detachFromParent(2L);
+        order.verify(categoryRepository).removeFromAncestors(1L, 3L, 2L);
+        order.verify(categoryRepository).refreshHeights(1L);
+        order.verify(purgeJobRepository).save(any(CategoryPurgeJob.class));
+        verify(categoryRepository, never()).delete(any(Category.class));
+        verify(eventPublisher).publishEvent(refEq(CategoryChangedEvent.deleted(2L, 1L)));
+        verify(eventPublisher).publishEvent(refEq(new CategoryPurgeScheduledEvent(job.getId())));
+    }
+
+    @Test
+    @DisplayName("Purge - Category not found or already being purged")
+    void testPurgeCategoryNotFound() {
+        // Arrange
+        when(categoryRepository.findById(9L)).thenReturn(Optional.empty());
+        when(categoryRepository.findById(3L)).thenReturn(Optional.of(Category.builder().id(3L).label("Gone").build()));
+        when(categoryRepository.findPurgingIds(List.of(3L))).thenReturn(List.of(3L));
+
+        // Act
+        NotFoundException missing = assertThrows(NotFoundException.class, () -> purgeService.purgeCategory(9L));
+        NotFoundException purging = assertThrows(NotFoundException.class, () -> purgeService.purgeCategory(3L));
+
+        // Assert
+        assertEquals("Category not found with id: 9", missing.getMessage());
+        assertEquals("Category not found with id: 3", purging.getMessage());
+        verify(categoryRepository, never()).detachFromParent(anyLong());
+        verify(purgeJobRepository, never()).save(any(CategoryPurgeJob.class));
+    }
+
+    @Test
+    @DisplayName("Get Job - Job not found")
+    void testGetPurgeJobNotFound() {
+        UUID jobId = UUID.randomUUID();
+        when(purgeJobRepository.findById(jobId)).thenReturn(Optional.empty());
+
+        NotFoundException thrown = assertThrows(NotFoundException.class, () -> purgeService.getPurgeJob(jobId));
+
+        assertEquals("Job not found with id: " + jobId, thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Worker - Deletes the subtree from the deepest end in chunks")
+    void testWorkerPurgesInChunks() {
+        // Arrange: 10 -> (11 -> (13, 14), 12), read breadth-first
+        UUID jobId = UUID.randomUUID();
+        CategoryPurgeJob job = CategoryPurgeJob.builder()
+                .id(jobId)
+                .rootId(10L)
+                .status(CategoryPurgeJob.Status.PENDING)
+                .createdAt(Instant.now())
+                .build();
+        when(purgeJobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        doAnswer(invocation -> {
+            CategoryRowHandler handler = invocation.getArgument(2);
+            handler.handle(10, 0, "Root", 0);
+            handler.handle(11, 10, "A", 0);
+            handler.handle(12, 10, "B", 0);
+            handler.handle(13, 11, "A1", 0);
+            handler.handle(14, 11, "A2", 0);
+            return null;
+        }).when(categoryRepository).forEachSubtreeRow(eq(10L), eq(false), any(CategoryRowHandler.class));
+        when(categoryRepository.deleteByIds(any(long[].class))).then(invocation -> invocation.<long[]>getArgument(0).length);
+
+        // Act
+        purgeWorker.purge(jobId);
+
+        // Assert
+        ArgumentCaptor<long[]> chunks = ArgumentCaptor.forClass(long[].class);
+        verify(categoryRepository, times(3)).deleteByIds(chunks.capture());
+        List<long[]> deleted = chunks.getAllValues();
+        assertArrayEquals(new long[]{13, 14}, deleted.get(0));
+        assertArrayEquals(new long[]{11, 12}, deleted.get(1));
+        assertArrayEquals(new long[]{10}, deleted.get(2));
+        verify(purgeJobRepository, times(2)).addPurged(jobId, 2);
+        verify(purgeJobRepository).addPurged(jobId, 1);
+        assertEquals(CategoryPurgeJob.Status.COMPLETED, job.getStatus());
+        assertEquals(5L, job.getTotal());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    @DisplayName("Worker - A completed job is left alone")
+    void testWorkerSkipsCompletedJob() {
+        UUID jobId = UUID.randomUUID();
+        when(purgeJobRepository.findById(jobId)).thenReturn(Optional.of(CategoryPurgeJob.builder()
+                .id(jobId)
+                .rootId(10L)
+                .status(CategoryPurgeJob.Status.COMPLETED)
+                .build()));
+
+        purgeWorker.purge(jobId);
+
+        verify(categoryRepository, never()).deleteByIds(any(long[].class));
+    }
+}
@@ -1,34 +1,70 @@
 package com.eventmanagement.service;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.dto.BatchMoveRequest;
+import com.eventmanagement.dto.BulkCategoryNode;
+import com.eventmanagement.dto.BulkImportResponse;
+import com.eventmanagement.dto.CategoryChildrenPage;
+import com.eventmanagement.dto.CategoryColumns;
 import com.eventmanagement.dto.CategoryDto;
+import com.eventmanagement.dto.CategorySearchResult;
+import com.eventmanagement.dto.CategoryStatsDto;
 import com.eventmanagement.dto.CreateCategoryRequest;
+import com.eventmanagement.event.CategoriesMovedEvent;
+import com.eventmanagement.event.CategoryChangedEvent;
+import com.eventmanagement.exceptions.InvalidRequestException;
 import com.eventmanagement.exceptions.NotFoundException;
 import com.eventmanagement.exceptions.ServiceException;
+import com.eventmanagement.index.CategoryPathCache;
+import com.eventmanagement.index.CategoryTreeIndex;
+import com.eventmanagement.metrics.CategoryMetrics;
 import com.eventmanagement.model.Category;
 import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.CategoryRepository.AncestorRow;
+import com.eventmanagement.repository.CategoryRepository.ChildRow;
+import com.eventmanagement.repository.CategoryRepository.ParentRow;
+import com.eventmanagement.repository.CategoryRepository.PathRow;
+import com.eventmanagement.repository.CategoryRepository.SearchRow;
+import com.eventmanagement.repository.CategoryRepository.StatsRow;
+import com.eventmanagement.repository.store.AdjacencyListTreeStore;
 import com.eventmanagement.service.impl.CategoryServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryServiceTest {
@@ -36,7 +72,16 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
-    @InjectMocks
+    @Mock
+    private CategoryTreeIndex treeIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CategoryPathCache pathCache = new CategoryPathCache(new CategoryProperties());
+
     private CategoryServiceImpl categoryService;
 
     private final CreateCategoryRequest.CreateCategoryRequestBuilder createCategoryRequestBuilder = CreateCategoryRequest.builder();
@@ -44,6 +89,10 @@ class CategoryServiceTest {
 
     @BeforeEach
     void setup() {
+       categoryService = new CategoryServiceImpl(categoryRepository,
+               new AdjacencyListTreeStore(categoryRepository), treeIndex, pathCache, eventPublisher, new ObjectMapper(),
+               new CategoryMetrics(meterRegistry), new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
        createCategoryRequestBuilder
                .label("Category 1");
 
@@ -123,6 +172,45 @@ class CategoryServiceTest {
         verify(categoryRepository, never()).save(any(Category.class));
     }
 
+    @Test
+    @DisplayName("Import Categories - Rows inserted parents first with pooled ids")
+    void testImportCategories() {
+        // Arrange
+        List<BulkCategoryNode> categories = List.of(BulkCategoryNode.builder()
+                .label("Sports")
+                .children(List.of(BulkCategoryNode.builder().label("Football").build()))
+                .build());
+        when(categoryRepository.existsById(3L)).thenReturn(true);
+        when(categoryRepository.findExistingLabels(List.of("Sports", "Football"))).thenReturn(Set.of());
+        when(categoryRepository.nextIds(2)).thenReturn(new long[]{51L, 52L});
+
+        // Act
+        BulkImportResponse actual = categoryService.importCategories(categories, 3L);
+
+        // Assert
+        assertEquals(2, actual.getCreated());
+        assertEquals(List.of(51L), actual.getRootIds());
+        verify(categoryRepository).insertAll(new long[]{51L, 52L}, new long[]{3L, 51L}, new String[]{"Sports", "Football"});
+        verify(categoryRepository).addToAncestors(3L, 2, 1, 1);
+        verify(eventPublisher).publishEvent(any(CategoryChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Import Categories - Label already exists")
+    void testImportCategoriesLabelExists() {
+        // Arrange
+        List<BulkCategoryNode> categories = List.of(BulkCategoryNode.builder().label("Sports").build());
+        when(categoryRepository.findExistingLabels(List.of("Sports"))).thenReturn(Set.of("Sports"));
+
+        // Act
+        ServiceException thrown = assertThrows(ServiceException.class,
+                () -> categoryService.importCategories(categories, null));
+
+        // Assert
+        assertEquals("Category with the label already exists: Sports", thrown.getMessage());
+        verify(categoryRepository, never()).nextIds(anyInt());
+    }
+
 
     @Test
     @DisplayName("Test Get Category Subtree - Success")
@@ -171,12 +259,342 @@ class CategoryServiceTest {
                 .toList();
 
         assertEquals(List.of(2L, 3L), childIds);
+        assertEquals(3, meterRegistry.get(CategoryMetrics.SUBTREE_NODES).tag("source", "database").summary().totalAmount());
+        assertEquals(1, meterRegistry.get(CategoryMetrics.SUBTREE_DEPTH).tag("source", "database").summary().max());
 
         // Verify mocks
         verify(categoryRepository).findById(rootId);
         verify(categoryRepository).findSubtreeById(rootId);
     }
 
+    @Test
+    @DisplayName("Get Subtree - Served from the tree index")
+    void testGetSubtreeFromIndex() {
+        // Arrange
+        Long rootId = 1L;
+        CategoryDto indexed = CategoryDto.builder()
+                .id(rootId)
+                .label("Root")
+                .children(new ArrayList<>())
+                .build();
+
+        when(treeIndex.isReady()).thenReturn(true);
+        when(treeIndex.subtree(rootId)).thenReturn(indexed);
+
+        // Act
+        CategoryDto result = categoryService.getSubtree(rootId);
+
+        // Assert
+        assertEquals(indexed, result);
+        assertEquals(1, meterRegistry.get(CategoryMetrics.SUBTREE_ASSEMBLY).tag("source", "index").timer().count());
+        verify(categoryRepository, never()).findById(anyLong());
+        verify(categoryRepository, never()).findSubtreeById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Get Subtree - Not in the tree index")
+    void testGetSubtreeFromIndexNotFound() {
+        // Arrange
+        when(treeIndex.isReady()).thenReturn(true);
+
+        // Act
+        NotFoundException thrown = assertThrows(
+                NotFoundException.class,
+                () -> categoryService.getSubtree(42L)
+        );
+
+        // Assert
+        assertEquals("Category not found with id: 42", thrown.getMessage());
+        verify(categoryRepository, never()).findSubtreeById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Get Subtree - Strong consistency bypasses the tree index")
+    void testGetSubtreeStrongConsistency() {
+        // Arrange
+        Long rootId = 1L;
+        Category root = categoryBuilder.id(rootId).build();
+
+        when(categoryRepository.findById(rootId)).thenReturn(Optional.of(root));
+        when(categoryRepository.findSubtreeById(rootId)).thenReturn(List.of(root));
+
+        // Act
+        CategoryDto result = categoryService.getSubtree(rootId, ReadConsistency.STRONG);
+
+        // Assert
+        assertEquals(rootId, result.getId());
+        verify(treeIndex, never()).subtree(anyLong());
+        verify(categoryRepository).findSubtreeById(rootId);
+    }
+
+    @Test
+    @DisplayName("Get Subtree Columns - Database reads are listed breadth-first")
+    void testGetSubtreeColumnsFromDatabase() {
+        // Arrange
+        Category root = Category.builder().id(1L).label("Root").build();
+        Category child = Category.builder().id(2L).label("Child").parent(root).build();
+        Category grandchild = Category.builder().id(3L).label("Grandchild").parent(child).build();
+
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(root));
+        when(categoryRepository.findSubtreeById(1L)).thenReturn(List.of(root, child, grandchild));
+
+        // Act
+        CategoryColumns result = categoryService.getSubtreeColumns(1L, SubtreeQuery.full(), ReadConsistency.EVENTUAL);
+
+        // Assert
+        assertArrayEquals(new long[]{1, 2, 3}, result.getIds());
+        assertArrayEquals(new long[]{0, 1, 2}, result.getParentIds());
+        assertArrayEquals(new String[]{"Root", "Child", "Grandchild"}, result.getLabels());
+        assertNull(result.getChildCounts());
+        verify(treeIndex, never()).columns(anyLong());
+    }
+
+    @Test
+    @DisplayName("Subtree Version - Served from the tree index")
+    void testGetSubtreeVersionFromIndex() {
+        // Arrange
+        when(treeIndex.isReady()).thenReturn(true);
+        when(treeIndex.version(1L)).thenReturn(7L);
+        when(treeIndex.version(42L)).thenReturn(null);
+
+        // Act
+        long version = categoryService.getSubtreeVersion(1L, ReadConsistency.EVENTUAL);
+
+        // Assert
+        assertEquals(7L, version);
+        verify(categoryRepository, never()).findSubtreeVersionById(anyLong());
+        assertThrows(NotFoundException.class, () -> categoryService.getSubtreeVersion(42L, ReadConsistency.EVENTUAL));
+    }
+
+    @Test
+    @DisplayName("Subtree Version - Strong consistency reads the database")
+    void testGetSubtreeVersionStrongConsistency() {
+        // Arrange
+        when(categoryRepository.findSubtreeVersionById(1L)).thenReturn(Optional.of(3L));
+        when(categoryRepository.findSubtreeVersionById(42L)).thenReturn(Optional.empty());
+
+        // Act
+        long version = categoryService.getSubtreeVersion(1L, ReadConsistency.STRONG);
+
+        // Assert
+        assertEquals(3L, version);
+        verify(treeIndex, never()).version(anyLong());
+        NotFoundException thrown = assertThrows(NotFoundException.class,
+                () -> categoryService.getSubtreeVersion(42L, ReadConsistency.STRONG));
+        assertEquals("Category not found with id: 42", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Get Subtree - Invalid bounds are rejected")
+    void testGetSubtreeInvalidBounds() {
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> categoryService.getSubtree(1L,
+                SubtreeQuery.builder().maxDepth(-1).build(), ReadConsistency.EVENTUAL));
+        assertThrows(InvalidRequestException.class, () -> categoryService.getSubtree(1L,
+                SubtreeQuery.builder().limit(0).build(), ReadConsistency.STRONG));
+        verify(treeIndex, never()).subtree(anyLong(), anyInt(), anyLong(), anyInt());
+        verify(categoryRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Stats - Served from the tree index")
+    void testGetStatsFromIndex() {
+        // Arrange
+        CategoryStatsDto indexed = CategoryStatsDto.builder().id(1L).descendantCount(5).leafCount(3).height(2).build();
+        when(treeIndex.isReady()).thenReturn(true);
+        when(treeIndex.stats(1L)).thenReturn(indexed);
+
+        // Act
+        CategoryStatsDto stats = categoryService.getStats(1L, ReadConsistency.EVENTUAL);
+
+        // Assert
+        assertEquals(indexed, stats);
+        verify(categoryRepository, never()).findStatsById(anyLong());
+        assertThrows(NotFoundException.class, () -> categoryService.getStats(42L, ReadConsistency.EVENTUAL));
+    }
+
+    @Test
+    @DisplayName("Stats - Strong consistency reads the stored aggregates")
+    void testGetStatsStrongConsistency() {
+        // Arrange
+        when(categoryRepository.findStatsById(1L)).thenReturn(Optional.of(stats(1L, 5, 3, 2)));
+        when(categoryRepository.findStatsById(42L)).thenReturn(Optional.empty());
+
+        // Act
+        CategoryStatsDto stats = categoryService.getStats(1L, ReadConsistency.STRONG);
+
+        // Assert
+        assertEquals(5, stats.getDescendantCount());
+        assertEquals(3, stats.getLeafCount());
+        assertEquals(2, stats.getHeight());
+        verify(treeIndex, never()).stats(anyLong());
+        NotFoundException thrown = assertThrows(NotFoundException.class,
+                () -> categoryService.getStats(42L, ReadConsistency.STRONG));
+        assertEquals("Category not found with id: 42", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Create Category - Adds the new leaf to the aggregates of its ancestors")
+    void testCreateCategoryUpdatesAggregates() {
+        // Arrange
+        Category parent = Category.builder().id(3L).label("Parent").build();
+        when(categoryRepository.findById(3L)).thenReturn(Optional.of(parent));
+        when(categoryRepository.save(any(Category.class))).then(invocation -> invocation.getArgument(0));
+
+        // Act
+        CategoryDto created = categoryService.createCategory(createCategoryRequestBuilder.build(), 3L);
+
+        // Assert
+        assertEquals(0L, created.getDescendantCount());
+        assertEquals(1L, created.getLeafCount());
+        assertEquals(0, created.getHeight());
+        InOrder order = inOrder(categoryRepository);
+        order.verify(categoryRepository).touchPaths(List.of(3L));
+        order.verify(categoryRepository).save(any(Category.class));
+        order.verify(categoryRepository).addToAncestors(3L, 1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Search - Served from the tree index")
+    void testSearchFromIndex() {
+        // Arrange
+        List<CategorySearchResult> indexed = List.of(CategorySearchResult.builder().id(1L).label("Jazz").build());
+        when(treeIndex.isReady()).thenReturn(true);
+        when(treeIndex.search("ja", 10)).thenReturn(indexed);
+
+        // Act
+        List<CategorySearchResult> results = categoryService.searchCategories("ja", 10, ReadConsistency.EVENTUAL);
+
+        // Assert
+        assertEquals(indexed, results);
+        verify(categoryRepository, never()).searchByLabel(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Search - Strong consistency queries the database with escaped wildcards")
+    void testSearchStrongConsistency() {
+        // Arrange
+        SearchRow row = mock(SearchRow.class);
+        when(row.getId()).thenReturn(3L);
+        when(row.getLabel()).thenReturn("50% Off");
+        when(row.getParentId()).thenReturn(2L);
+        AncestorRow root = mock(AncestorRow.class);
+        when(root.getDescendantId()).thenReturn(3L);
+        when(root.getId()).thenReturn(1L);
+        when(root.getLabel()).thenReturn("Root");
+        AncestorRow parent = mock(AncestorRow.class);
+        when(parent.getDescendantId()).thenReturn(3L);
+        when(parent.getId()).thenReturn(2L);
+        when(parent.getLabel()).thenReturn("Deals");
+
+        when(categoryRepository.searchByLabel("50\\%", 10)).thenReturn(List.of(row));
+        when(categoryRepository.findAncestorRows(List.of(3L))).thenReturn(List.of(root, parent));
+
+        // Act
+        List<CategorySearchResult> results = categoryService.searchCategories(" 50% ", 10, ReadConsistency.STRONG);
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals("50% Off", results.get(0).getLabel());
+        assertEquals(2L, results.get(0).getParentId());
+        assertEquals(List.of(1L, 2L), results.get(0).getAncestors().stream().map(CategorySearchResult.Ancestor::getId).toList());
+        verify(treeIndex, never()).search(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Children - Strong consistency pages the top-level categories in the database")
+    void testGetChildrenOfRootFromDatabase() {
+        // Arrange
+        ChildRow first = child(7L, true);
+        ChildRow second = child(9L, false);
+        // The extra row only tells that another page follows
+        ChildRow extra = mock(ChildRow.class);
+        when(categoryRepository.findRootsPage(5L, 3)).thenReturn(List.of(first, second, extra));
+
+        // Act
+        CategoryChildrenPage page = categoryService.getChildren(null, 5L, 2, ReadConsistency.STRONG);
+
+        // Assert
+        assertEquals(List.of(7L, 9L), page.getChildren().stream().map(CategoryChildrenPage.Child::getId).toList());
+        assertTrue(page.getChildren().get(0).isHasChildren());
+        assertEquals(9L, page.getNextAfter());
+        verify(treeIndex, never()).children(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Children - Unknown parent and invalid paging are rejected")
+    void testGetChildrenInvalid() {
+        // Arrange
+        when(categoryRepository.existsById(42L)).thenReturn(false);
+
+        // Act and Assert
+        assertThrows(NotFoundException.class, () -> categoryService.getChildren(42L, 0, 10, ReadConsistency.EVENTUAL));
+        assertThrows(InvalidRequestException.class, () -> categoryService.getChildren(1L, -1, 10, ReadConsistency.EVENTUAL));
+        assertThrows(InvalidRequestException.class, () -> categoryService.getChildren(1L, 0, 1001, ReadConsistency.EVENTUAL));
+        verify(categoryRepository, never()).findChildrenPage(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Search - Blank query and out-of-range limit are rejected")
+    void testSearchInvalidParameters() {
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> categoryService.searchCategories(" ", 10, ReadConsistency.EVENTUAL));
+        assertThrows(InvalidRequestException.class, () -> categoryService.searchCategories("a", 0, ReadConsistency.EVENTUAL));
+        assertThrows(InvalidRequestException.class, () -> categoryService.searchCategories("a", 101, ReadConsistency.STRONG));
+        verify(treeIndex, never()).search(anyString(), anyInt());
+        verify(categoryRepository, never()).searchByLabel(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Ancestors - A miss reads the root path once and caches it")
+    void testGetAncestorsCachesPath() {
+        // Arrange
+        List<PathRow> path = List.of(pathRow(1L, "Root"), pathRow(2L, "Music"), pathRow(3L, "Jazz"));
+        when(categoryRepository.findRootPath(3L)).thenReturn(path);
+
+        // Act
+        List<CategorySearchResult.Ancestor> first = categoryService.getAncestors(3L, ReadConsistency.EVENTUAL);
+        List<CategorySearchResult.Ancestor> second = categoryService.getAncestors(3L, ReadConsistency.EVENTUAL);
+        List<CategorySearchResult.Ancestor> parent = categoryService.getAncestors(2L, ReadConsistency.EVENTUAL);
+
+        // Assert
+        assertEquals(List.of("Root", "Music"), first.stream().map(CategorySearchResult.Ancestor::getLabel).toList());
+        assertEquals(first, second);
+        assertEquals(List.of(1L), parent.stream().map(CategorySearchResult.Ancestor::getId).toList());
+        verify(categoryRepository, times(1)).findRootPath(any());
+        assertEquals(1, meterRegistry.get(CategoryMetrics.ANCESTOR_LOOKUPS).tag("result", "miss").counter().count());
+        assertEquals(2, meterRegistry.get(CategoryMetrics.ANCESTOR_LOOKUPS).tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("Ancestors - Strong consistency always reads the database")
+    void testGetAncestorsStrongConsistency() {
+        // Arrange
+        List<PathRow> path = List.of(pathRow(1L, "Root"), pathRow(2L, "Music"));
+        when(categoryRepository.findRootPath(2L)).thenReturn(path);
+
+        // Act
+        categoryService.getAncestors(2L, ReadConsistency.STRONG);
+        List<CategorySearchResult.Ancestor> ancestors = categoryService.getAncestors(2L, ReadConsistency.STRONG);
+
+        // Assert
+        assertEquals(List.of(1L), ancestors.stream().map(CategorySearchResult.Ancestor::getId).toList());
+        verify(categoryRepository, times(2)).findRootPath(2L);
+    }
+
+    @Test
+    @DisplayName("Ancestors - Category Not Found")
+    void testGetAncestorsNotFound() {
+        // Arrange
+        when(categoryRepository.findRootPath(99L)).thenReturn(List.of());
+
+        // Act & Assert
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> categoryService.getAncestors(99L, ReadConsistency.EVENTUAL));
+        assertEquals("Category not found with id: 99", exception.getMessage());
+        assertEquals(0, pathCache.size());
+    }
+
     @Test
     @DisplayName("Get Subtree - Category Not Found")
     void testGetSubtreeNotFound() {
@@ -228,9 +646,11 @@ class CategoryServiceTest {
         when(categoryRepository.findById(newParentId))
                 .thenReturn(Optional.of(newParent));
 
-        // subtree does NOT include the new parent (valid move)
-        when(categoryRepository.findSubtreeById(sourceId))
-                .thenReturn(List.of(source));
+        // new parent is not below the source (valid move)
+        when(categoryRepository.isDescendant(sourceId, newParentId))
+                .thenReturn(false);
+        when(categoryRepository.findStatsById(sourceId))
+                .thenReturn(Optional.of(stats(sourceId, 4, 3, 2)));
 
         // Act
         categoryService.moveSubtree(sourceId, newParentId);
@@ -239,8 +659,55 @@ class CategoryServiceTest {
         assertEquals(newParent, source.getParent());
         verify(categoryRepository).findById(sourceId);
         verify(categoryRepository).findById(newParentId);
-        verify(categoryRepository).findSubtreeById(sourceId);
+        verify(categoryRepository).isDescendant(sourceId, newParentId);
+        verify(categoryRepository, never()).findSubtreeById(anyLong());
+        verify(categoryRepository).touchPaths(List.of(sourceId, newParentId));
         verify(categoryRepository).save(source);
+        verify(categoryRepository).addToAncestors(newParentId, 5, 3, 2);
+        verify(categoryRepository, never()).removeFromAncestors(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("moveSubtrees - Batch is checked in memory and written with one update")
+    void testMoveSubtreesSuccess() {
+        // Arrange: 1 -> (2 -> (3)), 4; move 2 under 3 after moving 3 to the root
+        List<ParentRow> rows = List.of(parentRow(1L, null), parentRow(2L, 1L), parentRow(3L, 2L));
+        when(categoryRepository.findParentRows(Set.of(2L, 3L))).thenReturn(rows);
+        List<BatchMoveRequest.Move> moves = List.of(
+                BatchMoveRequest.Move.builder().subtreeId(2L).newParentId(3L).build(),
+                BatchMoveRequest.Move.builder().subtreeId(3L).build());
+
+        // Act
+        int moved = categoryService.moveSubtrees(moves);
+
+        // Assert
+        assertEquals(2, moved);
+        verify(categoryRepository).touchPaths(Set.of(2L, 3L));
+        verify(categoryRepository).updateParents(new long[]{3, 2}, new long[]{0, 3});
+        verify(categoryRepository).refreshAggregates(new long[]{2, 1, 3});
+        verify(categoryRepository, never()).findById(any());
+        verify(categoryRepository, never()).save(any());
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        // The whole batch is one event, so the index versions it as one change
+        assertEquals(List.of(CategoryChangedEvent.moved(3L, 2L, null).toString(), CategoryChangedEvent.moved(2L, 1L, 3L).toString()),
+                ((CategoriesMovedEvent) event.getValue()).getMoves().stream().map(Object::toString).toList());
+    }
+
+    @Test
+    @DisplayName("moveSubtrees - A cycle rejects the whole batch")
+    void testMoveSubtreesCycle() {
+        // Arrange: 1 -> (2 -> (3))
+        List<ParentRow> rows = List.of(parentRow(1L, null), parentRow(2L, 1L), parentRow(3L, 2L));
+        when(categoryRepository.findParentRows(Set.of(1L, 3L))).thenReturn(rows);
+        List<BatchMoveRequest.Move> moves = List.of(
+                BatchMoveRequest.Move.builder().subtreeId(1L).newParentId(3L).build());
+
+        // Act & Assert
+        assertThrows(ServiceException.class, () -> categoryService.moveSubtrees(moves));
+        verify(categoryRepository, never()).touchPaths(any());
+        verify(categoryRepository, never()).updateParents(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -284,16 +751,20 @@ class CategoryServiceTest {
         // Mock findById to return the category
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
 
-        // Mock findSubtreeById to return the category itself
-        when(categoryRepository.findSubtreeById(categoryId)).thenReturn(List.of(category));
+        // Mock the set-based delete to report the category and two descendants
+        when(categoryRepository.findStatsById(categoryId)).thenReturn(Optional.of(stats(categoryId, 2, 2, 1)));
+        when(categoryRepository.deleteSubtreeById(categoryId)).thenReturn(3);
 
         // Act
-        categoryService.deleteCategory(categoryId);
+        int deleted = categoryService.deleteCategory(categoryId);
 
         // Assert
+        assertEquals(3, deleted);
         verify(categoryRepository).findById(categoryId);
-        verify(categoryRepository).findSubtreeById(categoryId);
-        verify(categoryRepository).deleteAllById(List.of(categoryId)); // Use actual ID
+        verify(categoryRepository).deleteSubtreeById(categoryId);
+        verify(categoryRepository, never()).removeFromAncestors(anyLong(), anyLong(), anyLong());
+        verify(categoryRepository, never()).findSubtreeById(anyLong());
+        verify(categoryRepository, never()).deleteAllById(anyList());
     }
 
 
@@ -314,6 +785,7 @@ class CategoryServiceTest {
         // Assert
         assertEquals("Category not found with id: 2", thrown.getMessage());
         verify(categoryRepository).findById(categoryId);
+        verify(categoryRepository, never()).deleteSubtreeById(anyLong());
         verify(categoryRepository, never()).deleteAllById(anyList());
     }
 
@@ -354,14 +826,21 @@ class CategoryServiceTest {
                 .build();
 
         when(categoryRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(categoryRepository.findStatsById(sourceId)).thenReturn(Optional.of(stats(sourceId, 0, 1, 0)));
 
         // Act
         categoryService.moveSubtree(sourceId, newParentId);
 
         // Assert
         assertNull(source.getParent());
+        InOrder aggregates = inOrder(categoryRepository);
+        aggregates.verify(categoryRepository).removeFromAncestors(99L, 1, 1);
+        aggregates.verify(categoryRepository).refreshHeights(99L);
+        verify(categoryRepository, never()).addToAncestors(anyLong(), anyLong(), anyLong(), anyInt());
         verify(categoryRepository).findById(sourceId);
         verify(categoryRepository, never()).findSubtreeById(anyLong()); // no subtree check when newParent is null
+        verify(categoryRepository, never()).isDescendant(anyLong(), anyLong());
+        verify(categoryRepository).touchPaths(List.of(sourceId));
         verify(categoryRepository).save(source);
     }
 
@@ -389,8 +868,9 @@ class CategoryServiceTest {
         when(categoryRepository.findById(sourceId)).thenReturn(Optional.of(source));
         when(categoryRepository.findById(newParentId)).thenReturn(Optional.of(newParent));
 
-        // subtree contains only source (so newParent is not inside subtree)
-        when(categoryRepository.findSubtreeById(sourceId)).thenReturn(List.of(source));
+        // the ancestor walk from newParent never reaches source
+        when(categoryRepository.isDescendant(sourceId, newParentId)).thenReturn(false);
+        when(categoryRepository.findStatsById(sourceId)).thenReturn(Optional.of(stats(sourceId, 0, 1, 0)));
 
         // Act
         categoryService.moveSubtree(sourceId, newParentId);
@@ -399,7 +879,8 @@ class CategoryServiceTest {
         assertEquals(newParent, source.getParent());
         verify(categoryRepository).findById(sourceId);
         verify(categoryRepository).findById(newParentId);
-        verify(categoryRepository).findSubtreeById(sourceId);
+        verify(categoryRepository).isDescendant(sourceId, newParentId);
+        verify(categoryRepository, never()).findSubtreeById(anyLong());
         verify(categoryRepository).save(source);
     }
 
@@ -427,8 +908,8 @@ class CategoryServiceTest {
         when(categoryRepository.findById(sourceId)).thenReturn(Optional.of(source));
         when(categoryRepository.findById(newParentId)).thenReturn(Optional.of(descendant));
 
-        // subtree contains the descendant -> should trigger the check
-        when(categoryRepository.findSubtreeById(sourceId)).thenReturn(List.of(source, descendant));
+        // the ancestor walk from the descendant reaches source -> should trigger the check
+        when(categoryRepository.isDescendant(sourceId, newParentId)).thenReturn(true);
 
         // Act
         ServiceException thrown = assertThrows(
@@ -440,7 +921,111 @@ class CategoryServiceTest {
         assertEquals("New parent cannot be a descendant of the source category", thrown.getMessage());
         verify(categoryRepository).findById(sourceId);
         verify(categoryRepository).findById(newParentId);
-        verify(categoryRepository).findSubtreeById(sourceId);
+        verify(categoryRepository).isDescendant(sourceId, newParentId);
+        verify(categoryRepository, never()).findSubtreeById(anyLong());
         verify(categoryRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("moveSubtree - Both paths are locked before anything is read")
+    void testMoveSubtreeLocksBeforeCheck() {
+        // Arrange
+        Category source = Category.builder().id(1L).label("Source").build();
+        Category newParent = Category.builder().id(2L).label("New Parent").build();
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(source));
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(newParent));
+        when(categoryRepository.findStatsById(1L)).thenReturn(Optional.of(stats(1L, 0, 1, 0)));
+
+        // Act
+        categoryService.moveSubtree(1L, 2L);
+
+        // Assert
+        InOrder order = inOrder(categoryRepository);
+        order.verify(categoryRepository).lockPaths(List.of(1L, 2L));
+        order.verify(categoryRepository).findById(1L);
+        order.verify(categoryRepository).isDescendant(1L, 2L);
+        order.verify(categoryRepository).touchPaths(List.of(1L, 2L));
+        order.verify(categoryRepository).save(source);
+    }
+
+    @Test
+    @DisplayName("moveSubtree - A move aborted by a deadlock starts over")
+    void testMoveSubtreeRetriesDeadlock() {
+        // Arrange
+        Category source = Category.builder().id(1L).label("Source").build();
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(source));
+        when(categoryRepository.touchPaths(List.of(1L)))
+                .thenThrow(new CannotAcquireLockException("deadlock detected", null))
+                .thenReturn(1);
+
+        // Act
+        categoryService.moveSubtree(1L, null);
+
+        // Assert
+        verify(categoryRepository, times(2)).lockPaths(List.of(1L));
+        verify(categoryRepository, times(2)).findById(1L);
+        verify(categoryRepository).save(source);
+    }
+
+    @Test
+    @DisplayName("moveSubtree - Gives up after repeated deadlocks")
+    void testMoveSubtreeDeadlockGivesUp() {
+        // Arrange
+        doThrow(new CannotAcquireLockException("deadlock detected", null))
+                .when(categoryRepository).lockPaths(List.of(1L));
+
+        // Act
+        assertThrows(CannotAcquireLockException.class, () -> categoryService.moveSubtree(1L, null));
+
+        // Assert
+        verify(categoryRepository, times(3)).lockPaths(List.of(1L));
+        verify(categoryRepository, never()).findById(anyLong());
+        verify(categoryRepository, never()).save(any());
+    }
+
+    private static PathRow pathRow(Long id, String label) {
+        PathRow row = mock(PathRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getLabel()).thenReturn(label);
+        return row;
+    }
+
+    private static ChildRow child(Long id, boolean hasChildren) {
+        ChildRow row = mock(ChildRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getLabel()).thenReturn("Category " + id);
+        when(row.getHasChildren()).thenReturn(hasChildren);
+        return row;
+    }
+
+    static StatsRow stats(Long id, long descendantCount, long leafCount, int height) {
+        return new StatsRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public long getDescendantCount() {
+                return descendantCount;
+            }
+
+            @Override
+            public long getLeafCount() {
+                return leafCount;
+            }
+
+            @Override
+            public int getHeight() {
+                return height;
+            }
+        };
+    }
+
+    private static ParentRow parentRow(Long id, Long parentId) {
+        ParentRow row = mock(ParentRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getParentId()).thenReturn(parentId);
+        return row;
+    }
 }
@@ -0,0 +1,273 @@
+package com.eventmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.eventmanagement.dto.CreateCategoryRequest;
+import com.eventmanagement.exceptions.ServiceException;
+import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.CategoryRepository.ParentRow;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs {@link CategoryService#moveSubtree} from many threads at once against the database,
+ * each move in its own transaction, and checks that no combination of them commits a cycle
+ * and that moves in different trees do not wait for each other.
+ * <p>
+ * The throughput measurement is skipped by default; run it with
+ * {@code mvn test -Dtest=ConcurrentMoveStressTest -Dbenchmark=true}. Every seeded category is
+ * deleted afterwards.
+ */
+@SpringBootTest(properties = "category.storage.mode=adjacency")
+class ConcurrentMoveStressTest {
+
+    private static final int THREADS = 8;
+    private static final int RANDOM_MOVES = 60;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> seeded = new ArrayList<>();
+    private String prefix;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        prefix = "stress-" + UUID.randomUUID() + "-";
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void cleanup() {
+        executor.shutdownNow();
+        if (seeded.isEmpty()) {
+            return;
+        }
+        parents().forEach((id, parentId) -> {
+            if (parentId == 0) {
+                categoryService.deleteCategory(id);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Stress - Opposite moves never both commit")
+    void testOppositeMoves() throws Exception {
+        // Arrange
+        Long a = create(null);
+        Long b = create(null);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+
+        for (int round = 0; round < 50; round++) {
+            // Act: A under B and B under A at the same moment
+            Future<Boolean> first = executor.submit(() -> tryMove(barrier, a, b));
+            Future<Boolean> second = executor.submit(() -> tryMove(barrier, b, a));
+
+            // Assert
+            assertTrue(first.get(10, TimeUnit.SECONDS) ^ second.get(10, TimeUnit.SECONDS), "round " + round);
+            assertForest();
+            categoryService.moveSubtree(a, null);
+            categoryService.moveSubtree(b, null);
+        }
+    }
+
+    @Test
+    @DisplayName("Stress - Random moves across trees keep a forest")
+    void testRandomMoves() throws Exception {
+        // Arrange: 4 trees of 30 categories
+        List<Long> ids = new ArrayList<>();
+        for (int tree = 0; tree < 4; tree++) {
+            Long root = create(null);
+            ids.add(root);
+            for (int node = 1; node < 30; node++) {
+                ids.add(create(ids.get(ids.size() - 1 - ThreadLocalRandom.current().nextInt(Math.min(node, 3)))));
+            }
+        }
+        AtomicInteger moved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Act
+        List<Future<?>> workers = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            workers.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < RANDOM_MOVES; i++) {
+                    Long source = ids.get(random.nextInt(ids.size()));
+                    Long target = random.nextInt(10) == 0 ? null : ids.get(random.nextInt(ids.size()));
+                    try {
+                        categoryService.moveSubtree(source, target);
+                        moved.incrementAndGet();
+                    } catch (ServiceException ex) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+
+        // Assert
+        assertEquals(THREADS * RANDOM_MOVES, moved.get() + rejected.get());
+        assertTrue(moved.get() > 0 && rejected.get() > 0);
+        assertForest();
+    }
+
+    @Test
+    @DisplayName("Stress - A move holding its locks blocks its own tree only")
+    void testDisjointTreesDoNotWait() throws Exception {
+        // Arrange: X -> (x1, x2), Y -> (y1, y2)
+        Long x = create(null);
+        Long x1 = create(x);
+        Long x2 = create(x);
+        Long y = create(null);
+        Long y1 = create(y);
+        Long y2 = create(y);
+        CountDownLatch moving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            categoryService.moveSubtree(x2, x1);
+            moving.countDown();
+            await(release);
+        }));
+        assertTrue(moving.await(10, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<Void> otherTree = CompletableFuture.runAsync(() -> categoryService.moveSubtree(y2, y1), executor);
+        CompletableFuture<Void> sameTree = CompletableFuture.runAsync(() -> categoryService.moveSubtree(x1, null), executor);
+
+        // Assert
+        otherTree.get(5, TimeUnit.SECONDS);
+        try {
+            sameTree.get(500, TimeUnit.MILLISECONDS);
+            throw new AssertionError("A move in the locked tree did not wait");
+        } catch (TimeoutException expected) {
+            assertFalse(sameTree.isDone());
+        }
+        release.countDown();
+        holder.get(10, TimeUnit.SECONDS);
+        sameTree.get(10, TimeUnit.SECONDS);
+        assertEquals(0L, parents().get(x1));
+        assertEquals(x1, parents().get(x2));
+        assertEquals(y1, parents().get(y2));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("Benchmark - Move throughput on disjoint trees by thread count")
+    void benchmarkDisjointThroughput() throws Exception {
+        // Arrange: one tree per thread, root -> (p -> (n), q), n moving back and forth
+        int movesPerThread = 500;
+        long[][] trees = new long[THREADS][];
+        for (int thread = 0; thread < THREADS; thread++) {
+            Long root = create(null);
+            Long p = create(root);
+            Long q = create(root);
+            trees[thread] = new long[]{create(p), p, q};
+        }
+
+        System.out.printf("%n%8s %12s %10s%n", "threads", "moves/s", "speedup");
+        double single = 0;
+        for (int threads = 1; threads <= THREADS; threads *= 2) {
+            CyclicBarrier start = new CyclicBarrier(threads + 1);
+            List<Future<?>> workers = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                long[] tree = trees[thread];
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < movesPerThread; i++) {
+                        categoryService.moveSubtree(tree[0], tree[2 - i % 2]);
+                    }
+                    return null;
+                }));
+            }
+            start.await();
+            long begin = System.nanoTime();
+            for (Future<?> worker : workers) {
+                worker.get(5, TimeUnit.MINUTES);
+            }
+            double throughput = threads * movesPerThread / ((System.nanoTime() - begin) / 1e9);
+            single = threads == 1 ? throughput : single;
+            System.out.printf("%8d %12.0f %10.2f%n", threads, throughput, throughput / single);
+        }
+        assertForest();
+    }
+
+    private boolean tryMove(CyclicBarrier barrier, Long sourceId, Long newParentId) throws Exception {
+        barrier.await(10, TimeUnit.SECONDS);
+        try {
+            categoryService.moveSubtree(sourceId, newParentId);
+            return true;
+        } catch (ServiceException ex) {
+            return false;
+        }
+    }
+
+    // Every seeded category reaches a root within as many steps as there are categories
+    private void assertForest() {
+        Map<Long, Long> parents = parents();
+        for (Long id : seeded) {
+            Long current = id;
+            for (int steps = 0; current != 0; steps++) {
+                assertTrue(steps <= seeded.size(), "cycle through category " + id);
+                current = parents.get(current);
+            }
+        }
+    }
+
+    private Map<Long, Long> parents() {
+        Map<Long, Long> parents = new HashMap<>();
+        for (ParentRow row : categoryRepository.findParentRows(seeded)) {
+            parents.put(row.getId(), row.getParentId() != null ? row.getParentId() : 0L);
+        }
+        assertNull(parents.get(0L));
+        return parents;
+    }
+
+    private Long create(Long parentId) {
+        Long id = categoryService.createCategory(CreateCategoryRequest.builder()
+                .label(prefix + seeded.size())
+                .build(), parentId).getId();
+        seeded.add(id);
+        return id;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.repository.CategoryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Measures {@link CategoryService#moveSubtree} in the default adjacency mode as the moved
+ * subtree grows, next to the cycle check it replaced, which loaded the whole subtree.
+ * <p>
+ * Skipped by default; run with {@code mvn test -Dtest=MoveSubtreeBenchmark -Dbenchmark=true}.
+ * Seeding takes about a minute. All seeded rows are rolled back.
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MoveSubtreeBenchmark {
+
+    private static final int[] SIZES = {10, 1_000, 100_000, 1_000_000};
+    private static final int FAN_OUT = 10;
+    private static final int TARGET_DEPTH = 20;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final int SCAN_ITERATIONS = 3;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Benchmark - Move latency against moved subtree size")
+    void benchmark() {
+        long target = seedChain();
+        long[] holders = new long[SIZES.length];
+        long[] sources = new long[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            long[] ids = seedSubtree(i, SIZES[i]);
+            holders[i] = ids[0];
+            sources[i] = ids[1];
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        System.out.printf("%n%10s %12s %12s %12s%n", "subtree", "walk ms", "scan ms", "move ms");
+        for (int i = 0; i < SIZES.length; i++) {
+            long source = sources[i];
+            long holder = holders[i];
+            double walk = time(ITERATIONS, () -> categoryRepository.isDescendant(source, target));
+            double scan = time(SCAN_ITERATIONS, () -> categoryRepository.findSubtreeById(source)
+                    .stream()
+                    .anyMatch(category -> category.getId().equals(target)));
+            double move = time(ITERATIONS, () -> {
+                move(source, target);
+                move(source, holder);
+            }) / 2;
+            System.out.printf("%10d %12.3f %12.3f %12.3f%n", SIZES[i], walk, scan, move);
+        }
+    }
+
+    private void move(Long sourceId, Long newParentId) {
+        categoryService.moveSubtree(sourceId, newParentId);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private double time(int iterations, Runnable operation) {
+        for (int i = 0; i < Math.min(WARMUP, iterations); i++) {
+            operation.run();
+            entityManager.clear();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+            entityManager.clear();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / iterations;
+    }
+
+    // Returns the deepest node of a chain, the target of every move
+    private long seedChain() {
+        long[] ids = categoryRepository.nextIds(TARGET_DEPTH);
+        long[] parentIds = new long[TARGET_DEPTH];
+        String[] labels = new String[TARGET_DEPTH];
+        for (int i = 0; i < TARGET_DEPTH; i++) {
+            parentIds[i] = i == 0 ? 0 : ids[i - 1];
+            labels[i] = "target-" + i;
+        }
+        categoryRepository.insertAll(ids, parentIds, labels);
+        return ids[TARGET_DEPTH - 1];
+    }
+
+    // A root holding the moved subtree of `size` nodes, filled breadth-first with FAN_OUT children per node
+    private long[] seedSubtree(int run, int size) {
+        long[] ids = categoryRepository.nextIds(size + 1);
+        long[] parentIds = new long[size + 1];
+        String[] labels = new String[size + 1];
+        labels[0] = "holder-" + run;
+        parentIds[1] = ids[0];
+        for (int k = 1; k <= size; k++) {
+            if (k > 1) {
+                parentIds[k] = ids[1 + (k - 2) / FAN_OUT];
+            }
+            labels[k] = "moved-" + run + "-" + k;
+        }
+        categoryRepository.insertAll(ids, parentIds, labels);
+        return ids;
+    }
+}
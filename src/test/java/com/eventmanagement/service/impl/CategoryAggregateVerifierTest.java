@@ -0,0 +1,86 @@
+package com.eventmanagement.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.eventmanagement.config.CategoryProperties;
+import com.eventmanagement.metrics.CategoryMetrics;
+import com.eventmanagement.repository.CategoryAggregateHandler;
+import com.eventmanagement.repository.CategoryRepository;
+import com.eventmanagement.repository.CategoryRowHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryAggregateVerifierTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryProperties properties;
+
+    private CategoryAggregateVerifier verifier;
+
+    @BeforeEach
+    void setup() {
+        properties = new CategoryProperties();
+        verifier = new CategoryAggregateVerifier(categoryRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties,
+                new CategoryMetrics(new SimpleMeterRegistry()));
+
+        // 1 -> (2 -> 3, 4); 2 still stored as a leaf and 1 one level too low
+        doAnswer(invocation -> {
+            CategoryRowHandler handler = invocation.getArgument(0);
+            handler.handle(1, 0, "Root", 0);
+            handler.handle(2, 1, "Child", 0);
+            handler.handle(3, 2, "Grandchild", 0);
+            handler.handle(4, 1, "Sibling", 0);
+            return null;
+        }).when(categoryRepository).forEachVisibleRow(any());
+        doAnswer(invocation -> {
+            CategoryAggregateHandler handler = invocation.getArgument(0);
+            handler.handle(1, 2, 2, 1);
+            handler.handle(2, 0, 1, 0);
+            handler.handle(3, 0, 1, 0);
+            handler.handle(4, 0, 1, 0);
+            return null;
+        }).when(categoryRepository).forEachAggregateRow(any());
+    }
+
+    @Test
+    @DisplayName("Verify - Reports drifted categories without repairing by default")
+    void testVerifyReportsDrift() {
+        // Act
+        long[] drifted = verifier.verify();
+
+        // Assert
+        assertArrayEquals(new long[]{2, 1}, drifted);
+        verify(categoryRepository, never()).refreshAggregates(any());
+    }
+
+    @Test
+    @DisplayName("Verify - Repairs drifted categories children first")
+    void testVerifyRepairsDrift() {
+        // Arrange
+        properties.getAggregates().setRepair(true);
+
+        // Act
+        verifier.verify();
+
+        // Assert
+        verify(categoryRepository).lockPaths(List.of(2L, 1L));
+        verify(categoryRepository).refreshAggregates(new long[]{2, 1});
+    }
+}
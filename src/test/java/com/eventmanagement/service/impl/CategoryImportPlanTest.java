@@ -0,0 +1,74 @@
+package com.eventmanagement.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.eventmanagement.dto.BulkCategoryNode;
+import com.eventmanagement.exceptions.InvalidRequestException;
+import com.eventmanagement.exceptions.ServiceException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CategoryImportPlanTest {
+
+    @Test
+    @DisplayName("Plan - Nested and flat nodes are ordered parents first")
+    void testPlanOrdersParentsFirst() {
+        // Arrange: Leaf -> Child (flat, listed first) -> Root (nested under Top)
+        List<BulkCategoryNode> categories = List.of(
+                node(null, 2L, "Leaf", null),
+                node(2L, 1L, "Child", null),
+                node(null, null, "Top", List.of(node(1L, null, "Root", null))));
+
+        // Act
+        CategoryImportPlan plan = CategoryImportPlan.of(categories);
+
+        // Assert
+        assertEquals(4, plan.size());
+        assertArrayEquals(new String[]{"Top", "Root", "Child", "Leaf"}, plan.labels());
+        assertEquals(CategoryImportPlan.TOP_LEVEL, plan.parentIndex(0));
+        assertEquals(0, plan.parentIndex(1));
+        assertEquals(1, plan.parentIndex(2));
+        assertEquals(2, plan.parentIndex(3));
+    }
+
+    @Test
+    @DisplayName("Plan - Cycle between flat references")
+    void testPlanRejectsCycle() {
+        List<BulkCategoryNode> categories = List.of(
+                node(1L, 2L, "A", null),
+                node(2L, 1L, "B", null),
+                node(3L, null, "C", null));
+
+        InvalidRequestException thrown = assertThrows(InvalidRequestException.class,
+                () -> CategoryImportPlan.of(categories));
+
+        assertEquals("Import contains a cycle", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Plan - Unknown parent reference")
+    void testPlanRejectsUnknownReference() {
+        List<BulkCategoryNode> categories = List.of(node(1L, 9L, "A", null));
+
+        assertThrows(InvalidRequestException.class, () -> CategoryImportPlan.of(categories));
+    }
+
+    @Test
+    @DisplayName("Plan - Duplicate label, duplicate id and blank label")
+    void testPlanRejectsInvalidNodes() {
+        assertThrows(ServiceException.class, () -> CategoryImportPlan.of(List.of(
+                node(null, null, "A", List.of(node(null, null, "A", null))))));
+        assertThrows(InvalidRequestException.class, () -> CategoryImportPlan.of(List.of(
+                node(1L, null, "A", null), node(1L, null, "B", null))));
+        assertThrows(InvalidRequestException.class, () -> CategoryImportPlan.of(List.of(
+                node(null, null, " ", null))));
+        assertThrows(InvalidRequestException.class, () -> CategoryImportPlan.of(List.of()));
+    }
+
+    private static BulkCategoryNode node(Long id, Long parentId, String label, List<BulkCategoryNode> children) {
+        return BulkCategoryNode.builder().id(id).parentId(parentId).label(label).children(children).build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.eventmanagement.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.eventmanagement.dto.BatchMoveRequest;
+import com.eventmanagement.exceptions.InvalidRequestException;
+import com.eventmanagement.exceptions.NotFoundException;
+import com.eventmanagement.exceptions.ServiceException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CategoryMovePlanTest {
+
+    // 1 -> (2 -> (3 -> (4)), 5), 6
+    private static final Map<Long, Long> PARENTS = parents(1, 0, 2, 1, 3, 2, 4, 3, 5, 1, 6, 0);
+
+    @Test
+    @DisplayName("Plan - Moves are ordered by depth in the resulting tree")
+    void testPlanOrdersTopDown() {
+        // Arrange: 2 goes under 4, which 4's move takes out of 2's subtree first
+        CategoryMovePlan plan = CategoryMovePlan.of(List.of(move(2L, 4L), move(4L, 6L), move(6L, null)));
+
+        // Act
+        plan.resolve(PARENTS);
+
+        // Assert
+        assertArrayEquals(new long[]{6, 4, 2}, plan.sourceIds());
+        assertArrayEquals(new long[]{0, 6, 4}, plan.parentIds());
+        assertEquals(0, plan.previousParentId(0));
+        assertEquals(3, plan.previousParentId(1));
+        assertEquals(1, plan.previousParentId(2));
+    }
+
+    @Test
+    @DisplayName("Plan - Affected categories are listed deepest first in the resulting tree")
+    void testPlanAffectedIds() {
+        // Arrange: results in 6 -> (4 -> (2 -> (3))) and 1 -> (5)
+        CategoryMovePlan plan = CategoryMovePlan.of(List.of(move(2L, 4L), move(4L, 6L), move(6L, null)));
+
+        // Act
+        plan.resolve(PARENTS);
+
+        // Assert: 5 keeps its subtree and is left out
+        assertArrayEquals(new long[]{3, 2, 4, 1, 6}, plan.affectedIds());
+    }
+
+    @Test
+    @DisplayName("Plan - Referenced IDs cover moved categories and new parents")
+    void testPlanReferencedIds() {
+        CategoryMovePlan plan = CategoryMovePlan.of(List.of(move(2L, 5L), move(4L, null), move(3L, 5L)));
+
+        assertEquals(Set.of(2L, 5L, 4L, 3L), plan.referencedIds());
+    }
+
+    @Test
+    @DisplayName("Plan - Move under a descendant that stays put")
+    void testPlanRejectsDescendant() {
+        CategoryMovePlan plan = CategoryMovePlan.of(List.of(move(5L, 6L), move(2L, 4L)));
+
+        ServiceException thrown = assertThrows(ServiceException.class, () -> plan.resolve(PARENTS));
+
+        assertEquals("New parent cannot be a descendant of the source category with id: 2", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Plan - Moves that only form a cycle together")
+    void testPlanRejectsCycleAcrossMoves() {
+        CategoryMovePlan plan = CategoryMovePlan.of(List.of(move(5L, 6L), move(6L, 5L)));
+
+        assertThrows(ServiceException.class, () -> plan.resolve(PARENTS));
+    }
+
+    @Test
+    @DisplayName("Plan - Unknown category or new parent")
+    void testPlanRejectsUnknown() {
+        NotFoundException source = assertThrows(NotFoundException.class,
+                () -> CategoryMovePlan.of(List.of(move(9L, 1L))).resolve(PARENTS));
+        NotFoundException parent = assertThrows(NotFoundException.class,
+                () -> CategoryMovePlan.of(List.of(move(2L, 9L))).resolve(PARENTS));
+
+        assertEquals("Source category not found with id: 9", source.getMessage());
+        assertEquals("New parent category not found with id: 9", parent.getMessage());
+    }
+
+    @Test
+    @DisplayName("Plan - Empty batch, missing ID, repeated category and self move")
+    void testPlanRejectsInvalidPayload() {
+        assertThrows(InvalidRequestException.class, () -> CategoryMovePlan.of(List.of()));
+        assertThrows(InvalidRequestException.class, () -> CategoryMovePlan.of(null));
+        assertThrows(InvalidRequestException.class, () -> CategoryMovePlan.of(List.of(move(null, 1L))));
+        assertThrows(InvalidRequestException.class, () -> CategoryMovePlan.of(List.of(move(2L, 5L), move(2L, 6L))));
+        assertThrows(ServiceException.class, () -> CategoryMovePlan.of(List.of(move(2L, 2L))));
+    }
+
+    private static BatchMoveRequest.Move move(Long subtreeId, Long newParentId) {
+        return BatchMoveRequest.Move.builder().subtreeId(subtreeId).newParentId(newParentId).build();
+    }
+
+    private static Map<Long, Long> parents(long... pairs) {
+        Map<Long, Long> parents = new HashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            parents.put(pairs[i], pairs[i + 1]);
+        }
+        return parents;
+    }
+}
@@ -0,0 +1,61 @@
+package com.eventmanagement.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.eventmanagement.service.SubtreeStreamFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SubtreeJsonWriterTest {
+
+    @Test
+    @DisplayName("Nested - Pre-order rows are closed back to each parent")
+    void testNested() throws IOException {
+        // Arrange: 1 -> (2 -> (4), 3)
+        StringWriter out = new StringWriter();
+
+        // Act
+        try (JsonGenerator generator = new JsonFactory().createGenerator(out)) {
+            SubtreeJsonWriter writer = new SubtreeJsonWriter(generator, SubtreeStreamFormat.NESTED);
+            writer.handle(1, 0, "Root", 3, 2, 2);
+            writer.handle(2, 1, "Child 1", 1, 1, 1);
+            writer.handle(4, 2, "Grandchild", 0, 1, 0);
+            writer.handle(3, 1, "Child 2", 0, 1, 0);
+            writer.finish();
+        }
+
+        // Assert
+        assertEquals("{\"id\":1,\"label\":\"Root\",\"parentId\":null,\"children\":["
+                + "{\"id\":2,\"label\":\"Child 1\",\"parentId\":1,\"children\":["
+                + "{\"id\":4,\"label\":\"Grandchild\",\"parentId\":2,\"children\":[],"
+                + "\"descendantCount\":0,\"leafCount\":1,\"height\":0}],"
+                + "\"descendantCount\":1,\"leafCount\":1,\"height\":1},"
+                + "{\"id\":3,\"label\":\"Child 2\",\"parentId\":1,\"children\":[],"
+                + "\"descendantCount\":0,\"leafCount\":1,\"height\":0}],"
+                + "\"descendantCount\":3,\"leafCount\":2,\"height\":2}", out.toString());
+    }
+
+    @Test
+    @DisplayName("Flat - One category per line")
+    void testFlat() throws IOException {
+        // Arrange
+        StringWriter out = new StringWriter();
+
+        // Act
+        try (JsonGenerator generator = new JsonFactory().createGenerator(out)) {
+            SubtreeJsonWriter writer = new SubtreeJsonWriter(generator, SubtreeStreamFormat.FLAT);
+            writer.handle(5, 9, "Sub", 1, 1, 1);
+            writer.handle(6, 5, "Leaf", 0, 1, 0);
+            writer.finish();
+        }
+
+        // Assert
+        assertEquals("{\"id\":5,\"label\":\"Sub\",\"parentId\":9,\"descendantCount\":1,\"leafCount\":1,\"height\":1}\n"
+                + "{\"id\":6,\"label\":\"Leaf\",\"parentId\":5,\"descendantCount\":0,\"leafCount\":1,\"height\":0}\n",
+                out.toString());
+    }
+}